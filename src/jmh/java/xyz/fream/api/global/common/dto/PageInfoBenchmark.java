@@ -0,0 +1,41 @@
+package xyz.fream.api.global.common.dto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import xyz.fream.api.global.presentation.exception.CommonException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PageInfo.of 검증 비용
+ * valid : 정상 파라미터로 생성
+ * invalid : 검증 실패로 CommonException 이 생성 / 전파되는 경로 (스택 트레이스 수집 비용 포함)
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PageInfoBenchmark {
+
+    private int page = 3;
+    private int size = 20;
+    private long totalElements = 1_000L;
+    private int totalPages = 50;
+
+    @Benchmark
+    public PageInfo valid() {
+        return PageInfo.of(page, size, totalElements, totalPages, size);
+    }
+
+    @Benchmark
+    public Object invalid() {
+        try {
+            return PageInfo.of(-page, size, totalElements, totalPages, size);
+        } catch (CommonException e) {
+            return e;
+        }
+    }
+}
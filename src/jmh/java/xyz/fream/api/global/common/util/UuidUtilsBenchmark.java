@@ -0,0 +1,58 @@
+package xyz.fream.api.global.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UUID 생성 처리량 비교 (가용 코어 수만큼 스레드를 동시에 실행)
+ * v4 : UUID.randomUUID() (공유 SecureRandom)
+ * v7 : 스레드별 시퀀스 + ThreadLocalRandom
+ * isValid* : 정규 형식 / 잘못된 형식 문자열 검증
+ * */
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UuidUtilsBenchmark {
+
+    private final String validUuid = UuidUtils.generateV7();
+    private final String invalidUuid = "not-a-uuid-" + validUuid.substring(11);
+
+    @Benchmark
+    public String generateV4() {
+        return UuidUtils.generate();
+    }
+
+    @Benchmark
+    public String generateV7() {
+        return UuidUtils.generateV7();
+    }
+
+    @Benchmark
+    public UUID generateV7AsUuid() {
+        return UuidUtils.generateV7AsUuid();
+    }
+
+    @Benchmark
+    public byte[] generateV7AsBytes() {
+        return UuidUtils.generateV7AsBytes();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return UuidUtils.isValid(validUuid);
+    }
+
+    @Benchmark
+    public boolean isValidRejectsInvalid() {
+        return UuidUtils.isValid(invalidUuid);
+    }
+}
@@ -0,0 +1,82 @@
+package xyz.fream.api.global.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 동시 블로킹 호출 처리 시간 (ms/op, op = calls 개의 블로킹 호출을 모두 끝내는 시간)
+ * boundedElastic : Schedulers.boundedElastic() (플랫폼 스레드 10 x 코어 수 상한)
+ * virtualThreads : BlockingOffloader 의 가상 스레드 Scheduler 에 직접 subscribeOn
+ * adapterExecutor : BlockingAdapterExecutor (동시 실행 한도 = calls, 시간 한도 / 지표 포함)
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingOffloaderBenchmark {
+
+    @Param({"10000"})
+    public int calls;
+
+    @Param({"10"})
+    public long blockMillis;
+
+    private BlockingOffloader offloader;
+    private BlockingAdapterExecutor executor;
+    private Scheduler boundedElastic;
+
+    @Setup
+    public void setUp() {
+        offloader = new BlockingOffloader(OffloadSpec.defaults(),
+                Map.of("benchmark", new OffloadSpec(calls, 0, Duration.ofMinutes(1))), null);
+        executor = offloader.executor("benchmark");
+        boundedElastic = Schedulers.boundedElastic();
+    }
+
+    @TearDown
+    public void tearDown() {
+        offloader.dispose();
+    }
+
+    @Benchmark
+    public Object boundedElastic() {
+        return runAll(i -> Mono.fromCallable(this::block).subscribeOn(boundedElastic));
+    }
+
+    @Benchmark
+    public Object virtualThreads() {
+        return runAll(i -> Mono.fromCallable(this::block).subscribeOn(offloader.scheduler()));
+    }
+
+    @Benchmark
+    public Object adapterExecutor() {
+        return runAll(i -> executor.call(this::block));
+    }
+
+    private Object runAll(Function<Integer, Mono<Integer>> call) {
+        return Flux.range(0, calls)
+                .flatMap(call, calls)
+                .count()
+                .block();
+    }
+
+    private Integer block() throws InterruptedException {
+        Thread.sleep(blockMillis);
+        return 1;
+    }
+}
@@ -0,0 +1,125 @@
+package xyz.fream.api.global.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품별 입찰 처리 처리량 - 샤드 수에 따른 확장성 비교
+ * 작업 하나는 상품별 상태(HashMap)를 갱신하고 Blackhole.consumeCPU 로 체결 연산 비용을 흉내 낸다.
+ *
+ * sharded : ShardedExecutor (샤드 수 = shards)
+ * globalLock : 모든 상품을 하나의 락으로 보호하는 기준 구현 (shards 파라미터와 무관)
+ *
+ * 제출 스레드는 4개로 고정하고, 코어 수가 충분한 장비에서 shards 를 늘려 처리량 변화를 본다.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ShardedExecutorBenchmark {
+
+    private static final int BATCH = 10_000;
+    private static final int PRODUCTS = 10_000;
+    private static final int WORK_TOKENS = 200;
+    private static final int SUBMITTERS = 4;
+
+    @Param({"1", "2", "4", "8"})
+    private int shards;
+
+    private ShardedExecutor<Map<Long, long[]>> executor;
+    private final ReentrantLock globalLock = new ReentrantLock();
+    private final Map<Long, long[]> globalState = new HashMap<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = new ShardedExecutor<>("bench", shards, shards * 64, BATCH * 2, HashMap::new, Schedulers.parallel());
+        executor.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.dispose();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void sharded() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(BATCH);
+        Thread[] submitters = new Thread[SUBMITTERS];
+        for (int s = 0; s < SUBMITTERS; s++) {
+            submitters[s] = Thread.ofPlatform().start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < BATCH / SUBMITTERS; i++) {
+                    long productId = random.nextInt(PRODUCTS);
+                    submit(productId, done);
+                }
+            });
+        }
+        for (Thread submitter : submitters) {
+            submitter.join();
+        }
+        done.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void globalLock() throws InterruptedException {
+        Thread[] submitters = new Thread[SUBMITTERS];
+        for (int s = 0; s < SUBMITTERS; s++) {
+            submitters[s] = Thread.ofPlatform().start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < BATCH / SUBMITTERS; i++) {
+                    long productId = random.nextInt(PRODUCTS);
+                    globalLock.lock();
+                    try {
+                        process(globalState, productId);
+                    } finally {
+                        globalLock.unlock();
+                    }
+                }
+            });
+        }
+        for (Thread submitter : submitters) {
+            submitter.join();
+        }
+    }
+
+    private void submit(long productId, CountDownLatch done) {
+        for (;;) {
+            try {
+                executor.submit(productId, state -> {
+                    process(state, productId);
+                    done.countDown();
+                });
+                return;
+            } catch (RejectedExecutionException e) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private static void process(Map<Long, long[]> state, long productId) {
+        long[] book = state.computeIfAbsent(productId, id -> new long[2]);
+        book[0]++;
+        book[1] += productId;
+        Blackhole.consumeCPU(WORK_TOKENS);
+    }
+}
@@ -0,0 +1,111 @@
+package xyz.fream.api.global.event.bus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import xyz.fream.api.global.event.DomainEvent;
+import xyz.fream.api.global.event.DomainEventSubscriber;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 이벤트 버스 처리량 - 구독자 수(1/4/16)별 초당 발행 이벤트 수
+ * 한 번의 호출에서 BATCH 개의 이벤트를 AGGREGATES 개의 애그리거트에 나눠 발행하고, 모든 구독자가 전부 처리할 때까지 기다린다.
+ * 구독자는 처리 즉시 완료하므로 큐 삽입 / 레인 전달 / 팬아웃 비용만 측정한다.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DomainEventBusBenchmark {
+
+    private static final int BATCH = 10_000;
+    private static final int AGGREGATES = 64;
+
+    @Param({"1", "4", "16"})
+    private int subscribers;
+
+    private Scheduler scheduler;
+    private DomainEventBus eventBus;
+    private BenchEvent[] events;
+    private volatile CountDownLatch done;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = Schedulers.newParallel("bench-event-bus", Runtime.getRuntime().availableProcessors(), true);
+        eventBus = new DomainEventBus(scheduler, null);
+        SubscriptionOptions options = new SubscriptionOptions(4, BATCH, OverflowStrategy.BLOCK, Duration.ofSeconds(10));
+        for (int i = 0; i < subscribers; i++) {
+            eventBus.subscribe(new CountingSubscriber("subscriber-" + i), options);
+        }
+
+        events = new BenchEvent[BATCH];
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < BATCH; i++) {
+            events[i] = new BenchEvent(Integer.toString(i), "aggregate-" + (i % AGGREGATES), now);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        eventBus.dispose();
+        scheduler.dispose();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void publish() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(BATCH * subscribers);
+        done = latch;
+        for (BenchEvent event : events) {
+            eventBus.publish(event).block();
+        }
+        latch.await();
+    }
+
+    private final class CountingSubscriber implements DomainEventSubscriber<BenchEvent> {
+
+        private final String name;
+
+        private CountingSubscriber(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Class<BenchEvent> eventType() {
+            return BenchEvent.class;
+        }
+
+        @Override
+        public Mono<Void> onEvent(BenchEvent event) {
+            done.countDown();
+            return Mono.empty();
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+    }
+
+    record BenchEvent(String eventId, String aggregateId, LocalDateTime occurredAt) implements DomainEvent {
+
+        @Override
+        public String aggregateType() {
+            return "bench";
+        }
+    }
+}
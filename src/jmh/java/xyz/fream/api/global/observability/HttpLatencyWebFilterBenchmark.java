@@ -0,0 +1,86 @@
+package xyz.fream.api.global.observability;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 지연시간 계측 비용 (ns/op)
+ * baseline : 계측 없이 필터 체인만 구독
+ * instrumented : HttpLatencyWebFilter 를 거친 같은 체인 (차이가 요청당 계측 비용, 목표 1µs 미만)
+ * record : 히스토그램 기록만 (Recorder + LongAdder)
+ * instrumentedContended : 4 스레드가 같은 route / status 에 동시에 기록
+ * scrape : Prometheus 텍스트 생성 (요청 경로 밖, 참고용)
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HttpLatencyWebFilterBenchmark {
+
+    private PrometheusMeterRegistry meterRegistry;
+    private HttpLatencyWebFilter filter;
+    private LatencyHistogram histogram;
+    private ServerWebExchange exchange;
+    private WebFilterChain chain;
+
+    @Setup
+    public void setUp() {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        LatencyHistogramRegistry registry = new LatencyHistogramRegistry(meterRegistry, Duration.ofSeconds(10));
+        filter = new HttpLatencyWebFilter(registry);
+        histogram = new LatencyHistogram();
+
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/products/1"));
+        exchange.getAttributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                PathPatternParser.defaultInstance.parse("/api/v1/products/{productId}"));
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        chain = ex -> Mono.empty();
+
+        filter.filter(exchange, chain).block();
+        registry.rotateAll();
+    }
+
+    @Benchmark
+    public Object baseline() {
+        return chain.filter(exchange).block();
+    }
+
+    @Benchmark
+    public Object instrumented() {
+        return filter.filter(exchange, chain).block();
+    }
+
+    @Benchmark
+    public void record() {
+        histogram.record(1_234_567L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object instrumentedContended() {
+        return filter.filter(exchange, chain).block();
+    }
+
+    @Benchmark
+    public String scrape() {
+        return meterRegistry.scrape();
+    }
+}
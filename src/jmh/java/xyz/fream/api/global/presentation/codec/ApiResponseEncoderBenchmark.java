@@ -0,0 +1,89 @@
+package xyz.fream.api.global.presentation.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.global.common.dto.PageInfo;
+import xyz.fream.api.global.presentation.dto.ApiResponse;
+import xyz.fream.api.global.presentation.dto.PageResponse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 기본 Jackson2JsonEncoder 와 ApiResponseEncoder 의 인코딩 처리량 비교
+ * 두 인코더 모두 Netty 풀 버퍼에 기록하고, 결과 버퍼는 바로 해제함
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ApiResponseEncoderBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int elements;
+
+    private NettyDataBufferFactory bufferFactory;
+    private Jackson2JsonEncoder jacksonEncoder;
+    private ApiResponseEncoder apiResponseEncoder;
+    private ApiResponse<PageResponse<Item>> response;
+    private ResolvableType responseType;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        jacksonEncoder = new Jackson2JsonEncoder(objectMapper);
+        apiResponseEncoder = new ApiResponseEncoder(objectMapper);
+
+        List<Item> content = IntStream.range(0, elements)
+                .mapToObj(i -> new Item(i, "product-" + i, 100_000L + i))
+                .toList();
+        PageInfo pageInfo = PageInfo.of(0, elements, elements, 1, elements);
+        response = ApiResponse.success(PageResponse.of(content, pageInfo));
+        responseType = ResolvableType.forClassWithGenerics(ApiResponse.class, PageResponse.class);
+    }
+
+    @Benchmark
+    public long jackson2JsonEncoder() {
+        return drain(jacksonEncoder.encode(
+                Mono.just(response), bufferFactory, responseType, MediaType.APPLICATION_JSON, Collections.emptyMap()));
+    }
+
+    @Benchmark
+    public long apiResponseEncoder() {
+        return drain(apiResponseEncoder.encode(
+                Mono.just(response), bufferFactory, responseType, MediaType.APPLICATION_JSON, Collections.emptyMap()));
+    }
+
+    private long drain(Flux<DataBuffer> buffers) {
+        Long bytes = buffers
+                .reduce(0L, (sum, buffer) -> {
+                    long total = sum + buffer.readableByteCount();
+                    DataBufferUtils.release(buffer);
+                    return total;
+                })
+                .block();
+        return bytes != null ? bytes : 0L;
+    }
+
+    public record Item(long id, String name, long price) {
+    }
+}
@@ -0,0 +1,70 @@
+package xyz.fream.api.global.presentation.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.fream.api.global.common.dto.PageInfo;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * ApiResponse 생성 / 직렬화 비용
+ * construct* : 정적 팩토리(private builder 경유) 생성 비용
+ * serialize* : ObjectMapper.writeValueAsBytes 로 단건 / 페이지 응답을 직렬화하는 비용
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> item;
+    private ApiResponse<Map<String, Object>> single;
+    private ApiResponse<PageResponse<Map<String, Object>>> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        item = Map.of("id", 1L, "productId", 1_024L, "price", 250_000L, "size", "270");
+
+        List<Map<String, Object>> content = IntStream.range(0, 20)
+                .mapToObj(i -> Map.<String, Object>of("id", (long) i, "price", 250_000L + i, "size", "270"))
+                .toList();
+        single = ApiResponse.success(item);
+        page = ApiResponse.success(PageResponse.of(content, PageInfo.of(0, 20, 1_000L, 50, 20)));
+    }
+
+    @Benchmark
+    public ApiResponse<Map<String, Object>> constructSuccess() {
+        return ApiResponse.success(item);
+    }
+
+    @Benchmark
+    public ApiResponse<Map<String, Object>> constructSuccessWithMessage() {
+        return ApiResponse.success(item, "조회 성공");
+    }
+
+    @Benchmark
+    public ApiResponse<Void> constructError() {
+        return ApiResponse.error("GLOBAL_001", "잘못된 입력값입니다.", null);
+    }
+
+    @Benchmark
+    public byte[] serializeSingle() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,107 @@
+package xyz.fream.api.global.presentation.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.global.presentation.dto.ErrorResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 에러 응답 처리량(responses/sec) 비교
+ * legacy : 요청마다 ErrorResponse 생성 + ObjectMapper.writeValueAsBytes + Mono.fromSupplier (변경 전 방식)
+ * template : ErrorCode 별 미리 인코딩된 템플릿에 path / timestamp 만 채움 (현재 GlobalExceptionHandler)
+ * handle* : 예외 종류별 전체 handle 경로 (원인 체인 탐색, 커스텀 메시지, 알 수 없는 예외 포함)
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private ObjectMapper objectMapper;
+    private GlobalExceptionHandler handler;
+    private CommonException unauthorized;
+    private CommonException customMessage;
+    private RuntimeException wrapped;
+    private RuntimeException unknown;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        handler = new GlobalExceptionHandler(objectMapper);
+        unauthorized = new CommonException(GlobalErrorCode.UNAUTHORIZED);
+        customMessage = new CommonException(GlobalErrorCode.INVALID_INPUT_VALUE, "가격은 0보다 커야 합니다.");
+        wrapped = new IllegalStateException("wrapped", unauthorized);
+        unknown = new IllegalStateException("unknown");
+    }
+
+    @Benchmark
+    public Object legacy() {
+        ServerWebExchange exchange = newExchange();
+        ErrorResponse errorResponse = ErrorResponse.of(
+                GlobalErrorCode.UNAUTHORIZED, exchange.getRequest().getPath().value());
+
+        exchange.getResponse().setStatusCode(HttpStatus.valueOf(errorResponse.getStatus()));
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        exchange.getResponse().writeWith(Mono.fromSupplier(() -> {
+            try {
+                byte[] bytes = objectMapper.writeValueAsBytes(errorResponse);
+                return exchange.getResponse().bufferFactory().wrap(bytes);
+            } catch (JsonProcessingException e) {
+                return exchange.getResponse().bufferFactory().wrap(new byte[0]);
+            }
+        })).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public Object template() {
+        ServerWebExchange exchange = newExchange();
+        handler.writeErrorResponse(exchange, GlobalErrorCode.UNAUTHORIZED).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public Object handle() {
+        ServerWebExchange exchange = newExchange();
+        handler.handle(exchange, unauthorized).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public Object handleCustomMessage() {
+        ServerWebExchange exchange = newExchange();
+        handler.handle(exchange, customMessage).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public Object handleWrapped() {
+        ServerWebExchange exchange = newExchange();
+        handler.handle(exchange, wrapped).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public Object handleUnknown() {
+        ServerWebExchange exchange = newExchange();
+        handler.handle(exchange, unknown).block();
+        return exchange;
+    }
+
+    private ServerWebExchange newExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/bids"));
+    }
+}
@@ -0,0 +1,18 @@
+package xyz.fream.api.loadtest;
+
+/**
+ * 요청 도착 모델
+ * */
+public enum ArrivalMode {
+    /**
+     * 고정된 수의 가상 사용자가 응답을 받자마자 다음 요청을 보냄
+     * 서버가 느려지면 요청률도 같이 떨어진다.
+     * */
+    CLOSED,
+
+    /**
+     * 응답과 무관하게 고정 요청률(rate)로 요청을 보냄
+     * 지연시간은 예정된 발사 시각부터 측정하므로 서버 지연으로 인한 대기 시간(coordinated omission)도 포함된다.
+     * */
+    OPEN
+}
@@ -0,0 +1,76 @@
+package xyz.fream.api.loadtest;
+
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연시간 히스토그램(μs)과 결과 카운터
+ * Recorder 는 여러 이벤트 루프 스레드에서 동시에 기록해도 안전하다.
+ * */
+public class EndpointStats {
+
+    @Getter
+    private final LoadTestEndpoint endpoint;
+    private final Recorder recorder = new Recorder(3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public EndpointStats(LoadTestEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * 응답을 받은 요청 기록 (2xx / 3xx 는 성공, 그 외 상태 코드는 실패)
+     * */
+    public void record(long latencyNanos, int status) {
+        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (status < 400) {
+            successes.increment();
+        } else {
+            failures.increment();
+        }
+    }
+
+    /**
+     * 응답을 받지 못한 요청 기록 (커넥션 실패, 타임아웃 등)
+     * */
+    public void recordError(long latencyNanos) {
+        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        errors.increment();
+    }
+
+    /**
+     * 지금까지 기록된 값을 비우고 카운터를 초기화 (워밍업 구간 제거용)
+     * */
+    public void reset() {
+        recorder.reset();
+        successes.reset();
+        failures.reset();
+        errors.reset();
+    }
+
+    /**
+     * 마지막 reset 이후 누적된 히스토그램
+     * 호출할 때마다 구간이 넘어가므로 측정이 끝난 뒤 한 번만 호출한다.
+     * */
+    public Histogram takeHistogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public long getSuccesses() {
+        return successes.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
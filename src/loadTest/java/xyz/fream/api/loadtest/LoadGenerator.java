@@ -0,0 +1,104 @@
+package xyz.fream.api.loadtest;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reactor Netty HttpClient 기반 부하 생성기
+ * 엔드포인트를 요청마다 순서대로 번갈아 호출하고 EndpointStats 에 지연시간을 기록한다.
+ * */
+@Slf4j
+public class LoadGenerator {
+
+    private final HttpClient client;
+    private final ConnectionProvider connectionProvider;
+    private final List<EndpointStats> stats;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    public LoadGenerator(String baseUrl, int concurrency, List<EndpointStats> stats) {
+        this.connectionProvider = ConnectionProvider.builder("fream-loadtest")
+                .maxConnections(concurrency)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.client = HttpClient.create(connectionProvider)
+                .baseUrl(baseUrl)
+                .headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON));
+        this.stats = stats;
+    }
+
+    /**
+     * CLOSED 모델: concurrency 명의 가상 사용자가 duration 동안 쉬지 않고 요청
+     * */
+    public Mono<Void> runClosed(int concurrency, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        return Flux.range(0, concurrency)
+                .flatMap(user -> Mono.defer(() -> execute(System.nanoTime()))
+                        .repeat(() -> System.nanoTime() < deadline), concurrency)
+                .then();
+    }
+
+    /**
+     * OPEN 모델: 응답과 무관하게 초당 rate 건을 duration 동안 발사
+     * 지연시간은 예정된 발사 시각부터 측정하고, maxInFlight 를 넘는 요청은 버리고 dropped 로 집계한다.
+     * */
+    public Mono<Void> runOpen(int rate, int maxInFlight, Duration duration) {
+        long periodNanos = Math.max(1L, 1_000_000_000L / rate);
+        long total = duration.toNanos() / periodNanos;
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return Flux.interval(Duration.ofNanos(periodNanos))
+                    .take(total)
+                    .onBackpressureDrop(tick -> dropped.increment())
+                    .flatMap(tick -> execute(start + (tick + 1) * periodNanos), maxInFlight)
+                    .then();
+        });
+    }
+
+    /**
+     * 모든 엔드포인트의 기록과 dropped 카운터를 초기화
+     * */
+    public void reset() {
+        stats.forEach(EndpointStats::reset);
+        dropped.reset();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public void dispose() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(10));
+    }
+
+    private Mono<Void> execute(long intendedStartNanos) {
+        EndpointStats target = stats.get((int) (sequence.getAndIncrement() % stats.size()));
+        LoadTestEndpoint endpoint = target.getEndpoint();
+
+        HttpClient.RequestSender sender = client.request(endpoint.method()).uri(endpoint.path());
+        HttpClient.ResponseReceiver<?> receiver = endpoint.body() == null
+                ? sender
+                : sender.send(ByteBufFlux.fromString(Mono.just(endpoint.body())));
+
+        return receiver
+                .responseSingle((response, body) -> body.then(Mono.just(response.status().code())))
+                .doOnNext(status -> target.record(System.nanoTime() - intendedStartNanos, status))
+                .onErrorResume(e -> {
+                    log.debug("요청 실패 [{}]: {}", endpoint.name(), e.toString());
+                    target.recordError(System.nanoTime() - intendedStartNanos);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,40 @@
+package xyz.fream.api.loadtest;
+
+import io.netty.handler.codec.http.HttpMethod;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 부하 대상 엔드포인트
+ * "METHOD path [본문 JSON 파일 경로]" 형식으로 지정한다. (예: "GET /actuator/health", "POST /some/path body.json")
+ * */
+public record LoadTestEndpoint(HttpMethod method, String path, String body) {
+
+    public static LoadTestEndpoint parse(String spec) {
+        String[] tokens = spec.trim().split("\\s+");
+        if (tokens.length < 2 || tokens.length > 3) {
+            throw new IllegalArgumentException("엔드포인트 형식이 올바르지 않습니다: " + spec);
+        }
+        String body = tokens.length == 3 ? readBody(Path.of(tokens[2])) : null;
+        return new LoadTestEndpoint(HttpMethod.valueOf(tokens[0].toUpperCase()), tokens[1], body);
+    }
+
+    /**
+     * 리포트와 히스토그램 파일에 사용할 이름
+     * */
+    public String name() {
+        return method.name() + " " + path;
+    }
+
+    private static String readBody(Path path) {
+        try {
+            return Files.readString(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("요청 본문 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package xyz.fream.api.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 테스트 옵션 (시스템 프로퍼티 loadTest.*)
+ *
+ * @param concurrency 가상 사용자 수(CLOSED) 이자 HTTP 커넥션 수
+ * @param mode 요청 도착 모델
+ * @param rate OPEN 모델의 초당 요청 수
+ * @param maxInFlight OPEN 모델에서 동시에 처리 중일 수 있는 최대 요청 수 (넘으면 요청을 버리고 dropped 로 집계)
+ * @param warmup 측정 전 워밍업 시간
+ * @param duration 측정 시간
+ * @param endpoints 부하 대상 엔드포인트 (요청마다 순서대로 번갈아 사용)
+ * @param targetUrl 이미 떠 있는 서버 주소 (비어 있으면 ApiApplication 을 내장 H2 로 직접 띄움)
+ * @param reportDir 히스토그램 파일을 기록할 디렉터리
+ * */
+public record LoadTestOptions(
+        int concurrency,
+        ArrivalMode mode,
+        int rate,
+        int maxInFlight,
+        Duration warmup,
+        Duration duration,
+        List<LoadTestEndpoint> endpoints,
+        String targetUrl,
+        Path reportDir
+) {
+
+    private static final String PREFIX = "loadTest.";
+
+    public static LoadTestOptions fromSystemProperties() {
+        int concurrency = Integer.parseInt(property("concurrency", "32"));
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("loadTest.concurrency 는 1 이상이어야 합니다.");
+        }
+        List<LoadTestEndpoint> endpoints = Arrays.stream(property("endpoints", "GET /actuator/health").split(","))
+                .filter(spec -> !spec.isBlank())
+                .map(LoadTestEndpoint::parse)
+                .toList();
+
+        return new LoadTestOptions(
+                concurrency,
+                ArrivalMode.valueOf(property("mode", "closed").toUpperCase()),
+                Integer.parseInt(property("rate", "1000")),
+                Integer.parseInt(property("maxInFlight", "10000")),
+                DurationStyle.detectAndParse(property("warmup", "5s")),
+                DurationStyle.detectAndParse(property("duration", "30s")),
+                endpoints,
+                property("targetUrl", ""),
+                Path.of(property("reportDir", "build/reports/loadtest"))
+        );
+    }
+
+    public boolean hasTargetUrl() {
+        return !targetUrl.isBlank();
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
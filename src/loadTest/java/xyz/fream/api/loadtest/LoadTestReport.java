@@ -0,0 +1,72 @@
+package xyz.fream.api.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 부하 테스트 결과 출력
+ * 엔드포인트별 요약(처리량, 백분위 지연시간)을 표준 출력에 쓰고,
+ * 백분위 분포(.hgrm, ms 단위)를 reportDir 에 기록한다. (HdrHistogram plotter 로 그래프 확인 가능)
+ * */
+public class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final LoadTestOptions options;
+
+    public LoadTestReport(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public void write(List<EndpointStats> stats, long dropped, Duration elapsed, PrintStream out) throws IOException {
+        Files.createDirectories(options.reportDir());
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+
+        out.printf("%n=== 부하 테스트 결과 (mode=%s, concurrency=%d%s, duration=%s) ===%n",
+                options.mode(), options.concurrency(),
+                options.mode() == ArrivalMode.OPEN ? ", rate=" + options.rate() + "/s" : "",
+                elapsed);
+        out.printf("%-40s %10s %10s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "non2xx", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+        for (EndpointStats stat : stats) {
+            Histogram histogram = stat.takeHistogram();
+            long requests = histogram.getTotalCount();
+            out.printf("%-40s %10d %10.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    stat.getEndpoint().name(),
+                    requests,
+                    requests / seconds,
+                    stat.getFailures(),
+                    stat.getErrors(),
+                    millis(histogram.getValueAtPercentile(50.0)),
+                    millis(histogram.getValueAtPercentile(90.0)),
+                    millis(histogram.getValueAtPercentile(99.0)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+
+            Path file = options.reportDir().resolve(fileName(stat.getEndpoint()));
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(file))) {
+                histogram.outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+            }
+        }
+
+        if (dropped > 0) {
+            out.printf("maxInFlight(%d) 초과로 버린 요청: %d%n", options.maxInFlight(), dropped);
+        }
+        out.printf("백분위 분포: %s%n", options.reportDir().toAbsolutePath());
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    private static String fileName(LoadTestEndpoint endpoint) {
+        return endpoint.name().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+    }
+}
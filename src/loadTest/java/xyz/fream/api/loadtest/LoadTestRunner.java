@@ -0,0 +1,67 @@
+package xyz.fream.api.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.ApiApplication;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest)
+ * loadTest.targetUrl 이 없으면 ApiApplication 을 loadtest 프로필(내장 r2dbc-h2 + schema.sql)로 임의 포트에 띄운 뒤,
+ * 워밍업 -> 측정 순서로 부하를 걸고 결과를 출력한다.
+ * */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+
+        try {
+            String baseUrl = options.targetUrl();
+            if (!options.hasTargetUrl()) {
+                context = new SpringApplicationBuilder(ApiApplication.class)
+                        .profiles("loadtest")
+                        .run(args);
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                baseUrl = "http://localhost:" + port;
+            }
+            log.info("부하 대상: {} ({})", baseUrl, options.endpoints().stream().map(LoadTestEndpoint::name).toList());
+
+            List<EndpointStats> stats = options.endpoints().stream().map(EndpointStats::new).toList();
+            LoadGenerator generator = new LoadGenerator(baseUrl, options.concurrency(), stats);
+            try {
+                if (!options.warmup().isZero()) {
+                    log.info("워밍업 {}", options.warmup());
+                    run(generator, options, options.warmup()).block();
+                    generator.reset();
+                }
+
+                log.info("측정 {}", options.duration());
+                long start = System.nanoTime();
+                run(generator, options, options.duration()).block();
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+                new LoadTestReport(options).write(stats, generator.getDropped(), elapsed, System.out);
+            } finally {
+                generator.dispose();
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static Mono<Void> run(LoadGenerator generator, LoadTestOptions options, Duration duration) {
+        return switch (options.mode()) {
+            case CLOSED -> generator.runClosed(options.concurrency(), duration);
+            case OPEN -> generator.runOpen(options.rate(), options.maxInFlight(), duration);
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package xyz.fream.api.domain.matching.adapters.infrastructure.persistence;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.domain.matching.model.ListingKey;
+import xyz.fream.api.domain.matching.model.ListingMarketView;
+import xyz.fream.api.domain.matching.model.Match;
+import xyz.fream.api.domain.matching.port.outbound.MarketViewRepositoryPort;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시세 조회 모델 R2DBC 저장소
+ * 체결 배치를 호가창별로 먼저 합친 뒤 MERGE 한 번으로 listing_market_view 에 누적한다.
+ * 최근 체결가는 저장된 값보다 늦은 체결일 때만 바꾼다.
+ * */
+@Repository
+public class MarketViewR2dbcRepositoryAdapter implements MarketViewRepositoryPort {
+
+    private static final String MERGE_PREFIX = "MERGE INTO listing_market_view t USING (VALUES ";
+    private static final String MERGE_SUFFIX = """
+            ) AS s (product_id, size, last_price, last_traded_at, volume, trade_count)
+            ON t.product_id = s.product_id AND t.size = s.size
+            WHEN MATCHED THEN UPDATE SET
+                last_price = CASE WHEN s.last_traded_at >= t.last_traded_at THEN s.last_price ELSE t.last_price END,
+                last_traded_at = CASE WHEN s.last_traded_at >= t.last_traded_at THEN s.last_traded_at ELSE t.last_traded_at END,
+                volume = t.volume + s.volume,
+                trade_count = t.trade_count + s.trade_count
+            WHEN NOT MATCHED THEN INSERT (product_id, size, last_price, last_traded_at, volume, trade_count)
+                VALUES (s.product_id, s.size, s.last_price, s.last_traded_at, s.volume, s.trade_count)""";
+    private static final String[] COLUMN_TYPES = {"BIGINT", "VARCHAR(20)", "BIGINT", "TIMESTAMP", "BIGINT", "BIGINT"};
+    private static final String SELECT_ALL =
+            "SELECT product_id, size, last_price, last_traded_at, volume, trade_count FROM listing_market_view";
+
+    private final DatabaseClient databaseClient;
+
+    public MarketViewR2dbcRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Void> applyTrades(List<Match> matches) {
+        if (matches.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            Map<ListingKey, ListingMarketView> merged = new LinkedHashMap<>();
+            for (Match match : matches) {
+                merged.compute(match.listingKey(), (key, current) ->
+                        (current != null ? current : ListingMarketView.empty(key)).withTrade(match));
+            }
+
+            StringBuilder sql = new StringBuilder(MERGE_PREFIX);
+            for (int row = 0; row < merged.size(); row++) {
+                sql.append(row == 0 ? "(" : ", (");
+                for (int col = 0; col < COLUMN_TYPES.length; col++) {
+                    if (col > 0) {
+                        sql.append(", ");
+                    }
+                    sql.append("CAST(:p").append(row).append('_').append(col).append(" AS ").append(COLUMN_TYPES[col]).append(')');
+                }
+                sql.append(')');
+            }
+            sql.append(MERGE_SUFFIX);
+
+            DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+            int row = 0;
+            for (ListingMarketView view : merged.values()) {
+                String prefix = "p" + row++ + "_";
+                spec = spec.bind(prefix + 0, view.listingKey().productId())
+                        .bind(prefix + 1, view.listingKey().size())
+                        .bind(prefix + 2, view.lastPrice())
+                        .bind(prefix + 3, view.lastTradedAt())
+                        .bind(prefix + 4, view.volume())
+                        .bind(prefix + 5, view.tradeCount());
+            }
+            return spec.then();
+        });
+    }
+
+    @Override
+    public Flux<ListingMarketView> findAll() {
+        return databaseClient.sql(SELECT_ALL)
+                .map(row -> new ListingMarketView(
+                        ListingKey.of(row.get("product_id", Long.class), row.get("size", String.class)),
+                        null,
+                        null,
+                        row.get("last_price", Long.class),
+                        row.get("last_traded_at", LocalDateTime.class),
+                        row.get("volume", Long.class),
+                        row.get("trade_count", Long.class)))
+                .all();
+    }
+}
@@ -0,0 +1,71 @@
+package xyz.fream.api.domain.matching.adapters.infrastructure.persistence;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.domain.matching.model.BidMatchedEvent;
+import xyz.fream.api.domain.matching.model.Match;
+import xyz.fream.api.domain.matching.port.inbound.MarketChangeHook;
+import xyz.fream.api.domain.matching.port.outbound.MarketViewRepositoryPort;
+import xyz.fream.api.domain.matching.port.outbound.MatchRepositoryPort;
+import xyz.fream.api.global.event.outbox.OutboxEventWriter;
+import xyz.fream.api.global.infrastructure.r2dbc.batch.BatchTable;
+import xyz.fream.api.global.infrastructure.r2dbc.batch.BatchWriter;
+import xyz.fream.api.global.infrastructure.r2dbc.batch.BatchWriterOptions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 체결 내역 R2DBC 저장소
+ * 여러 샤드에서 동시에 들어오는 체결을 BatchWriter 로 모아 multi-row INSERT 한 번으로 저장하고,
+ * 같은 트랜잭션에서 BidMatchedEvent 를 outbox 에 기록하고 체결 통계(listing_market_view)를 누적한다.
+ * 커밋된 체결은 MarketChangeHook 으로 알려 메모리 시세 조회 모델에 반영한다.
+ * 재시도한 체결의 match_id 가 이미 있으면(앞선 시도가 커밋된 경우) 저장된 것으로 본다.
+ * 이때 앞선 시도는 커밋 결과를 받지 못해 알리지 않았으므로, 알림은 중복 키 처리 뒤에 걸어서 체결 건마다 한 번만 보낸다.
+ * */
+@Repository
+public class MatchR2dbcRepositoryAdapter implements MatchRepositoryPort {
+
+    static final BatchTable<Match> BID_MATCH = BatchTable.builder("bid_match", Match.class)
+            .column("match_id", String.class, Match::matchId)
+            .column("product_id", Long.class, match -> match.listingKey().productId())
+            .column("size", String.class, match -> match.listingKey().size())
+            .column("buy_bid_id", Long.class, Match::buyBidId)
+            .column("sell_bid_id", Long.class, Match::sellBidId)
+            .column("price", Long.class, Match::price)
+            .column("quantity", Integer.class, Match::quantity)
+            .column("matched_at", LocalDateTime.class, Match::matchedAt)
+            .build();
+
+    private final BatchWriter<Match> batchWriter;
+    private final MarketChangeHook marketChangeHook;
+
+    public MatchR2dbcRepositoryAdapter(DatabaseClient databaseClient, TransactionalOperator transactionalOperator,
+                                       OutboxEventWriter outboxEventWriter, MarketViewRepositoryPort marketViewRepository,
+                                       MarketChangeHook marketChangeHook) {
+        this.batchWriter = new BatchWriter<>(databaseClient, BID_MATCH, BatchWriterOptions.defaults(),
+                transactionalOperator,
+                matches -> outboxEventWriter.append(matches.stream().map(BidMatchedEvent::from).toList())
+                        .then(marketViewRepository.applyTrades(matches)));
+        this.marketChangeHook = marketChangeHook;
+    }
+
+    @Override
+    public Mono<Void> saveAll(List<Match> matches) {
+        return Flux.fromIterable(matches)
+                .flatMap(match -> batchWriter.write(match)
+                        .onErrorResume(DuplicateKeyException.class, e -> Mono.empty())
+                        .doOnSuccess(committed -> marketChangeHook.onTradeCommitted(match)))
+                .then();
+    }
+
+    @PreDestroy
+    public void close() {
+        batchWriter.dispose();
+    }
+}
@@ -0,0 +1,44 @@
+package xyz.fream.api.domain.matching.adapters.web;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import xyz.fream.api.domain.matching.exception.MatchingErrorCode;
+import xyz.fream.api.domain.matching.exception.MatchingException;
+import xyz.fream.api.domain.matching.port.inbound.WatchMarketViewUseCase;
+
+/**
+ * 실시간 시세 SSE 엔드포인트
+ * 연결 직후 현재 시세를 보내고, 이후 최저 판매가 / 최고 구매가 / 최근 체결이 바뀔 때마다 최신 시세를 보낸다.
+ * 소비가 느린 클라이언트에게는 밀린 변경 대신 최신 시세만 보낸다.
+ * */
+@RestController
+@RequestMapping("/api/v1/market")
+public class MarketTickerController {
+
+    static final String TICKER_EVENT = "ticker";
+
+    private final WatchMarketViewUseCase watchMarketViewUseCase;
+    private final MarketTickerEncoder encoder;
+
+    public MarketTickerController(WatchMarketViewUseCase watchMarketViewUseCase, MarketTickerEncoder encoder) {
+        this.watchMarketViewUseCase = watchMarketViewUseCase;
+        this.encoder = encoder;
+    }
+
+    @GetMapping(value = "/products/{productId}/ticker", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> ticker(@PathVariable long productId) {
+        if (productId <= 0) {
+            return Flux.error(new MatchingException(MatchingErrorCode.INVALID_LISTING));
+        }
+        Flux<ServerSentEvent<String>> updates = watchMarketViewUseCase.watchProduct(productId)
+                .map(view -> ServerSentEvent.builder(encoder.encode(view)).event(TICKER_EVENT).build());
+        Flux<ServerSentEvent<String>> heartbeats = encoder.heartbeat()
+                .map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build());
+        return Flux.merge(updates, heartbeats);
+    }
+}
@@ -0,0 +1,52 @@
+package xyz.fream.api.domain.matching.adapters.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import xyz.fream.api.domain.matching.model.ProductMarketView;
+import xyz.fream.api.global.config.MatchingProperties;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+/**
+ * 실시간 시세 메시지 인코더
+ * 같은 시세 스냅샷(같은 객체)은 구독자가 몇 명이든 JSON 으로 한 번만 직렬화한다.
+ * 직렬화 결과는 스냅샷 객체를 약한 참조 키(동일성 비교)로 들고 있으므로, 채널이 새 스냅샷으로 바뀌거나
+ * 구독이 끝나 스냅샷이 수거되면 함께 사라진다. (상품 수만큼 쌓이지 않음)
+ * 연결 유지용 heartbeat 는 연결마다 타이머를 두지 않고 하나의 interval 을 모든 연결이 공유한다.
+ * 공유 스트림은 가장 느린 구독자의 요청량에 맞춰 흐르므로, 구독자마다 onBackpressureDrop 을 붙여
+ * 멈춘 연결 하나가 다른 연결의 heartbeat 를 막지 않게 한다.
+ * */
+@Component
+public class MarketTickerEncoder {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<ProductMarketView, String> encoded = Caffeine.newBuilder().weakKeys().build();
+    private final Flux<Long> heartbeat;
+
+    public MarketTickerEncoder(ObjectMapper objectMapper, MatchingProperties properties) {
+        this.objectMapper = objectMapper;
+        this.heartbeat = Flux.interval(properties.ticker().heartbeatInterval())
+                .onBackpressureDrop()
+                .share();
+    }
+
+    public String encode(ProductMarketView view) {
+        return encoded.get(view, this::serialize);
+    }
+
+    public Flux<Long> heartbeat() {
+        return heartbeat.onBackpressureDrop();
+    }
+
+    private String serialize(ProductMarketView view) {
+        try {
+            return objectMapper.writeValueAsString(view);
+        } catch (JsonProcessingException e) {
+            throw new CommonException(GlobalErrorCode.INTERNAL_SERVER_ERROR, "시세 직렬화 실패: " + view.productId(), e);
+        }
+    }
+}
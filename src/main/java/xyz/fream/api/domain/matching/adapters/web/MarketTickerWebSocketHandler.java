@@ -0,0 +1,56 @@
+package xyz.fream.api.domain.matching.adapters.web;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.domain.matching.port.inbound.WatchMarketViewUseCase;
+
+/**
+ * 실시간 시세 WebSocket 핸들러 (/ws/v1/market/ticker?productId={productId})
+ * SSE 엔드포인트와 같은 시세 스트림을 텍스트 메시지(JSON)로 보내고, heartbeat 주기마다 ping 을 보낸다.
+ * productId 가 없거나 잘못되면 BAD_DATA 로 연결을 닫는다.
+ * */
+@Component
+public class MarketTickerWebSocketHandler implements WebSocketHandler {
+
+    public static final String PATH = "/ws/v1/market/ticker";
+
+    private final WatchMarketViewUseCase watchMarketViewUseCase;
+    private final MarketTickerEncoder encoder;
+
+    public MarketTickerWebSocketHandler(WatchMarketViewUseCase watchMarketViewUseCase, MarketTickerEncoder encoder) {
+        this.watchMarketViewUseCase = watchMarketViewUseCase;
+        this.encoder = encoder;
+    }
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        long productId = productIdOf(session);
+        if (productId <= 0) {
+            return session.close(CloseStatus.BAD_DATA.withReason("productId 가 필요합니다."));
+        }
+        Flux<WebSocketMessage> updates = watchMarketViewUseCase.watchProduct(productId)
+                .map(view -> session.textMessage(encoder.encode(view)));
+        Flux<WebSocketMessage> pings = encoder.heartbeat()
+                .map(tick -> session.pingMessage(factory -> factory.allocateBuffer(0)));
+        return session.send(Flux.merge(updates, pings))
+                .and(session.receive().then());
+    }
+
+    private long productIdOf(WebSocketSession session) {
+        String value = UriComponentsBuilder.fromUri(session.getHandshakeInfo().getUri())
+                .build()
+                .getQueryParams()
+                .getFirst("productId");
+        try {
+            return value != null ? Long.parseLong(value) : -1L;
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package xyz.fream.api.domain.matching.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import xyz.fream.api.global.presentation.exception.ErrorCode;
+
+/**
+ * 체결 엔진 에러 코드
+ * */
+@Getter
+@RequiredArgsConstructor
+public enum MatchingErrorCode implements ErrorCode {
+
+    INVALID_BID_PRICE("MATCHING_001", "입찰 가격은 0보다 커야 합니다.", 400),
+    INVALID_BID_QUANTITY("MATCHING_002", "입찰 수량은 0보다 커야 합니다.", 400),
+    INVALID_LISTING("MATCHING_003", "상품 정보가 올바르지 않습니다.", 400),
+    BID_NOT_FOUND("MATCHING_100", "호가창에 존재하지 않는 입찰입니다.", 404),
+    DUPLICATE_BID("MATCHING_101", "이미 등록된 입찰입니다.", 409),
+    ENGINE_OVERLOADED("MATCHING_200", "체결 요청이 많아 잠시 후 다시 시도해주세요.", 503),
+    ENGINE_STOPPED("MATCHING_201", "체결 엔진이 중지되었습니다.", 503),
+    MATCH_NOT_PERSISTED("MATCHING_202", "체결되었지만 체결 내역을 저장하지 못했습니다.", 500);
+
+    private final String code;
+    private final String message;
+    private final int status;
+}
@@ -0,0 +1,23 @@
+package xyz.fream.api.domain.matching.exception;
+
+import xyz.fream.api.global.presentation.exception.ErrorCode;
+import xyz.fream.api.global.presentation.exception.GlobalException;
+
+/**
+ * 체결 엔진 예외
+ * MatchingErrorCode 를 사용하는 예외
+ * */
+public class MatchingException extends GlobalException {
+
+    public MatchingException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    public MatchingException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public MatchingException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode, cause);
+    }
+}
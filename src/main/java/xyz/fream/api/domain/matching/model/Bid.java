@@ -0,0 +1,37 @@
+package xyz.fream.api.domain.matching.model;
+
+import xyz.fream.api.domain.matching.exception.MatchingErrorCode;
+import xyz.fream.api.domain.matching.exception.MatchingException;
+
+/**
+ * 체결 엔진에 제출되는 입찰 (지정가)
+ *
+ * @param bidId 판매 / 구매 도메인에서 발급한 입찰 ID
+ * @param listingKey 호가창
+ * @param side 입찰 방향
+ * @param price 입찰 가격 (원)
+ * @param quantity 입찰 수량
+ * */
+public record Bid(long bidId, ListingKey listingKey, BidSide side, long price, int quantity) {
+
+    public Bid {
+        if (price <= 0) {
+            throw new MatchingException(MatchingErrorCode.INVALID_BID_PRICE);
+        }
+        if (quantity <= 0) {
+            throw new MatchingException(MatchingErrorCode.INVALID_BID_QUANTITY);
+        }
+    }
+
+    public static Bid of(long bidId, ListingKey listingKey, BidSide side, long price, int quantity) {
+        return new Bid(bidId, listingKey, side, price, quantity);
+    }
+
+    /**
+     * 상대편 최우선 호가(restingPrice)와 체결 가능한지 여부
+     * 구매는 판매 호가가 입찰가 이하, 판매는 구매 호가가 입찰가 이상이면 체결된다.
+     * */
+    public boolean crosses(long restingPrice) {
+        return side == BidSide.BUY ? restingPrice <= price : restingPrice >= price;
+    }
+}
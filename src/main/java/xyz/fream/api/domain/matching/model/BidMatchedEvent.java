@@ -0,0 +1,48 @@
+package xyz.fream.api.domain.matching.model;
+
+import xyz.fream.api.global.common.util.UuidUtils;
+import xyz.fream.api.global.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입찰 체결 이벤트
+ * 판매 / 구매 도메인은 이 이벤트로 각 입찰의 상태를 체결 완료로 바꾸고 주문을 생성한다.
+ * */
+public record BidMatchedEvent(
+        String eventId,
+        String matchId,
+        long productId,
+        String size,
+        long buyBidId,
+        long sellBidId,
+        long price,
+        int quantity,
+        LocalDateTime occurredAt
+) implements DomainEvent {
+
+    public static final String AGGREGATE_TYPE = "bid_match";
+
+    public static BidMatchedEvent from(Match match) {
+        return new BidMatchedEvent(
+                UuidUtils.generateV7(),
+                match.matchId(),
+                match.listingKey().productId(),
+                match.listingKey().size(),
+                match.buyBidId(),
+                match.sellBidId(),
+                match.price(),
+                match.quantity(),
+                match.matchedAt());
+    }
+
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public String aggregateId() {
+        return matchId;
+    }
+}
@@ -0,0 +1,20 @@
+package xyz.fream.api.domain.matching.model;
+
+/**
+ * 입찰 방향
+ * */
+public enum BidSide {
+    /**
+     * 구매 입찰 (domain.buy)
+     * */
+    BUY,
+
+    /**
+     * 판매 입찰 (domain.sell)
+     * */
+    SELL;
+
+    public BidSide opposite() {
+        return this == BUY ? SELL : BUY;
+    }
+}
@@ -0,0 +1,20 @@
+package xyz.fream.api.domain.matching.model;
+
+import xyz.fream.api.domain.matching.exception.MatchingErrorCode;
+import xyz.fream.api.domain.matching.exception.MatchingException;
+
+/**
+ * 호가창 단위 (상품 + 사이즈)
+ * */
+public record ListingKey(long productId, String size) {
+
+    public ListingKey {
+        if (productId <= 0 || size == null || size.isBlank()) {
+            throw new MatchingException(MatchingErrorCode.INVALID_LISTING);
+        }
+    }
+
+    public static ListingKey of(long productId, String size) {
+        return new ListingKey(productId, size);
+    }
+}
@@ -0,0 +1,54 @@
+package xyz.fream.api.domain.matching.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 호가창(상품 + 사이즈) 단위 시세 조회 모델
+ * 집계 SQL 로 다시 계산하지 않고, 호가 변경과 커밋된 체결마다 증분으로 갱신한다.
+ *
+ * @param highestBid 최고 구매 호가 (없으면 null)
+ * @param lowestAsk 최저 판매 호가 (없으면 null)
+ * @param lastPrice 최근 체결가 (체결 이력이 없으면 null)
+ * @param lastTradedAt 최근 체결 시각
+ * @param volume 누적 체결 수량
+ * @param tradeCount 누적 체결 건수
+ * */
+public record ListingMarketView(
+        ListingKey listingKey,
+        Long highestBid,
+        Long lowestAsk,
+        Long lastPrice,
+        LocalDateTime lastTradedAt,
+        long volume,
+        long tradeCount
+) {
+
+    public static ListingMarketView empty(ListingKey listingKey) {
+        return new ListingMarketView(listingKey, null, null, null, null, 0L, 0L);
+    }
+
+    public ListingMarketView withQuote(Long highestBid, Long lowestAsk) {
+        return new ListingMarketView(listingKey, highestBid, lowestAsk, lastPrice, lastTradedAt, volume, tradeCount);
+    }
+
+    /**
+     * 체결 반영 - 수량 / 건수는 누적하고, 최근 체결가는 더 늦은 체결일 때만 바꾼다.
+     * (여러 배치의 커밋 알림이 순서를 바꿔 도착해도 최근 체결가가 뒤로 가지 않게 함)
+     * */
+    public ListingMarketView withTrade(Match match) {
+        boolean latest = lastTradedAt == null || !match.matchedAt().isBefore(lastTradedAt);
+        return new ListingMarketView(listingKey, highestBid, lowestAsk,
+                latest ? Long.valueOf(match.price()) : lastPrice,
+                latest ? match.matchedAt() : lastTradedAt,
+                volume + match.quantity(),
+                tradeCount + 1);
+    }
+
+    /**
+     * 저장된 체결 통계로 덮어씀 (호가는 유지)
+     * */
+    public ListingMarketView withTradeStats(ListingMarketView stored) {
+        return new ListingMarketView(listingKey, highestBid, lowestAsk,
+                stored.lastPrice, stored.lastTradedAt, stored.volume, stored.tradeCount);
+    }
+}
@@ -0,0 +1,24 @@
+package xyz.fream.api.domain.matching.model;
+
+import xyz.fream.api.global.common.util.UuidUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * 체결 내역
+ * 체결 가격은 먼저 호가창에 올라 있던 입찰(maker)의 가격이다.
+ * */
+public record Match(
+        String matchId,
+        ListingKey listingKey,
+        long buyBidId,
+        long sellBidId,
+        long price,
+        int quantity,
+        LocalDateTime matchedAt
+) {
+
+    public static Match of(ListingKey listingKey, long buyBidId, long sellBidId, long price, int quantity) {
+        return new Match(UuidUtils.generateV7(), listingKey, buyBidId, sellBidId, price, quantity, LocalDateTime.now());
+    }
+}
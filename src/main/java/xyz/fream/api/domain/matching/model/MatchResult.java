@@ -0,0 +1,29 @@
+package xyz.fream.api.domain.matching.model;
+
+import java.util.List;
+
+/**
+ * 입찰 제출 결과
+ *
+ * @param bidId 제출한 입찰 ID
+ * @param matches 이번 제출로 발생한 체결 (가격 우선, 시간 우선 순서)
+ * @param remainingQuantity 체결되지 않고 호가창에 남은 수량
+ * */
+public record MatchResult(long bidId, List<Match> matches, int remainingQuantity) {
+
+    public boolean isFullyMatched() {
+        return remainingQuantity == 0;
+    }
+
+    public boolean isResting() {
+        return remainingQuantity > 0;
+    }
+
+    public int matchedQuantity() {
+        int total = 0;
+        for (Match match : matches) {
+            total += match.quantity();
+        }
+        return total;
+    }
+}
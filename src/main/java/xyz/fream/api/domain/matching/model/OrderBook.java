@@ -0,0 +1,141 @@
+package xyz.fream.api.domain.matching.model;
+
+import lombok.Getter;
+import xyz.fream.api.domain.matching.exception.MatchingErrorCode;
+import xyz.fream.api.domain.matching.exception.MatchingException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 상품 + 사이즈 단위의 호가창 (가격 우선, 시간 우선)
+ * 새 입찰은 상대편 최우선 호가부터 체결 가능한 만큼 체결하고, 남은 수량은 호가창에 올린다.
+ *
+ * 스레드 안전하지 않다. 하나의 호가창은 항상 같은 샤드 스레드(single writer)에서만 다룬다.
+ * */
+public class OrderBook {
+
+    @Getter
+    private final ListingKey listingKey;
+    private final PriceLevels buys = new PriceLevels(true);
+    private final PriceLevels sells = new PriceLevels(false);
+    private final Map<Long, RestingBid> restingBids = new HashMap<>();
+
+    public OrderBook(ListingKey listingKey) {
+        this.listingKey = listingKey;
+    }
+
+    /**
+     * 입찰 제출
+     * 상대편 호가와 체결한 뒤 남은 수량을 호가창에 올린다.
+     * */
+    public MatchResult submit(Bid bid) {
+        if (restingBids.containsKey(bid.bidId())) {
+            throw new MatchingException(MatchingErrorCode.DUPLICATE_BID);
+        }
+
+        PriceLevels opposite = sideOf(bid.side().opposite());
+        List<Match> matches = List.of();
+        int remaining = bid.quantity();
+
+        while (remaining > 0) {
+            PriceLevel level = opposite.best();
+            if (level == null || !bid.crosses(level.price)) {
+                break;
+            }
+            RestingBid maker = level.head();
+            int quantity = Math.min(remaining, maker.remaining);
+
+            if (matches.isEmpty()) {
+                matches = new ArrayList<>(4);
+            }
+            matches.add(bid.side() == BidSide.BUY
+                    ? Match.of(listingKey, bid.bidId(), maker.bidId, level.price, quantity)
+                    : Match.of(listingKey, maker.bidId, bid.bidId(), level.price, quantity));
+
+            remaining -= quantity;
+            level.fill(maker, quantity);
+            if (maker.remaining == 0) {
+                level.remove(maker);
+                restingBids.remove(maker.bidId);
+                if (level.isEmpty()) {
+                    opposite.remove(level.price);
+                }
+            }
+        }
+
+        if (remaining > 0) {
+            RestingBid resting = new RestingBid(bid.bidId(), bid.price(), remaining);
+            sideOf(bid.side()).getOrCreate(bid.price()).append(resting);
+            restingBids.put(bid.bidId(), resting);
+        }
+        return new MatchResult(bid.bidId(), matches, remaining);
+    }
+
+    /**
+     * 호가창에 남아 있는 입찰 취소
+     *
+     * @return 취소했으면 true, 이미 체결되었거나 없는 입찰이면 false
+     * */
+    public boolean cancel(long bidId) {
+        RestingBid resting = restingBids.remove(bidId);
+        if (resting == null) {
+            return false;
+        }
+        PriceLevel level = resting.level;
+        level.remove(resting);
+        if (level.isEmpty()) {
+            (buys.get(level.price) == level ? buys : sells).remove(level.price);
+        }
+        return true;
+    }
+
+    /**
+     * 최고 구매 호가
+     * */
+    public OptionalLong bestBuyPrice() {
+        PriceLevel best = buys.best();
+        return best == null ? OptionalLong.empty() : OptionalLong.of(best.price);
+    }
+
+    /**
+     * 최저 판매 호가 (즉시 구매가)
+     * */
+    public OptionalLong bestSellPrice() {
+        PriceLevel best = sells.best();
+        return best == null ? OptionalLong.empty() : OptionalLong.of(best.price);
+    }
+
+    /**
+     * 우선순위 순으로 최대 depth 개 가격대의 스냅샷
+     * */
+    public List<PriceLevelSnapshot> depth(BidSide side, int depth) {
+        PriceLevels levels = sideOf(side);
+        int count = Math.min(depth, levels.size());
+        List<PriceLevelSnapshot> snapshots = new ArrayList<>(count);
+        for (int rank = 0; rank < count; rank++) {
+            PriceLevel level = levels.levelAt(rank);
+            snapshots.add(new PriceLevelSnapshot(level.price, level.totalQuantity(), level.count()));
+        }
+        return snapshots;
+    }
+
+    public boolean contains(long bidId) {
+        return restingBids.containsKey(bidId);
+    }
+
+    public int restingBidCount() {
+        return restingBids.size();
+    }
+
+    public boolean isEmpty() {
+        return restingBids.isEmpty();
+    }
+
+    private PriceLevels sideOf(BidSide side) {
+        return side == BidSide.BUY ? buys : sells;
+    }
+}
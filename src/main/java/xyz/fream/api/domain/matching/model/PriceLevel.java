@@ -0,0 +1,74 @@
+package xyz.fream.api.domain.matching.model;
+
+/**
+ * 같은 가격의 입찰 묶음 (FIFO)
+ * head 가 가장 먼저 들어온 입찰이며 먼저 체결된다.
+ * */
+final class PriceLevel {
+
+    final long price;
+    private RestingBid head;
+    private RestingBid tail;
+    private long totalQuantity;
+    private int count;
+
+    PriceLevel(long price) {
+        this.price = price;
+    }
+
+    void append(RestingBid bid) {
+        bid.level = this;
+        bid.prev = tail;
+        bid.next = null;
+        if (tail == null) {
+            head = bid;
+        } else {
+            tail.next = bid;
+        }
+        tail = bid;
+        totalQuantity += bid.remaining;
+        count++;
+    }
+
+    void remove(RestingBid bid) {
+        if (bid.prev == null) {
+            head = bid.next;
+        } else {
+            bid.prev.next = bid.next;
+        }
+        if (bid.next == null) {
+            tail = bid.prev;
+        } else {
+            bid.next.prev = bid.prev;
+        }
+        totalQuantity -= bid.remaining;
+        count--;
+        bid.prev = null;
+        bid.next = null;
+        bid.level = null;
+    }
+
+    /**
+     * head 입찰을 quantity 만큼 체결 처리
+     * */
+    void fill(RestingBid bid, int quantity) {
+        bid.remaining -= quantity;
+        totalQuantity -= quantity;
+    }
+
+    RestingBid head() {
+        return head;
+    }
+
+    long totalQuantity() {
+        return totalQuantity;
+    }
+
+    int count() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return head == null;
+    }
+}
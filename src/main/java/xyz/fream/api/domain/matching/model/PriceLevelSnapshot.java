@@ -0,0 +1,11 @@
+package xyz.fream.api.domain.matching.model;
+
+/**
+ * 호가창 한 가격대의 스냅샷
+ *
+ * @param price 가격
+ * @param quantity 가격대에 남은 총 수량
+ * @param bidCount 가격대에 남은 입찰 수
+ * */
+public record PriceLevelSnapshot(long price, long quantity, int bidCount) {
+}
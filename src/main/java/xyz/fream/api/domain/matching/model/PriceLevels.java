@@ -0,0 +1,86 @@
+package xyz.fream.api.domain.matching.model;
+
+import java.util.Arrays;
+
+/**
+ * 한쪽(구매 / 판매) 호가의 가격대 목록
+ * 가격을 박싱 없이 long 배열에 정렬해 두고 이진 탐색으로 찾는다.
+ * 최우선 호가가 항상 배열 끝에 오도록 정렬하므로 최우선 가격대를 꺼내고 지우는 비용은 O(1) 이다.
+ * (구매: 가격 오름차순 -> 끝이 최고가, 판매: 가격 내림차순 -> 끝이 최저가)
+ * */
+final class PriceLevels {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int sign;
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private PriceLevel[] levels = new PriceLevel[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @param highestFirst 높은 가격이 우선인지 여부 (구매 호가는 true, 판매 호가는 false)
+     * */
+    PriceLevels(boolean highestFirst) {
+        this.sign = highestFirst ? 1 : -1;
+    }
+
+    PriceLevel best() {
+        return size == 0 ? null : levels[size - 1];
+    }
+
+    PriceLevel get(long price) {
+        int index = indexOf(price);
+        return index >= 0 ? levels[index] : null;
+    }
+
+    PriceLevel getOrCreate(long price) {
+        int index = indexOf(price);
+        if (index >= 0) {
+            return levels[index];
+        }
+        int insertAt = -index - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            levels = Arrays.copyOf(levels, size * 2);
+        }
+        System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+        System.arraycopy(levels, insertAt, levels, insertAt + 1, size - insertAt);
+        PriceLevel level = new PriceLevel(price);
+        keys[insertAt] = sign * price;
+        levels[insertAt] = level;
+        size++;
+        return level;
+    }
+
+    void remove(long price) {
+        int index = indexOf(price);
+        if (index < 0) {
+            return;
+        }
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(levels, index + 1, levels, index, moved);
+        }
+        levels[--size] = null;
+    }
+
+    /**
+     * 우선순위 순으로 i 번째 가격대 (0 = 최우선)
+     * */
+    PriceLevel levelAt(int rank) {
+        return levels[size - 1 - rank];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int indexOf(long price) {
+        return Arrays.binarySearch(keys, 0, size, sign * price);
+    }
+}
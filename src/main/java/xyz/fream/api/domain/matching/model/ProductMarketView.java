@@ -0,0 +1,53 @@
+package xyz.fream.api.domain.matching.model;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 상품 단위 시세 조회 모델 - 사이즈별 시세를 합친 값
+ *
+ * @param lowestAsk 전체 사이즈 중 최저 판매 호가 (즉시 구매가)
+ * @param highestBid 전체 사이즈 중 최고 구매 호가 (즉시 판매가)
+ * @param lastPrice 전체 사이즈 중 가장 최근 체결가
+ * @param volume 전체 사이즈 누적 체결 수량
+ * @param listings 사이즈별 시세 (사이즈 순)
+ * */
+public record ProductMarketView(
+        long productId,
+        Long lowestAsk,
+        Long highestBid,
+        Long lastPrice,
+        LocalDateTime lastTradedAt,
+        long volume,
+        List<ListingMarketView> listings
+) {
+
+    public static ProductMarketView of(long productId, Collection<ListingMarketView> listings) {
+        Long lowestAsk = null;
+        Long highestBid = null;
+        Long lastPrice = null;
+        LocalDateTime lastTradedAt = null;
+        long volume = 0L;
+
+        for (ListingMarketView listing : listings) {
+            if (listing.lowestAsk() != null && (lowestAsk == null || listing.lowestAsk() < lowestAsk)) {
+                lowestAsk = listing.lowestAsk();
+            }
+            if (listing.highestBid() != null && (highestBid == null || listing.highestBid() > highestBid)) {
+                highestBid = listing.highestBid();
+            }
+            if (listing.lastTradedAt() != null && (lastTradedAt == null || listing.lastTradedAt().isAfter(lastTradedAt))) {
+                lastTradedAt = listing.lastTradedAt();
+                lastPrice = listing.lastPrice();
+            }
+            volume += listing.volume();
+        }
+
+        List<ListingMarketView> sorted = listings.stream()
+                .sorted(Comparator.comparing(listing -> listing.listingKey().size()))
+                .toList();
+        return new ProductMarketView(productId, lowestAsk, highestBid, lastPrice, lastTradedAt, volume, sorted);
+    }
+}
@@ -0,0 +1,22 @@
+package xyz.fream.api.domain.matching.model;
+
+/**
+ * 호가창에 남아 있는 입찰
+ * 같은 가격대 안에서 도착 순서대로 이어지는 이중 연결 리스트 노드이며, 취소 시 O(1) 로 제거된다.
+ * */
+final class RestingBid {
+
+    final long bidId;
+    final long price;
+    int remaining;
+
+    RestingBid prev;
+    RestingBid next;
+    PriceLevel level;
+
+    RestingBid(long bidId, long price, int remaining) {
+        this.bidId = bidId;
+        this.price = price;
+        this.remaining = remaining;
+    }
+}
@@ -0,0 +1,13 @@
+package xyz.fream.api.domain.matching.port.inbound;
+
+import xyz.fream.api.domain.matching.model.ListingKey;
+
+/**
+ * 입찰 취소 요청
+ * */
+public record CancelBidCommand(long bidId, long productId, String size) {
+
+    public ListingKey listingKey() {
+        return ListingKey.of(productId, size);
+    }
+}
@@ -0,0 +1,15 @@
+package xyz.fream.api.domain.matching.port.inbound;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 입찰 취소 Use Case
+ * */
+public interface CancelBidUseCase {
+
+    /**
+     * 호가창에 남아 있는 입찰을 취소
+     * 이미 체결되었거나 없는 입찰이면 MatchingErrorCode.BID_NOT_FOUND 로 실패한다.
+     * */
+    Mono<Void> cancel(CancelBidCommand command);
+}
@@ -0,0 +1,23 @@
+package xyz.fream.api.domain.matching.port.inbound;
+
+import reactor.core.publisher.Mono;
+import xyz.fream.api.domain.matching.model.ListingKey;
+import xyz.fream.api.domain.matching.model.ListingMarketView;
+import xyz.fream.api.domain.matching.model.ProductMarketView;
+
+/**
+ * 시세 조회 Use Case
+ * 상품 상세 / 목록 조회가 최저 판매가, 최고 구매가, 최근 체결가, 거래량을 가져갈 때 호출한다.
+ * */
+public interface GetMarketViewUseCase {
+
+    /**
+     * 호가창 시세 - 호가 / 체결이 없으면 빈 시세
+     * */
+    Mono<ListingMarketView> getListing(ListingKey listingKey);
+
+    /**
+     * 상품 전체 사이즈를 합친 시세 - 호가 / 체결이 없으면 빈 시세
+     * */
+    Mono<ProductMarketView> getProduct(long productId);
+}
@@ -0,0 +1,34 @@
+package xyz.fream.api.domain.matching.port.inbound;
+
+import xyz.fream.api.domain.matching.model.ListingKey;
+import xyz.fream.api.domain.matching.model.Match;
+
+import java.util.OptionalLong;
+
+/**
+ * 시세 조회 모델 변경 훅
+ * 체결 엔진(호가 변경)과 체결 저장 어댑터(커밋된 체결)가 호출한다.
+ * 호출 스레드가 샤드 스레드 / DB 이벤트 루프이므로 구현은 블로킹 없이 바로 끝나야 한다.
+ * */
+public interface MarketChangeHook {
+
+    MarketChangeHook NONE = new MarketChangeHook() {
+        @Override
+        public void onQuoteChanged(ListingKey listingKey, OptionalLong highestBid, OptionalLong lowestAsk) {
+        }
+
+        @Override
+        public void onTradeCommitted(Match match) {
+        }
+    };
+
+    /**
+     * 호가창의 최고 구매 / 최저 판매 호가가 바뀜 - 같은 호가창의 호출은 변경 순서대로 들어온다.
+     * */
+    void onQuoteChanged(ListingKey listingKey, OptionalLong highestBid, OptionalLong lowestAsk);
+
+    /**
+     * 체결 내역이 커밋됨
+     * */
+    void onTradeCommitted(Match match);
+}
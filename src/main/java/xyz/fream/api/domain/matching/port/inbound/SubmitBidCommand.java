@@ -0,0 +1,15 @@
+package xyz.fream.api.domain.matching.port.inbound;
+
+import xyz.fream.api.domain.matching.model.Bid;
+import xyz.fream.api.domain.matching.model.BidSide;
+import xyz.fream.api.domain.matching.model.ListingKey;
+
+/**
+ * 입찰 제출 요청
+ * */
+public record SubmitBidCommand(long bidId, long productId, String size, BidSide side, long price, int quantity) {
+
+    public Bid toBid() {
+        return Bid.of(bidId, ListingKey.of(productId, size), side, price, quantity);
+    }
+}
@@ -0,0 +1,17 @@
+package xyz.fream.api.domain.matching.port.inbound;
+
+import reactor.core.publisher.Mono;
+import xyz.fream.api.domain.matching.model.MatchResult;
+
+/**
+ * 입찰 제출 Use Case
+ * 판매 / 구매 도메인이 입찰을 등록할 때 호출한다.
+ * */
+public interface SubmitBidUseCase {
+
+    /**
+     * 입찰을 호가창에 제출하고 즉시 체결된 결과를 돌려줌
+     * 체결 내역은 응답 이후 비동기로 저장된다.
+     * */
+    Mono<MatchResult> submit(SubmitBidCommand command);
+}
@@ -0,0 +1,17 @@
+package xyz.fream.api.domain.matching.port.inbound;
+
+import reactor.core.publisher.Flux;
+import xyz.fream.api.domain.matching.model.ProductMarketView;
+
+/**
+ * 시세 구독 Use Case
+ * 실시간 시세(SSE / WebSocket)를 내보내는 어댑터가 호출한다.
+ * */
+public interface WatchMarketViewUseCase {
+
+    /**
+     * 현재 상품 시세를 먼저 내보내고, 이후 호가 / 체결로 바뀔 때마다 최신 시세를 내보냄
+     * 소비가 느린 구독자에게는 밀린 변경을 쌓지 않고 가장 최신 시세 하나만 전달한다.
+     * */
+    Flux<ProductMarketView> watchProduct(long productId);
+}
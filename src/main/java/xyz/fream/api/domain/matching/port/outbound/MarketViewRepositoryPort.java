@@ -0,0 +1,25 @@
+package xyz.fream.api.domain.matching.port.outbound;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.domain.matching.model.ListingMarketView;
+import xyz.fream.api.domain.matching.model.Match;
+
+import java.util.List;
+
+/**
+ * 시세 조회 모델 저장 포트
+ * 체결 통계(최근 체결가, 거래량)만 저장한다. 호가는 메모리 호가창에서만 관리한다.
+ * */
+public interface MarketViewRepositoryPort {
+
+    /**
+     * 체결 내역을 체결 통계에 누적 - 체결 내역 저장과 같은 트랜잭션 안에서 호출한다.
+     * */
+    Mono<Void> applyTrades(List<Match> matches);
+
+    /**
+     * 저장된 모든 호가창의 체결 통계 (호가는 비어 있음)
+     * */
+    Flux<ListingMarketView> findAll();
+}
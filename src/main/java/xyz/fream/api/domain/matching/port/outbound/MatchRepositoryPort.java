@@ -0,0 +1,14 @@
+package xyz.fream.api.domain.matching.port.outbound;
+
+import reactor.core.publisher.Mono;
+import xyz.fream.api.domain.matching.model.Match;
+
+import java.util.List;
+
+/**
+ * 체결 내역 저장 포트
+ * */
+public interface MatchRepositoryPort {
+
+    Mono<Void> saveAll(List<Match> matches);
+}
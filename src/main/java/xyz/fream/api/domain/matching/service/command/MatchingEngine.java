@@ -0,0 +1,182 @@
+package xyz.fream.api.domain.matching.service.command;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+import reactor.util.retry.Retry;
+import xyz.fream.api.domain.matching.exception.MatchingErrorCode;
+import xyz.fream.api.domain.matching.exception.MatchingException;
+import xyz.fream.api.domain.matching.model.Bid;
+import xyz.fream.api.domain.matching.model.ListingKey;
+import xyz.fream.api.domain.matching.model.MatchResult;
+import xyz.fream.api.domain.matching.model.OrderBook;
+import xyz.fream.api.domain.matching.port.inbound.CancelBidCommand;
+import xyz.fream.api.domain.matching.port.inbound.CancelBidUseCase;
+import xyz.fream.api.domain.matching.port.inbound.MarketChangeHook;
+import xyz.fream.api.domain.matching.port.inbound.SubmitBidCommand;
+import xyz.fream.api.domain.matching.port.inbound.SubmitBidUseCase;
+import xyz.fream.api.domain.matching.port.outbound.MatchRepositoryPort;
+import xyz.fream.api.global.concurrent.ShardedExecutor;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * 인메모리 체결 엔진
+ * 상품 ID 로 ShardedExecutor 의 파티션을 고르고, 해당 샤드 스레드가 파티션의 호가창(OrderBook)들을 단독으로 갱신한다.
+ * 같은 상품의 모든 사이즈는 같은 파티션에서 처리되므로 호가창 갱신에 락이 필요 없다.
+ *
+ * 체결은 DB 왕복 없이 메모리에서 끝나고, 체결 내역은 MatchRepositoryPort 로 저장한다.
+ * 호가창은 이미 바뀌었으므로 저장은 샤드 스레드에서 호출자의 구독과 분리해서 시작하고(호출자가 취소해도 끝까지 진행),
+ * 저장 실패를 버리지 않고 체결 건별로 재시도하며,
+ * 재시도 후에도 실패하면 MATCH_NOT_PERSISTED 로 호출자에게 알리고 체결 ID 를 에러 로그로 남긴다.
+ * 최고 구매 / 최저 판매 호가가 바뀌면 샤드 스레드에서 MarketChangeHook 으로 알린다.
+ * */
+@Slf4j
+public class MatchingEngine implements SubmitBidUseCase, CancelBidUseCase, Disposable {
+
+    private static final int PARTITIONS_PER_SHARD = 64;
+    private static final Retry PERSIST_RETRY = Retry.backoff(3, Duration.ofMillis(50))
+            .maxBackoff(Duration.ofSeconds(1))
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
+    @Getter
+    private final ShardedExecutor<Map<ListingKey, OrderBook>> executor;
+    private final MatchRepositoryPort matchRepository;
+    private final MarketChangeHook marketChangeHook;
+
+    public MatchingEngine(int shardCount, int queueCapacity, MatchRepositoryPort matchRepository) {
+        this(shardCount, queueCapacity, matchRepository, MarketChangeHook.NONE);
+    }
+
+    public MatchingEngine(int shardCount, int queueCapacity, MatchRepositoryPort matchRepository,
+                          MarketChangeHook marketChangeHook) {
+        this(new ShardedExecutor<>("fream-matching", shardCount, shardCount * PARTITIONS_PER_SHARD,
+                queueCapacity, HashMap::new, Schedulers.parallel()), matchRepository, marketChangeHook);
+    }
+
+    public MatchingEngine(ShardedExecutor<Map<ListingKey, OrderBook>> executor, MatchRepositoryPort matchRepository) {
+        this(executor, matchRepository, MarketChangeHook.NONE);
+    }
+
+    public MatchingEngine(ShardedExecutor<Map<ListingKey, OrderBook>> executor, MatchRepositoryPort matchRepository,
+                          MarketChangeHook marketChangeHook) {
+        this.executor = executor;
+        this.matchRepository = matchRepository;
+        this.marketChangeHook = marketChangeHook;
+    }
+
+    public void start() {
+        executor.start();
+    }
+
+    @Override
+    public Mono<MatchResult> submit(SubmitBidCommand command) {
+        return Mono.deferContextual(context -> {
+            Bid bid = command.toBid();
+            return execute(bid.listingKey(), book -> {
+                OptionalLong highestBid = book.bestBuyPrice();
+                OptionalLong lowestAsk = book.bestSellPrice();
+                MatchResult result = book.submit(bid);
+                notifyQuoteChange(book, highestBid, lowestAsk);
+                return persistDetached(result, context);
+            });
+        }).flatMap(Function.identity());
+    }
+
+    @Override
+    public Mono<Void> cancel(CancelBidCommand command) {
+        return Mono.defer(() -> execute(command.listingKey(), book -> {
+                    OptionalLong highestBid = book.bestBuyPrice();
+                    OptionalLong lowestAsk = book.bestSellPrice();
+                    boolean cancelled = book.cancel(command.bidId());
+                    notifyQuoteChange(book, highestBid, lowestAsk);
+                    return cancelled;
+                }))
+                .flatMap(cancelled -> cancelled
+                        ? Mono.<Void>empty()
+                        : Mono.error(new MatchingException(MatchingErrorCode.BID_NOT_FOUND)));
+    }
+
+    /**
+     * 호가창 상태를 읽거나 갱신하는 작업을 해당 샤드 스레드에서 실행
+     * */
+    public <R> Mono<R> execute(ListingKey listingKey, Function<OrderBook, R> action) {
+        return executor.execute(listingKey.productId(),
+                        books -> action.apply(books.computeIfAbsent(listingKey, OrderBook::new)))
+                .onErrorMap(RejectedExecutionException.class, e -> new MatchingException(
+                        executor.isDisposed() ? MatchingErrorCode.ENGINE_STOPPED : MatchingErrorCode.ENGINE_OVERLOADED));
+    }
+
+    /**
+     * 호가창을 현재 담당하는 샤드 번호
+     * */
+    int shardIndexOf(ListingKey listingKey) {
+        return executor.shardOf(listingKey.productId());
+    }
+
+    public int getShardCount() {
+        return executor.getShardCount();
+    }
+
+    /**
+     * 체결 내역 저장을 호출자의 구독과 분리해서 시작하고 그 결과를 돌려줌 (샤드 스레드에서 실행)
+     * 호출자가 체결 결과를 받기 전에 취소해도 저장은 끝까지 진행된다.
+     * */
+    private Mono<MatchResult> persistDetached(MatchResult result, ContextView context) {
+        if (result.matches().isEmpty()) {
+            return Mono.just(result);
+        }
+        Sinks.One<MatchResult> persisted = Sinks.one();
+        persist(result)
+                .contextWrite(context)
+                .subscribe(persisted::tryEmitValue, persisted::tryEmitError);
+        return persisted.asMono();
+    }
+
+    /**
+     * 체결 내역 저장
+     * 체결 건별로 재시도해서 이미 저장된 건을 다시 쓰지 않도록 하고,
+     * 재시도 후에도 실패하면 보정할 수 있도록 체결 ID 를 남기고 MATCH_NOT_PERSISTED 로 실패한다.
+     * */
+    private Mono<MatchResult> persist(MatchResult result) {
+        return Flux.fromIterable(result.matches())
+                .flatMap(match -> matchRepository.saveAll(List.of(match))
+                        .retryWhen(PERSIST_RETRY)
+                        .doOnError(e -> log.error("체결 내역 저장 실패: bidId={}, matchId={}",
+                                result.bidId(), match.matchId(), e)))
+                .then(Mono.just(result))
+                .onErrorMap(e -> new MatchingException(MatchingErrorCode.MATCH_NOT_PERSISTED, e));
+    }
+
+    /**
+     * 변경 전 최우선 호가와 비교해서 바뀌었을 때만 알림 (샤드 스레드에서 실행)
+     * */
+    private void notifyQuoteChange(OrderBook book, OptionalLong highestBidBefore, OptionalLong lowestAskBefore) {
+        OptionalLong highestBid = book.bestBuyPrice();
+        OptionalLong lowestAsk = book.bestSellPrice();
+        if (!highestBid.equals(highestBidBefore) || !lowestAsk.equals(lowestAskBefore)) {
+            marketChangeHook.onQuoteChanged(book.getListingKey(), highestBid, lowestAsk);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        executor.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return executor.isDisposed();
+    }
+}
@@ -0,0 +1,98 @@
+package xyz.fream.api.domain.matching.service.query;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import xyz.fream.api.domain.matching.model.ProductMarketView;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * 상품별 시세 변경 채널
+ * 구독자가 있는 상품만 채널을 두고, 같은 상품의 모든 구독자가 하나의 multicast sink 를 공유한다.
+ *
+ * - sink 로는 값 대신 "바뀌었다" 신호만 보내고, 구독자는 전달 시점에 최신 시세를 읽는다.
+ *   onBackpressureLatest 로 구독자마다 신호 하나만 들고 있으므로 느린 구독자도 메모리가 늘지 않고 최신 값으로 합쳐진다.
+ * - 시세 스냅샷은 변경 버전마다 한 번만 만들어 모든 구독자가 같은 객체를 받는다.
+ * - 마지막 구독자가 떠나면 채널을 지운다.
+ * */
+final class MarketViewChannels {
+
+    private static final Object CHANGED = new Object();
+
+    private final LongFunction<ProductMarketView> snapshot;
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    MarketViewChannels(LongFunction<ProductMarketView> snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    void signal(long productId) {
+        Channel channel = channels.get(productId);
+        if (channel != null) {
+            channel.signal();
+        }
+    }
+
+    Flux<ProductMarketView> watch(long productId) {
+        return Flux.defer(() -> {
+            Channel channel = channels.compute(productId, (id, current) -> {
+                Channel joined = current != null ? current : new Channel(id);
+                joined.subscribers++;
+                return joined;
+            });
+            // 신호 구독을 먼저 걸고 초기 스냅샷 신호를 보내야 그 사이의 변경을 놓치지 않는다.
+            return Flux.merge(channel.sink.asFlux(), Mono.just(CHANGED))
+                    .onBackpressureLatest()
+                    .map(changed -> channel.current())
+                    .distinctUntilChanged()
+                    .doFinally(signal -> channels.computeIfPresent(productId,
+                            (id, current) -> --current.subscribers == 0 ? null : current));
+        });
+    }
+
+    int channelCount() {
+        return channels.size();
+    }
+
+    private final class Channel {
+
+        private final long productId;
+        private final Sinks.Many<Object> sink = Sinks.many().multicast().directBestEffort();
+        private final AtomicLong version = new AtomicLong();
+        private volatile Snapshot latest;
+        private int subscribers;
+
+        private Channel(long productId) {
+            this.productId = productId;
+        }
+
+        void signal() {
+            version.incrementAndGet();
+            for (;;) {
+                Sinks.EmitResult result = sink.tryEmitNext(CHANGED);
+                if (result != Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        ProductMarketView current() {
+            long currentVersion = version.get();
+            Snapshot cached = latest;
+            if (cached != null && cached.version() == currentVersion) {
+                return cached.view();
+            }
+            ProductMarketView view = snapshot.apply(productId);
+            latest = new Snapshot(currentVersion, view);
+            return view;
+        }
+    }
+
+    private record Snapshot(long version, ProductMarketView view) {
+    }
+}
@@ -0,0 +1,107 @@
+package xyz.fream.api.domain.matching.service.query;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.domain.matching.model.ListingKey;
+import xyz.fream.api.domain.matching.model.ListingMarketView;
+import xyz.fream.api.domain.matching.model.Match;
+import xyz.fream.api.domain.matching.model.ProductMarketView;
+import xyz.fream.api.domain.matching.port.inbound.GetMarketViewUseCase;
+import xyz.fream.api.domain.matching.port.inbound.MarketChangeHook;
+import xyz.fream.api.domain.matching.port.inbound.WatchMarketViewUseCase;
+import xyz.fream.api.domain.matching.port.outbound.MarketViewRepositoryPort;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시세 조회 모델 (CQRS 조회 측 프로젝션)
+ * 상품별 사이즈 시세를 메모리에 두고, 호가 변경과 커밋된 체결을 MarketChangeHook 으로 받아 증분 갱신한다.
+ * 조회는 DB 를 거치지 않는 맵 조회이므로 입찰이 몰려도 집계 쿼리가 생기지 않는다.
+ *
+ * - 체결 통계는 체결 저장 트랜잭션에서 listing_market_view 에도 누적되고, 시작 시 그 값으로 복원한다.
+ * - 호가는 메모리 호가창과 수명이 같으므로 저장하지 않는다.
+ * - 시세가 바뀌면 해당 상품을 구독 중인 실시간 시세 채널에 알린다.
+ * */
+@Slf4j
+public class MarketViewProjection implements MarketChangeHook, GetMarketViewUseCase, WatchMarketViewUseCase {
+
+    private static final Duration RESTORE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final MarketViewRepositoryPort marketViewRepository;
+    private final Map<Long, Map<String, ListingMarketView>> products = new ConcurrentHashMap<>();
+    private final MarketViewChannels channels = new MarketViewChannels(this::snapshot);
+
+    public MarketViewProjection(MarketViewRepositoryPort marketViewRepository) {
+        this.marketViewRepository = marketViewRepository;
+    }
+
+    /**
+     * 저장된 체결 통계로 프로젝션을 복원 - 체결 엔진이 시작되기 전에 호출한다.
+     * */
+    public void start() {
+        Long restored = marketViewRepository.findAll()
+                .doOnNext(stored -> listingsOf(stored.listingKey().productId())
+                        .compute(stored.listingKey().size(), (size, current) ->
+                                (current != null ? current : ListingMarketView.empty(stored.listingKey())).withTradeStats(stored)))
+                .count()
+                .block(RESTORE_TIMEOUT);
+        log.info("시세 조회 모델 복원: {} 개 호가창", restored);
+    }
+
+    @Override
+    public void onQuoteChanged(ListingKey listingKey, OptionalLong highestBid, OptionalLong lowestAsk) {
+        Long bid = highestBid.isPresent() ? highestBid.getAsLong() : null;
+        Long ask = lowestAsk.isPresent() ? lowestAsk.getAsLong() : null;
+        listingsOf(listingKey.productId()).compute(listingKey.size(), (size, current) ->
+                (current != null ? current : ListingMarketView.empty(listingKey)).withQuote(bid, ask));
+        channels.signal(listingKey.productId());
+    }
+
+    @Override
+    public void onTradeCommitted(Match match) {
+        ListingKey listingKey = match.listingKey();
+        listingsOf(listingKey.productId()).compute(listingKey.size(), (size, current) ->
+                (current != null ? current : ListingMarketView.empty(listingKey)).withTrade(match));
+        channels.signal(listingKey.productId());
+    }
+
+    @Override
+    public Mono<ListingMarketView> getListing(ListingKey listingKey) {
+        return Mono.fromSupplier(() -> {
+            Map<String, ListingMarketView> listings = products.get(listingKey.productId());
+            ListingMarketView view = listings != null ? listings.get(listingKey.size()) : null;
+            return view != null ? view : ListingMarketView.empty(listingKey);
+        });
+    }
+
+    @Override
+    public Mono<ProductMarketView> getProduct(long productId) {
+        return Mono.fromSupplier(() -> snapshot(productId));
+    }
+
+    @Override
+    public Flux<ProductMarketView> watchProduct(long productId) {
+        return channels.watch(productId);
+    }
+
+    /**
+     * 구독자가 있는 상품 채널 수
+     * */
+    public int getWatchedProductCount() {
+        return channels.channelCount();
+    }
+
+    private ProductMarketView snapshot(long productId) {
+        Map<String, ListingMarketView> listings = products.get(productId);
+        return ProductMarketView.of(productId, listings != null ? listings.values() : List.of());
+    }
+
+    private Map<String, ListingMarketView> listingsOf(long productId) {
+        return products.computeIfAbsent(productId, id -> new ConcurrentHashMap<>());
+    }
+}
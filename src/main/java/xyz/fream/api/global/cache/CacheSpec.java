@@ -0,0 +1,30 @@
+package xyz.fream.api.global.cache;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 캐시 하나의 크기 / 만료 설정
+ *
+ * @param maximumSize 힙 캐시 최대 항목 수 (W-TinyLFU 로 교체)
+ * @param expireAfterWrite 힙 캐시 항목 만료 시간 (적재 완료 시점부터)
+ * @param offHeapMaxSize 오프힙 캐시 최대 크기 (0 이면 사용하지 않음)
+ * @param offHeapExpireAfterWrite 오프힙 캐시 항목 만료 시간
+ * */
+public record CacheSpec(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration expireAfterWrite,
+        @DefaultValue("0") DataSize offHeapMaxSize,
+        @DefaultValue("30m") Duration offHeapExpireAfterWrite
+) {
+
+    public static CacheSpec defaults() {
+        return new CacheSpec(10_000L, Duration.ofMinutes(5), DataSize.ofBytes(0), Duration.ofMinutes(30));
+    }
+
+    public boolean offHeapEnabled() {
+        return offHeapMaxSize.toBytes() > 0;
+    }
+}
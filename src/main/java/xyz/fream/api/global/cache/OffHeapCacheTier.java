@@ -0,0 +1,220 @@
+package xyz.fream.api.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 오프힙 캐시 계층 (2차)
+ * 값을 JSON 으로 직렬화해서 생성 시 한 번 할당한 direct ByteBuffer(slab) 에 두므로, 힙 캐시보다 큰 카탈로그를 GC 부담 없이 담을 수 있다.
+ * 전체 바이트 수로 크기를 제한하고, 넘치면 가장 오래 조회되지 않은 항목부터 내보낸다(LRU).
+ *
+ * - 항목은 slab 끝에 이어 쓰고, 빈자리가 흩어져 끝에 공간이 모자라면 살아 있는 항목을 앞으로 모은다(compaction).
+ * - slab 하나는 int 로 주소를 잡으므로 최대 크기는 2GB 미만이어야 한다.
+ *
+ * 조회할 때마다 역직렬화하므로 힙 캐시 뒤에서 힙 미스를 받아 주는 용도로만 쓴다.
+ * */
+final class OffHeapCacheTier<K, V> {
+
+    private static final long MAX_SLAB_BYTES = Integer.MAX_VALUE - 8;
+
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final long maxBytes;
+    private final long expireAfterWriteNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final ByteBuffer slab;
+    private long usedBytes;
+    private int writeOffset;
+
+    OffHeapCacheTier(ObjectMapper objectMapper, JavaType valueType, long maxBytes, Duration expireAfterWrite) {
+        if (maxBytes <= 0 || maxBytes > MAX_SLAB_BYTES) {
+            throw new IllegalArgumentException("오프힙 캐시 최대 크기는 0 보다 크고 2GB 미만이어야 합니다. maxBytes=" + maxBytes);
+        }
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.maxBytes = maxBytes;
+        this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+        this.slab = ByteBuffer.allocateDirect((int) maxBytes);
+    }
+
+    /**
+     * @return 없거나 만료되었으면 null
+     * */
+    V get(K key) {
+        byte[] bytes;
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null || entry.isExpired(System.nanoTime())) {
+                if (entry != null) {
+                    remove(key);
+                }
+                misses.increment();
+                return null;
+            }
+            bytes = new byte[entry.length];
+            slab.get(entry.offset, bytes);
+        } finally {
+            lock.unlock();
+        }
+        hits.increment();
+        return deserialize(bytes);
+    }
+
+    void put(K key, V value) {
+        byte[] bytes = serialize(value);
+        if (bytes.length > maxBytes) {
+            return;
+        }
+        long expiresAtNanos = System.nanoTime() + expireAfterWriteNanos;
+
+        lock.lock();
+        try {
+            remove(key);
+            Iterator<Map.Entry<K, Entry>> eldest = entries.entrySet().iterator();
+            while (usedBytes + bytes.length > maxBytes && eldest.hasNext()) {
+                usedBytes -= eldest.next().getValue().length;
+                eldest.remove();
+                evictions.increment();
+            }
+            if (writeOffset + bytes.length > slab.capacity()) {
+                compact();
+            }
+            slab.put(writeOffset, bytes);
+            entries.put(key, new Entry(writeOffset, bytes.length, expiresAtNanos));
+            writeOffset += bytes.length;
+            usedBytes += bytes.length;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void invalidate(K key) {
+        lock.lock();
+        try {
+            remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            usedBytes = 0L;
+            writeOffset = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void remove(K key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            usedBytes -= removed.length;
+        }
+    }
+
+    /**
+     * 살아 있는 항목을 slab 앞쪽으로 모아 끝에 usedBytes 이후의 연속 공간을 만듦 (lock 안에서만 호출)
+     * 조회 순서(LRU)는 맵에 그대로 남고 위치만 바뀐다.
+     * */
+    private void compact() {
+        List<Entry> live = new ArrayList<>(entries.values());
+        live.sort(Comparator.comparingInt(entry -> entry.offset));
+        int offset = 0;
+        for (Entry entry : live) {
+            if (entry.offset != offset) {
+                byte[] bytes = new byte[entry.length];
+                slab.get(entry.offset, bytes);
+                slab.put(offset, bytes);
+                entry.offset = offset;
+            }
+            offset += entry.length;
+        }
+        writeOffset = offset;
+    }
+
+    private byte[] serialize(V value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException("오프힙 캐시 직렬화 실패: " + valueType, e);
+        }
+    }
+
+    private V deserialize(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, valueType);
+        } catch (IOException e) {
+            throw new IllegalStateException("오프힙 캐시 역직렬화 실패: " + valueType, e);
+        }
+    }
+
+    /**
+     * slab 안의 위치 - compaction 때 offset 만 바뀌므로 맵에 다시 넣지 않는다. (다시 넣으면 LRU 순서가 바뀜)
+     * */
+    private static final class Entry {
+
+        private int offset;
+        private final int length;
+        private final long expiresAtNanos;
+
+        private Entry(int offset, int length, long expiresAtNanos) {
+            this.offset = offset;
+            this.length = length;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package xyz.fream.api.global.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.global.event.DomainEvent;
+import xyz.fream.api.global.event.DomainEventSubscriber;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 논블로킹 2계층 캐시
+ * 1차는 Caffeine AsyncCache(W-TinyLFU, 크기 / TTL 제한), 2차는 선택적인 오프힙 계층이다.
+ *
+ * - 같은 키의 동시 미스는 적재 중인 CompletableFuture 하나를 공유하므로 loader(R2DBC 쿼리)는 한 번만 실행된다.
+ * - loader 가 비어 있는 Mono 로 끝나면 캐시하지 않는다.
+ * - loader 가 실패하면 항목이 제거되어 다음 조회에서 다시 적재한다.
+ * - 한 구독자가 취소해도 같은 적재를 기다리는 다른 구독자에게는 영향이 없다.
+ * - 적재 도중 무효화된 키는 loader 결과를 오프힙 계층에 남기지 않는다. (키 해시별 무효화 버전으로 판단)
+ * */
+public class ReactiveCache<K, V> {
+
+    private static final int VERSION_STRIPES = 256;
+
+    @Getter
+    private final String name;
+    private final AsyncCache<K, V> heap;
+    private final OffHeapCacheTier<K, V> offHeap;
+    private final AtomicLongArray invalidations = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLong invalidatedAll = new AtomicLong();
+
+    ReactiveCache(String name, AsyncCache<K, V> heap, OffHeapCacheTier<K, V> offHeap) {
+        this.name = name;
+        this.heap = heap;
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * 캐시된 값을 돌려주거나, 없으면 오프힙 계층 -> loader 순으로 적재
+     * */
+    public Mono<V> get(K key, Function<? super K, Mono<V>> loader) {
+        return Mono.defer(() -> Mono.fromFuture(
+                heap.get(key, (k, executor) -> loadThrough(k, loader).toFuture()), true));
+    }
+
+    /**
+     * 여러 키를 한 번에 조회 - 캐시에 없는 키만 모아 loader 를 한 번 호출한다.
+     * loader 결과에 없는 키는 결과 맵에서도 빠진다.
+     * */
+    public Mono<Map<K, V>> getAll(Collection<? extends K> keys, Function<Set<K>, Mono<Map<K, V>>> loader) {
+        return Mono.defer(() -> Mono.fromFuture(
+                heap.getAll(keys, (missing, executor) -> loadAllThrough(missing, loader).toFuture()), true));
+    }
+
+    public void put(K key, V value) {
+        heap.put(key, CompletableFuture.completedFuture(value));
+        if (offHeap != null) {
+            offHeap.put(key, value);
+        }
+    }
+
+    public void invalidate(K key) {
+        invalidations.incrementAndGet(stripeOf(key));
+        heap.synchronous().invalidate(key);
+        if (offHeap != null) {
+            offHeap.invalidate(key);
+        }
+    }
+
+    public void invalidateAll() {
+        invalidatedAll.incrementAndGet();
+        heap.synchronous().invalidateAll();
+        if (offHeap != null) {
+            offHeap.invalidateAll();
+        }
+    }
+
+    /**
+     * 도메인 이벤트로 항목을 무효화하는 구독자 - 빈으로 등록하면 이벤트 버스 / outbox 릴레이가 전달한다.
+     *
+     * @param keyOf 이벤트에서 무효화할 캐시 키를 꺼내는 함수
+     * */
+    public <E extends DomainEvent> DomainEventSubscriber<E> invalidateOn(Class<E> eventType, Function<E, K> keyOf) {
+        String subscriberName = "cache-invalidation:" + name + ":" + eventType.getSimpleName();
+        return new DomainEventSubscriber<>() {
+            @Override
+            public Class<E> eventType() {
+                return eventType;
+            }
+
+            @Override
+            public Mono<Void> onEvent(E event) {
+                return Mono.fromRunnable(() -> invalidate(keyOf.apply(event)));
+            }
+
+            @Override
+            public String name() {
+                return subscriberName;
+            }
+        };
+    }
+
+    public long estimatedSize() {
+        return heap.synchronous().estimatedSize();
+    }
+
+    public CacheStats heapStats() {
+        return heap.synchronous().stats();
+    }
+
+    OffHeapCacheTier<K, V> offHeap() {
+        return offHeap;
+    }
+
+    private Mono<V> loadThrough(K key, Function<? super K, Mono<V>> loader) {
+        if (offHeap == null) {
+            return loader.apply(key);
+        }
+        return Mono.fromSupplier(() -> offHeap.get(key))
+                .switchIfEmpty(Mono.defer(() -> {
+                    long version = versionOf(key);
+                    return loader.apply(key).doOnNext(value -> putOffHeap(key, value, version));
+                }));
+    }
+
+    private Mono<Map<K, V>> loadAllThrough(Set<? extends K> missing, Function<Set<K>, Mono<Map<K, V>>> loader) {
+        Map<K, V> found = new HashMap<>();
+        Set<K> remaining = new LinkedHashSet<>();
+        for (K key : missing) {
+            V value = offHeap != null ? offHeap.get(key) : null;
+            if (value != null) {
+                found.put(key, value);
+            } else {
+                remaining.add(key);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return Mono.just(found);
+        }
+        Map<K, Long> versions = new HashMap<>();
+        if (offHeap != null) {
+            remaining.forEach(key -> versions.put(key, versionOf(key)));
+        }
+        return Mono.defer(() -> loader.apply(remaining))
+                .defaultIfEmpty(Map.of())
+                .map(loaded -> {
+                    if (offHeap != null) {
+                        loaded.forEach((key, value) -> {
+                            Long version = versions.get(key);
+                            if (version != null) {
+                                putOffHeap(key, value, version);
+                            }
+                        });
+                    }
+                    Map<K, V> result = new HashMap<>(found);
+                    result.putAll(loaded);
+                    return result;
+                });
+    }
+
+    /**
+     * 적재 시작 시점(version) 이후 무효화가 없었을 때만 오프힙에 남김
+     * 기록한 뒤 버전을 다시 확인해서, 확인과 기록 사이에 끼어든 무효화도 놓치지 않는다.
+     * (무효화는 버전을 먼저 올리고 지우므로, 다시 확인할 때 못 봤다면 그 무효화가 기록을 지운다)
+     * */
+    private void putOffHeap(K key, V value, long version) {
+        if (versionOf(key) != version) {
+            return;
+        }
+        offHeap.put(key, value);
+        if (versionOf(key) != version) {
+            offHeap.invalidate(key);
+        }
+    }
+
+    /**
+     * 키가 속한 해시 구간의 무효화 버전 - 두 값 모두 증가만 하므로 합이 같으면 그 사이 무효화가 없었다.
+     * 같은 구간의 다른 키가 무효화되어도 바뀌지만, 그때는 오프힙 기록을 건너뛸 뿐이다.
+     * */
+    private long versionOf(K key) {
+        return invalidatedAll.get() + invalidations.get(stripeOf(key));
+    }
+
+    private static int stripeOf(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+    }
+}
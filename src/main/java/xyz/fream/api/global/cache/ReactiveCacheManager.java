@@ -0,0 +1,62 @@
+package xyz.fream.api.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름별 ReactiveCache 생성 / 보관
+ * 캐시 설정은 이름별 CacheSpec 을 쓰고, 없으면 기본 CacheSpec 을 쓴다.
+ * MeterRegistry 가 있으면 캐시를 만들 때 지표를 함께 등록한다.
+ * */
+public class ReactiveCacheManager {
+
+    private final ObjectMapper objectMapper;
+    private final CacheSpec defaultSpec;
+    private final Map<String, CacheSpec> specs;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ReactiveCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    public ReactiveCacheManager(ObjectMapper objectMapper, CacheSpec defaultSpec, Map<String, CacheSpec> specs,
+                                MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.defaultSpec = defaultSpec;
+        this.specs = Map.copyOf(specs);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param valueType 오프힙 계층에서 역직렬화할 값 타입
+     * */
+    public <K, V> ReactiveCache<K, V> getCache(String name, Class<V> valueType) {
+        return getCache(name, objectMapper.constructType(valueType));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> ReactiveCache<K, V> getCache(String name, JavaType valueType) {
+        return (ReactiveCache<K, V>) caches.computeIfAbsent(name, key -> create(key, valueType));
+    }
+
+    private <K, V> ReactiveCache<K, V> create(String name, JavaType valueType) {
+        CacheSpec spec = specs.getOrDefault(name, defaultSpec);
+        AsyncCache<K, V> heap = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.expireAfterWrite())
+                .recordStats()
+                .buildAsync();
+        OffHeapCacheTier<K, V> offHeap = spec.offHeapEnabled()
+                ? new OffHeapCacheTier<>(objectMapper, valueType, spec.offHeapMaxSize().toBytes(), spec.offHeapExpireAfterWrite())
+                : null;
+
+        ReactiveCache<K, V> cache = new ReactiveCache<>(name, heap, offHeap);
+        if (meterRegistry != null) {
+            new ReactiveCacheMetrics(cache).bindTo(meterRegistry);
+        }
+        return cache;
+    }
+}
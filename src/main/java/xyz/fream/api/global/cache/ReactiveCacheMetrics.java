@@ -0,0 +1,62 @@
+package xyz.fream.api.global.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * ReactiveCache Micrometer 지표
+ * 캐시(cache 태그)와 계층(tier 태그: heap / offheap)별로 적중 / 미스 / 교체 수와 항목 수를 노출한다.
+ * */
+public class ReactiveCacheMetrics implements MeterBinder {
+
+    private static final String PREFIX = "fream.cache";
+
+    private final ReactiveCache<?, ?> cache;
+
+    public ReactiveCacheMetrics(ReactiveCache<?, ?> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags heapTags = Tags.of("cache", cache.getName(), "tier", "heap");
+        counter(registry, "hits", "캐시 적중 수", heapTags, c -> c.heapStats().hitCount());
+        counter(registry, "misses", "캐시 미스 수", heapTags, c -> c.heapStats().missCount());
+        counter(registry, "evictions", "크기 / 만료로 교체된 항목 수", heapTags, c -> c.heapStats().evictionCount());
+        counter(registry, "load.failures", "적재 실패 수", heapTags, c -> c.heapStats().loadFailureCount());
+        Gauge.builder(PREFIX + ".size", cache, ReactiveCache::estimatedSize)
+                .description("캐시 항목 수 (추정)")
+                .tags(heapTags)
+                .register(registry);
+
+        OffHeapCacheTier<?, ?> offHeap = cache.offHeap();
+        if (offHeap == null) {
+            return;
+        }
+        Tags offHeapTags = Tags.of("cache", cache.getName(), "tier", "offheap");
+        counter(registry, "hits", "캐시 적중 수", offHeapTags, c -> offHeap.hitCount());
+        counter(registry, "misses", "캐시 미스 수", offHeapTags, c -> offHeap.missCount());
+        counter(registry, "evictions", "크기 / 만료로 교체된 항목 수", offHeapTags, c -> offHeap.evictionCount());
+        Gauge.builder(PREFIX + ".size", offHeap, OffHeapCacheTier::size)
+                .description("캐시 항목 수")
+                .tags(offHeapTags)
+                .register(registry);
+        Gauge.builder(PREFIX + ".bytes", offHeap, OffHeapCacheTier::usedBytes)
+                .description("오프힙 캐시 사용 바이트")
+                .tags(offHeapTags)
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String description, Tags tags,
+                         ToDoubleFunction<ReactiveCache<?, ?>> metric) {
+        FunctionCounter.builder(PREFIX + "." + name, cache, metric)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -0,0 +1,152 @@
+package xyz.fream.api.global.common.dto;
+
+import lombok.Getter;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션의 위치 정보
+ * 마지막으로 내려준 행의 정렬 키와 식별자를 담으며, 클라이언트에는 서명된 불투명한 문자열로 전달된다.
+ * 서명 키는 useSigningKey 로 지정하고, 지정하지 않으면 JVM 마다 임의 키를 사용한다.
+ * (여러 노드가 커서를 주고받으려면 같은 키를 지정해야 함)
+ * */
+@Getter
+public class Cursor {
+
+    private static final String SEPARATOR = ".";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final long MAX_CLOCK_SKEW_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private static volatile CursorSigner signer = new CursorSigner(randomKey());
+
+    private final String sortValue;
+    private final String id;
+    private final long issuedAt;
+
+    private Cursor(String sortValue, String id, long issuedAt) {
+        this.sortValue = sortValue;
+        this.id = id;
+        this.issuedAt = issuedAt;
+    }
+
+    /**
+     * 커서 서명 키 지정 (최소 32바이트)
+     * 이미 발급된 커서는 키가 바뀌면 INVALID_CURSOR 로 거부된다.
+     * */
+    public static void useSigningKey(byte[] key) {
+        signer = new CursorSigner(key);
+    }
+
+    /**
+     * 정렬 키 값과 식별자로 커서 생성
+     * */
+    public static Cursor of(Object sortValue, Object id) {
+        if (sortValue == null || id == null) {
+            throw new CommonException(GlobalErrorCode.INVALID_CURSOR);
+        }
+        return new Cursor(sortValue.toString(), id.toString(), System.currentTimeMillis());
+    }
+
+    /**
+     * 커서를 서명된 불투명한 URL-safe 문자열로 인코딩
+     * */
+    public String encode() {
+        String payload = Long.toString(issuedAt, Character.MAX_RADIX)
+                + SEPARATOR + ENCODER.encodeToString(sortValue.getBytes(StandardCharsets.UTF_8))
+                + SEPARATOR + ENCODER.encodeToString(id.getBytes(StandardCharsets.UTF_8));
+        return payload + SEPARATOR + ENCODER.encodeToString(signer.sign(payload));
+    }
+
+    /**
+     * 인코딩된 커서 문자열을 해석
+     * 형식 / 서명이 올바르지 않거나 발급 시각이 미래이면 INVALID_CURSOR, 유효 기간이 지났으면 EXPIRED_CURSOR 예외 발생
+     *
+     * @param encoded 클라이언트가 전달한 커서 문자열
+     * @param ttl 커서 유효 기간
+     * */
+    public static Cursor decode(String encoded, Duration ttl) {
+        if (encoded == null || encoded.isBlank()) {
+            throw new CommonException(GlobalErrorCode.INVALID_CURSOR);
+        }
+
+        Cursor cursor = parse(encoded);
+        long age = System.currentTimeMillis() - cursor.issuedAt;
+        if (age < -MAX_CLOCK_SKEW_MILLIS) {
+            throw new CommonException(GlobalErrorCode.INVALID_CURSOR);
+        }
+        if (age > ttl.toMillis()) {
+            throw new CommonException(GlobalErrorCode.EXPIRED_CURSOR);
+        }
+        return cursor;
+    }
+
+    /**
+     * 정렬 키 값을 컬럼 타입으로 변환
+     * */
+    public Object sortValueAs(Class<?> type) {
+        return convert(sortValue, type);
+    }
+
+    /**
+     * 식별자를 컬럼 타입으로 변환
+     * */
+    public Object idAs(Class<?> type) {
+        return convert(id, type);
+    }
+
+    private static Cursor parse(String encoded) {
+        int lastSeparator = encoded.lastIndexOf(SEPARATOR);
+        String[] parts = encoded.split("\\.", -1);
+        if (parts.length != 4) {
+            throw new CommonException(GlobalErrorCode.INVALID_CURSOR);
+        }
+        try {
+            if (!signer.verify(encoded.substring(0, lastSeparator), DECODER.decode(parts[3]))) {
+                throw new CommonException(GlobalErrorCode.INVALID_CURSOR);
+            }
+            long issuedAt = Long.parseLong(parts[0], Character.MAX_RADIX);
+            String sortValue = new String(DECODER.decode(parts[1]), StandardCharsets.UTF_8);
+            String id = new String(DECODER.decode(parts[2]), StandardCharsets.UTF_8);
+            return new Cursor(sortValue, id, issuedAt);
+        } catch (IllegalArgumentException e) {
+            throw new CommonException(GlobalErrorCode.INVALID_CURSOR, e);
+        }
+    }
+
+    private static byte[] randomKey() {
+        byte[] key = new byte[CursorSigner.MIN_KEY_BYTES];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    private static Object convert(String value, Class<?> type) {
+        try {
+            if (type == String.class) {
+                return value;
+            }
+            if (type == Long.class || type == long.class) {
+                return Long.valueOf(value);
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(value);
+            }
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            }
+            if (type == Instant.class) {
+                return Instant.parse(value);
+            }
+        } catch (RuntimeException e) {
+            throw new CommonException(GlobalErrorCode.INVALID_CURSOR, e);
+        }
+        throw new CommonException(GlobalErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,49 @@
+package xyz.fream.api.global.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+/**
+ * 키셋(커서) 페이지 정보
+ * OFFSET 스캔과 COUNT(*) 없이 다음 페이지 커서만 내려주며, 전체 개수는 필요할 때만 근사값으로 제공한다.
+ * */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageInfo {
+    private final int size;
+    private final int numberOfElements;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final boolean empty;
+    private final Long approximateTotalElements;
+
+    private CursorPageInfo(int size, int numberOfElements, String nextCursor, Long approximateTotalElements) {
+        validateParameters(size, approximateTotalElements);
+
+        this.size = size;
+        this.numberOfElements = numberOfElements;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.empty = numberOfElements == 0;
+        this.approximateTotalElements = approximateTotalElements;
+    }
+
+    public static CursorPageInfo of(int size, int numberOfElements, String nextCursor) {
+        return new CursorPageInfo(size, numberOfElements, nextCursor, null);
+    }
+
+    public static CursorPageInfo of(int size, int numberOfElements, String nextCursor, Long approximateTotalElements) {
+        return new CursorPageInfo(size, numberOfElements, nextCursor, approximateTotalElements);
+    }
+
+    private void validateParameters(int size, Long approximateTotalElements) {
+        if (size <= 0) {
+            throw new CommonException(GlobalErrorCode.INVALID_PAGE_SIZE);
+        }
+        if (approximateTotalElements != null && approximateTotalElements < 0) {
+            throw new CommonException(GlobalErrorCode.INVALID_TOTAL_ELEMENTS);
+        }
+    }
+}
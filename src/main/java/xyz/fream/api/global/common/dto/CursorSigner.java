@@ -0,0 +1,46 @@
+package xyz.fream.api.global.common.dto;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * 커서 서명 (HMAC-SHA256, 앞 16바이트만 사용)
+ * 클라이언트가 커서의 발급 시각 / 정렬 키 / 식별자를 바꾸면 서명이 맞지 않아 거부된다.
+ * */
+final class CursorSigner {
+
+    static final int MIN_KEY_BYTES = 32;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 16;
+
+    private final Mac prototype;
+
+    CursorSigner(byte[] key) {
+        if (key.length < MIN_KEY_BYTES) {
+            throw new IllegalArgumentException("커서 서명 키는 최소 " + MIN_KEY_BYTES + "바이트여야 합니다.");
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("커서 서명 알고리즘을 초기화할 수 없습니다.", e);
+        }
+    }
+
+    byte[] sign(String payload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return Arrays.copyOf(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)), SIGNATURE_BYTES);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("커서 서명 알고리즘을 복제할 수 없습니다.", e);
+        }
+    }
+
+    boolean verify(String payload, byte[] signature) {
+        return MessageDigest.isEqual(sign(payload), signature);
+    }
+}
@@ -1,29 +1,149 @@
 package xyz.fream.api.global.common.util;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * UUID 생성 유틸리티
  * */
 public class UuidUtils {
 
+    private static final int UUID_LENGTH = 36;
+    private static final int BINARY_LENGTH = 16;
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+    private static final long RANDOM_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final int MAX_SEQUENCE = 0xFFF;
+    private static final int SEQUENCE_SEED_BOUND = 0x400;
+
+    private static final ThreadLocal<V7State> V7_STATE = ThreadLocal.withInitial(V7State::new);
+
     private UuidUtils() {
         throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
     }
 
+    /**
+     * 랜덤 UUID(v4) 문자열 생성
+     * 인덱스 키로 쓰면 삽입 위치가 흩어지므로 PK 에는 generateV7() 사용을 권장
+     * */
     public static String generate() {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * 시간 순서 UUID(v7) 문자열 생성
+     * */
+    public static String generateV7() {
+        return generateV7AsUuid().toString();
+    }
+
+    /**
+     * 시간 순서 UUID(v7) 생성
+     * 상위 48비트는 unix epoch 밀리초, 이어지는 12비트(rand_a)는 스레드별 단조 증가 시퀀스,
+     * 나머지 62비트(rand_b)는 ThreadLocalRandom 으로 채운다.
+     * 같은 스레드에서 생성한 값은 항상 증가하며, SecureRandom 을 사용하지 않으므로 엔트로피 대기로 블로킹되지 않는다.
+     * */
+    public static UUID generateV7AsUuid() {
+        V7State state = V7_STATE.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+
+        if (now > state.lastMillis) {
+            state.lastMillis = now;
+            state.sequence = random.nextInt(SEQUENCE_SEED_BOUND);
+        } else if (++state.sequence > MAX_SEQUENCE) {
+            // 같은 밀리초에 시퀀스를 모두 소진하면 다음 밀리초를 미리 사용
+            state.lastMillis++;
+            state.sequence = random.nextInt(SEQUENCE_SEED_BOUND);
+        }
+
+        long mostSigBits = (state.lastMillis << 16) | VERSION_7 | state.sequence;
+        long leastSigBits = (random.nextLong() & RANDOM_B_MASK) | VARIANT_RFC_4122;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 시간 순서 UUID(v7)를 BINARY(16) 컬럼용 바이트 배열로 생성
+     * */
+    public static byte[] generateV7AsBytes() {
+        return toBytes(generateV7AsUuid());
+    }
+
+    /**
+     * UUID 를 빅엔디언 16바이트 배열로 변환
+     * 바이트 순서가 생성 시간 순서와 같으므로 BINARY(16) 인덱스에서도 정렬이 유지됨
+     * */
+    public static byte[] toBytes(UUID uuid) {
+        byte[] bytes = new byte[BINARY_LENGTH];
+        writeLong(bytes, 0, uuid.getMostSignificantBits());
+        writeLong(bytes, 8, uuid.getLeastSignificantBits());
+        return bytes;
+    }
+
+    /**
+     * 빅엔디언 16바이트 배열을 UUID 로 변환
+     * */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != BINARY_LENGTH) {
+            throw new IllegalArgumentException("UUID 바이트 배열은 16바이트여야 합니다.");
+        }
+        return new UUID(readLong(bytes, 0), readLong(bytes, 8));
+    }
+
+    /**
+     * UUIDv7 에 기록된 생성 시각(epoch 밀리초) 반환
+     * */
+    public static long extractTimestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * 표준 형식(8-4-4-4-12, 16진수) UUID 문자열인지 검증
+     * 예외를 던지고 잡는 대신 문자 단위로 검사하므로 잘못된 입력이 많아도 비용이 일정함
+     * */
     public static boolean isValid(String uuid) {
-        if (uuid == null) {
+        if (uuid == null || uuid.length() != UUID_LENGTH) {
             return false;
         }
-        try {
-            UUID.fromString(uuid);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = uuid.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!isHexDigit(c)) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * 스레드별 UUIDv7 생성 상태
+     * 스레드 안에서만 접근하므로 락이나 CAS 없이 단조 증가를 보장함
+     * */
+    private static final class V7State {
+        private long lastMillis = -1L;
+        private int sequence;
     }
 }
@@ -0,0 +1,130 @@
+package xyz.fream.api.global.concurrent;
+
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+import xyz.fream.api.global.presentation.exception.GlobalException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 블로킹 어댑터(결제 / 이미지 처리 / 리액티브 클라이언트가 없는 SDK 등) 호출 실행기
+ * 호출마다 가상 스레드에서 실행하고, 결과를 Mono 로 돌려준다.
+ *
+ * - 동시 실행 한도는 가상 스레드 안에서 Semaphore 로 기다린다. (가상 스레드의 대기는 캐리어 스레드를 붙잡지 않음)
+ * - 실행 중 + 대기 중 호출이 maxConcurrency + maxPending 을 넘으면 스레드를 만들지 않고 바로 SERVICE_UNAVAILABLE 로 실패한다.
+ * - timeout 을 넘기면 EXTERNAL_API_TIMEOUT 으로 실패하고 실행 중인 가상 스레드를 인터럽트한다.
+ * - GlobalException 이 아닌 어댑터 예외는 EXTERNAL_API_ERROR 로 감싼다.
+ * */
+public class BlockingAdapterExecutor {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final OffloadSpec spec;
+    private final Scheduler scheduler;
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    BlockingAdapterExecutor(String name, OffloadSpec spec, Scheduler scheduler) {
+        this.name = name;
+        this.spec = spec;
+        this.scheduler = scheduler;
+        this.permits = new Semaphore(spec.maxConcurrency());
+        this.maxInFlight = spec.maxConcurrency() + spec.maxPending();
+    }
+
+    public <T> Mono<T> call(Callable<T> task) {
+        return Mono.defer(() -> {
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                rejected.increment();
+                return Mono.error(new CommonException(GlobalErrorCode.SERVICE_UNAVAILABLE,
+                        "외부 연동 대기열이 가득 찼습니다: " + name));
+            }
+            long start = System.nanoTime();
+            return Mono.fromCallable(() -> runWithPermit(task))
+                    .subscribeOn(scheduler)
+                    .timeout(spec.timeout())
+                    .onErrorMap(TimeoutException.class, e -> {
+                        timeouts.increment();
+                        return new CommonException(GlobalErrorCode.EXTERNAL_API_TIMEOUT,
+                                "외부 연동 응답 시간이 초과되었습니다: " + name, e);
+                    })
+                    .onErrorMap(e -> !(e instanceof GlobalException),
+                            e -> new CommonException(GlobalErrorCode.EXTERNAL_API_ERROR, e))
+                    .doFinally(signal -> complete(signal, start));
+        });
+    }
+
+    public Mono<Void> run(Runnable task) {
+        return call(() -> {
+            task.run();
+            return null;
+        }).then();
+    }
+
+    private <T> T runWithPermit(Callable<T> task) throws Exception {
+        permits.acquire();
+        try {
+            return task.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void complete(SignalType signal, long start) {
+        inFlight.decrementAndGet();
+        totalNanos.add(System.nanoTime() - start);
+        if (signal == SignalType.ON_ERROR) {
+            failed.increment();
+        } else {
+            succeeded.increment();
+        }
+    }
+
+    public int getActive() {
+        return spec.maxConcurrency() - permits.availablePermits();
+    }
+
+    public int getPending() {
+        return Math.max(0, inFlight.get() - getActive());
+    }
+
+    public long getCompleted() {
+        return succeeded.sum() + failed.sum();
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+}
@@ -0,0 +1,62 @@
+package xyz.fream.api.global.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 블로킹 어댑터 실행기 Micrometer 지표
+ * 어댑터(adapter 태그)별 실행 / 대기 중 호출 수, 호출 시간, 시간 초과 / 거부 수를 노출한다.
+ * */
+public class BlockingOffloadMetrics implements MeterBinder {
+
+    private static final String PREFIX = "fream.offload";
+
+    private final BlockingAdapterExecutor executor;
+
+    public BlockingOffloadMetrics(BlockingAdapterExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("adapter", executor.getName());
+
+        gauge(registry, "active", "실행 중인 호출 수", tags, BlockingAdapterExecutor::getActive);
+        gauge(registry, "pending", "실행 자리를 기다리는 호출 수", tags, BlockingAdapterExecutor::getPending);
+
+        FunctionTimer.builder(PREFIX + ".calls", executor,
+                        BlockingAdapterExecutor::getCompleted,
+                        BlockingAdapterExecutor::getTotalNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("블로킹 호출 시간 (대기 포함)")
+                .tags(tags)
+                .register(registry);
+
+        counter(registry, "failures", "실패한 호출 수", tags, BlockingAdapterExecutor::getFailed);
+        counter(registry, "timeouts", "시간 초과된 호출 수", tags, BlockingAdapterExecutor::getTimeouts);
+        counter(registry, "rejected", "대기열이 가득 차 거부된 호출 수", tags, BlockingAdapterExecutor::getRejected);
+    }
+
+    private void gauge(MeterRegistry registry, String name, String description, Tags tags,
+                       ToDoubleFunction<BlockingAdapterExecutor> value) {
+        Gauge.builder(PREFIX + "." + name, executor, value)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String description, Tags tags,
+                         ToDoubleFunction<BlockingAdapterExecutor> value) {
+        FunctionCounter.builder(PREFIX + "." + name, executor, value)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
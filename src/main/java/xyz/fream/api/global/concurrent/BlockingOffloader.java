@@ -0,0 +1,79 @@
+package xyz.fream.api.global.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 기반 블로킹 호출 오프로드
+ * 모든 어댑터가 호출마다 가상 스레드를 만드는 하나의 Scheduler 를 공유하고,
+ * 동시 실행 / 대기 / 시간 한도는 어댑터 이름별 BlockingAdapterExecutor 로 나눈다.
+ * (boundedElastic 의 플랫폼 스레드 상한 없이 블로킹 호출 수만큼 대기할 수 있음)
+ *
+ * 어댑터 설정은 이름별 OffloadSpec 을 쓰고, 없으면 기본 OffloadSpec 을 쓴다.
+ * MeterRegistry 가 있으면 실행기를 만들 때 지표를 함께 등록한다.
+ * */
+public class BlockingOffloader implements Disposable {
+
+    public static final String THREAD_PREFIX = "fream-offload-";
+
+    private final OffloadSpec defaultSpec;
+    private final Map<String, OffloadSpec> specs;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executorService;
+    private final Scheduler scheduler;
+    private final Map<String, BlockingAdapterExecutor> executors = new ConcurrentHashMap<>();
+
+    public BlockingOffloader(OffloadSpec defaultSpec, Map<String, OffloadSpec> specs, MeterRegistry meterRegistry) {
+        this.defaultSpec = defaultSpec;
+        this.specs = Map.copyOf(specs);
+        this.meterRegistry = meterRegistry;
+        this.executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_PREFIX, 0).factory());
+        this.scheduler = Schedulers.fromExecutorService(executorService, "fream-offload");
+    }
+
+    /**
+     * 어댑터 이름별 실행기 (예: payment-gateway, image-processing)
+     * */
+    public BlockingAdapterExecutor executor(String adapter) {
+        return executors.computeIfAbsent(adapter, this::create);
+    }
+
+    /**
+     * 가상 스레드 Scheduler (한도 없이 직접 subscribeOn 할 때 사용)
+     * */
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    public Collection<BlockingAdapterExecutor> getExecutors() {
+        return executors.values();
+    }
+
+    private BlockingAdapterExecutor create(String adapter) {
+        BlockingAdapterExecutor executor =
+                new BlockingAdapterExecutor(adapter, specs.getOrDefault(adapter, defaultSpec), scheduler);
+        if (meterRegistry != null) {
+            new BlockingOffloadMetrics(executor).bindTo(meterRegistry);
+        }
+        return executor;
+    }
+
+    @Override
+    public void dispose() {
+        scheduler.dispose();
+        executorService.shutdownNow();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return scheduler.isDisposed();
+    }
+}
@@ -0,0 +1,29 @@
+package xyz.fream.api.global.concurrent;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 블로킹 어댑터 하나의 동시 실행 / 시간 한도
+ *
+ * @param maxConcurrency 동시에 실행할 최대 호출 수 (외부 시스템 보호용, 가상 스레드 수와는 무관)
+ * @param maxPending 실행 자리를 기다릴 수 있는 최대 호출 수 (초과 시 바로 503)
+ * @param timeout 대기 + 실행 시간 한도 (초과 시 EXTERNAL_API_TIMEOUT, 실행 중인 가상 스레드는 인터럽트)
+ * */
+public record OffloadSpec(
+        @DefaultValue("64") int maxConcurrency,
+        @DefaultValue("1024") int maxPending,
+        @DefaultValue("5s") Duration timeout
+) {
+
+    public OffloadSpec {
+        if (maxConcurrency < 1 || maxPending < 0) {
+            throw new IllegalArgumentException("maxConcurrency 는 1 이상, maxPending 은 0 이상이어야 합니다.");
+        }
+    }
+
+    public static OffloadSpec defaults() {
+        return new OffloadSpec(64, 1024, Duration.ofSeconds(5));
+    }
+}
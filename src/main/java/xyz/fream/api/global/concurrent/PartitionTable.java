@@ -0,0 +1,42 @@
+package xyz.fream.api.global.concurrent;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 파티션 -> 샤드 라우팅 테이블과 파티션별 실행 횟수
+ * 실행 횟수는 파티션을 소유한 워커 스레드 하나만 증가시키므로 lazySet 으로 기록한다.
+ * */
+final class PartitionTable {
+
+    private final AtomicIntegerArray owners;
+    private final AtomicLongArray executions;
+
+    PartitionTable(int partitionCount, int shardCount) {
+        this.owners = new AtomicIntegerArray(partitionCount);
+        this.executions = new AtomicLongArray(partitionCount);
+        for (int partition = 0; partition < partitionCount; partition++) {
+            owners.set(partition, partition % shardCount);
+        }
+    }
+
+    int ownerOf(int partition) {
+        return owners.get(partition);
+    }
+
+    void assign(int partition, int shard) {
+        owners.set(partition, shard);
+    }
+
+    void recordExecution(int partition) {
+        executions.lazySet(partition, executions.get(partition) + 1);
+    }
+
+    long executionsOf(int partition) {
+        return executions.get(partition);
+    }
+
+    int size() {
+        return owners.length();
+    }
+}
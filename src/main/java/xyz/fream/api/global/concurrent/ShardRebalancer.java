@@ -0,0 +1,53 @@
+package xyz.fream.api.global.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * 주기적으로 ShardedExecutor.rebalance 를 호출하는 컴포넌트
+ * 특정 상품에 입찰이 몰려 한 샤드만 바빠지면 그 샤드의 다른 파티션을 한가한 샤드로 옮긴다.
+ * */
+@Slf4j
+public class ShardRebalancer implements Disposable {
+
+    private final ShardedExecutor<?> executor;
+    private final Duration interval;
+    private final double imbalanceThreshold;
+    private volatile Disposable task;
+
+    public ShardRebalancer(ShardedExecutor<?> executor, Duration interval, double imbalanceThreshold) {
+        this.executor = executor;
+        this.interval = interval;
+        this.imbalanceThreshold = imbalanceThreshold;
+    }
+
+    public void start() {
+        task = Flux.interval(interval, interval, Schedulers.single())
+                .onBackpressureDrop()
+                .concatMap(tick -> executor.rebalance(imbalanceThreshold)
+                        .onErrorResume(e -> {
+                            log.warn("샤드 재분배 실패 [{}]: {}", executor.getName(), e.getMessage());
+                            return Mono.just(false);
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void dispose() {
+        Disposable current = task;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Disposable current = task;
+        return current == null || current.isDisposed();
+    }
+}
@@ -0,0 +1,12 @@
+package xyz.fream.api.global.concurrent;
+
+/**
+ * 샤드 상태 스냅샷
+ *
+ * @param shard 샤드 번호
+ * @param partitions 소유한 파티션 수
+ * @param pending 대기 중인 작업 수
+ * @param executed 지금까지 실행한 작업 수
+ * */
+public record ShardStats(int shard, int partitions, int pending, long executed) {
+}
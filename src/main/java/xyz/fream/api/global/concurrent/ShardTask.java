@@ -0,0 +1,33 @@
+package xyz.fream.api.global.concurrent;
+
+/**
+ * 샤드 워커 큐에 들어가는 작업
+ * RUN 은 사용자 작업이고, BLOCK / FENCE / RELEASE 는 파티션 이동(rebalance)에 쓰는 제어 신호다.
+ * */
+final class ShardTask {
+
+    enum Kind {
+        RUN,
+        BLOCK,
+        FENCE,
+        RELEASE
+    }
+
+    final Kind kind;
+    final int partition;
+    final Runnable action;
+
+    private ShardTask(Kind kind, int partition, Runnable action) {
+        this.kind = kind;
+        this.partition = partition;
+        this.action = action;
+    }
+
+    static ShardTask run(int partition, Runnable action) {
+        return new ShardTask(Kind.RUN, partition, action);
+    }
+
+    static ShardTask control(Kind kind, int partition, Runnable action) {
+        return new ShardTask(kind, partition, action);
+    }
+}
@@ -0,0 +1,194 @@
+package xyz.fream.api.global.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.util.concurrent.Queues;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * 샤드 하나를 담당하는 전용 스레드
+ * 제출 스레드는 lock-free MPSC 큐에 작업을 넣기만 하고, 워커 스레드 하나가 큐를 비우며 순서대로 실행한다.
+ * 큐가 비면 잠깐 스핀한 뒤 제출이 올 때까지 park 하고, 제출 시 워커가 쉬고 있으면 unpark 한다.
+ * 워커는 idle 을 켠 뒤 큐를 다시 확인하고, 제출 스레드는 큐에 넣은 뒤 idle 을 확인하므로(둘 다 volatile)
+ * 둘 중 하나는 반드시 상대를 보게 되어 깨우기 신호를 놓치지 않는다.
+ *
+ * 파티션 소유 여부(owned)는 워커 스레드만 갱신하는 로컬 상태다. 파티션을 A -> B 로 옮길 때
+ * 1. B 에 BLOCK: B 가 파티션을 소유하되, 도착하는 작업은 실행하지 않고 보관
+ * 2. 라우팅 테이블 변경: 이후 제출은 B 로 감
+ * 3. 변경 전 테이블을 읽고 A 에 넣는 중이던 제출이 끝날 때까지 대기 (ShardedExecutor.awaitSubmitters)
+ * 4. A 에 FENCE: A 는 FENCE 앞의 작업을 모두 실행한 뒤 소유를 내려놓고 B 에 RELEASE 를 보냄
+ * 5. B 가 RELEASE 를 받으면 보관한 작업을 순서대로 실행
+ * 순서로 진행해서, 같은 파티션의 작업이 두 스레드에서 동시에 실행되거나 순서가 뒤바뀌지 않게 한다.
+ * 3 단계 덕분에 FENCE 뒤로 A 에 들어오는 사용자 작업은 없으며,
+ * 소유하지 않은 파티션의 작업이 들어오면 현재 소유 샤드로 전달만 한다.
+ * */
+@Slf4j
+final class ShardWorker implements Runnable {
+
+    private static final int SPIN_LIMIT = 256;
+
+    private final int index;
+    private final int capacity;
+    private final Queue<ShardTask> queue = Queues.<ShardTask>unboundedMultiproducer().get();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong executed = new AtomicLong();
+    private final Map<Integer, ArrayDeque<ShardTask>> blocked = new HashMap<>();
+    private final boolean[] owned;
+    private final Thread thread;
+    private final PartitionTable owners;
+    private final IntFunction<ShardWorker> workers;
+
+    private volatile boolean running;
+    private volatile boolean idle;
+
+    ShardWorker(String name, int index, int capacity, PartitionTable owners, IntFunction<ShardWorker> workers) {
+        this.index = index;
+        this.capacity = capacity;
+        this.owners = owners;
+        this.workers = workers;
+        this.owned = new boolean[owners.size()];
+        for (int partition = 0; partition < owned.length; partition++) {
+            owned[partition] = owners.ownerOf(partition) == index;
+        }
+        this.thread = new Thread(this, name + "-shard-" + index);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * 사용자 작업 제출 - 대기 작업이 capacity 를 넘거나 중지된 워커면 RejectedExecutionException
+     * */
+    void submit(ShardTask task) {
+        if (!running) {
+            throw new RejectedExecutionException("샤드 워커가 중지되었습니다. shard=" + index);
+        }
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            throw new RejectedExecutionException("샤드 워커 대기열이 가득 찼습니다. shard=" + index);
+        }
+        enqueue(task);
+    }
+
+    /**
+     * 제어 신호 / 전달 작업 - 한도 검사 없이 넣음
+     * */
+    void submitInternal(ShardTask task) {
+        pending.incrementAndGet();
+        enqueue(task);
+    }
+
+    private void enqueue(ShardTask task) {
+        queue.offer(task);
+        if (idle) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void run() {
+        int spins = 0;
+        while (running || !queue.isEmpty()) {
+            ShardTask task = queue.poll();
+            if (task != null) {
+                pending.decrementAndGet();
+                dispatch(task);
+                spins = 0;
+                continue;
+            }
+            if (spins++ < SPIN_LIMIT) {
+                Thread.onSpinWait();
+                continue;
+            }
+            idle = true;
+            if (queue.isEmpty() && running) {
+                LockSupport.park(this);
+            }
+            idle = false;
+            spins = 0;
+        }
+    }
+
+    private void dispatch(ShardTask task) {
+        switch (task.kind) {
+            case RUN -> runOrForward(task);
+            case BLOCK -> {
+                owned[task.partition] = true;
+                blocked.put(task.partition, new ArrayDeque<>());
+            }
+            case FENCE -> {
+                owned[task.partition] = false;
+                runSafely(task.action);
+            }
+            case RELEASE -> {
+                ArrayDeque<ShardTask> backlog = blocked.remove(task.partition);
+                runSafely(task.action);
+                if (backlog != null) {
+                    for (ShardTask deferred : backlog) {
+                        runOrForward(deferred);
+                    }
+                }
+            }
+        }
+    }
+
+    private void runOrForward(ShardTask task) {
+        if (!owned[task.partition]) {
+            workers.apply(owners.ownerOf(task.partition)).submitInternal(task);
+            return;
+        }
+        ArrayDeque<ShardTask> backlog = blocked.get(task.partition);
+        if (backlog != null) {
+            backlog.add(task);
+            return;
+        }
+        runSafely(task.action);
+        owners.recordExecution(task.partition);
+        executed.lazySet(executed.get() + 1);
+    }
+
+    private void runSafely(Runnable action) {
+        try {
+            action.run();
+        } catch (Throwable e) {
+            log.error("샤드 작업 실패 [{}]", thread.getName(), e);
+        }
+    }
+
+    void stop(long timeoutMillis) {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    int getPending() {
+        return pending.get();
+    }
+
+    long getExecuted() {
+        return executed.get();
+    }
+}
@@ -0,0 +1,280 @@
+package xyz.fream.api.global.concurrent;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 코어 샤딩 실행기
+ * 키(상품 ID 등)를 해시해서 고정 개수의 가상 파티션으로 나누고, 각 파티션을 하나의 샤드(전용 워커 스레드)에 배정한다.
+ * 파티션별 상태(S)는 소유 샤드 스레드만 접근하므로 락 없이 갱신할 수 있다.
+ *
+ * - 같은 키는 항상 같은 파티션으로 라우팅되며 파티션 안의 작업은 제출 순서대로 실행된다.
+ * - move / rebalance 로 실행 중에 파티션을 다른 샤드로 옮길 수 있다. (순서 보장은 ShardWorker 참고)
+ * - 대기열이 가득 차거나 중지된 뒤 제출하면 RejectedExecutionException 으로 실패한다.
+ * */
+@Slf4j
+public class ShardedExecutor<S> implements Disposable {
+
+    private static final long STOP_TIMEOUT_MILLIS = 5_000L;
+
+    @Getter
+    private final String name;
+    private final ShardWorker[] workers;
+    private final PartitionTable table;
+    private final Object[] states;
+    private final Supplier<S> stateFactory;
+    private final Scheduler callbackScheduler;
+    private final AtomicIntegerArray migrating;
+    private final AtomicIntegerArray submitting;
+    private final long[] lastExecutions;
+    private volatile boolean disposed;
+
+    /**
+     * @param name 스레드 이름 접두어
+     * @param shardCount 샤드(워커 스레드) 수
+     * @param partitionCount 가상 파티션 수 (샤드 수보다 충분히 크게 잡아야 재분배가 고르게 된다)
+     * @param queueCapacity 샤드별 대기 작업 한도
+     * @param stateFactory 파티션별 상태 생성 (파티션에 첫 작업이 들어올 때 소유 샤드 스레드에서 호출)
+     * @param callbackScheduler execute 결과 신호를 전달할 스케줄러 (하위 연산이 샤드 스레드를 붙잡지 않도록)
+     * */
+    public ShardedExecutor(String name, int shardCount, int partitionCount, int queueCapacity,
+                           Supplier<S> stateFactory, Scheduler callbackScheduler) {
+        if (shardCount < 1 || partitionCount < shardCount || queueCapacity < 1) {
+            throw new IllegalArgumentException("샤드 설정이 올바르지 않습니다. shards=" + shardCount
+                    + ", partitions=" + partitionCount + ", queueCapacity=" + queueCapacity);
+        }
+        this.name = name;
+        this.table = new PartitionTable(partitionCount, shardCount);
+        this.workers = new ShardWorker[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            workers[i] = new ShardWorker(name, i, queueCapacity, table, shard -> workers[shard]);
+        }
+        this.states = new Object[partitionCount];
+        this.stateFactory = stateFactory;
+        this.callbackScheduler = callbackScheduler;
+        this.migrating = new AtomicIntegerArray(partitionCount);
+        this.submitting = new AtomicIntegerArray(partitionCount);
+        this.lastExecutions = new long[partitionCount];
+    }
+
+    public void start() {
+        for (ShardWorker worker : workers) {
+            worker.start();
+        }
+        log.info("샤드 실행기 시작 [{}]: shards={}, partitions={}", name, workers.length, table.size());
+    }
+
+    /**
+     * 키의 파티션 번호 - 해시가 고정이므로 어느 포트에서 호출하든 같은 키는 같은 파티션이다.
+     * */
+    public int partitionOf(long key) {
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) Math.floorMod(hash, (long) table.size());
+    }
+
+    /**
+     * 키를 현재 담당하는 샤드 번호
+     * */
+    public int shardOf(long key) {
+        return table.ownerOf(partitionOf(key));
+    }
+
+    /**
+     * 키의 파티션 상태로 작업을 실행 (결과를 기다리지 않음)
+     * 작업에서 발생한 예외는 로그로만 남는다.
+     * */
+    public void submit(long key, Consumer<S> action) {
+        int partition = partitionOf(key);
+        ShardTask task = ShardTask.run(partition, () -> action.accept(stateOf(partition)));
+        // 소유 샤드를 읽고 큐에 넣기까지를 move 가 기다릴 수 있도록 표시한다.
+        submitting.incrementAndGet(partition);
+        try {
+            workers[table.ownerOf(partition)].submit(task);
+        } finally {
+            submitting.decrementAndGet(partition);
+        }
+    }
+
+    /**
+     * 키의 파티션 상태로 작업을 실행하고 결과를 돌려줌
+     * */
+    public <R> Mono<R> execute(long key, Function<S, R> action) {
+        return Mono.defer(() -> {
+            Sinks.One<R> sink = Sinks.one();
+            submit(key, state -> {
+                try {
+                    R result = action.apply(state);
+                    if (result == null) {
+                        sink.tryEmitEmpty();
+                    } else {
+                        sink.tryEmitValue(result);
+                    }
+                } catch (Throwable e) {
+                    sink.tryEmitError(e);
+                }
+            });
+            return sink.asMono().publishOn(callbackScheduler);
+        });
+    }
+
+    /**
+     * 파티션을 다른 샤드로 옮김
+     * 호출 즉시 이동이 시작되고, 반환된 Mono 는 이전 샤드의 작업이 모두 끝나 새 샤드가 넘겨받으면 완료된다.
+     * */
+    public synchronized Mono<Void> move(int partition, int targetShard) {
+        if (partition < 0 || partition >= table.size() || targetShard < 0 || targetShard >= workers.length) {
+            return Mono.error(new IllegalArgumentException("잘못된 파티션 / 샤드 번호입니다. partition=" + partition + ", shard=" + targetShard));
+        }
+        if (disposed) {
+            return Mono.error(new RejectedExecutionException("샤드 실행기가 중지되었습니다. name=" + name));
+        }
+        int source = table.ownerOf(partition);
+        if (source == targetShard) {
+            return Mono.empty();
+        }
+        if (!migrating.compareAndSet(partition, 0, 1)) {
+            return Mono.error(new IllegalStateException("이미 이동 중인 파티션입니다. partition=" + partition));
+        }
+
+        Sinks.Empty<Void> done = Sinks.empty();
+        ShardWorker target = workers[targetShard];
+        target.submitInternal(ShardTask.control(ShardTask.Kind.BLOCK, partition, null));
+        table.assign(partition, targetShard);
+        awaitSubmitters(partition);
+        workers[source].submitInternal(ShardTask.control(ShardTask.Kind.FENCE, partition, () ->
+                target.submitInternal(ShardTask.control(ShardTask.Kind.RELEASE, partition, () -> {
+                    migrating.set(partition, 0);
+                    done.tryEmitEmpty();
+                }))));
+
+        log.debug("파티션 이동 [{}]: partition={}, {} -> {}", name, partition, source, targetShard);
+        return done.asMono().publishOn(callbackScheduler);
+    }
+
+    /**
+     * 라우팅 변경 전 테이블을 읽은 제출이 이전 샤드 큐에 모두 들어갈 때까지 대기
+     * 이후에 보내는 FENCE 뒤로는 이 파티션의 작업이 이전 샤드에 들어오지 않으므로,
+     * 같은 제출자의 앞선 작업이 새 샤드에 보관된 뒤 작업보다 늦게 실행되는 일이 없다.
+     * 제출 구간은 큐 삽입 한 번이라 보통 곧바로 끝난다.
+     * */
+    private void awaitSubmitters(int partition) {
+        while (submitting.get(partition) != 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 직전 호출 이후의 실행 횟수를 기준으로 파티션 하나를 가장 바쁜 샤드에서 가장 한가한 샤드로 옮김
+     * 가장 바쁜 샤드의 부하가 가장 한가한 샤드보다 imbalanceThreshold 비율 이상 크지 않으면 옮기지 않는다.
+     *
+     * @return 파티션을 옮겼으면 true
+     * */
+    public synchronized Mono<Boolean> rebalance(double imbalanceThreshold) {
+        long[] shardLoads = new long[workers.length];
+        long[] partitionLoads = new long[table.size()];
+        for (int partition = 0; partition < partitionLoads.length; partition++) {
+            long executions = table.executionsOf(partition);
+            partitionLoads[partition] = executions - lastExecutions[partition];
+            lastExecutions[partition] = executions;
+            shardLoads[table.ownerOf(partition)] += partitionLoads[partition];
+        }
+
+        int busiest = 0;
+        int idlest = 0;
+        for (int shard = 1; shard < shardLoads.length; shard++) {
+            if (shardLoads[shard] > shardLoads[busiest]) {
+                busiest = shard;
+            }
+            if (shardLoads[shard] < shardLoads[idlest]) {
+                idlest = shard;
+            }
+        }
+        long gap = shardLoads[busiest] - shardLoads[idlest];
+        if (gap <= 0 || shardLoads[busiest] <= shardLoads[idlest] * (1.0 + imbalanceThreshold)) {
+            return Mono.just(false);
+        }
+
+        // 옮긴 뒤 두 샤드의 차이가 줄어드는 파티션 중 가장 부하가 큰 것
+        int candidate = -1;
+        for (int partition = 0; partition < partitionLoads.length; partition++) {
+            long load = partitionLoads[partition];
+            if (table.ownerOf(partition) != busiest || load <= 0 || load >= gap || migrating.get(partition) != 0) {
+                continue;
+            }
+            if (candidate < 0 || load > partitionLoads[candidate]) {
+                candidate = partition;
+            }
+        }
+        if (candidate < 0) {
+            return Mono.just(false);
+        }
+
+        log.info("샤드 재분배 [{}]: partition={} ({}건), shard {}({}건) -> {}({}건)",
+                name, candidate, partitionLoads[candidate], busiest, shardLoads[busiest], idlest, shardLoads[idlest]);
+        return move(candidate, idlest).thenReturn(true);
+    }
+
+    public List<ShardStats> stats() {
+        int[] partitions = new int[workers.length];
+        for (int partition = 0; partition < table.size(); partition++) {
+            partitions[table.ownerOf(partition)]++;
+        }
+        List<ShardStats> stats = new ArrayList<>(workers.length);
+        for (ShardWorker worker : workers) {
+            stats.add(new ShardStats(worker.getIndex(), partitions[worker.getIndex()], worker.getPending(), worker.getExecuted()));
+        }
+        return stats;
+    }
+
+    public int getShardCount() {
+        return workers.length;
+    }
+
+    public int getPartitionCount() {
+        return table.size();
+    }
+
+    /**
+     * 파티션 상태 - 소유 샤드 스레드에서만 호출된다.
+     * */
+    @SuppressWarnings("unchecked")
+    private S stateOf(int partition) {
+        Object state = states[partition];
+        if (state == null) {
+            state = stateFactory.get();
+            states[partition] = state;
+        }
+        return (S) state;
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        for (ShardWorker worker : workers) {
+            worker.stop(STOP_TIMEOUT_MILLIS);
+        }
+        log.info("샤드 실행기 중지 [{}]", name);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
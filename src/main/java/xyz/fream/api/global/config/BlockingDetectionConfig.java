@@ -0,0 +1,26 @@
+package xyz.fream.api.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.fream.api.global.observability.BlockingCallDetector;
+
+/**
+ * 블로킹 호출 감지 설정
+ * 웹 서버가 시작되기 전(컨텍스트 초기화 중)에 설치되어 첫 요청부터 감지한다.
+ * */
+@Configuration
+@EnableConfigurationProperties(BlockingDetectionProperties.class)
+@ConditionalOnProperty(prefix = "fream.blocking-detection", name = "enabled", havingValue = "true")
+public class BlockingDetectionConfig {
+
+    @Bean(initMethod = "install")
+    public BlockingCallDetector blockingCallDetector(ObjectProvider<MeterRegistry> meterRegistry,
+                                                     BlockingDetectionProperties properties) {
+        return new BlockingCallDetector(meterRegistry.getIfAvailable(), properties.mode(),
+                properties.threadPrefixes(), properties.allowedCalls());
+    }
+}
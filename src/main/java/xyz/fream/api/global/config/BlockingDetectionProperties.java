@@ -0,0 +1,29 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import xyz.fream.api.global.observability.BlockingCallDetector;
+
+import java.util.List;
+
+/**
+ * 블로킹 호출 감지 설정 (fream.blocking-detection.*)
+ * 테스트 / 스테이징 전용 (운영에서는 끔)
+ *
+ * @param enabled 감지 사용 여부 (JVM 옵션 -XX:+AllowRedefinitionToAddDeleteMethods 필요)
+ * @param mode REPORT = 지표 / 로그만 기록, FAIL = BlockingOperationError 로 호출 실패
+ * @param threadPrefixes 논블로킹으로 볼 이벤트 루프 스레드 이름 접두사 (Reactor 논블로킹 Scheduler 는 항상 포함)
+ * @param allowedCalls 블로킹을 허용할 호출 위치 (클래스#메소드)
+ * */
+@ConfigurationProperties(prefix = "fream.blocking-detection")
+public record BlockingDetectionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("REPORT") BlockingCallDetector.Mode mode,
+        @DefaultValue({"fream-http", "reactor-http"}) List<String> threadPrefixes,
+        List<String> allowedCalls
+) {
+
+    public BlockingDetectionProperties {
+        allowedCalls = allowedCalls != null ? allowedCalls : List.of();
+    }
+}
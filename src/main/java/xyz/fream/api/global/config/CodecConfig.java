@@ -0,0 +1,22 @@
+package xyz.fream.api.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.fream.api.global.presentation.codec.ApiResponseEncoder;
+import xyz.fream.api.global.presentation.codec.ApiResponseHttpMessageWriter;
+
+/**
+ * HTTP 메시지 코덱 설정
+ * ApiResponse / PageResponse 는 기본 Jackson 인코더보다 먼저 스트리밍 인코더로 기록됨
+ * */
+@Configuration
+public class CodecConfig {
+
+    @Bean
+    public CodecCustomizer apiResponseCodecCustomizer(ObjectMapper objectMapper) {
+        ApiResponseEncoder encoder = new ApiResponseEncoder(objectMapper);
+        return configurer -> configurer.customCodecs().register(new ApiResponseHttpMessageWriter(encoder));
+    }
+}
@@ -0,0 +1,42 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import xyz.fream.api.global.event.DomainEventSubscriber;
+import xyz.fream.api.global.event.bus.DomainEventBus;
+import xyz.fream.api.global.event.bus.DomainEventBusMetrics;
+import xyz.fream.api.global.event.bus.SubscriptionOptions;
+import xyz.fream.api.global.event.outbox.OutboxEventWriter;
+
+/**
+ * 도메인 이벤트 버스 설정
+ * 등록된 DomainEventSubscriber 빈을 모두 버스에 구독시킨다.
+ * */
+@Configuration
+@EnableConfigurationProperties(EventBusProperties.class)
+public class EventBusConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler eventBusScheduler(EventBusProperties properties) {
+        return Schedulers.newParallel("fream-event-bus", properties.resolvedThreads(), true);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public DomainEventBus domainEventBus(Scheduler eventBusScheduler, OutboxEventWriter outboxEventWriter,
+                                         ObjectProvider<DomainEventSubscriber<?>> subscribers, EventBusProperties properties) {
+        DomainEventBus eventBus = new DomainEventBus(eventBusScheduler, outboxEventWriter);
+        SubscriptionOptions defaults = properties.subscriptionOptions();
+        subscribers.orderedStream()
+                .forEach(subscriber -> eventBus.subscribe(subscriber, subscriber.subscriptionOptions(defaults)));
+        return eventBus;
+    }
+
+    @Bean
+    public DomainEventBusMetrics domainEventBusMetrics(DomainEventBus domainEventBus) {
+        return new DomainEventBusMetrics(domainEventBus);
+    }
+}
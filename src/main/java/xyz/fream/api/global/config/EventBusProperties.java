@@ -0,0 +1,35 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import xyz.fream.api.global.event.bus.OverflowStrategy;
+import xyz.fream.api.global.event.bus.SubscriptionOptions;
+
+import java.time.Duration;
+
+/**
+ * 도메인 이벤트 버스 설정 (fream.event.bus.*)
+ *
+ * @param threads 구독자 전달 스레드 수 (0 이면 가용 코어 수)
+ * @param lanes 구독자별 레인 수 (같은 애그리거트 ID 는 같은 레인)
+ * @param queueCapacity 레인별 최대 대기 이벤트 수
+ * @param overflow 큐가 가득 찼을 때의 기본 처리 방식
+ * @param blockTimeout BLOCK 전략에서 자리를 기다릴 최대 시간
+ * */
+@ConfigurationProperties(prefix = "fream.event.bus")
+public record EventBusProperties(
+        @DefaultValue("0") int threads,
+        @DefaultValue("4") int lanes,
+        @DefaultValue("1024") int queueCapacity,
+        @DefaultValue("BLOCK") OverflowStrategy overflow,
+        @DefaultValue("1s") Duration blockTimeout
+) {
+
+    public int resolvedThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public SubscriptionOptions subscriptionOptions() {
+        return new SubscriptionOptions(lanes, queueCapacity, overflow, blockTimeout);
+    }
+}
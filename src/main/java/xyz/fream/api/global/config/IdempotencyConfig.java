@@ -0,0 +1,57 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import xyz.fream.api.global.idempotency.IdempotencyMetrics;
+import xyz.fream.api.global.idempotency.IdempotencySpec;
+import xyz.fream.api.global.idempotency.IdempotencyWebFilter;
+import xyz.fream.api.global.idempotency.InMemoryIdempotencyStore;
+import xyz.fream.api.global.idempotency.R2dbcIdempotencyStore;
+import xyz.fream.api.global.presentation.exception.GlobalExceptionHandler;
+
+import java.time.Clock;
+
+/**
+ * Idempotency-Key 설정
+ * 응답은 노드 안 InMemoryIdempotencyStore 에 보관하고,
+ * fream.idempotency.persistence.enabled=true 이면 쓰기 풀의 idempotency_record 테이블에도 기록한다.
+ * */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "fream.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "dispose")
+    @ConditionalOnProperty(prefix = "fream.idempotency.persistence", name = "enabled", havingValue = "true")
+    public R2dbcIdempotencyStore r2dbcIdempotencyStore(DatabaseClient databaseClient, IdempotencyProperties properties) {
+        return new R2dbcIdempotencyStore(databaseClient, Clock.systemUTC(), properties.persistence().purgeInterval());
+    }
+
+    @Bean
+    public InMemoryIdempotencyStore idempotencyStore(IdempotencyProperties properties,
+                                                     ObjectProvider<R2dbcIdempotencyStore> r2dbcIdempotencyStore) {
+        return new InMemoryIdempotencyStore(properties.maximumSize(), Clock.systemUTC(),
+                r2dbcIdempotencyStore.getIfAvailable());
+    }
+
+    @Bean
+    public IdempotencyWebFilter idempotencyWebFilter(IdempotencyProperties properties,
+                                                     InMemoryIdempotencyStore idempotencyStore,
+                                                     GlobalExceptionHandler globalExceptionHandler) {
+        IdempotencySpec spec = new IdempotencySpec(properties.headerName(), properties.ttl(),
+                properties.waitTimeout(), Math.toIntExact(properties.maxBodySize().toBytes()),
+                Math.toIntExact(properties.maxResponseSize().toBytes()));
+        return new IdempotencyWebFilter(spec, properties.paths(), properties.methods(), idempotencyStore,
+                globalExceptionHandler, Clock.systemUTC());
+    }
+
+    @Bean
+    public IdempotencyMetrics idempotencyMetrics(IdempotencyWebFilter idempotencyWebFilter,
+                                                 InMemoryIdempotencyStore idempotencyStore) {
+        return new IdempotencyMetrics(idempotencyWebFilter, idempotencyStore);
+    }
+}
@@ -0,0 +1,48 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Idempotency-Key 설정 (fream.idempotency.*)
+ *
+ * @param enabled Idempotency-Key 처리 사용 여부
+ * @param headerName 키를 담는 요청 헤더 이름
+ * @param paths 적용할 경로 패턴
+ * @param methods 적용할 HTTP 메소드
+ * @param ttl 처리한 응답을 재생할 수 있는 기간
+ * @param waitTimeout 같은 키의 처리 중인 요청을 기다리는 한도
+ * @param maxBodySize fingerprint 계산을 위해 읽을 요청 본문 최대 크기
+ * @param maxResponseSize 저장할 응답 본문 최대 크기 (idempotency_record.body 크기 이하)
+ * @param maximumSize 노드 안에 보관할 응답 수 상한
+ * @param persistence idempotency_record 테이블 기록 설정
+ * */
+@ConfigurationProperties(prefix = "fream.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("Idempotency-Key") String headerName,
+        @DefaultValue("/api/v1/**") List<String> paths,
+        @DefaultValue({"POST", "PATCH"}) List<HttpMethod> methods,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("10s") Duration waitTimeout,
+        @DefaultValue("64KB") DataSize maxBodySize,
+        @DefaultValue("1MB") DataSize maxResponseSize,
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue Persistence persistence
+) {
+
+    /**
+     * @param enabled 테이블 기록 사용 여부 (재시작 / 다른 노드에서도 재생)
+     * @param purgeInterval 만료된 행 정리 주기
+     * */
+    public record Persistence(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("10m") Duration purgeInterval
+    ) {
+    }
+}
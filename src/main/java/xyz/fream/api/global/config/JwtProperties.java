@@ -0,0 +1,33 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JWT 인증 설정 (fream.security.jwt.*)
+ *
+ * @param secret HS256 서명 키 (32바이트 이상)
+ * @param issuer 허용할 iss 클레임 (비어 있으면 검사하지 않음)
+ * @param clockSkew exp / nbf 검사 시 허용할 시계 오차
+ * @param cacheMaximumSize 검증된 토큰 캐시 최대 항목 수
+ * @param protectedPaths 토큰이 반드시 있어야 하는 경로 패턴
+ * @param publicPaths protectedPaths 중 토큰 없이 허용할 경로 패턴
+ * */
+@ConfigurationProperties(prefix = "fream.security.jwt")
+public record JwtProperties(
+        String secret,
+        String issuer,
+        @DefaultValue("30s") Duration clockSkew,
+        @DefaultValue("100000") long cacheMaximumSize,
+        List<String> protectedPaths,
+        List<String> publicPaths
+) {
+
+    public JwtProperties {
+        protectedPaths = protectedPaths != null ? protectedPaths : List.of();
+        publicPaths = publicPaths != null ? publicPaths : List.of();
+    }
+}
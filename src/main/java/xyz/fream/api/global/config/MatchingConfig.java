@@ -0,0 +1,43 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.fream.api.domain.matching.port.outbound.MarketViewRepositoryPort;
+import xyz.fream.api.domain.matching.port.outbound.MatchRepositoryPort;
+import xyz.fream.api.domain.matching.service.command.MatchingEngine;
+import xyz.fream.api.domain.matching.service.query.MarketViewProjection;
+import xyz.fream.api.global.concurrent.ShardRebalancer;
+
+/**
+ * 체결 엔진 설정
+ * */
+@Configuration
+@EnableConfigurationProperties(MatchingProperties.class)
+public class MatchingConfig {
+
+    /**
+     * 시세 조회 모델 - 스키마 초기화 이후, 체결 엔진보다 먼저 저장된 체결 통계로 복원된다.
+     * */
+    @Bean(initMethod = "start")
+    @DependsOnDatabaseInitialization
+    public MarketViewProjection marketViewProjection(MarketViewRepositoryPort marketViewRepository) {
+        return new MarketViewProjection(marketViewRepository);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "dispose")
+    public MatchingEngine matchingEngine(MatchRepositoryPort matchRepository, MarketViewProjection marketViewProjection,
+                                         MatchingProperties properties) {
+        return new MatchingEngine(properties.resolvedShards(), properties.queueCapacity(), matchRepository,
+                marketViewProjection);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "dispose")
+    @ConditionalOnProperty(prefix = "fream.matching.rebalance", name = "enabled", matchIfMissing = true)
+    public ShardRebalancer matchingShardRebalancer(MatchingEngine matchingEngine, MatchingProperties properties) {
+        MatchingProperties.Rebalance rebalance = properties.rebalance();
+        return new ShardRebalancer(matchingEngine.getExecutor(), rebalance.interval(), rebalance.imbalanceThreshold());
+    }
+}
@@ -0,0 +1,47 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 체결 엔진 설정 (fream.matching.*)
+ *
+ * @param shards 샤드(전용 스레드) 수 (0 이면 가용 코어 수)
+ * @param queueCapacity 샤드별 대기 작업 한도 (초과 시 503)
+ * @param rebalance 샤드 재분배 설정
+ * @param ticker 실시간 시세 설정
+ * */
+@ConfigurationProperties(prefix = "fream.matching")
+public record MatchingProperties(
+        @DefaultValue("0") int shards,
+        @DefaultValue("65536") int queueCapacity,
+        @DefaultValue Rebalance rebalance,
+        @DefaultValue Ticker ticker
+) {
+
+    public int resolvedShards() {
+        return shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @param enabled 주기적 재분배 사용 여부
+     * @param interval 재분배 주기
+     * @param imbalanceThreshold 가장 바쁜 샤드가 가장 한가한 샤드보다 이 비율 이상 바쁠 때만 파티션을 옮김
+     * */
+    public record Rebalance(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("10s") Duration interval,
+            @DefaultValue("0.25") double imbalanceThreshold
+    ) {
+    }
+
+    /**
+     * @param heartbeatInterval 변경이 없어도 연결 유지를 위해 보내는 SSE 주석 / WebSocket ping 주기
+     * */
+    public record Ticker(
+            @DefaultValue("15s") Duration heartbeatInterval
+    ) {
+    }
+}
@@ -0,0 +1,61 @@
+package xyz.fream.api.global.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Reactor Netty 런타임 설정
+ * 서버와 WebClient 가 같은 이벤트 루프 / 커넥션 풀 자원을 공유하도록 ReactorResourceFactory 를 직접 구성함
+ * */
+@Configuration
+@EnableConfigurationProperties(NettyProperties.class)
+public class NettyConfig {
+
+    private static final String LOOP_PREFIX = "fream-http";
+    private static final String CONNECTION_PROVIDER_NAME = "fream-client";
+
+    @Bean
+    public ReactorResourceFactory reactorResourceFactory(NettyProperties properties) {
+        NettyProperties.EventLoop eventLoop = properties.eventLoop();
+        NettyProperties.Client client = properties.client();
+
+        ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+        resourceFactory.setUseGlobalResources(false);
+        resourceFactory.setLoopResourcesSupplier(() -> LoopResources.create(
+                LOOP_PREFIX,
+                eventLoop.selectCount(),
+                eventLoop.resolvedWorkerCount(),
+                true
+        ));
+        resourceFactory.setConnectionProviderSupplier(() -> ConnectionProvider.builder(CONNECTION_PROVIDER_NAME)
+                .maxConnections(client.maxConnections())
+                .pendingAcquireMaxCount(client.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(client.pendingAcquireTimeout())
+                .maxIdleTime(client.maxIdleTime())
+                .maxLifeTime(client.maxLifeTime())
+                .evictInBackground(client.evictionInterval())
+                .metrics(true)
+                .build());
+        return resourceFactory;
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> nettyServerCustomizer(NettyProperties properties) {
+        NettyProperties.Http2 http2 = properties.http2();
+
+        return factory -> factory.addServerCustomizers(httpServer -> httpServer
+                .option(ChannelOption.SO_BACKLOG, properties.server().backlog())
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childOption(ChannelOption.SO_KEEPALIVE, true)
+                .http2Settings(settings -> settings
+                        .maxConcurrentStreams(http2.maxConcurrentStreams())
+                        .initialWindowSize(http2.initialWindowSize())));
+    }
+}
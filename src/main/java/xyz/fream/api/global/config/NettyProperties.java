@@ -0,0 +1,63 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Reactor Netty 런타임 설정 (fream.netty.*)
+ * 이벤트 루프, HTTP/2, 아웃바운드 커넥션 풀 크기를 지정함
+ * */
+@ConfigurationProperties(prefix = "fream.netty")
+public record NettyProperties(
+        @DefaultValue EventLoop eventLoop,
+        @DefaultValue Server server,
+        @DefaultValue Http2 http2,
+        @DefaultValue Client client
+) {
+
+    /**
+     * @param selectCount accept 전용 스레드 수
+     * @param workerCount I/O 처리 스레드 수 (0 이면 가용 코어 수)
+     * */
+    public record EventLoop(
+            @DefaultValue("1") int selectCount,
+            @DefaultValue("0") int workerCount
+    ) {
+        public int resolvedWorkerCount() {
+            return workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    /**
+     * @param backlog accept 대기열 크기 (SO_BACKLOG)
+     * */
+    public record Server(
+            @DefaultValue("1024") int backlog
+    ) {
+    }
+
+    /**
+     * @param maxConcurrentStreams 연결당 최대 동시 스트림 수
+     * @param initialWindowSize 스트림 초기 흐름 제어 윈도우 크기(byte)
+     * */
+    public record Http2(
+            @DefaultValue("256") long maxConcurrentStreams,
+            @DefaultValue("1048576") int initialWindowSize
+    ) {
+    }
+
+    /**
+     * WebClient 등 아웃바운드 HTTP 커넥션 풀 설정
+     * */
+    public record Client(
+            @DefaultValue("500") int maxConnections,
+            @DefaultValue("1000") int pendingAcquireMaxCount,
+            @DefaultValue("5s") Duration pendingAcquireTimeout,
+            @DefaultValue("30s") Duration maxIdleTime,
+            @DefaultValue("5m") Duration maxLifeTime,
+            @DefaultValue("30s") Duration evictionInterval
+    ) {
+    }
+}
@@ -0,0 +1,54 @@
+package xyz.fream.api.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+import xyz.fream.api.global.observability.ErrorCodeMetrics;
+import xyz.fream.api.global.observability.EventLoopDelayMonitor;
+import xyz.fream.api.global.observability.HttpLatencyWebFilter;
+import xyz.fream.api.global.observability.LatencyHistogramRegistry;
+import xyz.fream.api.global.observability.SchedulerTaskHook;
+
+/**
+ * 지연시간 계측 설정
+ * 요청 처리 시간, ErrorCode 별 에러 수, Reactor Scheduler 작업 시간, 이벤트 루프 지연을 Micrometer 로 노출한다.
+ * (Prometheus 형식은 /actuator/prometheus)
+ * */
+@Configuration
+@EnableConfigurationProperties(ObservabilityProperties.class)
+@ConditionalOnProperty(prefix = "fream.observability", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ObservabilityConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "dispose")
+    public LatencyHistogramRegistry latencyHistogramRegistry(ObjectProvider<MeterRegistry> meterRegistry,
+                                                             ObservabilityProperties properties) {
+        return new LatencyHistogramRegistry(meterRegistry.getIfAvailable(), properties.rotationInterval());
+    }
+
+    @Bean
+    public ErrorCodeMetrics errorCodeMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ErrorCodeMetrics(meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    public HttpLatencyWebFilter httpLatencyWebFilter(LatencyHistogramRegistry latencyHistogramRegistry) {
+        return new HttpLatencyWebFilter(latencyHistogramRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "dispose")
+    public SchedulerTaskHook schedulerTaskHook(LatencyHistogramRegistry latencyHistogramRegistry) {
+        return new SchedulerTaskHook(latencyHistogramRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "dispose")
+    public EventLoopDelayMonitor eventLoopDelayMonitor(ReactorResourceFactory reactorResourceFactory,
+                                                       LatencyHistogramRegistry latencyHistogramRegistry,
+                                                       ObservabilityProperties properties) {
+        return new EventLoopDelayMonitor(reactorResourceFactory.getLoopResources().onServer(true),
+                latencyHistogramRegistry, properties.eventLoopProbeInterval());
+    }
+}
@@ -0,0 +1,21 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 지연시간 계측 설정 (fream.observability.*)
+ *
+ * @param enabled 요청 / Scheduler / 이벤트 루프 지연시간 계측 사용 여부
+ * @param rotationInterval 분위수(p50 / p99 / p999 / max) 스냅샷 갱신 주기
+ * @param eventLoopProbeInterval 이벤트 루프 지연 측정 주기
+ * */
+@ConfigurationProperties(prefix = "fream.observability")
+public record ObservabilityProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10s") Duration rotationInterval,
+        @DefaultValue("100ms") Duration eventLoopProbeInterval
+) {
+}
@@ -0,0 +1,22 @@
+package xyz.fream.api.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.fream.api.global.concurrent.BlockingOffloader;
+
+/**
+ * 블로킹 어댑터 오프로드 설정
+ * adapters/infrastructure/external 의 블로킹 어댑터는 BlockingOffloader.executor("어댑터 이름") 으로 호출을 감싼다.
+ * */
+@Configuration
+@EnableConfigurationProperties(OffloadProperties.class)
+public class OffloadConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public BlockingOffloader blockingOffloader(OffloadProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BlockingOffloader(properties.defaults(), properties.adapters(), meterRegistry.getIfAvailable());
+    }
+}
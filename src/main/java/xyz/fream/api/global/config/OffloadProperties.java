@@ -0,0 +1,24 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import xyz.fream.api.global.concurrent.OffloadSpec;
+
+import java.util.Map;
+
+/**
+ * 블로킹 어댑터 오프로드 설정 (fream.offload.*)
+ *
+ * @param defaults 이름별 설정이 없는 어댑터에 쓰는 기본 한도
+ * @param adapters 어댑터 이름별 한도 (예: fream.offload.adapters.payment-gateway.max-concurrency=32)
+ * */
+@ConfigurationProperties(prefix = "fream.offload")
+public record OffloadProperties(
+        @DefaultValue OffloadSpec defaults,
+        Map<String, OffloadSpec> adapters
+) {
+
+    public OffloadProperties {
+        adapters = adapters != null ? adapters : Map.of();
+    }
+}
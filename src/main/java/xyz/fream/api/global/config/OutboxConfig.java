@@ -0,0 +1,27 @@
+package xyz.fream.api.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import xyz.fream.api.global.event.DomainEventSubscriber;
+import xyz.fream.api.global.event.outbox.OutboxRelay;
+
+/**
+ * 트랜잭션 outbox 설정
+ * */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "dispose")
+    @ConditionalOnProperty(prefix = "fream.outbox", name = "enabled", matchIfMissing = true)
+    public OutboxRelay outboxRelay(DatabaseClient databaseClient, ObjectMapper objectMapper,
+                                   ObjectProvider<DomainEventSubscriber<?>> subscribers, OutboxProperties properties) {
+        return new OutboxRelay(databaseClient, objectMapper, subscribers.orderedStream().toList(),
+                properties.batchSize(), properties.pollInterval(), properties.maxAttempts());
+    }
+}
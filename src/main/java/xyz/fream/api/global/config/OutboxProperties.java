@@ -0,0 +1,23 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * outbox 릴레이 설정 (fream.outbox.*)
+ *
+ * @param enabled 릴레이 사용 여부 (outbox 기록은 항상 동작)
+ * @param batchSize 한 번에 읽어 전달할 이벤트 수
+ * @param pollInterval 미전달 이벤트 조회 주기
+ * @param maxAttempts 전달 실패 시 최대 시도 횟수 (도달하면 더 이상 전달하지 않음)
+ * */
+@ConfigurationProperties(prefix = "fream.outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration pollInterval,
+        @DefaultValue("10") int maxAttempts
+) {
+}
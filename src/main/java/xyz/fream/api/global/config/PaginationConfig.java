@@ -0,0 +1,27 @@
+package xyz.fream.api.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import xyz.fream.api.global.common.dto.Cursor;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 페이지네이션 설정
+ * 커서 서명 키를 지정함. 여러 노드가 같은 커서를 받으려면 모든 노드에 같은 키를 지정해야 한다.
+ * */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(PaginationProperties.class)
+public class PaginationConfig {
+
+    public PaginationConfig(PaginationProperties properties) {
+        if (StringUtils.hasText(properties.cursorSecret())) {
+            Cursor.useSigningKey(properties.cursorSecret().getBytes(StandardCharsets.UTF_8));
+        } else {
+            log.info("fream.pagination.cursor-secret 이 없어 노드별 임의 키로 커서를 서명합니다.");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 페이지네이션 설정 (fream.pagination.*)
+ *
+ * @param cursorSecret 커서 서명 키 (최소 32바이트, 비어 있으면 JVM 마다 임의 키 사용)
+ * */
+@ConfigurationProperties(prefix = "fream.pagination")
+public record PaginationProperties(
+        String cursorSecret
+) {
+}
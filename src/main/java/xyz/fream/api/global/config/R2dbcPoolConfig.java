@@ -0,0 +1,105 @@
+package xyz.fream.api.global.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+import xyz.fream.api.global.infrastructure.r2dbc.pool.AdaptiveAllocationStrategy;
+import xyz.fream.api.global.infrastructure.r2dbc.pool.AdaptivePoolSizer;
+import xyz.fream.api.global.infrastructure.r2dbc.pool.MonitoredConnectionPool;
+import xyz.fream.api.global.infrastructure.r2dbc.pool.R2dbcPoolMetrics;
+
+import java.util.List;
+
+/**
+ * R2DBC 커넥션 풀 설정
+ * 쓰기 풀(@Primary, 기본 DatabaseClient / 트랜잭션 매니저가 사용)과 읽기 풀(readDatabaseClient)을 분리함
+ * */
+@Configuration
+@EnableConfigurationProperties({R2dbcPoolProperties.class, R2dbcProperties.class})
+public class R2dbcPoolConfig {
+
+    public static final String WRITE_POOL = "write";
+    public static final String READ_POOL = "read";
+
+    @Bean(destroyMethod = "dispose")
+    @Primary
+    public MonitoredConnectionPool connectionFactory(R2dbcProperties r2dbcProperties, R2dbcPoolProperties poolProperties) {
+        return createPool(WRITE_POOL, r2dbcProperties, poolProperties.write());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public MonitoredConnectionPool readConnectionFactory(R2dbcProperties r2dbcProperties, R2dbcPoolProperties poolProperties) {
+        return createPool(READ_POOL, r2dbcProperties, poolProperties.read());
+    }
+
+    /**
+     * 기본(쓰기) DatabaseClient
+     * readDatabaseClient 가 등록되면 자동 설정의 DatabaseClient 가 생성되지 않으므로 쓰기 풀용 클라이언트를 직접 등록함
+     * */
+    @Bean
+    @Primary
+    public DatabaseClient databaseClient(@Qualifier("connectionFactory") ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * 조회 전용 DatabaseClient
+     * query 서비스의 outbound adapter 는 이 클라이언트를 주입받아 읽기 풀을 사용함
+     * */
+    @Bean
+    public DatabaseClient readDatabaseClient(@Qualifier("readConnectionFactory") ConnectionFactory readConnectionFactory) {
+        return DatabaseClient.create(readConnectionFactory);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "dispose")
+    public AdaptivePoolSizer adaptivePoolSizer(List<MonitoredConnectionPool> pools, R2dbcPoolProperties poolProperties) {
+        R2dbcPoolProperties.Adaptive adaptive = poolProperties.adaptive();
+        List<MonitoredConnectionPool> targets = adaptive.enabled() ? pools : List.of();
+        return new AdaptivePoolSizer(targets, adaptive.interval(), adaptive.targetAcquireLatency(), adaptive.step());
+    }
+
+    @Bean
+    public R2dbcPoolMetrics r2dbcPoolMetrics(List<MonitoredConnectionPool> pools) {
+        return new R2dbcPoolMetrics(pools);
+    }
+
+    private MonitoredConnectionPool createPool(String name, R2dbcProperties r2dbcProperties, R2dbcPoolProperties.Pool pool) {
+        String url = StringUtils.hasText(pool.url()) ? pool.url() : r2dbcProperties.getUrl();
+        ConnectionFactoryBuilder builder = ConnectionFactoryBuilder.withUrl(url);
+        if (StringUtils.hasText(r2dbcProperties.getUsername())) {
+            builder = builder.username(r2dbcProperties.getUsername());
+        }
+        if (StringUtils.hasText(r2dbcProperties.getPassword())) {
+            builder = builder.password(r2dbcProperties.getPassword());
+        }
+
+        AdaptiveAllocationStrategy allocationStrategy =
+                new AdaptiveAllocationStrategy(pool.minIdle(), pool.maxSize(), pool.maxSize());
+
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(builder.build())
+                .name(name)
+                .initialSize(pool.initialSize())
+                .minIdle(pool.minIdle())
+                .maxSize(pool.maxSize())
+                .maxAcquireTime(pool.maxAcquireTime())
+                .acquireRetry(0)
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .backgroundEvictionInterval(pool.evictionInterval())
+                .customizer(poolBuilder -> poolBuilder
+                        .maxPendingAcquire(pool.maxPendingAcquire())
+                        .allocationStrategy(allocationStrategy))
+                .build();
+
+        return new MonitoredConnectionPool(name, new ConnectionPool(configuration), allocationStrategy);
+    }
+}
@@ -0,0 +1,56 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * R2DBC 커넥션 풀 설정 (fream.r2dbc.pool.*)
+ * 쓰기 / 읽기 풀을 분리하고, 적응형 상한 조정 기준을 지정함
+ * */
+@ConfigurationProperties(prefix = "fream.r2dbc.pool")
+public record R2dbcPoolProperties(
+        @DefaultValue Pool write,
+        @DefaultValue Pool read,
+        @DefaultValue Adaptive adaptive
+) {
+
+    /**
+     * @param url 풀 전용 접속 URL (비어 있으면 spring.r2dbc.url 사용, 읽기 복제본 분리 시 지정)
+     * @param initialSize 시작 시 미리 만들어 둘 커넥션 수
+     * @param minIdle 유지할 최소 유휴 커넥션 수 (적응형 상한의 하한)
+     * @param maxSize 최대 커넥션 수 (적응형 상한의 상한)
+     * @param maxAcquireTime 커넥션 획득 대기 한도 (초과 시 503)
+     * @param maxPendingAcquire 획득 대기열 한도 (초과 시 503)
+     * @param maxIdleTime 유휴 커넥션 유지 시간
+     * @param maxLifeTime 커넥션 최대 수명
+     * @param evictionInterval 유휴 / 만료 커넥션 정리 주기
+     * */
+    public record Pool(
+            String url,
+            @DefaultValue("5") int initialSize,
+            @DefaultValue("5") int minIdle,
+            @DefaultValue("20") int maxSize,
+            @DefaultValue("3s") Duration maxAcquireTime,
+            @DefaultValue("1000") int maxPendingAcquire,
+            @DefaultValue("10m") Duration maxIdleTime,
+            @DefaultValue("1h") Duration maxLifeTime,
+            @DefaultValue("30s") Duration evictionInterval
+    ) {
+    }
+
+    /**
+     * @param enabled 적응형 상한 조정 사용 여부
+     * @param interval 조정 주기
+     * @param targetAcquireLatency 목표 평균 커넥션 획득 시간
+     * @param step 한 번에 늘리거나 줄일 커넥션 수
+     * */
+    public record Adaptive(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("5s") Duration interval,
+            @DefaultValue("5ms") Duration targetAcquireLatency,
+            @DefaultValue("2") int step
+    ) {
+    }
+}
@@ -0,0 +1,64 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.fream.api.global.presentation.exception.GlobalExceptionHandler;
+import xyz.fream.api.global.ratelimit.InMemoryRateLimiterBackend;
+import xyz.fream.api.global.ratelimit.RateLimitMetrics;
+import xyz.fream.api.global.ratelimit.RateLimitPolicy;
+import xyz.fream.api.global.ratelimit.RateLimitRule;
+import xyz.fream.api.global.ratelimit.RateLimitWebFilter;
+import xyz.fream.api.global.ratelimit.RateLimiterBackend;
+
+import java.util.List;
+
+/**
+ * 요청 한도 설정
+ * 기본 저장소는 노드 안 InMemoryRateLimiterBackend 이고, 다른 RateLimiterBackend 빈을 등록하면 그것을 사용한다.
+ * */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "fream.ratelimit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "dispose")
+    @ConditionalOnMissingBean(RateLimiterBackend.class)
+    public InMemoryRateLimiterBackend rateLimiterBackend(RateLimitProperties properties) {
+        return new InMemoryRateLimiterBackend(properties.stripes(), properties.idleTimeout(), properties.sweepInterval());
+    }
+
+    @Bean
+    public RateLimitWebFilter rateLimitWebFilter(RateLimitProperties properties, RateLimiterBackend rateLimiterBackend,
+                                                 GlobalExceptionHandler globalExceptionHandler) {
+        return new RateLimitWebFilter(toRules(properties.rules()), rateLimiterBackend, globalExceptionHandler);
+    }
+
+    /**
+     * 인증 필터 앞에서 IP 기준으로 거는 한도 - 잘못된 토큰을 반복해서 보내는 요청도 여기서 막힌다.
+     * */
+    @Bean
+    public RateLimitWebFilter clientAddressRateLimitWebFilter(RateLimitProperties properties, RateLimiterBackend rateLimiterBackend,
+                                                              GlobalExceptionHandler globalExceptionHandler) {
+        return new RateLimitWebFilter(toRules(properties.clientAddressRules()), rateLimiterBackend, globalExceptionHandler,
+                RateLimitWebFilter.CLIENT_ADDRESS_ORDER);
+    }
+
+    @Bean
+    public RateLimitMetrics rateLimitMetrics(List<RateLimitWebFilter> rateLimitWebFilters, RateLimiterBackend rateLimiterBackend) {
+        return new RateLimitMetrics(
+                rateLimitWebFilters.stream().flatMap(filter -> filter.getRules().stream()).toList(),
+                rateLimiterBackend);
+    }
+
+    private static List<RateLimitRule> toRules(List<RateLimitProperties.Rule> rules) {
+        return rules.stream()
+                .map(rule -> new RateLimitRule(
+                        new RateLimitPolicy(rule.name(), rule.replenishRate(), rule.burstCapacity()),
+                        rule.path(),
+                        rule.methods()))
+                .toList();
+    }
+}
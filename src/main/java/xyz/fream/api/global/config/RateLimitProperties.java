@@ -0,0 +1,54 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 요청 한도 설정 (fream.ratelimit.*)
+ *
+ * @param enabled 요청 한도 사용 여부
+ * @param stripes 버킷 저장소 stripe 수 (2의 거듭제곱으로 올림)
+ * @param idleTimeout 가득 찬 버킷을 지우기까지의 유휴 시간
+ * @param sweepInterval 유휴 버킷 정리 주기
+ * @param rules 요청 한도 규칙 (앞의 규칙부터 검사해서 처음 맞는 규칙 하나만 적용)
+ * @param clientAddressRules 인증 전에 클라이언트 IP 기준으로 적용할 규칙 (rules 와 같은 방식, 인증 실패 요청도 포함)
+ * */
+@ConfigurationProperties(prefix = "fream.ratelimit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("64") int stripes,
+        @DefaultValue("5m") Duration idleTimeout,
+        @DefaultValue("1m") Duration sweepInterval,
+        List<Rule> rules,
+        List<Rule> clientAddressRules
+) {
+
+    public RateLimitProperties {
+        rules = rules != null ? rules : List.of();
+        clientAddressRules = clientAddressRules != null ? clientAddressRules : List.of();
+    }
+
+    /**
+     * @param name 규칙 이름
+     * @param path 경로 패턴 (예: /api/v1/bids/**)
+     * @param methods 적용할 HTTP 메소드 (비어 있으면 전체)
+     * @param replenishRate 초당 채워지는 토큰 수
+     * @param burstCapacity 순간적으로 허용할 요청 수
+     * */
+    public record Rule(
+            String name,
+            String path,
+            List<HttpMethod> methods,
+            @DefaultValue("10") long replenishRate,
+            @DefaultValue("20") long burstCapacity
+    ) {
+
+        public Rule {
+            methods = methods != null ? methods : List.of();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package xyz.fream.api.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.fream.api.global.cache.ReactiveCacheManager;
+
+/**
+ * 리액티브 캐시 설정
+ * 조회 포트 어댑터는 ReactiveCacheManager 에서 이름으로 캐시를 받아 쓰고,
+ * 무효화가 필요하면 ReactiveCache.invalidateOn(...) 으로 만든 구독자를 빈으로 등록한다.
+ * */
+@Configuration
+@EnableConfigurationProperties(ReactiveCacheProperties.class)
+public class ReactiveCacheConfig {
+
+    @Bean
+    public ReactiveCacheManager reactiveCacheManager(ObjectMapper objectMapper, ReactiveCacheProperties properties,
+                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ReactiveCacheManager(objectMapper, properties.defaults(), properties.specs(),
+                meterRegistry.getIfAvailable());
+    }
+}
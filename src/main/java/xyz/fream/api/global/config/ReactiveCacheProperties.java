@@ -0,0 +1,24 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import xyz.fream.api.global.cache.CacheSpec;
+
+import java.util.Map;
+
+/**
+ * 리액티브 캐시 설정 (fream.cache.*)
+ *
+ * @param defaults 이름별 설정이 없는 캐시에 쓰는 기본 설정
+ * @param specs 캐시 이름별 설정 (예: fream.cache.specs.product-detail.maximum-size=50000)
+ * */
+@ConfigurationProperties(prefix = "fream.cache")
+public record ReactiveCacheProperties(
+        @DefaultValue CacheSpec defaults,
+        Map<String, CacheSpec> specs
+) {
+
+    public ReactiveCacheProperties {
+        specs = specs != null ? specs : Map.of();
+    }
+}
@@ -0,0 +1,24 @@
+package xyz.fream.api.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.fream.api.global.resilience.ResilienceRegistry;
+
+/**
+ * 외부 어댑터 장애 대응 설정
+ * adapters/infrastructure/external 의 어댑터는 ResilienceRegistry.policy("어댑터 이름").execute(() -> 호출) 로 감싼다.
+ * (블로킹 SDK 는 BlockingOffloader 실행기 호출을 다시 이 정책으로 감쌈)
+ * */
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+
+    @Bean
+    public ResilienceRegistry resilienceRegistry(ResilienceProperties properties,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ResilienceRegistry(properties.defaults(), properties.adapters(), meterRegistry.getIfAvailable());
+    }
+}
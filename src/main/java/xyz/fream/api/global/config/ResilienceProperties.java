@@ -0,0 +1,24 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import xyz.fream.api.global.resilience.ResilienceSpec;
+
+import java.util.Map;
+
+/**
+ * 외부 어댑터 장애 대응 설정 (fream.resilience.*)
+ *
+ * @param defaults 이름별 설정이 없는 어댑터에 쓰는 기본 정책
+ * @param adapters 어댑터 이름별 정책 (예: fream.resilience.adapters.payment-gateway.hedge.enabled=true)
+ * */
+@ConfigurationProperties(prefix = "fream.resilience")
+public record ResilienceProperties(
+        @DefaultValue ResilienceSpec defaults,
+        Map<String, ResilienceSpec> adapters
+) {
+
+    public ResilienceProperties {
+        adapters = adapters != null ? adapters : Map.of();
+    }
+}
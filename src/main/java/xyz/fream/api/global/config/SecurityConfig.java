@@ -0,0 +1,41 @@
+package xyz.fream.api.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.fream.api.global.presentation.exception.GlobalExceptionHandler;
+import xyz.fream.api.global.security.JwtAuthenticationWebFilter;
+import xyz.fream.api.global.security.JwtVerifier;
+import xyz.fream.api.global.security.VerifiedTokenCache;
+
+import java.time.Clock;
+
+/**
+ * JWT 인증 설정
+ * 컨트롤러 / 서비스는 AuthenticationContext.principal() 로 인증 주체를 꺼내 쓴다.
+ * */
+@Configuration
+@EnableConfigurationProperties(JwtProperties.class)
+public class SecurityConfig {
+
+    @Bean
+    public JwtVerifier jwtVerifier(ObjectMapper objectMapper, JwtProperties properties) {
+        return new JwtVerifier(objectMapper, properties.secret(), properties.issuer(), properties.clockSkew(),
+                Clock.systemUTC());
+    }
+
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(JwtProperties properties) {
+        return new VerifiedTokenCache(properties.cacheMaximumSize(), Clock.systemUTC());
+    }
+
+    @Bean
+    public JwtAuthenticationWebFilter jwtAuthenticationWebFilter(JwtVerifier jwtVerifier,
+                                                                 VerifiedTokenCache verifiedTokenCache,
+                                                                 GlobalExceptionHandler globalExceptionHandler,
+                                                                 JwtProperties properties) {
+        return new JwtAuthenticationWebFilter(jwtVerifier, verifiedTokenCache, globalExceptionHandler,
+                properties.protectedPaths(), properties.publicPaths());
+    }
+}
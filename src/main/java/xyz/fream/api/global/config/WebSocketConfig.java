@@ -0,0 +1,22 @@
+package xyz.fream.api.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+import xyz.fream.api.domain.matching.adapters.web.MarketTickerWebSocketHandler;
+
+import java.util.Map;
+
+/**
+ * WebSocket 엔드포인트 매핑
+ * WebSocketHandlerAdapter 는 WebFlux 설정이 등록하므로 경로 매핑만 추가한다. (컨트롤러 매핑보다 먼저 검사)
+ * */
+@Configuration
+public class WebSocketConfig {
+
+    @Bean
+    public HandlerMapping webSocketHandlerMapping(MarketTickerWebSocketHandler marketTickerWebSocketHandler) {
+        return new SimpleUrlHandlerMapping(Map.of(MarketTickerWebSocketHandler.PATH, marketTickerWebSocketHandler), -1);
+    }
+}
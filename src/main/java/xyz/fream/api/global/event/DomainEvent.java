@@ -0,0 +1,35 @@
+package xyz.fream.api.global.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트
+ * 각 도메인의 model 패키지에 record 로 정의하고, 애그리거트와 같은 트랜잭션에서 outbox 에 기록한다.
+ * */
+public interface DomainEvent {
+
+    /**
+     * 이벤트 ID (UUIDv7) - 구독자는 이 값으로 중복 전달을 걸러낸다. (at-least-once)
+     * */
+    String eventId();
+
+    /**
+     * 이벤트를 발생시킨 애그리거트 종류 (예: "bid_match")
+     * */
+    String aggregateType();
+
+    /**
+     * 이벤트를 발생시킨 애그리거트 ID
+     * */
+    String aggregateId();
+
+    LocalDateTime occurredAt();
+
+    /**
+     * 역직렬화에 사용하는 이벤트 타입 (기본: 클래스 이름)
+     * 이벤트 클래스를 옮기거나 이름을 바꾸면 아직 전달되지 않은 outbox 행을 읽을 수 없으므로 주의한다.
+     * */
+    default String eventType() {
+        return getClass().getName();
+    }
+}
@@ -0,0 +1,32 @@
+package xyz.fream.api.global.event;
+
+import reactor.core.publisher.Mono;
+import xyz.fream.api.global.event.bus.SubscriptionOptions;
+
+/**
+ * 프로세스 내부 도메인 이벤트 구독자
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로(at-least-once) 처리는 멱등해야 한다.
+ * */
+public interface DomainEventSubscriber<E extends DomainEvent> {
+
+    /**
+     * 구독할 이벤트 타입 (하위 타입 포함)
+     * */
+    Class<E> eventType();
+
+    /**
+     * 이벤트 처리 - 에러로 끝나면 전달 실패로 보고 다음 주기에 다시 전달한다.
+     * */
+    Mono<Void> onEvent(E event);
+
+    default String name() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * 이벤트 버스 구독 옵션 - 기본값(fream.event.bus.*)과 다른 큐 크기나 OverflowStrategy 가 필요할 때 재정의
+     * */
+    default SubscriptionOptions subscriptionOptions(SubscriptionOptions defaults) {
+        return defaults;
+    }
+}
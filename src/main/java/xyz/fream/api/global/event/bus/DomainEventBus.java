@@ -0,0 +1,138 @@
+package xyz.fream.api.global.event.bus;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import xyz.fream.api.global.event.DomainEvent;
+import xyz.fream.api.global.event.DomainEventSubscriber;
+import xyz.fream.api.global.event.outbox.OutboxEventWriter;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 프로세스 내부 타입 기반 도메인 이벤트 버스
+ * 도메인 간 직접 서비스 호출 대신 이벤트를 발행하면, 이벤트 타입을 구독하는 구독자의 레인 큐에 넣고 비동기로 전달한다.
+ *
+ * - 구독자마다 레인 큐가 따로 있고 크기가 제한된다. 가득 차면 구독 옵션의 OverflowStrategy 를 따른다.
+ * - 같은 구독자 안에서 같은 애그리거트 ID 의 이벤트는 발행 순서대로 하나씩 처리된다.
+ * - 전달은 at-most-once 이다. 커밋과 함께 반드시 전달되어야 하는 이벤트는 OutboxEventWriter 로 기록한다.
+ *   (SPILL 로 outbox 에 넘긴 이벤트는 OutboxRelay 가 해당 구독자에게만 전달한다.)
+ * */
+@Slf4j
+public class DomainEventBus implements Disposable {
+
+    private static final Duration BLOCK_RETRY_DELAY = Duration.ofMillis(1);
+
+    private final Scheduler scheduler;
+    private final OutboxEventWriter outboxEventWriter;
+    private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile boolean disposed;
+
+    /**
+     * @param scheduler 구독자 전달에 사용할 스케줄러 (레인마다 워커 하나)
+     * @param outboxEventWriter SPILL 전략에서 사용할 outbox 기록기 (없으면 SPILL 은 DROP 으로 동작)
+     * */
+    public DomainEventBus(Scheduler scheduler, OutboxEventWriter outboxEventWriter) {
+        this.scheduler = scheduler;
+        this.outboxEventWriter = outboxEventWriter;
+    }
+
+    public EventSubscription subscribe(DomainEventSubscriber<?> subscriber, SubscriptionOptions options) {
+        if (disposed) {
+            throw new IllegalStateException("이벤트 버스가 종료되었습니다.");
+        }
+        EventSubscription subscription = new EventSubscription(subscriber, options, scheduler);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public void unsubscribe(EventSubscription subscription) {
+        if (subscriptions.remove(subscription)) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * 이벤트를 구독자 레인에 넣음
+     * 구독자 처리를 기다리지 않고, 큐에 들어가면(또는 버려지거나 outbox 에 넘겨지면) 완료된다.
+     * BLOCK 전략의 구독자 큐가 가득 차 있으면 자리가 날 때까지 완료가 늦춰지고, blockTimeout 을 넘으면 503 으로 끝난다.
+     * */
+    public Mono<Void> publish(DomainEvent event) {
+        return Mono.defer(() -> {
+            if (disposed) {
+                return Mono.error(new CommonException(GlobalErrorCode.SERVICE_UNAVAILABLE, "이벤트 버스가 종료되었습니다."));
+            }
+            List<Mono<Void>> pending = null;
+            for (EventSubscription subscription : subscriptions) {
+                if (!subscription.accepts(event)) {
+                    continue;
+                }
+                Mono<Void> overflow = offer(subscription, event);
+                if (overflow != null) {
+                    if (pending == null) {
+                        pending = new ArrayList<>(2);
+                    }
+                    pending.add(overflow);
+                }
+            }
+            return pending == null ? Mono.empty() : Mono.when(pending);
+        });
+    }
+
+    public List<EventSubscription> getSubscriptions() {
+        return List.copyOf(subscriptions);
+    }
+
+    /**
+     * @return 바로 큐에 넣었거나 버렸으면 null, 자리를 기다리거나 outbox 에 기록해야 하면 그 작업
+     * */
+    private Mono<Void> offer(EventSubscription subscription, DomainEvent event) {
+        EventLane lane = subscription.laneOf(event);
+        if (lane.offer(event)) {
+            subscription.recordPublished();
+            return null;
+        }
+
+        OverflowStrategy strategy = subscription.getOptions().overflow();
+        if (strategy == OverflowStrategy.SPILL && outboxEventWriter == null) {
+            strategy = OverflowStrategy.DROP;
+        }
+        return switch (strategy) {
+            case DROP -> {
+                subscription.recordDropped();
+                yield null;
+            }
+            case BLOCK -> Mono.fromCallable(() -> lane.offer(event))
+                    .filter(Boolean::booleanValue)
+                    .repeatWhenEmpty(retries -> retries.delayElements(BLOCK_RETRY_DELAY, scheduler))
+                    .timeout(subscription.getOptions().blockTimeout())
+                    .doOnNext(offered -> subscription.recordPublished())
+                    .onErrorMap(TimeoutException.class, e -> new CommonException(GlobalErrorCode.SERVICE_UNAVAILABLE,
+                            "이벤트 구독자 큐가 가득 찼습니다: " + subscription.getName(), e))
+                    .then();
+            case SPILL -> outboxEventWriter.appendFor(subscription.getName(), event)
+                    .doOnSuccess(ignored -> subscription.recordSpilled());
+        };
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        for (EventSubscription subscription : subscriptions) {
+            subscription.dispose();
+        }
+        subscriptions.clear();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
@@ -0,0 +1,61 @@
+package xyz.fream.api.global.event.bus;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 도메인 이벤트 버스 Micrometer 지표
+ * 구독자(subscriber 태그)별로 큐 깊이, 큐 대기 시간(lag), 발행 / 전달 / 실패 / 버림 / outbox 이관 수를 노출한다.
+ * 지표는 바인딩 시점에 등록된 구독을 기준으로 만든다.
+ * */
+public class DomainEventBusMetrics implements MeterBinder {
+
+    private static final String PREFIX = "fream.event.bus";
+
+    private final DomainEventBus eventBus;
+
+    public DomainEventBusMetrics(DomainEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (EventSubscription subscription : eventBus.getSubscriptions()) {
+            Tags tags = Tags.of("subscriber", subscription.getName());
+
+            Gauge.builder(PREFIX + ".queue.depth", subscription, EventSubscription::getQueueDepth)
+                    .description("전달을 기다리는 이벤트 수")
+                    .tags(tags)
+                    .register(registry);
+
+            FunctionTimer.builder(PREFIX + ".lag", subscription,
+                            EventSubscription::getLagCount,
+                            EventSubscription::getLagNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("큐에 들어간 뒤 전달이 시작되기까지의 시간")
+                    .tags(tags)
+                    .register(registry);
+
+            counter(registry, subscription, "published", "큐에 들어간 이벤트 수", tags, EventSubscription::getPublished);
+            counter(registry, subscription, "delivered", "처리된 이벤트 수", tags, EventSubscription::getDelivered);
+            counter(registry, subscription, "failed", "처리에 실패한 이벤트 수", tags, EventSubscription::getFailed);
+            counter(registry, subscription, "dropped", "큐가 가득 차서 버려진 이벤트 수", tags, EventSubscription::getDropped);
+            counter(registry, subscription, "spilled", "큐가 가득 차서 outbox 로 넘긴 이벤트 수", tags, EventSubscription::getSpilled);
+        }
+    }
+
+    private void counter(MeterRegistry registry, EventSubscription subscription, String name, String description,
+                         Tags tags, ToDoubleFunction<EventSubscription> metric) {
+        FunctionCounter.builder(PREFIX + "." + name, subscription, metric)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -0,0 +1,125 @@
+package xyz.fream.api.global.event.bus;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.concurrent.Queues;
+import xyz.fream.api.global.event.DomainEvent;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 구독자 하나의 이벤트 레인
+ * 여러 스레드가 lock-free MPSC 큐에 이벤트를 넣고, 스케줄러 워커 하나가 이벤트를 하나씩 구독자에게 전달한다.
+ * 이전 이벤트의 처리(Mono)가 끝나야 다음 이벤트를 전달하므로 레인 안에서는 순서가 보장된다.
+ * 처리 Mono 가 동기적으로 끝나면 재귀 없이 같은 루프에서 다음 이벤트로 넘어간다.
+ * */
+final class EventLane {
+
+    private final EventSubscription owner;
+    private final int capacity;
+    private final Scheduler.Worker worker;
+    private final Queue<Envelope> queue = Queues.<Envelope>unboundedMultiproducer().get();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    EventLane(EventSubscription owner, int capacity, Scheduler.Worker worker) {
+        this.owner = owner;
+        this.capacity = capacity;
+        this.worker = worker;
+    }
+
+    /**
+     * @return 큐가 가득 차서 넣지 못했으면 false
+     * */
+    boolean offer(DomainEvent event) {
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            return false;
+        }
+        queue.offer(new Envelope(event, System.nanoTime()));
+        if (draining.compareAndSet(false, true)) {
+            worker.schedule(this::drain);
+        }
+        return true;
+    }
+
+    int depth() {
+        return depth.get();
+    }
+
+    void dispose() {
+        worker.dispose();
+    }
+
+    private void drain() {
+        for (;;) {
+            Envelope envelope = queue.poll();
+            if (envelope == null) {
+                draining.set(false);
+                if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            depth.decrementAndGet();
+            owner.recordLag(System.nanoTime() - envelope.enqueuedNanos());
+
+            Delivery delivery = new Delivery();
+            owner.deliver(envelope.event()).subscribe(delivery);
+            if (delivery.suspend()) {
+                return;
+            }
+        }
+    }
+
+    private record Envelope(DomainEvent event, long enqueuedNanos) {
+    }
+
+    /**
+     * 처리 완료 신호를 받아 다음 이벤트로 넘어가는 구독자
+     * PENDING -> DONE (동기 완료: drain 루프가 계속), PENDING -> SUSPENDED (비동기: 완료 시 drain 을 다시 예약)
+     * */
+    private final class Delivery extends AtomicInteger implements CoreSubscriber<Void> {
+
+        private static final int PENDING = 0;
+        private static final int DONE = 1;
+        private static final int SUSPENDED = 2;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Void value) {
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            owner.recordFailure(error);
+            complete();
+        }
+
+        @Override
+        public void onComplete() {
+            owner.recordDelivered();
+            complete();
+        }
+
+        private void complete() {
+            if (!compareAndSet(PENDING, DONE)) {
+                worker.schedule(EventLane.this::drain);
+            }
+        }
+
+        /**
+         * @return 아직 처리가 끝나지 않아 drain 루프를 멈춰야 하면 true
+         * */
+        boolean suspend() {
+            return compareAndSet(PENDING, SUSPENDED);
+        }
+    }
+}
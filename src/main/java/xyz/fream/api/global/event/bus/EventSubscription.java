@@ -0,0 +1,148 @@
+package xyz.fream.api.global.event.bus;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import xyz.fream.api.global.event.DomainEvent;
+import xyz.fream.api.global.event.DomainEventSubscriber;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이벤트 버스에 등록된 구독 하나
+ * 구독자별로 레인을 따로 두어 느린 구독자가 다른 구독자의 전달을 막지 않게 하고,
+ * 애그리거트 ID 해시로 레인을 고르므로 같은 애그리거트의 이벤트는 발행 순서대로 처리된다.
+ * */
+@Slf4j
+public class EventSubscription implements Disposable {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final SubscriptionOptions options;
+    private final DomainEventSubscriber<DomainEvent> subscriber;
+    private final EventLane[] lanes;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder lagCount = new LongAdder();
+    private final LongAdder lagNanos = new LongAdder();
+    private volatile boolean disposed;
+
+    @SuppressWarnings("unchecked")
+    EventSubscription(DomainEventSubscriber<?> subscriber, SubscriptionOptions options, Scheduler scheduler) {
+        this.name = subscriber.name();
+        this.options = options;
+        this.subscriber = (DomainEventSubscriber<DomainEvent>) subscriber;
+        this.lanes = new EventLane[options.lanes()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new EventLane(this, options.queueCapacity(), scheduler.createWorker());
+        }
+    }
+
+    boolean accepts(DomainEvent event) {
+        return subscriber.eventType().isInstance(event);
+    }
+
+    EventLane laneOf(DomainEvent event) {
+        if (lanes.length == 1) {
+            return lanes[0];
+        }
+        int hash = event.aggregateId().hashCode();
+        return lanes[Math.floorMod(hash ^ (hash >>> 16), lanes.length)];
+    }
+
+    Mono<Void> deliver(DomainEvent event) {
+        try {
+            Mono<Void> result = subscriber.onEvent(event);
+            return result != null ? result : Mono.empty();
+        } catch (RuntimeException e) {
+            return Mono.error(e);
+        }
+    }
+
+    void recordPublished() {
+        published.increment();
+    }
+
+    void recordDelivered() {
+        delivered.increment();
+    }
+
+    void recordFailure(Throwable error) {
+        failed.increment();
+        log.warn("이벤트 버스 구독자 처리 실패 [{}]: {}", name, error.toString());
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void recordSpilled() {
+        spilled.increment();
+    }
+
+    void recordLag(long nanos) {
+        lagCount.increment();
+        lagNanos.add(nanos);
+    }
+
+    /**
+     * 모든 레인에서 전달을 기다리는 이벤트 수
+     * */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (EventLane lane : lanes) {
+            depth += lane.depth();
+        }
+        return depth;
+    }
+
+    public long getPublished() {
+        return published.sum();
+    }
+
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getSpilled() {
+        return spilled.sum();
+    }
+
+    /**
+     * 큐에 들어간 시점부터 구독자에게 전달되기 시작한 시점까지의 대기 횟수 / 누적 시간
+     * */
+    public long getLagCount() {
+        return lagCount.sum();
+    }
+
+    public long getLagNanos() {
+        return lagNanos.sum();
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        for (EventLane lane : lanes) {
+            lane.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
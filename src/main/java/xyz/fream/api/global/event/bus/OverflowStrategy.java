@@ -0,0 +1,22 @@
+package xyz.fream.api.global.event.bus;
+
+/**
+ * 구독자 큐가 가득 찼을 때의 처리 방식
+ * */
+public enum OverflowStrategy {
+    /**
+     * 새 이벤트를 버리고 dropped 로 집계
+     * */
+    DROP,
+
+    /**
+     * 큐에 자리가 날 때까지 publish 의 완료를 늦춤 (스레드를 막지 않고 재시도, blockTimeout 초과 시 503)
+     * */
+    BLOCK,
+
+    /**
+     * 해당 구독자 전용으로 outbox 에 기록해서 릴레이가 나중에 전달하도록 넘김
+     * 넘긴 이벤트는 큐에 남은 같은 키의 이벤트보다 늦게 전달될 수 있다.
+     * */
+    SPILL
+}
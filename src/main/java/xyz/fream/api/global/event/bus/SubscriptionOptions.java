@@ -0,0 +1,28 @@
+package xyz.fream.api.global.event.bus;
+
+import java.time.Duration;
+
+/**
+ * 구독 옵션
+ *
+ * @param lanes 구독자별 큐(레인) 수 - 같은 애그리거트 ID 는 같은 레인에서 순서대로 처리된다.
+ * @param queueCapacity 레인별 최대 대기 이벤트 수
+ * @param overflow 큐가 가득 찼을 때의 처리 방식
+ * @param blockTimeout BLOCK 전략에서 자리가 나기를 기다릴 최대 시간
+ * */
+public record SubscriptionOptions(int lanes, int queueCapacity, OverflowStrategy overflow, Duration blockTimeout) {
+
+    public SubscriptionOptions {
+        if (lanes < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("레인 수와 큐 크기는 1 이상이어야 합니다.");
+        }
+    }
+
+    public static SubscriptionOptions defaults() {
+        return new SubscriptionOptions(4, 1024, OverflowStrategy.BLOCK, Duration.ofSeconds(1));
+    }
+
+    public SubscriptionOptions withOverflow(OverflowStrategy overflow) {
+        return new SubscriptionOptions(lanes, queueCapacity, overflow, blockTimeout);
+    }
+}
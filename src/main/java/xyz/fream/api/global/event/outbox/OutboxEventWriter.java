@@ -0,0 +1,95 @@
+package xyz.fream.api.global.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.global.event.DomainEvent;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.util.List;
+
+/**
+ * 도메인 이벤트를 outbox 테이블에 기록
+ * DatabaseClient 는 현재 리액티브 트랜잭션에 묶인 커넥션을 사용하므로,
+ * 애그리거트 저장과 같은 트랜잭션(TransactionalOperator / @Transactional) 안에서 호출하면 함께 커밋 / 롤백된다.
+ * 여러 이벤트는 multi-row INSERT 한 번으로 기록한다.
+ * target_subscriber 를 지정한 이벤트는 OutboxRelay 가 해당 구독자에게만 전달한다.
+ * 유일 키는 (event_id, target_subscriber) 이고 전체 전달 행은 target_subscriber 를 빈 문자열로 기록하므로,
+ * 같은 이벤트를 전체 전달용과 구독자별(SPILL)로 함께 기록할 수 있다.
+ * */
+@Component
+public class OutboxEventWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO outbox_event (event_id, aggregate_type, aggregate_id, event_type, payload, occurred_at, target_subscriber) VALUES ";
+    private static final int COLUMNS = 7;
+    private static final String ALL_SUBSCRIBERS = "";
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventWriter(DatabaseClient databaseClient, ObjectMapper objectMapper) {
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+    }
+
+    public Mono<Void> append(DomainEvent event) {
+        return append(List.of(event));
+    }
+
+    public Mono<Void> append(List<? extends DomainEvent> events) {
+        return append(events, null);
+    }
+
+    /**
+     * 특정 구독자에게만 전달할 이벤트를 기록
+     * 이벤트 버스의 SPILL 전략처럼 한 구독자가 받지 못한 이벤트를 나중에 전달할 때 사용한다.
+     * */
+    public Mono<Void> appendFor(String targetSubscriber, DomainEvent event) {
+        return append(List.of(event), targetSubscriber);
+    }
+
+    private Mono<Void> append(List<? extends DomainEvent> events, String targetSubscriber) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            for (int row = 0; row < events.size(); row++) {
+                sql.append(row == 0 ? "(" : ", (");
+                for (int col = 0; col < COLUMNS; col++) {
+                    if (col > 0) {
+                        sql.append(", ");
+                    }
+                    sql.append(":p").append(row).append('_').append(col);
+                }
+                sql.append(')');
+            }
+
+            DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+            for (int row = 0; row < events.size(); row++) {
+                DomainEvent event = events.get(row);
+                String prefix = "p" + row + "_";
+                spec = spec.bind(prefix + 0, event.eventId())
+                        .bind(prefix + 1, event.aggregateType())
+                        .bind(prefix + 2, event.aggregateId())
+                        .bind(prefix + 3, event.eventType())
+                        .bind(prefix + 4, serialize(event))
+                        .bind(prefix + 5, event.occurredAt())
+                        .bind(prefix + 6, targetSubscriber != null ? targetSubscriber : ALL_SUBSCRIBERS);
+            }
+            return spec.then();
+        });
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new CommonException(GlobalErrorCode.INTERNAL_SERVER_ERROR, "도메인 이벤트 직렬화 실패: " + event.eventType(), e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package xyz.fream.api.global.event.outbox;
+
+/**
+ * 아직 전달되지 않은 outbox 행
+ * targetSubscriber 가 null 이면 이벤트 타입을 구독하는 모든 구독자에게 전달한다.
+ * */
+record OutboxRecord(long id, String eventId, String eventType, String payload, String targetSubscriber, int attempts) {
+}
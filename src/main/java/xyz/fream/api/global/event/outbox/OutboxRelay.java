@@ -0,0 +1,220 @@
+package xyz.fream.api.global.event.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import xyz.fream.api.global.event.DomainEvent;
+import xyz.fream.api.global.event.DomainEventSubscriber;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * outbox 릴레이
+ * 주기마다 미전달 이벤트를 batchSize 단위로 읽어 프로세스 내부 구독자에게 전달하고,
+ * 성공한 행은 UPDATE ... WHERE id IN (...) 한 번으로 처리 완료 표시한다.
+ * 배치가 가득 차 있으면 밀린 이벤트가 없을 때까지 곧바로 다음 배치를 읽는다.
+ *
+ * - 전달은 at-least-once: 구독자 처리 후 완료 표시 전에 중단되면 다시 전달된다.
+ * - 구독자가 실패한 이벤트는 attempts 를 올리고 다음 주기에 다시 전달하며, maxAttempts 에 도달하면 더 이상 읽지 않는다.
+ * - 한 배치 안에서는 outbox 기록 순서(id)대로 전달한다.
+ * - target_subscriber 가 있는 이벤트(이벤트 버스에서 넘어온 이벤트)는 이름이 같은 구독자에게만 전달한다.
+ * - event_type 은 DB 값이므로 구독자가 받는 DomainEvent 타입으로만 해석한다. (그 외 클래스는 초기화 / 역직렬화하지 않고 실패 처리)
+ * - 여러 인스턴스가 같은 outbox 를 읽는 경우는 고려하지 않는다. (인스턴스당 DB 를 분리하거나 릴레이를 한 곳에서만 켠다)
+ * */
+@Slf4j
+public class OutboxRelay implements Disposable {
+
+    private static final String SELECT_PENDING = """
+            SELECT id, event_id, event_type, payload, target_subscriber, attempts
+            FROM outbox_event
+            WHERE processed_at IS NULL AND attempts < :maxAttempts
+            ORDER BY id
+            LIMIT :limit""";
+    private static final String MARK_PROCESSED = "UPDATE outbox_event SET processed_at = :processedAt WHERE id IN (:ids)";
+    private static final String MARK_FAILED = "UPDATE outbox_event SET attempts = attempts + 1 WHERE id IN (:ids)";
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+    private final List<DomainEventSubscriber<?>> subscribers;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final int maxAttempts;
+    private final Map<String, Class<?>> eventTypes = new ConcurrentHashMap<>();
+    private volatile Disposable task;
+
+    public OutboxRelay(DatabaseClient databaseClient, ObjectMapper objectMapper, List<DomainEventSubscriber<?>> subscribers,
+                       int batchSize, Duration pollInterval, int maxAttempts) {
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+        this.subscribers = List.copyOf(subscribers);
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void start() {
+        task = Flux.interval(pollInterval, pollInterval, Schedulers.single())
+                .onBackpressureDrop()
+                .concatMap(tick -> drain()
+                        .onErrorResume(e -> {
+                            log.warn("outbox 릴레이 실패: {}", e.getMessage(), e);
+                            return Mono.just(0);
+                        }), 1)
+                .subscribe();
+    }
+
+    /**
+     * 밀린 이벤트가 없을 때까지 배치를 반복해서 전달하고, 처리 완료된 이벤트 수를 돌려줌
+     * 실패한 이벤트는 미처리로 남아 다음 배치에서 바로 다시 읽히므로, 배치 전체가 처리되었을 때만 이어서 읽는다.
+     * 그렇지 않으면 한 번의 drain 에서 실패한 이벤트가 maxAttempts 를 모두 소진한다.
+     * */
+    public Mono<Integer> drain() {
+        return relayBatch()
+                .expand(processed -> processed == batchSize ? relayBatch() : Mono.empty())
+                .reduce(0, Integer::sum);
+    }
+
+    /**
+     * 배치 하나를 전달하고 처리 완료된 이벤트 수를 돌려줌
+     * */
+    private Mono<Integer> relayBatch() {
+        return fetchPending()
+                .concatMap(record -> deliver(record).map(delivered -> new Delivery(record.id(), delivered)))
+                .collectList()
+                .flatMap(deliveries -> {
+                    List<Long> processed = new ArrayList<>(deliveries.size());
+                    List<Long> failed = new ArrayList<>();
+                    for (Delivery delivery : deliveries) {
+                        (delivery.delivered() ? processed : failed).add(delivery.id());
+                    }
+                    return markProcessed(processed)
+                            .then(markFailed(failed))
+                            .thenReturn(processed.size());
+                });
+    }
+
+    private Flux<OutboxRecord> fetchPending() {
+        return databaseClient.sql(SELECT_PENDING)
+                .bind("maxAttempts", maxAttempts)
+                .bind("limit", batchSize)
+                .map(row -> new OutboxRecord(
+                        row.get("id", Long.class),
+                        row.get("event_id", String.class),
+                        row.get("event_type", String.class),
+                        row.get("payload", String.class),
+                        emptyToNull(row.get("target_subscriber", String.class)),
+                        row.get("attempts", Integer.class)))
+                .all();
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 이벤트를 구독자에게 순서대로 전달 - 모두 성공하면 true
+     * */
+    private Mono<Boolean> deliver(OutboxRecord record) {
+        return Mono.defer(() -> {
+                    DomainEvent event = deserialize(record);
+                    return Flux.fromIterable(subscribers)
+                            .filter(subscriber -> subscriber.eventType().isInstance(event))
+                            .filter(subscriber -> record.targetSubscriber() == null
+                                    || record.targetSubscriber().equals(subscriber.name()))
+                            .concatMap(subscriber -> invoke(subscriber, event))
+                            .then(Mono.just(true));
+                })
+                .onErrorResume(e -> {
+                    int attempts = record.attempts() + 1;
+                    if (attempts >= maxAttempts) {
+                        log.error("outbox 이벤트 전달 포기 [{}] {} (attempts={})", record.eventId(), record.eventType(), attempts, e);
+                    } else {
+                        log.warn("outbox 이벤트 전달 실패 [{}] {} (attempts={}): {}", record.eventId(), record.eventType(), attempts, e.toString());
+                    }
+                    return Mono.just(false);
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Void> invoke(DomainEventSubscriber<?> subscriber, DomainEvent event) {
+        return ((DomainEventSubscriber<DomainEvent>) subscriber).onEvent(event);
+    }
+
+    private DomainEvent deserialize(OutboxRecord record) {
+        try {
+            Class<?> type = eventTypes.get(record.eventType());
+            if (type == null) {
+                type = resolve(record.eventType());
+                eventTypes.put(record.eventType(), type);
+            }
+            return (DomainEvent) objectMapper.readValue(record.payload(), type);
+        } catch (ClassNotFoundException | IOException | ClassCastException e) {
+            throw new IllegalStateException("outbox 이벤트를 읽을 수 없습니다: " + record.eventType(), e);
+        }
+    }
+
+    /**
+     * 이벤트 타입 이름을 클래스로 해석
+     * 구독자가 선언한 타입과 이름이 같으면 그대로 쓰고, 아니면 초기화하지 않고 로드한 뒤
+     * DomainEvent 구현체이면서 받을 구독자가 있는 타입만 허용한다.
+     * */
+    private Class<?> resolve(String eventType) throws ClassNotFoundException {
+        for (DomainEventSubscriber<?> subscriber : subscribers) {
+            if (subscriber.eventType().getName().equals(eventType)) {
+                return subscriber.eventType();
+            }
+        }
+        Class<?> type = Class.forName(eventType, false, OutboxRelay.class.getClassLoader());
+        if (!DomainEvent.class.isAssignableFrom(type) || type.isInterface()
+                || subscribers.stream().noneMatch(subscriber -> subscriber.eventType().isAssignableFrom(type))) {
+            throw new ClassCastException("구독자가 받을 수 없는 이벤트 타입입니다: " + eventType);
+        }
+        return type;
+    }
+
+    private Mono<Void> markProcessed(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(MARK_PROCESSED)
+                .bind("processedAt", LocalDateTime.now())
+                .bind("ids", ids)
+                .then();
+    }
+
+    private Mono<Void> markFailed(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(MARK_FAILED)
+                .bind("ids", ids)
+                .then();
+    }
+
+    @Override
+    public void dispose() {
+        Disposable current = task;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Disposable current = task;
+        return current == null || current.isDisposed();
+    }
+
+    private record Delivery(long id, boolean delivered) {
+    }
+}
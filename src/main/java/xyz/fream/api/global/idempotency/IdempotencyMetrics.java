@@ -0,0 +1,49 @@
+package xyz.fream.api.global.idempotency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Idempotency-Key Micrometer 지표
+ * 결과(outcome 태그)별 요청 수와 처리 중인 키 수, 노드 안 저장 응답 수를 노출한다.
+ * joined 는 처리 중인 같은 키를 기다린 요청 수로, 기다린 뒤 재생되면 replayed 에도 함께 센다.
+ * */
+public class IdempotencyMetrics implements MeterBinder {
+
+    private static final String PREFIX = "fream.idempotency";
+
+    private final IdempotencyWebFilter filter;
+    private final InMemoryIdempotencyStore store;
+
+    public IdempotencyMetrics(IdempotencyWebFilter filter, InMemoryIdempotencyStore store) {
+        this.filter = filter;
+        this.store = store;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "executed", "Idempotency-Key 요청 중 실제로 실행한 요청 수", IdempotencyWebFilter::getExecuted);
+        counter(registry, "replayed", "저장된 응답을 재생한 요청 수", IdempotencyWebFilter::getReplayed);
+        counter(registry, "joined", "처리 중인 같은 키의 결과를 기다린 요청 수", IdempotencyWebFilter::getJoined);
+        counter(registry, "rejected", "키 재사용 / 잘못된 키 등으로 거부한 요청 수", IdempotencyWebFilter::getRejected);
+
+        Gauge.builder(PREFIX + ".inflight", filter, IdempotencyWebFilter::getInFlight)
+                .description("처리 중인 Idempotency-Key 수")
+                .register(registry);
+        Gauge.builder(PREFIX + ".entries", store, InMemoryIdempotencyStore::estimatedSize)
+                .description("노드 안 저장된 응답 수")
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String outcome, String description,
+                         ToLongFunction<IdempotencyWebFilter> count) {
+        FunctionCounter.builder(PREFIX + ".requests", filter, count::applyAsLong)
+                .description(description)
+                .tags("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,16 @@
+package xyz.fream.api.global.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 처리 설정
+ *
+ * @param headerName 키를 담는 요청 헤더 이름
+ * @param ttl 처리한 응답을 재생할 수 있는 기간
+ * @param waitTimeout 같은 키의 처리 중인 요청을 기다리는 한도 (초과 시 409)
+ * @param maxBodySize fingerprint 계산을 위해 읽을 요청 본문 최대 크기 (초과 시 400)
+ * @param maxResponseSize 저장할 응답 본문 최대 크기 (초과하면 응답은 그대로 내보내고 저장만 건너뜀)
+ * */
+public record IdempotencySpec(String headerName, Duration ttl, Duration waitTimeout, int maxBodySize,
+                              int maxResponseSize) {
+}
@@ -0,0 +1,21 @@
+package xyz.fream.api.global.idempotency;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 처리가 끝난 Idempotency-Key 응답 저장소
+ * 키는 요청자(사용자 sub 또는 IP)와 Idempotency-Key 헤더 값을 합쳐 해시한 64자 hex 다.
+ * */
+public interface IdempotencyStore {
+
+    /**
+     * 만료되지 않은 저장 응답을 찾음 (없으면 empty)
+     * */
+    Mono<IdempotentResponse> find(String key);
+
+    /**
+     * 응답을 저장
+     * 같은 키가 이미 저장되어 있으면 먼저 저장된 응답을 유지한다.
+     * */
+    Mono<Void> save(String key, IdempotentResponse response);
+}
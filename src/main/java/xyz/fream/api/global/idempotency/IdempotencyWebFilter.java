@@ -0,0 +1,432 @@
+package xyz.fream.api.global.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+import xyz.fream.api.global.presentation.exception.GlobalExceptionHandler;
+import xyz.fream.api.global.ratelimit.RateLimitWebFilter;
+import xyz.fream.api.global.security.AuthenticatedPrincipal;
+import xyz.fream.api.global.security.AuthenticationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Idempotency-Key WebFilter
+ * 대상 경로 / 메소드의 요청에 Idempotency-Key 헤더가 있으면
+ * - 처리가 끝난 키는 저장된 응답을 서비스 계층을 거치지 않고 그대로 재생하고
+ * - 같은 키가 처리 중이면 다시 실행하지 않고 처리 중인 요청의 결과를 기다려 재생한다.
+ * 같은 키로 메소드 / 경로 / 본문이 다른 요청을 보내면 IDEMPOTENCY_KEY_REUSED(422) 로 거부한다.
+ * 2xx 응답만 저장하므로 실패한 요청은 같은 키로 다시 시도할 수 있다.
+ * 처리를 맡은 요청은 클라이언트 구독과 분리해서 실행하므로, 클라이언트가 연결을 끊어도 처리와 저장은 끝까지 진행된다.
+ * 요청자(사용자 sub 또는 IP)별로 키 공간이 나뉘도록 인증 / 요청 한도 필터 다음에 실행된다.
+ * 저장 키는 요청자와 키를 합친 값의 SHA-256 hex 라 요청자 / 키 길이와 관계없이 고정 길이다.
+ * 응답 본문이 maxResponseSize 를 넘으면 응답은 그대로 내보내고 저장하지 않는다. (이 경우 같은 키의 재시도는 다시 실행됨)
+ * */
+@Slf4j
+public class IdempotencyWebFilter implements WebFilter, Ordered {
+
+    public static final int ORDER = RateLimitWebFilter.ORDER + 10;
+
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final byte[] OVERSIZED = new byte[0];
+
+    private final IdempotencySpec spec;
+    private final List<PathPattern> paths;
+    private final Set<HttpMethod> methods;
+    private final IdempotencyStore store;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public IdempotencyWebFilter(IdempotencySpec spec, Collection<String> paths, Collection<HttpMethod> methods,
+                                IdempotencyStore store, GlobalExceptionHandler exceptionHandler, Clock clock) {
+        this.spec = spec;
+        this.paths = paths.stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.methods = Set.copyOf(methods);
+        this.store = store;
+        this.exceptionHandler = exceptionHandler;
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String idempotencyKey = request.getHeaders().getFirst(spec.headerName());
+        if (idempotencyKey == null || !applies(request)) {
+            return chain.filter(exchange);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            rejected.increment();
+            return exceptionHandler.writeErrorResponse(exchange, GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Mono<String> key = AuthenticationContext.currentPrincipal()
+                .map(AuthenticatedPrincipal::subject)
+                .defaultIfEmpty(clientAddress(request))
+                .map(requester -> storageKey(requester, idempotencyKey));
+
+        return key.zipWith(readBody(request))
+                .flatMap(tuple -> {
+                    byte[] body = tuple.getT2();
+                    if (body == OVERSIZED) {
+                        rejected.increment();
+                        return exceptionHandler.writeErrorResponse(exchange, GlobalErrorCode.INVALID_INPUT_VALUE);
+                    }
+                    ServerWebExchange replayable = exchange.mutate()
+                            .request(withBody(request, body, exchange.getResponse().bufferFactory()))
+                            .build();
+                    return process(replayable, chain, tuple.getT1(), fingerprint(request, body));
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private Mono<Void> process(ServerWebExchange exchange, WebFilterChain chain, String key, String fingerprint) {
+        return store.find(key)
+                .map(stored -> replay(exchange, stored, fingerprint))
+                .switchIfEmpty(Mono.fromSupplier(() -> join(exchange, chain, key, fingerprint)))
+                .flatMap(Function.identity());
+    }
+
+    /**
+     * 같은 키가 처리 중이면 그 결과를 기다리고, 아니면 이 요청이 처리를 맡는다.
+     * 처리 중이던 요청이 저장 없이 끝나면(실패 / 2xx 아님) 처음부터 다시 시도한다.
+     * */
+    private Mono<Void> join(ServerWebExchange exchange, WebFilterChain chain, String key, String fingerprint) {
+        InFlight mine = new InFlight(fingerprint);
+        InFlight running = inFlight.putIfAbsent(key, mine);
+        if (running == null) {
+            return execute(exchange, chain, key, mine);
+        }
+        if (!running.fingerprint().equals(fingerprint)) {
+            rejected.increment();
+            return exceptionHandler.writeErrorResponse(exchange, GlobalErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        joined.increment();
+        return running.result().asMono()
+                .timeout(spec.waitTimeout())
+                .map(stored -> replay(exchange, stored, fingerprint))
+                .switchIfEmpty(Mono.fromSupplier(() -> process(exchange, chain, key, fingerprint)))
+                .flatMap(Function.identity())
+                .onErrorResume(TimeoutException.class, e -> {
+                    rejected.increment();
+                    return exceptionHandler.writeErrorResponse(exchange, GlobalErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                });
+    }
+
+    /**
+     * 처리를 맡은 요청을 실행하고 2xx 응답을 저장
+     * 처음 조회와 in-flight 등록 사이에 다른 요청이 저장을 끝냈을 수 있으므로 저장소를 한 번 더 확인한다.
+     *
+     * 처리는 별도 구독으로 실행하고 반환한 Mono 는 그 완료만 기다린다. 클라이언트가 취소해도 처리 중 표시는
+     * 처리가 끝날 때까지 남아 같은 키의 재시도가 다시 실행되지 않고 결과를 기다린다.
+     * 응답을 다 만든 뒤 클라이언트로 쓰다 실패한 경우(연결 끊김)에도 만든 응답은 저장한다.
+     * */
+    private Mono<Void> execute(ServerWebExchange exchange, WebFilterChain chain, String key, InFlight mine) {
+        return Mono.deferContextual(context -> {
+            Sinks.Empty<Void> done = Sinks.empty();
+            store.find(key)
+                    .map(stored -> {
+                        mine.result().tryEmitValue(stored);
+                        return replay(exchange, stored, mine.fingerprint());
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> {
+                        executed.increment();
+                        CapturingResponse response = new CapturingResponse(exchange.getResponse(), spec.maxResponseSize());
+                        return chain.filter(exchange.mutate().response(response).build())
+                                .onErrorResume(e -> response.isWritten() && response.isStorable()
+                                        ? save(key, mine, response).then(Mono.error(e))
+                                        : Mono.error(e))
+                                .then(Mono.defer(() -> save(key, mine, response)));
+                    }))
+                    .flatMap(Function.identity())
+                    .doFinally(signal -> {
+                        inFlight.remove(key, mine);
+                        mine.result().tryEmitEmpty();
+                    })
+                    .contextWrite(context)
+                    .subscribe(null, done::tryEmitError, done::tryEmitEmpty);
+            return done.asMono();
+        });
+    }
+
+    private Mono<Void> save(String key, InFlight mine, CapturingResponse response) {
+        HttpStatusCode status = response.getStatusCode();
+        if (status != null && !status.is2xxSuccessful()) {
+            return Mono.empty();
+        }
+        if (!response.isStorable()) {
+            log.debug("Idempotency-Key 응답이 저장 한도를 넘었거나 스트리밍이라 저장하지 않음 [{}]", key);
+            return Mono.empty();
+        }
+        MediaType contentType = response.getHeaders().getContentType();
+        IdempotentResponse stored = new IdempotentResponse(
+                mine.fingerprint(),
+                status != null ? status.value() : 200,
+                contentType != null ? contentType.toString() : null,
+                response.getCaptured(),
+                clock.instant().plus(spec.ttl()));
+
+        return store.save(key, stored)
+                .onErrorResume(e -> {
+                    log.warn("Idempotency-Key 응답 저장 실패 [{}]", key, e);
+                    return Mono.empty();
+                })
+                .doOnTerminate(() -> mine.result().tryEmitValue(stored));
+    }
+
+    private Mono<Void> replay(ServerWebExchange exchange, IdempotentResponse stored, String fingerprint) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            rejected.increment();
+            return exceptionHandler.writeErrorResponse(exchange, GlobalErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        replayed.increment();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(stored.status()));
+        if (stored.contentType() != null) {
+            response.getHeaders().setContentType(MediaType.parseMediaType(stored.contentType()));
+        }
+        response.getHeaders().set(REPLAYED_HEADER, "true");
+        response.getHeaders().setContentLength(stored.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(stored.body())));
+    }
+
+    private boolean applies(ServerHttpRequest request) {
+        if (!methods.contains(request.getMethod())) {
+            return false;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Mono<byte[]> readBody(ServerHttpRequest request) {
+        return DataBufferUtils.join(request.getBody(), spec.maxBodySize())
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .onErrorReturn(DataBufferLimitException.class, OVERSIZED);
+    }
+
+    private static ServerHttpRequest withBody(ServerHttpRequest request, byte[] body, DataBufferFactory bufferFactory) {
+        return new ServerHttpRequestDecorator(request) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return body.length == 0 ? Flux.empty() : Flux.defer(() -> Flux.just(bufferFactory.wrap(body)));
+            }
+        };
+    }
+
+    /**
+     * 요청자 길이를 앞에 붙여 (요청자, 키) 경계가 겹치지 않게 한 뒤 해시
+     * */
+    private static String storageKey(String requester, String idempotencyKey) {
+        MessageDigest digest = sha256();
+        digest.update((requester.length() + ":" + requester + ":" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String fingerprint(ServerHttpRequest request, byte[] body) {
+        MessageDigest digest = sha256();
+        digest.update(request.getMethod().name().getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ' ');
+        digest.update(request.getURI().getRawPath().getBytes(StandardCharsets.UTF_8));
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            digest.update((byte) '?');
+            digest.update(query.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) '\n');
+        digest.update(body);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String clientAddress(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address == null) {
+            return "ip:unknown";
+        }
+        return "ip:" + (address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString());
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    public long getExecuted() {
+        return executed.sum();
+    }
+
+    public long getReplayed() {
+        return replayed.sum();
+    }
+
+    public long getJoined() {
+        return joined.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * 처리 중인 키
+     * 처리를 맡은 요청이 저장한 응답(또는 저장 없이 끝났다는 empty)을 기다리는 요청들에게 한 번 알린다.
+     * */
+    private record InFlight(String fingerprint, Sinks.One<IdempotentResponse> result) {
+
+        private InFlight(String fingerprint) {
+            this(fingerprint, Sinks.one());
+        }
+    }
+
+    /**
+     * 응답 본문을 maxSize 까지 먼저 받아 복사해 둔 뒤 내보내는 응답 데코레이터
+     * 본문 읽기는 이 데코레이터를 구독한 처리 쪽에서 진행하므로, 클라이언트 쪽 쓰기가 본문을 구독하지 않고
+     * 끝나도(연결 끊김) 본문은 끝까지 받아져 저장할 수 있다.
+     * 한도를 넘으면 복사를 멈추고 그때까지 받은 버퍼부터 그대로 흘려보낸다.
+     * flush 단위로 나눠 쓰는 응답(스트리밍)은 모아서 보낼 수 없으므로 복사하지 않고 저장 대상에서 뺀다.
+     * */
+    private static final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final int maxSize;
+        private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        private volatile boolean overflowed;
+        private volatile boolean streamed;
+        private volatile boolean writeStarted;
+        private volatile boolean written;
+
+        private CapturingResponse(ServerHttpResponse delegate, int maxSize) {
+            super(delegate);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            writeStarted = true;
+            return Flux.<DataBuffer>from(body)
+                    .bufferUntil(this::capture)
+                    .switchOnFirst((first, chunks) -> {
+                        if (!first.isOnError() && !overflowed) {
+                            written = true;
+                        }
+                        List<DataBuffer> received = first.hasValue() ? first.get() : List.of();
+                        AtomicBoolean handedOver = new AtomicBoolean();
+                        return getDelegate().writeWith(chunks
+                                        .doOnSubscribe(subscription -> handedOver.set(true))
+                                        .concatMapIterable(Function.identity()))
+                                .doFinally(signal -> {
+                                    if (!handedOver.get()) {
+                                        received.forEach(DataBufferUtils::release);
+                                    }
+                                });
+                    })
+                    .then();
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            writeStarted = true;
+            streamed = true;
+            return getDelegate().writeAndFlushWith(body);
+        }
+
+        /**
+         * 받은 버퍼를 복사 - 한도를 넘은 뒤로는 버퍼를 모으지 않고 바로 내보내도록 true
+         * */
+        private boolean capture(DataBuffer buffer) {
+            if (overflowed) {
+                return true;
+            }
+            int length = buffer.readableByteCount();
+            if (captured.size() + length > maxSize) {
+                overflowed = true;
+                captured.reset();
+                return true;
+            }
+            byte[] bytes = new byte[length];
+            int readPosition = buffer.readPosition();
+            buffer.read(bytes);
+            buffer.readPosition(readPosition);
+            captured.write(bytes, 0, length);
+            return false;
+        }
+
+        private byte[] getCaptured() {
+            return captured.toByteArray();
+        }
+
+        /**
+         * 응답 본문을 끝까지 받았는지 - 클라이언트로 쓰기 전에 정해지므로 이후 쓰기가 실패해도 저장할 수 있다.
+         * */
+        private boolean isWritten() {
+            return written;
+        }
+
+        /**
+         * 저장할 수 있는 본문인지 - 스트리밍이 아니고 한도를 넘지 않았으며, 쓰기를 시작했다면 끝까지 받았을 때
+         * */
+        private boolean isStorable() {
+            return !streamed && !overflowed && (!writeStarted || written);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package xyz.fream.api.global.idempotency;
+
+import java.time.Instant;
+
+/**
+ * Idempotency-Key 로 처음 처리한 요청의 저장된 응답
+ * 같은 키의 반복 요청은 fingerprint 가 같을 때만 이 응답을 그대로 돌려받는다.
+ *
+ * @param fingerprint 처음 요청의 메소드 / 경로 / 본문 SHA-256
+ * @param status 응답 상태 코드
+ * @param contentType 응답 Content-Type (없으면 null)
+ * @param body 직렬화된 응답 본문 (ApiResponse JSON)
+ * @param expiresAt 저장 만료 시각
+ * */
+public record IdempotentResponse(String fingerprint, int status, String contentType, byte[] body, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
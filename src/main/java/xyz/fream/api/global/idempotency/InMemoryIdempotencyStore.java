@@ -0,0 +1,84 @@
+package xyz.fream.api.global.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 노드 안 Idempotency-Key 응답 저장소
+ * 항목 수 상한이 있는 Caffeine 캐시에 보관하고, 항목마다 응답의 만료 시각에 맞춰 제거한다.
+ * persistent 저장소가 있으면 쓰기는 함께 기록하고, 캐시에 없는 키는 persistent 에서 읽어 캐시에 채운다.
+ * (재시작 / 다른 노드에서 처리된 키도 재생할 수 있음)
+ * */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, IdempotentResponse> cache;
+    private final Clock clock;
+    private final IdempotencyStore persistent;
+
+    /**
+     * @param persistent 함께 기록할 영속 저장소 (없으면 null)
+     * */
+    public InMemoryIdempotencyStore(long maximumSize, Clock clock, IdempotencyStore persistent) {
+        this(maximumSize, clock, persistent, Ticker.systemTicker());
+    }
+
+    InMemoryIdempotencyStore(long maximumSize, Clock clock, IdempotencyStore persistent, Ticker ticker) {
+        this.clock = clock;
+        this.persistent = persistent;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .expireAfter(new UntilResponseExpiry())
+                .build();
+    }
+
+    @Override
+    public Mono<IdempotentResponse> find(String key) {
+        return Mono.defer(() -> {
+            IdempotentResponse cached = cache.getIfPresent(key);
+            if (cached != null && !cached.isExpired(clock.instant())) {
+                return Mono.just(cached);
+            }
+            if (persistent == null) {
+                return Mono.empty();
+            }
+            return persistent.find(key).doOnNext(response -> cache.put(key, response));
+        });
+    }
+
+    @Override
+    public Mono<Void> save(String key, IdempotentResponse response) {
+        Mono<Void> cached = Mono.fromRunnable(() -> cache.asMap().putIfAbsent(key, response));
+        return persistent == null ? cached : cached.then(persistent.save(key, response));
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private final class UntilResponseExpiry implements Expiry<String, IdempotentResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, IdempotentResponse response, long currentTime) {
+            return Math.max(0L, Duration.between(clock.instant(), response.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, IdempotentResponse response, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, response, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, IdempotentResponse response, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package xyz.fream.api.global.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * idempotency_record 테이블에 기록하는 Idempotency-Key 응답 저장소
+ * 만료 시각은 epoch millis 로 저장하고, 조회는 만료되지 않은 행만 본다.
+ * 만료된 행은 purgeInterval 마다 한 번에 지운다.
+ * 여러 노드가 같은 키를 동시에 저장하면 먼저 들어간 행을 유지한다.
+ * */
+@Slf4j
+public class R2dbcIdempotencyStore implements IdempotencyStore, Disposable {
+
+    private static final String SELECT = """
+            SELECT fingerprint, status, content_type, body, expires_at
+            FROM idempotency_record
+            WHERE idempotency_key = :key AND expires_at > :now
+            """;
+    private static final String DELETE_EXPIRED_KEY =
+            "DELETE FROM idempotency_record WHERE idempotency_key = :key AND expires_at <= :now";
+    private static final String INSERT = """
+            INSERT INTO idempotency_record (idempotency_key, fingerprint, status, content_type, body, expires_at)
+            VALUES (:key, :fingerprint, :status, :contentType, :body, :expiresAt)
+            """;
+    private static final String PURGE = "DELETE FROM idempotency_record WHERE expires_at <= :now";
+
+    private final DatabaseClient databaseClient;
+    private final Clock clock;
+    private final Duration purgeInterval;
+    private volatile Disposable task;
+
+    public R2dbcIdempotencyStore(DatabaseClient databaseClient, Clock clock, Duration purgeInterval) {
+        this.databaseClient = databaseClient;
+        this.clock = clock;
+        this.purgeInterval = purgeInterval;
+    }
+
+    public void start() {
+        task = Flux.interval(purgeInterval, purgeInterval, Schedulers.single())
+                .concatMap(tick -> purgeExpired()
+                        .onErrorResume(e -> {
+                            log.warn("만료된 idempotency_record 정리 실패", e);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public Mono<IdempotentResponse> find(String key) {
+        return Mono.defer(() -> databaseClient.sql(SELECT)
+                .bind("key", key)
+                .bind("now", clock.millis())
+                .map((row, metadata) -> new IdempotentResponse(
+                        row.get("fingerprint", String.class),
+                        row.get("status", Integer.class),
+                        row.get("content_type", String.class),
+                        row.get("body", byte[].class),
+                        Instant.ofEpochMilli(row.get("expires_at", Long.class))))
+                .one());
+    }
+
+    @Override
+    public Mono<Void> save(String key, IdempotentResponse response) {
+        return Mono.defer(() -> {
+            DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(INSERT)
+                    .bind("key", key)
+                    .bind("fingerprint", response.fingerprint())
+                    .bind("status", response.status())
+                    .bind("body", response.body())
+                    .bind("expiresAt", response.expiresAt().toEpochMilli());
+            insert = response.contentType() != null
+                    ? insert.bind("contentType", response.contentType())
+                    : insert.bindNull("contentType", String.class);
+
+            return databaseClient.sql(DELETE_EXPIRED_KEY)
+                    .bind("key", key)
+                    .bind("now", clock.millis())
+                    .then()
+                    .then(insert.then())
+                    .onErrorResume(DataIntegrityViolationException.class, e -> Mono.empty());
+        });
+    }
+
+    /**
+     * 만료된 행을 지우고 지운 행 수를 돌려줌
+     * */
+    public Mono<Long> purgeExpired() {
+        return Mono.defer(() -> databaseClient.sql(PURGE)
+                .bind("now", clock.millis())
+                .fetch()
+                .rowsUpdated());
+    }
+
+    @Override
+    public void dispose() {
+        Disposable current = task;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Disposable current = task;
+        return current == null || current.isDisposed();
+    }
+}
@@ -0,0 +1,128 @@
+package xyz.fream.api.global.infrastructure.r2dbc;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import xyz.fream.api.global.common.dto.Cursor;
+
+/**
+ * 키셋(seek) 페이지네이션 쿼리 헬퍼
+ * 정렬 키와 식별자(동률 정렬용)로 커서 이후의 행만 읽는 조건을 만들어 OFFSET 스캔을 대체한다.
+ *
+ * <pre>
+ * ASC  : sort > :sort OR (sort = :sort AND id > :id)
+ * DESC : sort < :sort OR (sort = :sort AND id < :id)
+ * </pre>
+ * 조회 시 size + 1 개를 읽어 다음 페이지 존재 여부를 판단한다. (CursorPageResponse.fromFetched 참고)
+ * */
+@Getter
+public final class KeysetQuery {
+
+    public static final String CURSOR_SORT_PARAMETER = "cursorSort";
+    public static final String CURSOR_ID_PARAMETER = "cursorId";
+
+    private final String sortColumn;
+    private final Class<?> sortType;
+    private final String idColumn;
+    private final Class<?> idType;
+    private final Sort.Direction direction;
+
+    private KeysetQuery(String sortColumn, Class<?> sortType, String idColumn, Class<?> idType,
+                        Sort.Direction direction) {
+        this.sortColumn = sortColumn;
+        this.sortType = sortType;
+        this.idColumn = idColumn;
+        this.idType = idType;
+        this.direction = direction;
+    }
+
+    public static KeysetQuery of(String sortColumn, Class<?> sortType, String idColumn, Class<?> idType,
+                                 Sort.Direction direction) {
+        return new KeysetQuery(sortColumn, sortType, idColumn, idType, direction);
+    }
+
+    /**
+     * 정렬 키 → 식별자 순서의 정렬 조건
+     * 인덱스가 (sortColumn, idColumn) 복합 인덱스로 구성되어 있어야 seek 가 인덱스 범위 스캔으로 동작함
+     * */
+    public Sort sort() {
+        return Sort.by(direction, sortColumn, idColumn);
+    }
+
+    /**
+     * 커서 이후 행만 선택하는 조건
+     * 커서가 없으면(첫 페이지) 빈 조건 반환
+     * */
+    public Criteria seekPredicate(@Nullable Cursor cursor) {
+        if (cursor == null) {
+            return Criteria.empty();
+        }
+        Object sortValue = cursor.sortValueAs(sortType);
+        Object id = cursor.idAs(idType);
+
+        if (direction.isAscending()) {
+            return Criteria.where(sortColumn).greaterThan(sortValue)
+                    .or(Criteria.where(sortColumn).is(sortValue).and(idColumn).greaterThan(id));
+        }
+        return Criteria.where(sortColumn).lessThan(sortValue)
+                .or(Criteria.where(sortColumn).is(sortValue).and(idColumn).lessThan(id));
+    }
+
+    /**
+     * R2dbcEntityTemplate 용 쿼리 생성
+     *
+     * @param filter 도메인 조회 조건 (없으면 Criteria.empty())
+     * @param cursor 이전 페이지의 커서 (첫 페이지면 null)
+     * @param size 페이지 크기 (size + 1 개를 조회함)
+     * */
+    public Query toQuery(Criteria filter, @Nullable Cursor cursor, int size) {
+        Criteria seek = seekPredicate(cursor);
+        Criteria criteria;
+        if (seek.isEmpty()) {
+            criteria = filter;
+        } else if (filter.isEmpty()) {
+            criteria = seek;
+        } else {
+            criteria = filter.and(seek);
+        }
+        return Query.query(criteria)
+                .sort(sort())
+                .limit(size + 1);
+    }
+
+    /**
+     * DatabaseClient 용 seek 조건 SQL 조각
+     * 커서가 없으면 항상 참인 조건을 반환하므로 WHERE 절에 그대로 이어 붙일 수 있음
+     * */
+    public String seekSql(@Nullable Cursor cursor) {
+        if (cursor == null) {
+            return "1 = 1";
+        }
+        String operator = direction.isAscending() ? ">" : "<";
+        return "(" + sortColumn + " " + operator + " :" + CURSOR_SORT_PARAMETER
+                + " OR (" + sortColumn + " = :" + CURSOR_SORT_PARAMETER
+                + " AND " + idColumn + " " + operator + " :" + CURSOR_ID_PARAMETER + "))";
+    }
+
+    /**
+     * DatabaseClient 용 ORDER BY 절
+     * */
+    public String orderBySql() {
+        String order = direction.isAscending() ? "ASC" : "DESC";
+        return sortColumn + " " + order + ", " + idColumn + " " + order;
+    }
+
+    /**
+     * seekSql 에 사용된 커서 파라미터 바인딩
+     * */
+    public DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, @Nullable Cursor cursor) {
+        if (cursor == null) {
+            return spec;
+        }
+        return spec.bind(CURSOR_SORT_PARAMETER, cursor.sortValueAs(sortType))
+                .bind(CURSOR_ID_PARAMETER, cursor.idAs(idType));
+    }
+}
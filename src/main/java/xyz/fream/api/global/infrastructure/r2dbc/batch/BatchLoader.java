@@ -0,0 +1,154 @@
+package xyz.fream.api.global.infrastructure.r2dbc.batch;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * ID 단건 조회를 모아 IN 조회 한 번으로 실행하는 로더 (DataLoader 방식)
+ * 목록 화면처럼 행마다 연관 엔티티를 조회하는 경우의 N+1 쿼리를 배치 조회로 바꾼다.
+ *
+ * - load(key): 키를 대기열에 넣고, 크기(maxBatchSize) 또는 시간(maxWait) 기준으로 모인 키를 batchFunction 한 번으로 조회한다.
+ * - 조회 중인 키를 다시 load() 하면 같은 결과를 공유한다. (조회가 끝나면 잊으므로 캐시는 아니다)
+ * - 결과에 없는 키는 비어 있는 Mono 로, 배치 조회가 실패하면 그 배치의 모든 호출자에게 에러로 끝난다.
+ *
+ * outbound persistence adapter 에서 batchFunction 으로 자신의 IN 조회를 넘겨 사용한다. (예: inQuery(...))
+ * */
+@Slf4j
+public class BatchLoader<K, V> implements Disposable {
+
+    private final String name;
+    private final Function<Set<K>, Flux<V>> batchFunction;
+    private final Function<V, K> keyOf;
+    private final Map<K, Sinks.One<V>> inFlight = new ConcurrentHashMap<>();
+    private final Sinks.Many<K> queue;
+    private final Disposable pipeline;
+
+    /**
+     * @param name 로그 / 에러 메시지에 쓸 이름
+     * @param batchFunction 키 집합을 한 번에 조회하는 함수 (보통 WHERE id IN (:ids))
+     * @param keyOf 조회 결과에서 키를 꺼내는 함수
+     * */
+    public BatchLoader(String name, Function<Set<K>, Flux<V>> batchFunction, Function<V, K> keyOf,
+                       BatchLoaderOptions options) {
+        if (options.maxBatchSize() < 1 || options.queueCapacity() < 1 || options.concurrency() < 1) {
+            throw new IllegalArgumentException("배치 크기, 대기열 크기, 동시 조회 수는 1 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.keyOf = keyOf;
+        this.queue = Sinks.many().unicast().onBackpressureBuffer(Queues.<K>get(options.queueCapacity()).get());
+        this.pipeline = queue.asFlux()
+                .bufferTimeout(options.maxBatchSize(), options.maxWait(), true)
+                .flatMap(this::dispatch, options.concurrency())
+                .subscribe();
+    }
+
+    /**
+     * SQL 의 :ids 자리에 키 집합을 바인딩해서 조회하는 batchFunction
+     *
+     * @param sql ":ids" 파라미터를 가진 조회 SQL (예: SELECT ... FROM product WHERE id IN (:ids))
+     * */
+    public static <K, V> Function<Set<K>, Flux<V>> inQuery(DatabaseClient databaseClient, String sql,
+                                                           BiFunction<Row, RowMetadata, V> mapper) {
+        return keys -> databaseClient.sql(sql)
+                .bind("ids", List.copyOf(keys))
+                .map(mapper)
+                .all();
+    }
+
+    public Mono<V> load(K key) {
+        return Mono.defer(() -> {
+            Sinks.One<V> created = Sinks.one();
+            Sinks.One<V> existing = inFlight.putIfAbsent(key, created);
+            if (existing != null) {
+                return existing.asMono();
+            }
+            for (;;) {
+                Sinks.EmitResult result = queue.tryEmitNext(key);
+                if (result.isSuccess()) {
+                    return created.asMono();
+                }
+                if (result != Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                    String reason = result == Sinks.EmitResult.FAIL_OVERFLOW ? "가득 찼습니다" : "닫혔습니다";
+                    CommonException error = new CommonException(
+                            GlobalErrorCode.SERVICE_UNAVAILABLE, "배치 조회 대기열이 " + reason + ". loader=" + name);
+                    inFlight.remove(key, created);
+                    created.tryEmitError(error);
+                    return Mono.error(error);
+                }
+                Thread.onSpinWait();
+            }
+        });
+    }
+
+    /**
+     * 여러 키를 조회해서 찾은 것만 맵으로 돌려줌 - 각 키는 load() 와 같은 배치 / 중복 제거를 거친다.
+     * */
+    public Mono<Map<K, V>> loadMany(Collection<? extends K> keys) {
+        return Flux.fromIterable(new LinkedHashSet<>(keys))
+                .flatMap(key -> load(key).map(value -> Map.entry(key, value)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Mono<Void> dispatch(List<K> keys) {
+        return Flux.defer(() -> batchFunction.apply(new LinkedHashSet<>(keys)))
+                .collectMap(keyOf)
+                .doOnNext(found -> {
+                    for (K key : keys) {
+                        Sinks.One<V> pending = inFlight.remove(key);
+                        if (pending == null) {
+                            continue;
+                        }
+                        V value = found.get(key);
+                        if (value != null) {
+                            pending.tryEmitValue(value);
+                        } else {
+                            pending.tryEmitEmpty();
+                        }
+                    }
+                })
+                .then()
+                .onErrorResume(e -> {
+                    log.debug("배치 조회 실패 [{}]: size={}", name, keys.size(), e);
+                    for (K key : keys) {
+                        Sinks.One<V> pending = inFlight.remove(key);
+                        if (pending != null) {
+                            pending.tryEmitError(e);
+                        }
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 대기열을 닫음
+     * 이미 대기열에 들어간 키는 마저 조회되고, 이후의 load() 는 SERVICE_UNAVAILABLE 로 실패한다.
+     * */
+    @Override
+    public void dispose() {
+        queue.tryEmitComplete();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return pipeline.isDisposed();
+    }
+}
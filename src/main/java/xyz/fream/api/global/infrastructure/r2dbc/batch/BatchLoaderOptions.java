@@ -0,0 +1,39 @@
+package xyz.fream.api.global.infrastructure.r2dbc.batch;
+
+import java.time.Duration;
+
+/**
+ * 배치 조회 옵션
+ *
+ * @param maxBatchSize 한 번의 IN 조회에 묶을 최대 키 수
+ * @param maxWait 배치가 다 차지 않아도 조회를 시작할 최대 대기 시간
+ * @param queueCapacity load() 대기열 크기 (가득 차면 SERVICE_UNAVAILABLE)
+ * @param concurrency 동시에 실행할 배치 조회 수
+ * */
+public record BatchLoaderOptions(
+        int maxBatchSize,
+        Duration maxWait,
+        int queueCapacity,
+        int concurrency
+) {
+
+    public static BatchLoaderOptions defaults() {
+        return new BatchLoaderOptions(100, Duration.ofMillis(2), 8192, 4);
+    }
+
+    public BatchLoaderOptions withMaxBatchSize(int maxBatchSize) {
+        return new BatchLoaderOptions(maxBatchSize, maxWait, queueCapacity, concurrency);
+    }
+
+    public BatchLoaderOptions withMaxWait(Duration maxWait) {
+        return new BatchLoaderOptions(maxBatchSize, maxWait, queueCapacity, concurrency);
+    }
+
+    public BatchLoaderOptions withQueueCapacity(int queueCapacity) {
+        return new BatchLoaderOptions(maxBatchSize, maxWait, queueCapacity, concurrency);
+    }
+
+    public BatchLoaderOptions withConcurrency(int concurrency) {
+        return new BatchLoaderOptions(maxBatchSize, maxWait, queueCapacity, concurrency);
+    }
+}
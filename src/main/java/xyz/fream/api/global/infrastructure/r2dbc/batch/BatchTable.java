@@ -0,0 +1,89 @@
+package xyz.fream.api.global.infrastructure.r2dbc.batch;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 배치 INSERT / UPSERT 대상 테이블 정의
+ * 컬럼 순서대로 값을 추출하며, 충돌 처리 구문(ON CONFLICT / ON DUPLICATE KEY 등)을 뒤에 붙일 수 있다.
+ *
+ * <pre>
+ * BatchTable.builder("bid", Bid.class)
+ *         .column("id", String.class, Bid::getId)
+ *         .column("price", Long.class, Bid::getPrice)
+ *         .suffix("ON CONFLICT (id) DO NOTHING")
+ *         .build();
+ * </pre>
+ * */
+@Getter
+public final class BatchTable<T> {
+
+    private final String name;
+    private final List<Column<T>> columns;
+    private final String suffix;
+
+    private BatchTable(String name, List<Column<T>> columns, String suffix) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("배치 테이블에는 최소 하나의 컬럼이 필요합니다. table=" + name);
+        }
+        this.name = name;
+        this.columns = List.copyOf(columns);
+        this.suffix = suffix;
+    }
+
+    public static <T> Builder<T> builder(String name, Class<T> type) {
+        return new Builder<>(name);
+    }
+
+    /**
+     * INSERT INTO name (c1, c2, ...) 까지의 SQL
+     * */
+    String insertPrefix() {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(name).append(" (");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(columns.get(i).name());
+        }
+        return sql.append(") VALUES ").toString();
+    }
+
+    /**
+     * @param name 컬럼 이름
+     * @param type null 바인딩에 사용할 컬럼 타입
+     * @param extractor 요소에서 컬럼 값을 꺼내는 함수
+     * */
+    public record Column<T>(String name, Class<?> type, Function<T, ?> extractor) {
+    }
+
+    public static final class Builder<T> {
+        private final String name;
+        private final List<Column<T>> columns = new ArrayList<>();
+        private String suffix = "";
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder<T> column(String column, Class<?> type, Function<T, ?> extractor) {
+            columns.add(new Column<>(column, type, extractor));
+            return this;
+        }
+
+        /**
+         * VALUES 뒤에 붙일 구문 (예: ON CONFLICT (id) DO NOTHING)
+         * */
+        public Builder<T> suffix(String suffix) {
+            this.suffix = suffix;
+            return this;
+        }
+
+        public BatchTable<T> build() {
+            return new BatchTable<>(name, columns, suffix);
+        }
+    }
+}
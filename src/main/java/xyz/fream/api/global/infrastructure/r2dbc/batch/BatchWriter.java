@@ -0,0 +1,325 @@
+package xyz.fream.api.global.infrastructure.r2dbc.batch;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.binding.BindMarkers;
+import org.springframework.r2dbc.core.binding.BindMarkersFactoryResolver;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * R2DBC 배치 INSERT / UPSERT 파이프라인
+ * 개별 write() 호출을 크기(maxBatchSize) 또는 시간(maxWait) 기준으로 묶어서 한 번의 왕복으로 실행한다.
+ *
+ * - write(item): 대기열에 넣고, 해당 행이 포함된 배치가 실행되면 완료된다.
+ *   대기열(queueCapacity)이 가득 차면 SERVICE_UNAVAILABLE 로 즉시 실패해서 호출자에게 배압을 돌려준다.
+ * - writeAll(items): 입력 Flux 를 배치로 묶어 실행하며, 배치 실행이 끝나야 다음 배치를 요청한다.
+ *
+ * 배치가 실패하고 isolateFailures 가 켜져 있으면 행 단위로 다시 실행해서 실패한 행의 호출자에게만 에러를 전달한다.
+ * 행 단위 재실행은 실패한 배치가 하나도 반영되지 않았을 때만 안전하다.
+ * MULTI_ROW_VALUES 는 한 문장이라 원자적이지만, STATEMENT_BATCH 는 auto-commit 이면 실패 전의 행이 이미 커밋될 수 있으므로
+ * TransactionalOperator 가 없으면 배치마다 자체 트랜잭션을 열어서 실행한다.
+ * 배치는 여러 호출자의 행을 섞어서 실행하므로 호출자의 트랜잭션에 참여하지 않는다.
+ * 대신 companionWrite 를 지정하면 배치 INSERT 와 같은 트랜잭션에서 함께 실행한다. (예: outbox 이벤트 기록)
+ * */
+@Slf4j
+public class BatchWriter<T> implements Disposable {
+
+    private final DatabaseClient databaseClient;
+    private final BatchTable<T> table;
+    private final BatchWriterOptions options;
+    private final TransactionalOperator transactionalOperator;
+    private final TransactionalOperator batchTransaction;
+    private final Function<List<T>, Mono<Void>> companionWrite;
+    private final String insertPrefix;
+    private final Map<Integer, String> valuesSqlCache = new ConcurrentHashMap<>();
+    private final Sinks.Many<PendingWrite<T>> queue;
+    private final Disposable pipeline;
+    private volatile String statementSql;
+
+    public BatchWriter(DatabaseClient databaseClient, BatchTable<T> table, BatchWriterOptions options) {
+        this(databaseClient, table, options, null, null);
+    }
+
+    /**
+     * @param transactionalOperator 배치와 companionWrite 를 묶을 트랜잭션
+     * @param companionWrite 배치 행과 같은 트랜잭션에서 실행할 쓰기 (실패하면 배치도 롤백된다)
+     * */
+    public BatchWriter(DatabaseClient databaseClient, BatchTable<T> table, BatchWriterOptions options,
+                       TransactionalOperator transactionalOperator, Function<List<T>, Mono<Void>> companionWrite) {
+        if ((transactionalOperator == null) != (companionWrite == null)) {
+            throw new IllegalArgumentException("companionWrite 에는 TransactionalOperator 가 필요합니다.");
+        }
+        if (options.maxBatchSize() < 1 || options.queueCapacity() < 1) {
+            throw new IllegalArgumentException("배치 크기와 대기열 크기는 1 이상이어야 합니다.");
+        }
+        this.databaseClient = databaseClient;
+        this.table = table;
+        this.options = options;
+        this.transactionalOperator = transactionalOperator;
+        this.batchTransaction = transactionalOperator != null ? transactionalOperator
+                : options.isolateFailures() && options.mode() == BatchWriterOptions.Mode.STATEMENT_BATCH
+                ? TransactionalOperator.create(new R2dbcTransactionManager(databaseClient.getConnectionFactory()))
+                : null;
+        this.companionWrite = companionWrite;
+        this.insertPrefix = table.insertPrefix();
+        this.queue = Sinks.many().unicast().onBackpressureBuffer(
+                Queues.<PendingWrite<T>>get(options.queueCapacity()).get());
+        this.pipeline = queue.asFlux()
+                .bufferTimeout(options.maxBatchSize(), options.maxWait(), true)
+                .concatMap(this::flush, 1)
+                .subscribe(null, e -> log.error("배치 쓰기 파이프라인이 종료되었습니다 [{}]", table.getName(), e));
+    }
+
+    /**
+     * 한 행을 배치 대기열에 넣음
+     * 행이 포함된 배치가 커밋되면 완료되고, 해당 행이 실패하면 그 원인으로 에러가 전달된다.
+     * */
+    public Mono<Void> write(T item) {
+        return Mono.defer(() -> {
+            PendingWrite<T> pending = new PendingWrite<>(item);
+            for (;;) {
+                Sinks.EmitResult result = queue.tryEmitNext(pending);
+                if (result.isSuccess()) {
+                    return pending.result().asMono();
+                }
+                if (result != Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                    String reason = result == Sinks.EmitResult.FAIL_OVERFLOW ? "가득 찼습니다" : "닫혔습니다";
+                    return Mono.error(new CommonException(
+                            GlobalErrorCode.SERVICE_UNAVAILABLE,
+                            "배치 쓰기 대기열이 " + reason + ". table=" + table.getName()));
+                }
+                Thread.onSpinWait();
+            }
+        });
+    }
+
+    /**
+     * 입력 Flux 를 배치 단위로 실행하고 배치마다 반영된 행 수를 내보냄
+     * 하나의 배치가 끝나야 다음 배치를 요청하므로 입력 쪽에 배압이 전달된다.
+     * 실패한 행이 있으면 (isolateFailures 인 경우 나머지 행을 반영한 뒤) 첫 번째 실패로 에러를 낸다.
+     * */
+    public Flux<Long> writeAll(Flux<T> items) {
+        return items
+                .bufferTimeout(options.maxBatchSize(), options.maxWait(), true)
+                .concatMap(batch -> execute(batch)
+                        .onErrorResume(e -> options.isolateFailures() && batch.size() > 1,
+                                e -> Flux.fromIterable(batch)
+                                        .concatMap(item -> execute(List.of(item))
+                                                .map(RowResult::success)
+                                                .onErrorResume(error -> Mono.just(RowResult.failure(error))))
+                                        .collectList()
+                                        .flatMap(BatchWriter::sumOrFirstError)), 1);
+    }
+
+    /**
+     * 대기열에서 꺼낸 배치를 실행하고 호출자에게 결과를 전달
+     * 어떤 실패도 파이프라인 밖으로 내보내지 않아야 이후의 write() 가 계속 처리된다.
+     * 예상하지 못한 실패는 배치 전체의 호출자에게 전달한다.
+     * */
+    private Mono<Void> flush(List<PendingWrite<T>> batch) {
+        return Mono.defer(() -> flushBatch(batch))
+                .onErrorResume(e -> {
+                    log.error("배치 쓰기 실패 [{}]: size={}", table.getName(), batch.size(), e);
+                    batch.forEach(pending -> pending.fail(e));
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> flushBatch(List<PendingWrite<T>> batch) {
+        List<T> items = batch.stream().map(PendingWrite::item).toList();
+        return execute(items)
+                .doOnNext(rows -> batch.forEach(PendingWrite::complete))
+                .then()
+                .onErrorResume(e -> {
+                    if (!options.isolateFailures() || batch.size() == 1) {
+                        batch.forEach(pending -> pending.fail(e));
+                        return Mono.empty();
+                    }
+                    log.debug("배치 쓰기 실패, 행 단위로 재실행 [{}]: size={}", table.getName(), batch.size(), e);
+                    return Flux.fromIterable(batch)
+                            .concatMap(pending -> execute(List.of(pending.item()))
+                                    .doOnNext(rows -> pending.complete())
+                                    .onErrorResume(error -> {
+                                        pending.fail(error);
+                                        return Mono.empty();
+                                    }))
+                            .then();
+                });
+    }
+
+    /**
+     * 배치 하나를 실행하고 반영된 행 수를 돌려줌
+     * 컬럼 값 추출 / 바인딩 실패도 구독 시점의 에러 신호로 전달되도록 지연 실행한다.
+     * 트랜잭션이 있으면 실패한 배치는 통째로 롤백되므로 행 단위로 다시 실행해도 중복 반영되지 않는다.
+     * */
+    Mono<Long> execute(List<T> items) {
+        if (items.isEmpty()) {
+            return Mono.just(0L);
+        }
+        Mono<Long> write = Mono.defer(() -> switch (options.mode()) {
+            case MULTI_ROW_VALUES -> executeValues(items);
+            case STATEMENT_BATCH -> executeStatementBatch(items);
+        });
+        if (companionWrite != null) {
+            write = write.flatMap(rows -> companionWrite.apply(items).thenReturn(rows));
+        }
+        return batchTransaction == null ? write : batchTransaction.transactional(write);
+    }
+
+    private Mono<Long> executeValues(List<T> items) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(valuesSql(items.size()));
+        List<BatchTable.Column<T>> columns = table.getColumns();
+        for (int row = 0; row < items.size(); row++) {
+            T item = items.get(row);
+            for (int col = 0; col < columns.size(); col++) {
+                BatchTable.Column<T> column = columns.get(col);
+                Object value = column.extractor().apply(item);
+                String parameter = parameterName(row, col);
+                spec = value == null ? spec.bindNull(parameter, column.type()) : spec.bind(parameter, value);
+            }
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private Mono<Long> executeStatementBatch(List<T> items) {
+        List<BatchTable.Column<T>> columns = table.getColumns();
+        return databaseClient.inConnectionMany((Connection connection) -> {
+            Statement statement = connection.createStatement(statementSql());
+            for (int row = 0; row < items.size(); row++) {
+                if (row > 0) {
+                    statement.add();
+                }
+                T item = items.get(row);
+                for (int col = 0; col < columns.size(); col++) {
+                    BatchTable.Column<T> column = columns.get(col);
+                    Object value = column.extractor().apply(item);
+                    if (value == null) {
+                        statement.bindNull(col, column.type());
+                    } else {
+                        statement.bind(col, value);
+                    }
+                }
+            }
+            return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+        }).reduce(0L, Long::sum);
+    }
+
+    /**
+     * INSERT ... VALUES (:p0_0, :p0_1), (:p1_0, :p1_1) ... 형태의 SQL
+     * 배치 크기별로 캐시한다.
+     * */
+    private String valuesSql(int rows) {
+        return valuesSqlCache.computeIfAbsent(rows, size -> {
+            int columns = table.getColumns().size();
+            StringBuilder sql = new StringBuilder(insertPrefix);
+            for (int row = 0; row < size; row++) {
+                sql.append(row == 0 ? "(" : ", (");
+                for (int col = 0; col < columns; col++) {
+                    if (col > 0) {
+                        sql.append(", ");
+                    }
+                    sql.append(':').append(parameterName(row, col));
+                }
+                sql.append(')');
+            }
+            return appendSuffix(sql);
+        });
+    }
+
+    /**
+     * 드라이버 고유의 바인드 마커를 사용한 단일 행 INSERT SQL
+     * Statement 는 DatabaseClient 의 named parameter 변환을 거치지 않으므로 마커를 직접 만든다.
+     * */
+    private String statementSql() {
+        String sql = statementSql;
+        if (sql == null) {
+            BindMarkers markers = BindMarkersFactoryResolver.resolve(databaseClient.getConnectionFactory()).create();
+            StringBuilder builder = new StringBuilder(insertPrefix).append('(');
+            for (int col = 0; col < table.getColumns().size(); col++) {
+                if (col > 0) {
+                    builder.append(", ");
+                }
+                builder.append(markers.next().getPlaceholder());
+            }
+            sql = appendSuffix(builder.append(')'));
+            statementSql = sql;
+        }
+        return sql;
+    }
+
+    private String appendSuffix(StringBuilder sql) {
+        if (!table.getSuffix().isBlank()) {
+            sql.append(' ').append(table.getSuffix());
+        }
+        return sql.toString();
+    }
+
+    private static String parameterName(int row, int col) {
+        return "p" + row + "_" + col;
+    }
+
+    private static Mono<Long> sumOrFirstError(List<RowResult> results) {
+        long rows = 0L;
+        for (RowResult result : results) {
+            if (result.error() != null) {
+                return Mono.error(result.error());
+            }
+            rows += result.rows();
+        }
+        return Mono.just(rows);
+    }
+
+    /**
+     * 대기열을 닫음
+     * 이미 대기열에 들어간 행은 마저 실행되고, 이후의 write() 는 SERVICE_UNAVAILABLE 로 실패한다.
+     * */
+    @Override
+    public void dispose() {
+        queue.tryEmitComplete();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return pipeline.isDisposed();
+    }
+
+    private record PendingWrite<T>(T item, Sinks.One<Void> result) {
+        PendingWrite(T item) {
+            this(item, Sinks.one());
+        }
+
+        void complete() {
+            result.tryEmitEmpty();
+        }
+
+        void fail(Throwable error) {
+            result.tryEmitError(error);
+        }
+    }
+
+    private record RowResult(long rows, Throwable error) {
+        static RowResult success(long rows) {
+            return new RowResult(rows, null);
+        }
+
+        static RowResult failure(Throwable error) {
+            return new RowResult(0L, error);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package xyz.fream.api.global.infrastructure.r2dbc.batch;
+
+import java.time.Duration;
+
+/**
+ * 배치 쓰기 옵션
+ *
+ * @param maxBatchSize 한 번에 묶을 최대 행 수
+ * @param maxWait 배치가 다 차지 않아도 내보낼 최대 대기 시간
+ * @param queueCapacity write() 대기열 크기 (가득 차면 SERVICE_UNAVAILABLE)
+ * @param mode 배치 실행 방식
+ * @param isolateFailures 배치가 실패하면 행 단위로 다시 실행해서 실패한 행만 에러로 돌려줄지 여부
+ * */
+public record BatchWriterOptions(
+        int maxBatchSize,
+        Duration maxWait,
+        int queueCapacity,
+        Mode mode,
+        boolean isolateFailures
+) {
+
+    public static BatchWriterOptions defaults() {
+        return new BatchWriterOptions(256, Duration.ofMillis(5), 8192, Mode.MULTI_ROW_VALUES, true);
+    }
+
+    public BatchWriterOptions withMode(Mode mode) {
+        return new BatchWriterOptions(maxBatchSize, maxWait, queueCapacity, mode, isolateFailures);
+    }
+
+    public BatchWriterOptions withMaxBatchSize(int maxBatchSize) {
+        return new BatchWriterOptions(maxBatchSize, maxWait, queueCapacity, mode, isolateFailures);
+    }
+
+    public BatchWriterOptions withMaxWait(Duration maxWait) {
+        return new BatchWriterOptions(maxBatchSize, maxWait, queueCapacity, mode, isolateFailures);
+    }
+
+    public BatchWriterOptions withQueueCapacity(int queueCapacity) {
+        return new BatchWriterOptions(maxBatchSize, maxWait, queueCapacity, mode, isolateFailures);
+    }
+
+    public enum Mode {
+        /**
+         * INSERT ... VALUES (..), (..), (..) 한 문장으로 실행
+         * */
+        MULTI_ROW_VALUES,
+
+        /**
+         * 단일 행 INSERT 문에 Statement.add() 로 바인딩을 쌓아 한 번에 실행
+         * */
+        STATEMENT_BATCH
+    }
+}
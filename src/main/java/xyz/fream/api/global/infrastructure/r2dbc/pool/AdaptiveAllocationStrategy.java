@@ -0,0 +1,110 @@
+package xyz.fream.api.global.infrastructure.r2dbc.pool;
+
+import reactor.pool.AllocationStrategy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상한을 런타임에 조정할 수 있는 커넥션 할당 전략
+ * 풀은 maximum 크기로 만들어 두고, 실제로 허용할 커넥션 수(limit)는 AdaptivePoolSizer 가 [minimum, maximum] 안에서 조정한다.
+ * limit 을 줄여도 이미 열린 커넥션을 끊지는 않으며, 유휴 커넥션이 정리되면서 점차 줄어든다.
+ * */
+public class AdaptiveAllocationStrategy implements AllocationStrategy {
+
+    private final int minimum;
+    private final int maximum;
+    private final AtomicInteger granted = new AtomicInteger();
+    private volatile int limit;
+
+    public AdaptiveAllocationStrategy(int minimum, int maximum, int initialLimit) {
+        if (minimum < 0 || maximum < 1 || minimum > maximum) {
+            throw new IllegalArgumentException("커넥션 풀 크기 범위가 올바르지 않습니다. min=" + minimum + ", max=" + maximum);
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.limit = clamp(initialLimit);
+    }
+
+    @Override
+    public int getPermits(int desired) {
+        if (desired < 0) {
+            return 0;
+        }
+        for (;;) {
+            int current = granted.get();
+            int available = limit - current;
+            if (available <= 0) {
+                return 0;
+            }
+            // 최소 크기에 못 미치면 요청보다 많이 허용해서 minimum 까지 채움
+            int toGrant = Math.min(available, Math.max(desired, minimum - current));
+            if (toGrant <= 0) {
+                return 0;
+            }
+            if (granted.compareAndSet(current, current + toGrant)) {
+                return toGrant;
+            }
+        }
+    }
+
+    @Override
+    public void returnPermits(int returned) {
+        for (;;) {
+            int current = granted.get();
+            int next = current - returned;
+            if (next < 0) {
+                throw new IllegalArgumentException("반환된 permit 수가 할당된 수보다 많습니다. granted=" + current + ", returned=" + returned);
+            }
+            if (granted.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public int estimatePermitCount() {
+        return Math.max(0, limit - granted.get());
+    }
+
+    @Override
+    public int permitGranted() {
+        return granted.get();
+    }
+
+    @Override
+    public int permitMinimum() {
+        return minimum;
+    }
+
+    @Override
+    public int permitMaximum() {
+        return maximum;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 허용 커넥션 수를 늘림 (maximum 을 넘지 않음)
+     * */
+    public int grow(int step) {
+        return updateLimit(limit + step);
+    }
+
+    /**
+     * 허용 커넥션 수를 줄임 (minimum 보다 작아지지 않음)
+     * */
+    public int shrink(int step) {
+        return updateLimit(limit - step);
+    }
+
+    private synchronized int updateLimit(int next) {
+        limit = clamp(next);
+        return limit;
+    }
+
+    private int clamp(int value) {
+        return Math.max(Math.max(minimum, 1), Math.min(maximum, value));
+    }
+}
@@ -0,0 +1,82 @@
+package xyz.fream.api.global.infrastructure.r2dbc.pool;
+
+import io.r2dbc.pool.PoolMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관측된 커넥션 획득 지연시간으로 풀 상한을 조정하는 컴포넌트
+ * 주기마다 구간 평균 획득 시간을 계산해서
+ * - 목표 지연을 넘거나 대기 중인 획득 요청이 있으면 상한을 늘리고
+ * - 목표의 절반 이하이면서 유휴 커넥션이 남으면 상한을 줄인다.
+ * */
+@Slf4j
+public class AdaptivePoolSizer implements Disposable {
+
+    private final List<MonitoredConnectionPool> pools;
+    private final Duration interval;
+    private final long targetAcquireNanos;
+    private final int step;
+    private final Map<String, long[]> lastSnapshots = new HashMap<>();
+    private volatile Disposable task;
+
+    public AdaptivePoolSizer(List<MonitoredConnectionPool> pools, Duration interval, Duration targetAcquireLatency, int step) {
+        this.pools = pools;
+        this.interval = interval;
+        this.targetAcquireNanos = targetAcquireLatency.toNanos();
+        this.step = step;
+    }
+
+    public void start() {
+        task = Flux.interval(interval, interval, Schedulers.single())
+                .subscribe(tick -> pools.forEach(this::adjust));
+    }
+
+    void adjust(MonitoredConnectionPool pool) {
+        long count = pool.getAcquireCount();
+        long nanos = pool.getAcquireNanos();
+        long[] last = lastSnapshots.getOrDefault(pool.getName(), new long[2]);
+        lastSnapshots.put(pool.getName(), new long[]{count, nanos});
+
+        long acquired = count - last[0];
+        long averageNanos = acquired > 0 ? (nanos - last[1]) / acquired : 0L;
+        int pending = pool.getMetrics().map(PoolMetrics::pendingAcquireSize).orElse(0);
+        int idle = pool.getMetrics().map(PoolMetrics::idleSize).orElse(0);
+
+        AdaptiveAllocationStrategy strategy = pool.getAllocationStrategy();
+        int before = strategy.getLimit();
+        int after = before;
+
+        if (pending > 0 || averageNanos > targetAcquireNanos) {
+            after = strategy.grow(step);
+        } else if (idle > step && averageNanos < targetAcquireNanos / 2) {
+            after = strategy.shrink(step);
+        }
+
+        if (after != before) {
+            log.info("R2DBC 커넥션 풀 상한 조정 [{}]: {} -> {} (평균 획득 {}us, 대기 {}, 유휴 {})",
+                    pool.getName(), before, after, averageNanos / 1_000, pending, idle);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        Disposable current = task;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Disposable current = task;
+        return current == null || current.isDisposed();
+    }
+}
@@ -0,0 +1,110 @@
+package xyz.fream.api.global.infrastructure.r2dbc.pool;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import io.r2dbc.spi.Wrapped;
+import lombok.Getter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.pool.PoolAcquirePendingLimitException;
+import reactor.pool.PoolAcquireTimeoutException;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션 획득 지연시간을 측정하는 r2dbc-pool 래퍼
+ * 획득 시간 초과 / 대기열 초과는 GlobalErrorCode.SERVICE_UNAVAILABLE 로 변환해서
+ * 풀 고갈이 500 이 아닌 503 으로 응답되도록 한다.
+ * Wrapped 로 원래 풀을 노출해서 Boot 의 SQL 초기화가 내장 DB(H2) 여부를 판단할 수 있게 한다.
+ * */
+public class MonitoredConnectionPool implements ConnectionFactory, Wrapped<ConnectionFactory>, Disposable {
+
+    @Getter
+    private final String name;
+    private final ConnectionPool pool;
+    @Getter
+    private final AdaptiveAllocationStrategy allocationStrategy;
+
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAdder acquireTimeouts = new LongAdder();
+
+    public MonitoredConnectionPool(String name, ConnectionPool pool, AdaptiveAllocationStrategy allocationStrategy) {
+        this.name = name;
+        this.pool = pool;
+        this.allocationStrategy = allocationStrategy;
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return pool.create()
+                    .doOnSuccess(connection -> {
+                        acquireNanos.add(System.nanoTime() - start);
+                        acquireCount.increment();
+                    });
+        }).onErrorMap(MonitoredConnectionPool::isAcquireFailure, e -> {
+            acquireTimeouts.increment();
+            return new CommonException(GlobalErrorCode.SERVICE_UNAVAILABLE, e);
+        });
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return pool;
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    public Optional<PoolMetrics> getMetrics() {
+        return pool.getMetrics();
+    }
+
+    /**
+     * 지금까지 성공한 커넥션 획득 횟수
+     * */
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    /**
+     * 지금까지 커넥션 획득에 걸린 누적 시간(ns)
+     * */
+    public long getAcquireNanos() {
+        return acquireNanos.sum();
+    }
+
+    /**
+     * 획득 시간 초과 / 대기열 초과로 실패한 횟수
+     * */
+    public long getAcquireTimeouts() {
+        return acquireTimeouts.sum();
+    }
+
+    @Override
+    public void dispose() {
+        pool.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return pool.isDisposed();
+    }
+
+    private static boolean isAcquireFailure(Throwable e) {
+        return e instanceof R2dbcTimeoutException
+                || e instanceof PoolAcquireTimeoutException
+                || e instanceof PoolAcquirePendingLimitException;
+    }
+}
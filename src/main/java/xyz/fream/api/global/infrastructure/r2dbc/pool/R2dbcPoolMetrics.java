@@ -0,0 +1,67 @@
+package xyz.fream.api.global.infrastructure.r2dbc.pool;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.PoolMetrics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * R2DBC 커넥션 풀 Micrometer 지표
+ * 풀 이름(pool 태그)별로 acquired / idle / pending / allocated 커넥션 수와 적응형 상한, 획득 시간을 노출한다.
+ * */
+public class R2dbcPoolMetrics implements MeterBinder {
+
+    private static final String PREFIX = "fream.r2dbc.pool";
+
+    private final List<MonitoredConnectionPool> pools;
+
+    public R2dbcPoolMetrics(List<MonitoredConnectionPool> pools) {
+        this.pools = pools;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (MonitoredConnectionPool pool : pools) {
+            Tags tags = Tags.of("pool", pool.getName());
+
+            gauge(registry, pool, "acquired", "사용 중인 커넥션 수", tags, PoolMetrics::acquiredSize);
+            gauge(registry, pool, "idle", "유휴 커넥션 수", tags, PoolMetrics::idleSize);
+            gauge(registry, pool, "pending", "커넥션 획득 대기 요청 수", tags, PoolMetrics::pendingAcquireSize);
+            gauge(registry, pool, "allocated", "생성된 커넥션 수", tags, PoolMetrics::allocatedSize);
+
+            Gauge.builder(PREFIX + ".limit", pool, p -> p.getAllocationStrategy().getLimit())
+                    .description("적응형 커넥션 상한")
+                    .tags(tags)
+                    .register(registry);
+
+            FunctionTimer.builder(PREFIX + ".acquire", pool,
+                            MonitoredConnectionPool::getAcquireCount,
+                            MonitoredConnectionPool::getAcquireNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("커넥션 획득 시간")
+                    .tags(tags)
+                    .register(registry);
+
+            FunctionCounter.builder(PREFIX + ".acquire.timeouts", pool, MonitoredConnectionPool::getAcquireTimeouts)
+                    .description("커넥션 획득 시간 초과 횟수")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    private void gauge(MeterRegistry registry, MonitoredConnectionPool pool, String name, String description,
+                       Tags tags, ToIntFunction<PoolMetrics> metric) {
+        Gauge.builder(PREFIX + "." + name, pool,
+                        p -> p.getMetrics().map(metrics -> (double) metric.applyAsInt(metrics)).orElse(0.0))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -0,0 +1,186 @@
+package xyz.fream.api.global.observability;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingMethod;
+import reactor.blockhound.BlockingOperationError;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이벤트 루프 / 논블로킹 Scheduler 의 블로킹 호출 감지기 (BlockHound)
+ * Reactor 의 논블로킹 Scheduler(parallel, single 등)와 threadPrefixes 로 시작하는 Reactor Netty 이벤트 루프 스레드에서
+ * 블로킹 메소드가 호출되면 호출 위치(site)별 지표(fream.blocking.calls{method, site})와 보고 목록에 남긴다.
+ *
+ * - REPORT : 기록만 하고 호출은 그대로 진행 (스테이징)
+ * - FAIL : 기록 후 BlockingOperationError 를 던짐 (테스트)
+ *
+ * BlockHound 는 JVM 전역 계측이므로 JVM 당 한 번만 설치되고, 이후 만든 감지기는 설치된 감지기에 보고를 넘긴다.
+ * JDK 13 이상에서는 -XX:+AllowRedefinitionToAddDeleteMethods 옵션이 필요하다.
+ * */
+@Slf4j
+public class BlockingCallDetector {
+
+    public enum Mode { REPORT, FAIL }
+
+    static final String METRIC_NAME = "fream.blocking.calls";
+
+    private static final String APPLICATION_PACKAGE = "xyz.fream.";
+    private static final List<String> INFRASTRUCTURE_PACKAGES = List.of("java.", "jdk.", "sun.", "reactor.blockhound.");
+    private static final int MAX_REPORTS = 100;
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean();
+    private static volatile BlockingCallDetector active;
+
+    private final MeterRegistry meterRegistry;
+    private final Mode mode;
+    private final List<String> threadPrefixes;
+    private final List<String> allowedCalls;
+    private final Deque<BlockingCallReport> reports = new ArrayDeque<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    public BlockingCallDetector(MeterRegistry meterRegistry, Mode mode, List<String> threadPrefixes,
+                                List<String> allowedCalls) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+        this.threadPrefixes = List.copyOf(threadPrefixes);
+        this.allowedCalls = List.copyOf(allowedCalls);
+    }
+
+    public void install() {
+        active = this;
+        if (!INSTALLED.compareAndSet(false, true)) {
+            return;
+        }
+        BlockHound.Builder builder = BlockHound.builder()
+                .addDynamicThreadPredicate(BlockingCallDetector::isActiveEventLoopThread)
+                .nonBlockingThreadPredicate(current -> current.or(BlockingCallDetector::isActiveEventLoopThread))
+                .blockingMethodCallback(BlockingCallDetector::onBlockingCall)
+                // 보고 중의 로그 기록이 다시 감지되지 않도록 함
+                .allowBlockingCallsInside(BlockingCallDetector.class.getName(), "report");
+        for (String allowed : allowedCalls) {
+            int separator = allowed.indexOf('#');
+            if (separator > 0) {
+                builder.allowBlockingCallsInside(allowed.substring(0, separator), allowed.substring(separator + 1));
+            }
+        }
+        builder.install();
+        log.info("블로킹 호출 감지 설치 (mode={}, 이벤트 루프 스레드 접두사={})", mode, threadPrefixes);
+    }
+
+    /**
+     * 현재 활성 감지기 (설치 전이면 null)
+     * */
+    public static BlockingCallDetector active() {
+        return active;
+    }
+
+    public synchronized List<BlockingCallReport> getReports() {
+        return List.copyOf(reports);
+    }
+
+    public synchronized void clear() {
+        reports.clear();
+    }
+
+    private static void onBlockingCall(BlockingMethod method) {
+        BlockingCallDetector detector = active;
+        if (detector != null) {
+            detector.report(method);
+        }
+    }
+
+    void report(BlockingMethod method) {
+        String name = method.getClassName() + "#" + method.getName();
+        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
+        String site = siteOf(stackTrace);
+        BlockingCallReport report = new BlockingCallReport(
+                name, Thread.currentThread().getName(), site, stackTrace, Instant.now());
+
+        synchronized (this) {
+            if (reports.size() == MAX_REPORTS) {
+                reports.removeFirst();
+            }
+            reports.addLast(report);
+        }
+        counterOf(name, site).increment();
+        if (loggedSites.add(name + "@" + site)) {
+            BlockingOperationError error = new BlockingOperationError(method);
+            log.warn("논블로킹 스레드의 블로킹 호출 [{}] {} at {}", report.thread(), name, site, error);
+        }
+        if (mode == Mode.FAIL) {
+            throw new BlockingOperationError(method);
+        }
+    }
+
+    private static boolean isActiveEventLoopThread(Thread thread) {
+        BlockingCallDetector detector = active;
+        return detector != null && detector.isEventLoopThread(thread);
+    }
+
+    private boolean isEventLoopThread(Thread thread) {
+        String name = thread.getName();
+        for (String prefix : threadPrefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private LongAdder counterOf(String method, String site) {
+        return counters.computeIfAbsent(method + "@" + site, key -> {
+            LongAdder counter = new LongAdder();
+            if (meterRegistry != null) {
+                FunctionCounter.builder(METRIC_NAME, counter, LongAdder::sum)
+                        .description("논블로킹 스레드에서 감지된 블로킹 호출 수")
+                        .tags("method", method, "site", site)
+                        .register(meterRegistry);
+            }
+            return counter;
+        });
+    }
+
+    /**
+     * 스택에서 애플리케이션 코드의 첫 프레임 (감지기 자신 제외), 없으면 첫 비 JDK / BlockHound 프레임
+     * */
+    static String siteOf(StackTraceElement[] stackTrace) {
+        StackTraceElement fallback = null;
+        for (StackTraceElement frame : stackTrace) {
+            String className = frame.getClassName();
+            if (className.startsWith(BlockingCallDetector.class.getName())) {
+                continue;
+            }
+            if (className.startsWith(APPLICATION_PACKAGE)) {
+                return format(frame);
+            }
+            if (fallback == null && !isInfrastructure(className)) {
+                fallback = frame;
+            }
+        }
+        return fallback != null ? format(fallback) : "unknown";
+    }
+
+    private static boolean isInfrastructure(String className) {
+        for (String prefix : INFRASTRUCTURE_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String format(StackTraceElement frame) {
+        return frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+    }
+}
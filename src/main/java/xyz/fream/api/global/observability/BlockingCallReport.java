@@ -0,0 +1,21 @@
+package xyz.fream.api.global.observability;
+
+import java.time.Instant;
+
+/**
+ * 논블로킹 스레드에서 감지된 블로킹 호출
+ *
+ * @param method 블로킹 메소드 (예: java.io.FileInputStream#readBytes)
+ * @param thread 호출한 스레드 이름
+ * @param site 호출 위치 (애플리케이션 코드의 첫 스택 프레임, 없으면 첫 비 JDK 프레임)
+ * @param stackTrace 호출 시점 스택
+ * @param detectedAt 감지 시각
+ * */
+public record BlockingCallReport(
+        String method,
+        String thread,
+        String site,
+        StackTraceElement[] stackTrace,
+        Instant detectedAt
+) {
+}
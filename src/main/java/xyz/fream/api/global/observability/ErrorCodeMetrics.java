@@ -0,0 +1,48 @@
+package xyz.fream.api.global.observability;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ErrorCode 별 에러 응답 수 (fream.http.errors{code, status})
+ * GlobalExceptionHandler 가 에러 응답을 기록할 때마다 증가한다. (필터에서 바로 거부한 응답 포함)
+ * */
+public class ErrorCodeMetrics {
+
+    static final String METRIC_NAME = "fream.http.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public ErrorCodeMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void increment(String code, int status) {
+        LongAdder counter = counters.get(code);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(code, c -> register(c, status));
+        }
+        counter.increment();
+    }
+
+    public long count(String code) {
+        LongAdder counter = counters.get(code);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    private LongAdder register(String code, int status) {
+        LongAdder counter = new LongAdder();
+        if (meterRegistry != null) {
+            FunctionCounter.builder(METRIC_NAME, counter, LongAdder::sum)
+                    .description("ErrorCode 별 에러 응답 수")
+                    .tags("code", code, "status", Integer.toString(status))
+                    .register(meterRegistry);
+        }
+        return counter;
+    }
+}
@@ -0,0 +1,67 @@
+package xyz.fream.api.global.observability;
+
+import io.micrometer.core.instrument.Tags;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 루프 지연(블로킹) 측정
+ * 이벤트 루프마다 interval 주기의 예약 작업을 걸고, 예정 시각보다 얼마나 늦게 실행됐는지를 기록한다.
+ * 이벤트 루프에서 블로킹 호출이나 긴 작업이 돌면 그만큼 지연이 커진다. (fream.eventloop.delay{loop})
+ * */
+public class EventLoopDelayMonitor implements Disposable {
+
+    static final String METRIC_NAME = "fream.eventloop.delay";
+
+    private final EventLoopGroup eventLoopGroup;
+    private final LatencyHistogramRegistry registry;
+    private final long intervalNanos;
+    private final List<ScheduledFuture<?>> probes = new CopyOnWriteArrayList<>();
+    private volatile boolean disposed;
+
+    public EventLoopDelayMonitor(EventLoopGroup eventLoopGroup, LatencyHistogramRegistry registry, Duration interval) {
+        this.eventLoopGroup = eventLoopGroup;
+        this.registry = registry;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void start() {
+        int index = 0;
+        for (EventExecutor executor : eventLoopGroup) {
+            LatencyHistogram histogram = registry.register(METRIC_NAME, "이벤트 루프 예약 작업 지연",
+                    Tags.of("loop", Integer.toString(index++)));
+            schedule(executor, histogram);
+        }
+    }
+
+    private void schedule(EventExecutor executor, LatencyHistogram histogram) {
+        if (disposed || executor.isShuttingDown()) {
+            return;
+        }
+        long expected = System.nanoTime() + intervalNanos;
+        probes.add(executor.schedule(() -> {
+            histogram.record(System.nanoTime() - expected);
+            schedule(executor, histogram);
+        }, intervalNanos, TimeUnit.NANOSECONDS));
+        probes.removeIf(ScheduledFuture::isDone);
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        probes.forEach(probe -> probe.cancel(false));
+        probes.clear();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
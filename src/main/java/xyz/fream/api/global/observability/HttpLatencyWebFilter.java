@@ -0,0 +1,95 @@
+package xyz.fream.api.global.observability;
+
+import io.micrometer.core.instrument.Tags;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.global.presentation.exception.GlobalException;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 지연시간 WebFilter
+ * 가장 먼저 실행되어 인증 / 요청 한도 거부를 포함한 전체 처리 시간을 route(매칭된 경로 패턴) / method / status 별로 기록한다.
+ *
+ * - 매칭되지 않은 요청은 route=UNMATCHED 로 묶어 원본 경로로 지표가 늘어나지 않게 한다.
+ * - 표준이 아닌 메소드는 클라이언트가 임의로 만들 수 있으므로 method=OTHER 로 묶는다.
+ * - 예외로 끝난 요청은 아직 응답 상태가 없으므로 GlobalException 의 status (그 외 500)로 기록한다.
+ * - 클라이언트가 끊은 요청은 status=499 로 기록한다.
+ * */
+public class HttpLatencyWebFilter implements WebFilter, Ordered {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    static final String METRIC_NAME = "fream.http.server.latency";
+    static final String UNMATCHED = "UNMATCHED";
+    static final String OTHER_METHOD = "OTHER";
+    static final int CLIENT_CLOSED = 499;
+
+    private static final Set<HttpMethod> STANDARD_METHODS = Set.of(HttpMethod.values());
+
+    private final LatencyHistogramRegistry registry;
+    private final Map<RouteKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public HttpLatencyWebFilter(LatencyHistogramRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(ignored -> record(exchange, start, statusOf(exchange)))
+                .doOnError(error -> record(exchange, start, statusOf(error)))
+                .doOnCancel(() -> record(exchange, start, CLIENT_CLOSED));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    void record(ServerWebExchange exchange, long start, int status) {
+        long elapsed = System.nanoTime() - start;
+        RouteKey key = new RouteKey(routeOf(exchange), methodOf(exchange), status);
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(key, k -> registry.register(METRIC_NAME, "HTTP 요청 처리 시간",
+                    Tags.of("route", k.route(), "method", k.method(), "status", Integer.toString(k.status()))));
+        }
+        histogram.record(elapsed);
+    }
+
+    private static String routeOf(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern instanceof PathPattern pathPattern) {
+            return pathPattern.getPatternString();
+        }
+        return pattern != null ? pattern.toString() : UNMATCHED;
+    }
+
+    private static String methodOf(ServerWebExchange exchange) {
+        HttpMethod method = exchange.getRequest().getMethod();
+        return STANDARD_METHODS.contains(method) ? method.name() : OTHER_METHOD;
+    }
+
+    private static int statusOf(ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null ? status.value() : 200;
+    }
+
+    private static int statusOf(Throwable error) {
+        return error instanceof GlobalException globalException ? globalException.getErrorCode().getStatus() : 500;
+    }
+
+    private record RouteKey(String route, String method, int status) {
+    }
+}
@@ -0,0 +1,64 @@
+package xyz.fream.api.global.observability;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * lock-free 지연시간 히스토그램
+ * 기록은 HdrHistogram Recorder(wait-free writer)와 LongAdder 만 건드리고,
+ * 분위수는 rotate() 가 주기마다 구간 히스토그램을 떼어 내서 계산해 둔 스냅샷을 읽는다.
+ * (지표 수집 시 히스토그램을 순회하지 않음)
+ * */
+public final class LatencyHistogram {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private Histogram interval;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public void record(long nanos) {
+        long clamped = Math.max(0L, nanos);
+        count.increment();
+        totalNanos.add(clamped);
+        recorder.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1L, clamped / 1_000L)));
+    }
+
+    /**
+     * 지난 rotate 이후 기록된 값으로 분위수 스냅샷 갱신 (한 스레드에서만 호출)
+     * */
+    void rotate() {
+        interval = recorder.getIntervalHistogram(interval);
+        snapshot = interval.getTotalCount() == 0 ? Snapshot.EMPTY : new Snapshot(
+                interval.getValueAtPercentile(50.0),
+                interval.getValueAtPercentile(99.0),
+                interval.getValueAtPercentile(99.9),
+                interval.getMaxValue());
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 직전 구간의 분위수 (마이크로초)
+     * */
+    public record Snapshot(long p50Micros, long p99Micros, long p999Micros, long maxMicros) {
+
+        static final Snapshot EMPTY = new Snapshot(0L, 0L, 0L, 0L);
+    }
+}
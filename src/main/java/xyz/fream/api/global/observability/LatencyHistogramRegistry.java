@@ -0,0 +1,94 @@
+package xyz.fream.api.global.observability;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * LatencyHistogram 생성 / Micrometer 등록 / 주기적 분위수 갱신
+ * 히스토그램 하나마다 아래 지표를 등록한다. (Prometheus 로는 _seconds 단위로 노출)
+ * - {name} : 누적 건수 / 합계 (FunctionTimer)
+ * - {name}.percentile : 직전 구간 p50 / p99 / p999 (phi 태그)
+ * - {name}.max : 직전 구간 최댓값
+ *
+ * 같은 이름 / 태그로 여러 번 만들지 않도록 호출자가 히스토그램을 보관한다.
+ * */
+public class LatencyHistogramRegistry implements Disposable {
+
+    private static final double MICROS_PER_SECOND = 1_000_000.0;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration rotationInterval;
+    private final List<LatencyHistogram> histograms = new CopyOnWriteArrayList<>();
+    private volatile Disposable rotation;
+
+    public LatencyHistogramRegistry(MeterRegistry meterRegistry, Duration rotationInterval) {
+        this.meterRegistry = meterRegistry;
+        this.rotationInterval = rotationInterval;
+    }
+
+    public void start() {
+        rotation = Flux.interval(rotationInterval, rotationInterval, Schedulers.single())
+                .subscribe(tick -> rotateAll());
+    }
+
+    public LatencyHistogram register(String name, String description, Tags tags) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histograms.add(histogram);
+        if (meterRegistry != null) {
+            FunctionTimer.builder(name, histogram, LatencyHistogram::getCount, LatencyHistogram::getTotalNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description(description)
+                    .tags(tags)
+                    .register(meterRegistry);
+            percentile(name, description, tags, "0.5", LatencyHistogram.Snapshot::p50Micros, histogram);
+            percentile(name, description, tags, "0.99", LatencyHistogram.Snapshot::p99Micros, histogram);
+            percentile(name, description, tags, "0.999", LatencyHistogram.Snapshot::p999Micros, histogram);
+            Gauge.builder(name + ".max", histogram, h -> h.getSnapshot().maxMicros() / MICROS_PER_SECOND)
+                    .description(description + " (직전 구간 최댓값)")
+                    .tags(tags)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+        return histogram;
+    }
+
+    void rotateAll() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.rotate();
+        }
+    }
+
+    private void percentile(String name, String description, Tags tags, String phi,
+                            ToLongFunction<LatencyHistogram.Snapshot> value, LatencyHistogram histogram) {
+        Gauge.builder(name + ".percentile", histogram, h -> value.applyAsLong(h.getSnapshot()) / MICROS_PER_SECOND)
+                .description(description + " (직전 구간 분위수)")
+                .tags(tags.and("phi", phi))
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void dispose() {
+        Disposable current = rotation;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Disposable current = rotation;
+        return current == null || current.isDisposed();
+    }
+}
@@ -0,0 +1,71 @@
+package xyz.fream.api.global.observability;
+
+import io.micrometer.core.instrument.Tags;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reactor Scheduler 작업 실행 시간 훅
+ * Schedulers.onScheduleHook 으로 모든 Scheduler 작업을 감싸서 스레드 이름 접두사(scheduler 태그)별 실행 시간을 기록한다.
+ * 병렬 Scheduler 에서 오래 걸리는 작업(블로킹)을 찾는 용도
+ *
+ * 스레드별 조회 결과는 ThreadLocal 에만 두므로, boundedElastic 처럼 스레드가 생겼다 사라져도 스레드 수만큼 쌓이지 않는다.
+ * */
+public class SchedulerTaskHook implements Disposable {
+
+    static final String HOOK_KEY = "fream-scheduler-task";
+    static final String METRIC_NAME = "fream.reactor.scheduler.task";
+
+    private final LatencyHistogramRegistry registry;
+    private final Map<String, LatencyHistogram> byScheduler = new ConcurrentHashMap<>();
+    private final ThreadLocal<LatencyHistogram> currentThread =
+            ThreadLocal.withInitial(() -> histogramOf(Thread.currentThread().getName()));
+    private volatile boolean installed;
+
+    public SchedulerTaskHook(LatencyHistogramRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void start() {
+        Schedulers.onScheduleHook(HOOK_KEY, task -> () -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                currentThread.get().record(System.nanoTime() - start);
+            }
+        });
+        installed = true;
+    }
+
+    private LatencyHistogram histogramOf(String threadName) {
+        return byScheduler.computeIfAbsent(schedulerOf(threadName),
+                scheduler -> registry.register(METRIC_NAME, "Reactor Scheduler 작업 실행 시간",
+                        Tags.of("scheduler", scheduler)));
+    }
+
+    /**
+     * 스레드 이름에서 끝의 번호를 떼어 Scheduler 이름으로 사용 (parallel-3 -> parallel)
+     * */
+    static String schedulerOf(String threadName) {
+        int end = threadName.length();
+        while (end > 0 && (Character.isDigit(threadName.charAt(end - 1)) || threadName.charAt(end - 1) == '-')) {
+            end--;
+        }
+        return end > 0 ? threadName.substring(0, end) : threadName;
+    }
+
+    @Override
+    public void dispose() {
+        Schedulers.resetOnScheduleHook(HOOK_KEY);
+        installed = false;
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return !installed;
+    }
+}
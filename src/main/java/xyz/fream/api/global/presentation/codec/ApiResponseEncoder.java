@@ -0,0 +1,258 @@
+package xyz.fream.api.global.presentation.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.global.presentation.dto.ApiResponse;
+import xyz.fream.api.global.presentation.dto.CursorPageResponse;
+import xyz.fream.api.global.presentation.dto.PageResponse;
+import xyz.fream.api.global.presentation.dto.StreamingPageResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ApiResponse 및 페이지 응답(PageResponse / CursorPageResponse / StreamingPageResponse) 전용 스트리밍 인코더
+ * 응답 전체를 힙에 만들지 않고 envelope 필드를 DataBuffer에 직접 기록하며,
+ * data 가 목록이면 요소 단위로 기록해서 청크 크기마다 버퍼를 내보낸다.
+ * */
+public class ApiResponseEncoder extends AbstractEncoder<Object> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ApiResponseEncoder(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ApiResponseEncoder(ObjectMapper objectMapper, int chunkSize) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        Class<?> clazz = elementType.toClass();
+        return (ApiResponse.class.isAssignableFrom(clazz)
+                || PageResponse.class.isAssignableFrom(clazz)
+                || CursorPageResponse.class.isAssignableFrom(clazz)
+                || StreamingPageResponse.class.isAssignableFrom(clazz))
+                && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, @Nullable MimeType mimeType,
+                                   @Nullable Map<String, Object> hints) {
+        if (inputStream instanceof Mono<?> mono) {
+            return mono.flatMapMany(value -> encodeStream(value, bufferFactory));
+        }
+        return encodeArray(Flux.from(inputStream), bufferFactory);
+    }
+
+    /**
+     * 단일 버퍼 인코딩
+     * 스트리밍이 필요 없는 호출자를 위해 ObjectMapper로 풀 버퍼에 바로 기록
+     * StreamingPageResponse 는 비동기 content 를 가지므로 단일 버퍼로 인코딩할 수 없음
+     * */
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        if (isStreaming(value)) {
+            throw new EncodingException("StreamingPageResponse 는 단일 버퍼로 인코딩할 수 없습니다.");
+        }
+        DataBuffer buffer = bufferFactory.allocateBuffer(chunkSize);
+        boolean release = true;
+        try (OutputStream outputStream = buffer.asOutputStream()) {
+            objectMapper.writeValue(outputStream, value);
+            release = false;
+            return buffer;
+        } catch (IOException e) {
+            throw new EncodingException("ApiResponse JSON 인코딩에 실패했습니다.", e);
+        } finally {
+            if (release) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    /**
+     * 여러 값을 내보내는 Publisher(Flux) 는 하나의 JSON 배열로 기록
+     * 값마다 독립된 문서를 이어 붙이면 application/json 본문이 올바른 JSON 이 아니게 됨
+     * */
+    private Flux<DataBuffer> encodeArray(Flux<?> values, DataBufferFactory bufferFactory) {
+        Flux<DataBuffer> elements = values.index()
+                .concatMap(indexed -> indexed.getT1() == 0
+                        ? encodeStream(indexed.getT2(), bufferFactory)
+                        : Flux.concat(token(bufferFactory, ','), encodeStream(indexed.getT2(), bufferFactory)));
+
+        return Flux.concat(token(bufferFactory, '['), elements, token(bufferFactory, ']'));
+    }
+
+    private Mono<DataBuffer> token(DataBufferFactory bufferFactory, char token) {
+        return Mono.fromSupplier(() -> bufferFactory.wrap(new byte[]{(byte) token}));
+    }
+
+    private Flux<DataBuffer> encodeStream(Object value, DataBufferFactory bufferFactory) {
+        return Flux.using(
+                () -> new JsonBufferWriter(bufferFactory, objectMapper.getFactory(), chunkSize),
+                writer -> writeRoot(writer, value)
+                        .concatWith(Mono.fromCallable(writer::takeRemaining)),
+                JsonBufferWriter::release
+        );
+    }
+
+    private Flux<DataBuffer> writeRoot(JsonBufferWriter writer, Object value) {
+        if (value instanceof ApiResponse<?> response) {
+            return writeApiResponse(writer, response);
+        }
+        return writeData(writer, value);
+    }
+
+    /**
+     * envelope 필드를 먼저 기록하고 data 를 마지막에 이어서 기록
+     * data 가 가장 뒤에 있어야 envelope 을 다 보낸 뒤 요소를 흘려보낼 수 있음
+     * */
+    private Flux<DataBuffer> writeApiResponse(JsonBufferWriter writer, ApiResponse<?> response) {
+        Object data = response.getData();
+
+        Mono<DataBuffer> head = step(writer, generator -> {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", response.isSuccess());
+            if (response.getMessage() != null) {
+                generator.writeStringField("message", response.getMessage());
+            }
+            if (response.getErrorCode() != null) {
+                generator.writeStringField("errorCode", response.getErrorCode());
+            }
+            if (response.getTimestamp() != null) {
+                generator.writeNumberField("timestamp", response.getTimestamp());
+            }
+            if (data != null) {
+                generator.writeFieldName("data");
+            }
+        });
+        Flux<DataBuffer> body = data != null ? writeData(writer, data) : Flux.empty();
+        Mono<DataBuffer> tail = step(writer, JsonGenerator::writeEndObject);
+
+        return Flux.concat(head, body, tail);
+    }
+
+    private Flux<DataBuffer> writeData(JsonBufferWriter writer, Object data) {
+        if (data instanceof PageResponse<?> page) {
+            return writePage(writer, page.getContent(), page.getPageInfo());
+        }
+        if (data instanceof CursorPageResponse<?> page) {
+            return writePage(writer, page.getContent(), page.getPageInfo());
+        }
+        if (data instanceof StreamingPageResponse<?> page) {
+            return writeStreamingPage(writer, page);
+        }
+        if (data instanceof Collection<?> collection) {
+            return writeArray(writer, Flux.fromIterable(collection));
+        }
+        return step(writer, generator -> objectMapper.writeValue(generator, data)).flux();
+    }
+
+    private Flux<DataBuffer> writePage(JsonBufferWriter writer, Collection<?> elements, Object pageInfo) {
+        Mono<DataBuffer> head = step(writer, generator -> {
+            generator.writeStartObject();
+            generator.writeFieldName("content");
+        });
+        Flux<DataBuffer> content = writeArray(writer, Flux.fromIterable(elements));
+        Mono<DataBuffer> tail = step(writer, generator -> {
+            generator.writeFieldName("pageInfo");
+            objectMapper.writeValue(generator, pageInfo);
+            generator.writeEndObject();
+        });
+
+        return Flux.concat(head, content, tail);
+    }
+
+    /**
+     * 행이 도착하는 대로 content 를 기록하고, 전체 개수가 확정되면 pageInfo 를 마지막에 기록
+     * 개수 조회는 content 와 동시에 구독해서 첫 바이트 전송이 count 쿼리를 기다리지 않도록 함
+     * */
+    private Flux<DataBuffer> writeStreamingPage(JsonBufferWriter writer, StreamingPageResponse<?> page) {
+        AtomicInteger numberOfElements = new AtomicInteger();
+        Mono<Long> totalCount = page.getTotalCount().cache();
+
+        Mono<DataBuffer> head = step(writer, generator -> {
+            generator.writeStartObject();
+            generator.writeFieldName("content");
+        });
+        Flux<DataBuffer> content = writeArray(writer,
+                page.getContent().doOnNext(element -> numberOfElements.incrementAndGet()));
+        Mono<DataBuffer> tail = totalCount
+                .defaultIfEmpty(0L)
+                .flatMap(total -> step(writer, generator -> {
+                    generator.writeFieldName("pageInfo");
+                    objectMapper.writeValue(generator, page.toPageInfo(total, numberOfElements.get()));
+                    generator.writeEndObject();
+                }));
+
+        return Flux.concat(head, content, tail)
+                .mergeWith(totalCount.then(Mono.<DataBuffer>empty()));
+    }
+
+    /**
+     * 배열 요소를 하나씩 기록하고 청크 크기를 넘길 때마다 버퍼를 내보냄
+     * */
+    private Flux<DataBuffer> writeArray(JsonBufferWriter writer, Flux<?> elements) {
+        Mono<DataBuffer> head = step(writer, JsonGenerator::writeStartArray);
+        Flux<DataBuffer> body = elements.handle((element, sink) -> {
+            try {
+                objectMapper.writeValue(writer.generator(), element);
+                DataBuffer buffer = writer.takeIfFull();
+                if (buffer != null) {
+                    sink.next(buffer);
+                }
+            } catch (IOException e) {
+                sink.error(new EncodingException("ApiResponse 목록 요소 인코딩에 실패했습니다.", e));
+            }
+        });
+        Mono<DataBuffer> tail = step(writer, JsonGenerator::writeEndArray);
+
+        return Flux.concat(head, body, tail);
+    }
+
+    private boolean isStreaming(Object value) {
+        if (value instanceof ApiResponse<?> response) {
+            return response.getData() instanceof StreamingPageResponse<?>;
+        }
+        return value instanceof StreamingPageResponse<?>;
+    }
+
+    private Mono<DataBuffer> step(JsonBufferWriter writer, JsonWriteAction action) {
+        return Mono.fromCallable(() -> {
+            try {
+                action.write(writer.generator());
+                return writer.takeIfFull();
+            } catch (IOException e) {
+                throw new EncodingException("ApiResponse JSON 인코딩에 실패했습니다.", e);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface JsonWriteAction {
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
@@ -0,0 +1,62 @@
+package xyz.fream.api.global.presentation.codec;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ApiResponseEncoder 를 사용하는 HttpMessageWriter
+ * 기본 EncoderHttpMessageWriter 는 Mono 입력을 단일 버퍼로 합치기 때문에,
+ * 청크 단위로 나뉜 버퍼를 그대로 흘려보내기 위해 별도 writer 를 사용함
+ * */
+public class ApiResponseHttpMessageWriter implements HttpMessageWriter<Object> {
+
+    private static final List<MediaType> WRITABLE_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON);
+
+    private final ApiResponseEncoder encoder;
+
+    public ApiResponseHttpMessageWriter(ApiResponseEncoder encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    public List<MediaType> getWritableMediaTypes() {
+        return WRITABLE_MEDIA_TYPES;
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType elementType, @Nullable MediaType mediaType) {
+        return encoder.canEncode(elementType, mediaType);
+    }
+
+    @Override
+    public Mono<Void> write(Publisher<?> inputStream, ResolvableType elementType, @Nullable MediaType mediaType,
+                            ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+        MediaType contentType = resolveContentType(message, mediaType);
+
+        Flux<DataBuffer> body = encoder.encode(inputStream, message.bufferFactory(), elementType, contentType, hints)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+
+        return message.writeWith(body);
+    }
+
+    private MediaType resolveContentType(ReactiveHttpOutputMessage message, @Nullable MediaType mediaType) {
+        MediaType contentType = message.getHeaders().getContentType();
+        if (contentType != null) {
+            return contentType;
+        }
+        contentType = (mediaType != null && mediaType.isConcrete()) ? mediaType : MediaType.APPLICATION_JSON;
+        message.getHeaders().setContentType(contentType);
+        return contentType;
+    }
+}
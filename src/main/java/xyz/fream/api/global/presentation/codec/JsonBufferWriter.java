@@ -0,0 +1,93 @@
+package xyz.fream.api.global.presentation.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * DataBuffer 위에 JSON을 직접 기록하는 writer
+ * 기록된 크기가 청크 크기를 넘으면 버퍼를 분리해서 내보내고, 다음 기록은 새 버퍼에 이어서 한다.
+ * */
+final class JsonBufferWriter extends OutputStream {
+
+    private final DataBufferFactory bufferFactory;
+    private final int chunkSize;
+    private final JsonGenerator generator;
+    private DataBuffer current;
+
+    JsonBufferWriter(DataBufferFactory bufferFactory, JsonFactory jsonFactory, int chunkSize) throws IOException {
+        this.bufferFactory = bufferFactory;
+        this.chunkSize = chunkSize;
+        this.generator = jsonFactory.createGenerator(this);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+    }
+
+    JsonGenerator generator() {
+        return generator;
+    }
+
+    @Override
+    public void write(int b) {
+        buffer().write((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        buffer().write(bytes, offset, length);
+    }
+
+    /**
+     * 청크 크기 이상 기록되었을 때만 현재 버퍼를 분리해서 반환
+     * 아직 청크 크기에 못 미치면 null 반환
+     * */
+    DataBuffer takeIfFull() throws IOException {
+        generator.flush();
+        if (current != null && current.readableByteCount() >= chunkSize) {
+            return take();
+        }
+        return null;
+    }
+
+    /**
+     * 남아있는 기록 내용을 모두 분리해서 반환
+     * 기록된 내용이 없으면 null 반환
+     * */
+    DataBuffer takeRemaining() throws IOException {
+        generator.flush();
+        return take();
+    }
+
+    /**
+     * 내보내지 못한 버퍼를 해제하고 generator를 닫음
+     * 오류나 취소로 스트림이 중단되어도 풀 버퍼가 새지 않도록 항상 호출되어야 함
+     * */
+    void release() {
+        try {
+            generator.close();
+        } catch (IOException ignored) {
+            // 이미 중단된 스트림이므로 닫기 실패는 무시
+        }
+        if (current != null) {
+            DataBufferUtils.release(current);
+            current = null;
+        }
+    }
+
+    private DataBuffer buffer() {
+        if (current == null) {
+            current = bufferFactory.allocateBuffer(chunkSize);
+        }
+        return current;
+    }
+
+    private DataBuffer take() {
+        DataBuffer buffer = current;
+        current = null;
+        return buffer;
+    }
+}
@@ -0,0 +1,64 @@
+package xyz.fream.api.global.presentation.dto;
+
+import lombok.Getter;
+import xyz.fream.api.global.common.dto.Cursor;
+import xyz.fream.api.global.common.dto.CursorPageInfo;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorPageResponse<T> {
+    private final List<T> content;
+    private final CursorPageInfo pageInfo;
+
+    private CursorPageResponse(List<T> content, CursorPageInfo pageInfo) {
+        validatePageInfo(pageInfo);
+        this.content = content != null ? content : Collections.emptyList();
+        this.pageInfo = pageInfo;
+    }
+
+    public static <T> CursorPageResponse<T> of(List<T> content, CursorPageInfo pageInfo) {
+        return new CursorPageResponse<>(content, pageInfo);
+    }
+
+    /**
+     * size + 1 개로 조회한 결과로 커서 페이지 응답 생성
+     * 초과분이 있으면 다음 페이지가 있는 것으로 보고 마지막 요소로 다음 커서를 만든다.
+     *
+     * @param rows size + 1 개까지 조회한 결과
+     * @param size 요청한 페이지 크기
+     * @param cursorOf 요소에서 커서를 만드는 함수
+     * */
+    public static <T> CursorPageResponse<T> fromFetched(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        return fromFetched(rows, size, cursorOf, null);
+    }
+
+    /**
+     * size + 1 개로 조회한 결과와 근사 전체 개수로 커서 페이지 응답 생성
+     * */
+    public static <T> CursorPageResponse<T> fromFetched(List<T> rows, int size, Function<T, Cursor> cursorOf,
+                                                        Long approximateTotalElements) {
+        if (size <= 0) {
+            throw new CommonException(GlobalErrorCode.INVALID_PAGE_SIZE);
+        }
+        List<T> fetched = rows != null ? rows : Collections.emptyList();
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+
+        return new CursorPageResponse<>(
+                content,
+                CursorPageInfo.of(size, content.size(), nextCursor, approximateTotalElements)
+        );
+    }
+
+    private void validatePageInfo(CursorPageInfo pageInfo) {
+        if (pageInfo == null) {
+            throw new CommonException(GlobalErrorCode.PAGE_INFO_NULL);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package xyz.fream.api.global.presentation.dto;
+
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.global.common.dto.PageInfo;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+/**
+ * Flux 기반 스트리밍 페이지 응답
+ * content 를 collectList() 로 모으지 않고 행이 도착하는 대로 JSON 배열로 내보내며,
+ * pageInfo 는 전체 개수가 확정된 뒤 마지막에 기록된다. (ApiResponseEncoder 참고)
+ * */
+@Getter
+public class StreamingPageResponse<T> {
+    private final Flux<T> content;
+    private final Mono<Long> totalCount;
+    private final int page;
+    private final int size;
+
+    private StreamingPageResponse(Flux<T> content, Mono<Long> totalCount, int page, int size) {
+        validateParameters(totalCount, page, size);
+        this.content = content != null ? content : Flux.empty();
+        this.totalCount = totalCount;
+        this.page = page;
+        this.size = size;
+    }
+
+    public static <T> StreamingPageResponse<T> of(Flux<T> content, Mono<Long> totalCount, int page, int size) {
+        return new StreamingPageResponse<>(content, totalCount, page, size);
+    }
+
+    /**
+     * 전체 개수와 실제로 내보낸 요소 수로 PageInfo 생성
+     * */
+    public PageInfo toPageInfo(long totalElements, int numberOfElements) {
+        int totalPages = (int) ((totalElements + size - 1) / size);
+        return PageInfo.of(page, size, totalElements, totalPages, numberOfElements);
+    }
+
+    private void validateParameters(Mono<Long> totalCount, int page, int size) {
+        if (totalCount == null) {
+            throw new CommonException(GlobalErrorCode.PAGE_INFO_NULL);
+        }
+        if (page < 0) {
+            throw new CommonException(GlobalErrorCode.INVALID_PAGE_NUMBER);
+        }
+        if (size <= 0) {
+            throw new CommonException(GlobalErrorCode.INVALID_PAGE_SIZE);
+        }
+    }
+}
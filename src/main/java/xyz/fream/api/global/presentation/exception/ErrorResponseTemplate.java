@@ -0,0 +1,85 @@
+package xyz.fream.api.global.presentation.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 미리 인코딩해 둔 에러 응답 JSON 템플릿
+ * 고정 필드(code, message, status)는 생성 시 한 번만 직렬화하고,
+ * 기록 시점에는 path 와 timestamp 만 이어 붙인다. (ErrorResponse 와 동일한 필드 순서)
+ * */
+@Getter
+final class ErrorResponseTemplate {
+
+    private static final byte[] TIMESTAMP_FIELD = "\",\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte END_OBJECT = '}';
+    private static final int MAX_TIMESTAMP_LENGTH = 20;
+
+    private final String code;
+    private final String message;
+    private final int status;
+    private final byte[] prefix;
+
+    private ErrorResponseTemplate(String code, String message, int status, byte[] prefix) {
+        this.code = code;
+        this.message = message;
+        this.status = status;
+        this.prefix = prefix;
+    }
+
+    /**
+     * 고정 필드를 직렬화해서 템플릿 생성
+     * */
+    static ErrorResponseTemplate of(ObjectMapper objectMapper, String code, String message, int status) {
+        try {
+            String prefix = "{\"code\":" + objectMapper.writeValueAsString(code)
+                    + ",\"message\":" + objectMapper.writeValueAsString(message)
+                    + ",\"status\":" + status
+                    + ",\"path\":\"";
+            return new ErrorResponseTemplate(code, message, status, prefix.getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 템플릿 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    static ErrorResponseTemplate of(ObjectMapper objectMapper, ErrorCode errorCode) {
+        return of(objectMapper, errorCode.getCode(), errorCode.getMessage(), errorCode.getStatus());
+    }
+
+    /**
+     * path 와 timestamp 를 이어 붙여 응답 버퍼 생성
+     * */
+    DataBuffer write(DataBufferFactory bufferFactory, String path, long timestamp) {
+        byte[] escapedPath = JsonStringEncoder.getInstance().quoteAsUTF8(path);
+        DataBuffer buffer = bufferFactory.allocateBuffer(
+                prefix.length + escapedPath.length + TIMESTAMP_FIELD.length + MAX_TIMESTAMP_LENGTH + 1);
+
+        buffer.write(prefix);
+        buffer.write(escapedPath);
+        buffer.write(TIMESTAMP_FIELD);
+        writeLong(buffer, timestamp);
+        buffer.write(END_OBJECT);
+        return buffer;
+    }
+
+    private static void writeLong(DataBuffer buffer, long value) {
+        if (value < 0) {
+            buffer.write((byte) '-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        while (divisor > 0) {
+            buffer.write((byte) ('0' + (value / divisor) % 10));
+            divisor /= 10;
+        }
+    }
+}
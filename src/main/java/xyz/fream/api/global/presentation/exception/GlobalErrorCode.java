@@ -31,6 +31,8 @@ public enum GlobalErrorCode implements ErrorCode {
     INVALID_TOTAL_ELEMENTS("GLOBAL_106", "전체 요소 수는 0보다 크거나 같아야 합니다.", 400),
     INVALID_TOTAL_PAGES("GLOBAL_107", "전체 페이지 수는 0보다 크거나 같아야 합니다.", 400),
     PAGE_INFO_NULL("GLOBAL_108", "페이지 정보는 null이 될 수 없습니다.", 400),
+    INVALID_CURSOR("GLOBAL_109", "유효하지 않은 커서입니다.", 400),
+    EXPIRED_CURSOR("GLOBAL_110", "만료된 커서입니다. 첫 페이지부터 다시 조회해주세요.", 400),
 
     /**
      * 인증/인가 에러(401, 403)
@@ -42,18 +44,25 @@ public enum GlobalErrorCode implements ErrorCode {
     FORBIDDEN("GLOBAL_210", "접근 권한이 없습니다.", 403),
 
     /**
-     * 리소스 관련 에러 (404, 405, 409)
+     * 리소스 관련 에러 (404, 405, 409, 422)
      * */
     RESOURCE_NOT_FOUND("GLOBAL_300", "요청한 리소스를 찾을 수 없습니다.", 404),
     METHOD_NOT_ALLOWED("GLOBAL_301", "지원하지 않는 HTTP 메소드입니다.", 405),
     CONFLICT("GLOBAL_302", "리소스 충돌이 발생했습니다.", 409),
     DUPLICATE_RESOURCE("GLOBAL_303", "이미 존재하는 리소스입니다.", 409),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("GLOBAL_304", "같은 Idempotency-Key 의 요청을 처리 중입니다.", 409),
+    IDEMPOTENCY_KEY_REUSED("GLOBAL_305", "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.", 422),
 
     /**
      * 외부 API 에러(502, 504)
      * */
     EXTERNAL_API_ERROR("GLOBAL_400", "외부 서비스 연동 중 오류가 발생했습니다.", 502),
-    EXTERNAL_API_TIMEOUT("GLOBAL_401", "외부 서비스 응답 시간이 초과되었습니다.", 504);
+    EXTERNAL_API_TIMEOUT("GLOBAL_401", "외부 서비스 응답 시간이 초과되었습니다.", 504),
+
+    /**
+     * 요청 한도 에러 (429)
+     * */
+    TOO_MANY_REQUESTS("GLOBAL_500", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", 429);
 
     private final String code;
     private final String message;
@@ -1,97 +1,139 @@
 package xyz.fream.api.global.presentation.exception;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
 import org.springframework.core.annotation.Order;
-import org.springframework.http.HttpStatus;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
-import xyz.fream.api.global.presentation.dto.ErrorResponse;
+import xyz.fream.api.global.observability.ErrorCodeMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * WebFlux 전역 예외 처리기
+ * ErrorCode 별 응답 본문은 미리 인코딩된 템플릿을 사용하고, path 와 timestamp 만 기록 시점에 채운다.
  * */
 @Slf4j
 @Component
 @Order(-2)
-@RequiredArgsConstructor
 public class GlobalExceptionHandler implements ErrorWebExceptionHandler {
 
+    private static final int MAX_CAUSE_DEPTH = 8;
+
     private final ObjectMapper objectMapper;
+    private final ErrorCodeMetrics errorCodeMetrics;
+    private final Map<ErrorCode, ErrorResponseTemplate> templates = new ConcurrentHashMap<>();
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper) {
+        this(objectMapper, new ErrorCodeMetrics(null));
+    }
+
+    @Autowired
+    public GlobalExceptionHandler(ObjectMapper objectMapper, ObjectProvider<ErrorCodeMetrics> errorCodeMetrics) {
+        this(objectMapper, errorCodeMetrics.getIfAvailable(() -> new ErrorCodeMetrics(null)));
+    }
+
+    private GlobalExceptionHandler(ObjectMapper objectMapper, ErrorCodeMetrics errorCodeMetrics) {
+        this.objectMapper = objectMapper;
+        this.errorCodeMetrics = errorCodeMetrics;
+        for (GlobalErrorCode errorCode : GlobalErrorCode.values()) {
+            templates.put(errorCode, ErrorResponseTemplate.of(objectMapper, errorCode));
+        }
+    }
 
     @Override
     public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
-        ErrorResponse errorResponse = createErrorResponse(exchange, ex);
-        logException(ex, errorResponse);
-
-        exchange.getResponse().setStatusCode(HttpStatus.valueOf(errorResponse.getStatus()));
-        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
-
-        return exchange.getResponse().writeWith(
-                Mono.fromSupplier(() -> {
-                    try {
-                        byte[] bytes = objectMapper.writeValueAsBytes(errorResponse);
-                        return exchange.getResponse().bufferFactory().wrap(bytes);
-                    } catch (JsonProcessingException e) {
-                        log.error("에러 응답 JSON 직렬화에 실패했습니다.", e);
-                        return exchange.getResponse().bufferFactory().wrap(new byte[0]);
-                    }
-                })
+        ErrorResponseTemplate template = resolveTemplate(ex);
+        logException(ex, template);
+        return write(exchange, template);
+    }
+
+    /**
+     * ErrorCode 의 미리 인코딩된 에러 응답을 기록
+     * 예외를 만들지 않고 바로 응답해야 하는 WebFilter 등에서 사용
+     * */
+    public Mono<Void> writeErrorResponse(ServerWebExchange exchange, ErrorCode errorCode) {
+        return write(exchange, templateOf(errorCode));
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, ErrorResponseTemplate template) {
+        errorCodeMetrics.increment(template.getCode(), template.getStatus());
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(template.getStatus()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        DataBuffer buffer = template.write(
+                response.bufferFactory(),
+                exchange.getRequest().getPath().value(),
+                System.currentTimeMillis()
         );
+        response.getHeaders().setContentLength(buffer.readableByteCount());
+        return response.writeWith(Mono.just(buffer));
     }
 
-    private ErrorResponse createErrorResponse(ServerWebExchange exchange, Throwable ex) {
-        String path = exchange.getRequest().getPath().value();
-
-        if (ex instanceof GlobalException globalException) {
-            var errorCode = globalException.getErrorCode();
-            String message = globalException.getMessage() != null
-                    ? globalException.getMessage()
-                    : errorCode.getMessage();
-
-            return ErrorResponse.of(
-                    errorCode.getCode(),
-                    message,
-                    errorCode.getStatus(),
-                    path
-            );
+    private ErrorResponseTemplate resolveTemplate(Throwable ex) {
+        GlobalException globalException = findGlobalException(ex);
+        if (globalException != null) {
+            ErrorCode errorCode = globalException.getErrorCode();
+            String message = globalException.getMessage();
+
+            if (message == null || message.equals(errorCode.getMessage())) {
+                return templateOf(errorCode);
+            }
+            return ErrorResponseTemplate.of(objectMapper, errorCode.getCode(), message, errorCode.getStatus());
         }
 
         if (ex instanceof WebExchangeBindException bindException) {
-            String message = bindException.getBindingResult()
+            return bindException.getBindingResult()
                     .getAllErrors()
                     .stream()
                     .findFirst()
                     .map(error -> error.getDefaultMessage())
-                    .orElse(GlobalErrorCode.INVALID_INPUT_VALUE.getMessage());
-
-            return ErrorResponse.of(
-                    GlobalErrorCode.INVALID_INPUT_VALUE.getCode(),
-                    message,
-                    HttpStatus.BAD_REQUEST.value(),
-                    path
-            );
+                    .map(message -> ErrorResponseTemplate.of(
+                            objectMapper,
+                            GlobalErrorCode.INVALID_INPUT_VALUE.getCode(),
+                            message,
+                            GlobalErrorCode.INVALID_INPUT_VALUE.getStatus()))
+                    .orElseGet(() -> templateOf(GlobalErrorCode.INVALID_INPUT_VALUE));
         }
 
-        return ErrorResponse.of(
-                GlobalErrorCode.INTERNAL_SERVER_ERROR.getCode(),
-                GlobalErrorCode.INTERNAL_SERVER_ERROR.getMessage(),
-                HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                path
-        );
+        return templateOf(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * 예외 자신 또는 원인 체인에서 GlobalException 을 찾음
+     * 인프라 계층이 던진 GlobalException 이 DataAccessException 등으로 감싸져 올라오는 경우를 처리함
+     * */
+    private GlobalException findGlobalException(Throwable ex) {
+        Throwable current = ex;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof GlobalException globalException) {
+                return globalException;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
+    private ErrorResponseTemplate templateOf(ErrorCode errorCode) {
+        return templates.computeIfAbsent(errorCode, code -> ErrorResponseTemplate.of(objectMapper, code));
     }
 
-    private void logException(Throwable ex, ErrorResponse errorResponse) {
-        if (errorResponse.getStatus() >= 500) {
-            log.error("서버 에러 [{}]: {}", errorResponse.getCode(), errorResponse.getMessage(), ex);
+    private void logException(Throwable ex, ErrorResponseTemplate template) {
+        if (template.getStatus() >= 500) {
+            log.error("서버 에러 [{}]: {}", template.getCode(), template.getMessage(), ex);
         } else {
-            log.warn("클라이언트 에러 [{}]: {}", errorResponse.getCode(), errorResponse.getMessage());
+            log.warn("클라이언트 에러 [{}]: {}", template.getCode(), template.getMessage());
         }
     }
 }
@@ -0,0 +1,108 @@
+package xyz.fream.api.global.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 안 토큰 버킷 저장소
+ * 키가 수백만 개여도 한 맵에 몰리지 않도록 키 해시로 나눈 stripe 마다 별도의 ConcurrentHashMap 을 둔다.
+ * 주기적으로 stripe 를 돌며 가득 찬 뒤 idleTimeout 이상 쓰이지 않은 버킷을 지운다.
+ *
+ * 정리와 동시에 같은 키로 요청이 오면 지워진 버킷에서 토큰이 한 번 더 나갈 수 있다.
+ * (지워지는 버킷은 이미 가득 찬 상태라 최대 한 요청의 오차)
+ * */
+@Slf4j
+public class InMemoryRateLimiterBackend implements RateLimiterBackend, Disposable {
+
+    private final Map<String, TokenBucket>[] stripes;
+    private final int mask;
+    private final long idleNanos;
+    private final Duration sweepInterval;
+    private final LongSupplier nanoClock;
+    private volatile Disposable sweeper;
+
+    public InMemoryRateLimiterBackend(int stripes, Duration idleTimeout, Duration sweepInterval) {
+        this(stripes, idleTimeout, sweepInterval, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    InMemoryRateLimiterBackend(int stripes, Duration idleTimeout, Duration sweepInterval, LongSupplier nanoClock) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1) << 1);
+        this.stripes = new Map[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.mask = size - 1;
+        this.idleNanos = idleTimeout.toNanos();
+        this.sweepInterval = sweepInterval;
+        this.nanoClock = nanoClock;
+    }
+
+    public void start() {
+        sweeper = Flux.interval(sweepInterval, sweepInterval, Schedulers.single())
+                .subscribe(tick -> sweep());
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryAcquire(String key, RateLimitPolicy policy) {
+        return Mono.just(acquire(key, policy));
+    }
+
+    RateLimitDecision acquire(String key, RateLimitPolicy policy) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = stripeOf(key).computeIfAbsent(key, k -> new TokenBucket(now));
+        return bucket.tryAcquire(policy, now);
+    }
+
+    /**
+     * 오래 쓰이지 않은 버킷 제거
+     * */
+    int sweep() {
+        long now = nanoClock.getAsLong();
+        int removed = 0;
+        for (Map<String, TokenBucket> stripe : stripes) {
+            int before = stripe.size();
+            stripe.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+            removed += before - stripe.size();
+        }
+        if (removed > 0) {
+            log.debug("유휴 요청 한도 버킷 {}개 제거 (남은 버킷 {})", removed, size());
+        }
+        return removed;
+    }
+
+    public long size() {
+        long size = 0;
+        for (Map<String, TokenBucket> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Map<String, TokenBucket> stripeOf(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    @Override
+    public void dispose() {
+        Disposable current = sweeper;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Disposable current = sweeper;
+        return current == null || current.isDisposed();
+    }
+}
@@ -0,0 +1,23 @@
+package xyz.fream.api.global.ratelimit;
+
+/**
+ * 요청 허용 여부
+ *
+ * @param allowed 허용 여부
+ * @param remaining 허용 후 남은 토큰 수 (거부 시 0)
+ * @param retryAfterNanos 거부 시 다시 시도할 수 있을 때까지 남은 시간 (허용 시 0)
+ * */
+public record RateLimitDecision(
+        boolean allowed,
+        long remaining,
+        long retryAfterNanos
+) {
+
+    public static RateLimitDecision allowed(long remaining) {
+        return new RateLimitDecision(true, remaining, 0L);
+    }
+
+    public static RateLimitDecision rejected(long retryAfterNanos) {
+        return new RateLimitDecision(false, 0L, retryAfterNanos);
+    }
+}
@@ -0,0 +1,45 @@
+package xyz.fream.api.global.ratelimit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+
+/**
+ * 요청 한도 Micrometer 지표
+ * 규칙(rule 태그)별 허용 / 거부 수와 노드 안 버킷 수를 노출한다.
+ * */
+public class RateLimitMetrics implements MeterBinder {
+
+    private static final String PREFIX = "fream.ratelimit";
+
+    private final List<RateLimitRule> rules;
+    private final RateLimiterBackend backend;
+
+    public RateLimitMetrics(List<RateLimitRule> rules, RateLimiterBackend backend) {
+        this.rules = rules;
+        this.backend = backend;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RateLimitRule rule : rules) {
+            String name = rule.getPolicy().name();
+            FunctionCounter.builder(PREFIX + ".requests", rule, RateLimitRule::getAllowed)
+                    .description("요청 한도 규칙을 통과한 요청 수")
+                    .tags("rule", name, "outcome", "allowed")
+                    .register(registry);
+            FunctionCounter.builder(PREFIX + ".requests", rule, RateLimitRule::getRejected)
+                    .description("요청 한도 초과로 거부된 요청 수")
+                    .tags("rule", name, "outcome", "rejected")
+                    .register(registry);
+        }
+        if (backend instanceof InMemoryRateLimiterBackend inMemory) {
+            Gauge.builder(PREFIX + ".buckets", inMemory, InMemoryRateLimiterBackend::size)
+                    .description("노드 안 토큰 버킷 수")
+                    .register(registry);
+        }
+    }
+}
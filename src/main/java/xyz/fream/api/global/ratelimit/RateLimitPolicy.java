@@ -0,0 +1,28 @@
+package xyz.fream.api.global.ratelimit;
+
+/**
+ * 토큰 버킷 한도
+ *
+ * @param name 정책 이름 (버킷 키 / 지표 태그에 사용)
+ * @param replenishRate 초당 채워지는 토큰 수
+ * @param burstCapacity 버킷 최대 토큰 수 (순간적으로 허용할 요청 수)
+ * */
+public record RateLimitPolicy(
+        String name,
+        long replenishRate,
+        long burstCapacity
+) {
+
+    public RateLimitPolicy {
+        if (replenishRate <= 0 || burstCapacity <= 0) {
+            throw new IllegalArgumentException("replenishRate / burstCapacity 는 0보다 커야 합니다: " + name);
+        }
+    }
+
+    /**
+     * 토큰 하나가 채워지는 데 걸리는 시간
+     * */
+    public long emissionIntervalNanos() {
+        return Math.max(1L, 1_000_000_000L / replenishRate);
+    }
+}
@@ -0,0 +1,54 @@
+package xyz.fream.api.global.ratelimit;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경로 / 메소드별 요청 한도 규칙
+ * 버킷은 규칙 이름과 요청자(사용자 또는 IP)로 나뉜다.
+ * */
+public final class RateLimitRule {
+
+    private final RateLimitPolicy policy;
+    private final PathPattern path;
+    private final Set<HttpMethod> methods;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public RateLimitRule(RateLimitPolicy policy, String path, Collection<HttpMethod> methods) {
+        this.policy = policy;
+        this.path = PathPatternParser.defaultInstance.parse(path);
+        this.methods = Set.copyOf(methods);
+    }
+
+    boolean matches(ServerHttpRequest request, PathContainer pathWithinApplication) {
+        return (methods.isEmpty() || methods.contains(request.getMethod())) && path.matches(pathWithinApplication);
+    }
+
+    String bucketKey(String requester) {
+        return policy.name() + ':' + requester;
+    }
+
+    void record(RateLimitDecision decision) {
+        (decision.allowed() ? allowed : rejected).increment();
+    }
+
+    public RateLimitPolicy getPolicy() {
+        return policy;
+    }
+
+    public long getAllowed() {
+        return allowed.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,102 @@
+package xyz.fream.api.global.ratelimit;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+import xyz.fream.api.global.presentation.exception.GlobalExceptionHandler;
+import xyz.fream.api.global.security.AuthenticatedPrincipal;
+import xyz.fream.api.global.security.AuthenticationContext;
+import xyz.fream.api.global.security.JwtAuthenticationWebFilter;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한도 WebFilter
+ * 요청 경로 / 메소드에 맞는 첫 번째 규칙의 버킷에서 토큰을 꺼내고, 없으면 바로 TOO_MANY_REQUESTS 로 응답한다.
+ * 인증 필터 다음(ORDER)에 실행되어 인증된 요청은 사용자(sub) 기준, 익명 요청은 클라이언트 IP 기준으로 한도를 센다.
+ * CLIENT_ADDRESS_ORDER 로 인증 필터 앞에 두면 인증 주체가 아직 없으므로 모든 요청을 IP 기준으로 센다.
+ * 잘못된 토큰으로 인증 단계에서 거부될 요청도 여기서 한도에 걸리므로, 토큰 검증 비용을 IP 별로 묶어 둔다.
+ * */
+public class RateLimitWebFilter implements WebFilter, Ordered {
+
+    public static final int ORDER = JwtAuthenticationWebFilter.ORDER + 10;
+    public static final int CLIENT_ADDRESS_ORDER = JwtAuthenticationWebFilter.ORDER - 10;
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private final List<RateLimitRule> rules;
+    private final RateLimiterBackend backend;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final int order;
+
+    public RateLimitWebFilter(List<RateLimitRule> rules, RateLimiterBackend backend,
+                              GlobalExceptionHandler exceptionHandler) {
+        this(rules, backend, exceptionHandler, ORDER);
+    }
+
+    public RateLimitWebFilter(List<RateLimitRule> rules, RateLimiterBackend backend,
+                              GlobalExceptionHandler exceptionHandler, int order) {
+        this.rules = List.copyOf(rules);
+        this.backend = backend;
+        this.exceptionHandler = exceptionHandler;
+        this.order = order;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        RateLimitRule rule = ruleOf(exchange.getRequest());
+        if (rule == null) {
+            return chain.filter(exchange);
+        }
+        return AuthenticationContext.currentPrincipal()
+                .map(AuthenticatedPrincipal::subject)
+                .defaultIfEmpty(clientAddress(exchange.getRequest()))
+                .flatMap(requester -> backend.tryAcquire(rule.bucketKey(requester), rule.getPolicy()))
+                .flatMap(decision -> {
+                    rule.record(decision);
+                    if (decision.allowed()) {
+                        exchange.getResponse().getHeaders().set(REMAINING_HEADER, Long.toString(decision.remaining()));
+                        return chain.filter(exchange);
+                    }
+                    long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(
+                            decision.retryAfterNanos() + TimeUnit.SECONDS.toNanos(1) - 1));
+                    exchange.getResponse().getHeaders().set(RETRY_AFTER_HEADER, Long.toString(retryAfterSeconds));
+                    return exceptionHandler.writeErrorResponse(exchange, GlobalErrorCode.TOO_MANY_REQUESTS);
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+
+    public List<RateLimitRule> getRules() {
+        return rules;
+    }
+
+    private RateLimitRule ruleOf(ServerHttpRequest request) {
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(request, path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static String clientAddress(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address == null) {
+            return "ip:unknown";
+        }
+        return "ip:" + (address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString());
+    }
+}
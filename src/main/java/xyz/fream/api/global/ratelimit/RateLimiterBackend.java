@@ -0,0 +1,16 @@
+package xyz.fream.api.global.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 요청 한도 저장소
+ * 기본 구현은 노드 안의 InMemoryRateLimiterBackend 이고,
+ * 여러 노드가 한도를 공유해야 하면 공유 저장소 구현을 RateLimiterBackend 빈으로 등록해서 교체한다.
+ * */
+public interface RateLimiterBackend {
+
+    /**
+     * key 의 버킷에서 토큰 하나를 꺼냄
+     * */
+    Mono<RateLimitDecision> tryAcquire(String key, RateLimitPolicy policy);
+}
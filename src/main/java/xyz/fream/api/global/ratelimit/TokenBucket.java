@@ -0,0 +1,42 @@
+package xyz.fream.api.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free 토큰 버킷 (GCRA)
+ * 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각"(theoretical arrival time) 하나만 AtomicLong 에 두고 CAS 로 갱신한다.
+ * 토큰 하나를 꺼내면 그 시각이 emissionInterval 만큼 뒤로 밀리고,
+ * 밀린 시각이 지금 + burstCapacity * emissionInterval 을 넘으면 거부한다.
+ * */
+final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    RateLimitDecision tryAcquire(RateLimitPolicy policy, long now) {
+        long interval = policy.emissionIntervalNanos();
+        long tolerance = interval * policy.burstCapacity();
+        for (;;) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            long backlog = next - now;
+            if (backlog > tolerance) {
+                return RateLimitDecision.rejected(backlog - tolerance);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return RateLimitDecision.allowed((tolerance - backlog) / interval);
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 뒤로 idleNanos 이상 지났는지
+     * 가득 찬 버킷은 새 버킷과 같으므로 지워도 한도가 바뀌지 않는다.
+     * */
+    boolean isIdle(long now, long idleNanos) {
+        return now - fullAt.get() >= idleNanos;
+    }
+}
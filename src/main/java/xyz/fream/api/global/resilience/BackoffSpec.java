@@ -0,0 +1,23 @@
+package xyz.fream.api.global.resilience;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maxRetries 최대 재시도 횟수 (0 이면 재시도하지 않음)
+ * @param minBackoff 첫 재시도 대기 시간 (이후 2배씩 증가)
+ * @param maxBackoff 재시도 대기 상한
+ * @param jitter 대기 시간에 더하거나 뺄 무작위 비율 (0.0 ~ 1.0)
+ * */
+public record BackoffSpec(
+        @DefaultValue("2") int maxRetries,
+        @DefaultValue("100ms") Duration minBackoff,
+        @DefaultValue("2s") Duration maxBackoff,
+        @DefaultValue("0.5") double jitter
+) {
+
+    public static BackoffSpec defaults() {
+        return new BackoffSpec(2, Duration.ofMillis(100), Duration.ofSeconds(2), 0.5);
+    }
+}
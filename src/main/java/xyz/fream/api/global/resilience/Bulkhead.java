@@ -0,0 +1,47 @@
+package xyz.fream.api.global.resilience;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세마포어 bulkhead
+ * 어댑터 하나가 쓸 수 있는 동시 호출 수를 제한한다. 자리가 없으면 기다리지 않고 바로 거부한다.
+ * */
+public class Bulkhead {
+
+    @Getter
+    private final int maxConcurrentCalls;
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public Bulkhead(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public boolean tryAcquire() {
+        for (;;) {
+            int current = inUse.get();
+            if (current >= maxConcurrentCalls) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inUse.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inUse.decrementAndGet();
+    }
+
+    public int getAvailable() {
+        return maxConcurrentCalls - inUse.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
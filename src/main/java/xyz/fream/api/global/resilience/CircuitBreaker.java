@@ -0,0 +1,180 @@
+package xyz.fream.api.global.resilience;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * lock-free 회로 차단기
+ * 최근 slidingWindowSize 개 호출의 결과를 고리 배열에 두고 실패율을 계산한다.
+ *
+ * - CLOSED : 실패율이 기준을 넘으면 OPEN
+ * - OPEN : 모든 호출을 거부하고, openDuration 이 지나면 첫 호출이 HALF_OPEN 으로 바꾼다.
+ * - HALF_OPEN : halfOpenCalls 개만 허용해서 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *
+ * 상태 전이는 AtomicReference CAS 로만 하고, 결과 기록은 원자 배열 / 카운터만 갱신한다.
+ * */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    @Getter
+    private final String name;
+    private final CircuitBreakerSpec spec;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<Phase> phase;
+    private final AtomicIntegerArray window;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public CircuitBreaker(String name, CircuitBreakerSpec spec) {
+        this(name, spec, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, CircuitBreakerSpec spec, LongSupplier nanoClock) {
+        this.name = name;
+        this.spec = spec;
+        this.nanoClock = nanoClock;
+        this.window = new AtomicIntegerArray(spec.slidingWindowSize());
+        this.phase = new AtomicReference<>(Phase.closed());
+    }
+
+    /**
+     * 호출 허용 여부 (허용하면 반드시 onSuccess / onFailure / onCancel 중 하나를 호출해야 함)
+     * */
+    public boolean tryAcquirePermission() {
+        for (;;) {
+            Phase current = phase.get();
+            switch (current.state()) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (nanoClock.getAsLong() - current.openedAt() < spec.openDuration().toNanos()) {
+                        rejected.incrementAndGet();
+                        return false;
+                    }
+                    transition(current, Phase.halfOpen(spec.halfOpenCalls()));
+                    continue;
+                default:
+                    if (current.trialPermits().getAndUpdate(permits -> Math.max(0, permits - 1)) > 0) {
+                        return true;
+                    }
+                    rejected.incrementAndGet();
+                    return false;
+            }
+        }
+    }
+
+    public void onSuccess() {
+        Phase current = phase.get();
+        if (current.state() == State.HALF_OPEN) {
+            if (current.trialSuccesses().incrementAndGet() >= spec.halfOpenCalls()) {
+                if (transition(current, Phase.closed())) {
+                    resetWindow();
+                }
+            }
+            return;
+        }
+        record(SUCCESS);
+    }
+
+    public void onFailure() {
+        Phase current = phase.get();
+        if (current.state() == State.HALF_OPEN) {
+            transition(current, Phase.open(nanoClock.getAsLong()));
+            return;
+        }
+        record(FAILURE);
+        int calls = recorded.get();
+        if (current.state() == State.CLOSED && calls >= spec.minimumCalls()
+                && (double) failures.get() / calls >= spec.failureRateThreshold()) {
+            transition(current, Phase.open(nanoClock.getAsLong()));
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 호출 (구독 취소) - 반열림 시험 자리만 돌려준다.
+     * */
+    public void onCancel() {
+        Phase current = phase.get();
+        if (current.state() == State.HALF_OPEN) {
+            current.trialPermits().incrementAndGet();
+        }
+    }
+
+    private void record(int outcome) {
+        int index = (int) (cursor.getAndIncrement() % window.length());
+        int previous = window.getAndSet(index, outcome);
+        if (previous == EMPTY) {
+            recorded.incrementAndGet();
+        } else if (previous == FAILURE) {
+            failures.decrementAndGet();
+        }
+        if (outcome == FAILURE) {
+            failures.incrementAndGet();
+        }
+    }
+
+    private void resetWindow() {
+        for (int i = 0; i < window.length(); i++) {
+            int previous = window.getAndSet(i, EMPTY);
+            if (previous != EMPTY) {
+                recorded.decrementAndGet();
+            }
+            if (previous == FAILURE) {
+                failures.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean transition(Phase from, Phase to) {
+        if (phase.compareAndSet(from, to)) {
+            log.warn("회로 차단기 상태 변경 [{}]: {} -> {} (실패율 {})", name, from.state(), to.state(), getFailureRate());
+            return true;
+        }
+        return false;
+    }
+
+    public State getState() {
+        return phase.get().state();
+    }
+
+    public double getFailureRate() {
+        int calls = recorded.get();
+        return calls == 0 ? 0.0 : (double) failures.get() / calls;
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * 상태와 그 상태에서만 쓰는 값 (상태가 바뀔 때마다 새 객체로 교체)
+     * */
+    private record Phase(State state, long openedAt, AtomicInteger trialPermits, AtomicInteger trialSuccesses) {
+
+        static Phase closed() {
+            return new Phase(State.CLOSED, 0L, null, null);
+        }
+
+        static Phase open(long now) {
+            return new Phase(State.OPEN, now, null, null);
+        }
+
+        static Phase halfOpen(int trialCalls) {
+            return new Phase(State.HALF_OPEN, 0L, new AtomicInteger(trialCalls), new AtomicInteger());
+        }
+    }
+}
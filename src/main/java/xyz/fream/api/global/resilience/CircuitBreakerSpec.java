@@ -0,0 +1,25 @@
+package xyz.fream.api.global.resilience;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param slidingWindowSize 실패율을 계산할 최근 호출 수
+ * @param minimumCalls 실패율을 판단하기 위한 최소 호출 수
+ * @param failureRateThreshold 회로를 열 실패율 (0.0 ~ 1.0)
+ * @param openDuration 열린 회로가 반열림으로 바뀌기까지의 시간
+ * @param halfOpenCalls 반열림 상태에서 시험할 호출 수 (모두 성공하면 닫힘)
+ * */
+public record CircuitBreakerSpec(
+        @DefaultValue("100") int slidingWindowSize,
+        @DefaultValue("20") int minimumCalls,
+        @DefaultValue("0.5") double failureRateThreshold,
+        @DefaultValue("30s") Duration openDuration,
+        @DefaultValue("5") int halfOpenCalls
+) {
+
+    public static CircuitBreakerSpec defaults() {
+        return new CircuitBreakerSpec(100, 20, 0.5, Duration.ofSeconds(30), 5);
+    }
+}
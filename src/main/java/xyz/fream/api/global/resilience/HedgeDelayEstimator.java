@@ -0,0 +1,67 @@
+package xyz.fream.api.global.resilience;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 헤지 지연 추정
+ * 시도별 응답 시간을 Recorder 에 기록하고, refreshInterval 마다 구간 히스토그램의 percentile 값으로 헤지 지연을 갱신한다.
+ * 구간 표본이 minSamples 보다 적으면 다음 구간과 합쳐서 계산한다.
+ * 갱신은 기다리지 않는 tryLock 을 잡은 호출 하나만 하고, 나머지는 직전 값을 그대로 쓴다.
+ * */
+class HedgeDelayEstimator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final HedgeSpec spec;
+    private final LongSupplier nanoClock;
+    private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, 2);
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicLong lastRefresh;
+    private final Histogram accumulated = new Histogram(1, HIGHEST_TRACKABLE_MICROS, 2);
+    private Histogram interval;
+    private volatile long delayNanos;
+
+    HedgeDelayEstimator(HedgeSpec spec, LongSupplier nanoClock) {
+        this.spec = spec;
+        this.nanoClock = nanoClock;
+        this.lastRefresh = new AtomicLong(nanoClock.getAsLong());
+        this.delayNanos = spec.initialDelay().toNanos();
+    }
+
+    void record(long nanos) {
+        recorder.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1L, nanos / 1_000L)));
+    }
+
+    Duration delay() {
+        long now = nanoClock.getAsLong();
+        if (now - lastRefresh.get() >= spec.refreshInterval().toNanos() && refreshLock.tryLock()) {
+            try {
+                refresh(now);
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return Duration.ofNanos(delayNanos);
+    }
+
+    private void refresh(long now) {
+        if (now - lastRefresh.get() < spec.refreshInterval().toNanos()) {
+            return;
+        }
+        lastRefresh.set(now);
+        interval = recorder.getIntervalHistogram(interval);
+        accumulated.add(interval);
+        if (accumulated.getTotalCount() >= spec.minSamples()) {
+            long percentileNanos = TimeUnit.MICROSECONDS.toNanos(accumulated.getValueAtPercentile(spec.percentile()));
+            delayNanos = Math.max(spec.minDelay().toNanos(), percentileNanos);
+            accumulated.reset();
+        }
+    }
+}
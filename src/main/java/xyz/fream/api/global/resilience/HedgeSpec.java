@@ -0,0 +1,29 @@
+package xyz.fream.api.global.resilience;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 헤지 요청 설정 (멱등 호출에만 사용)
+ *
+ * @param enabled 헤지 요청 사용 여부
+ * @param percentile 두 번째 시도를 보낼 지연 분위수 (예: 95 = 최근 호출 p95 가 지나도 응답이 없으면 한 번 더 보냄)
+ * @param minDelay 헤지 지연 하한
+ * @param initialDelay 표본이 모이기 전 사용할 헤지 지연
+ * @param minSamples 분위수를 계산하기 위한 구간 최소 표본 수
+ * @param refreshInterval 분위수 재계산 주기
+ * */
+public record HedgeSpec(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("95") double percentile,
+        @DefaultValue("10ms") Duration minDelay,
+        @DefaultValue("200ms") Duration initialDelay,
+        @DefaultValue("100") int minSamples,
+        @DefaultValue("10s") Duration refreshInterval
+) {
+
+    public static HedgeSpec disabled() {
+        return new HedgeSpec(false, 95, Duration.ofMillis(10), Duration.ofMillis(200), 100, Duration.ofSeconds(10));
+    }
+}
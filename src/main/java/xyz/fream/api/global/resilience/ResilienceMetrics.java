@@ -0,0 +1,62 @@
+package xyz.fream.api.global.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 외부 어댑터 장애 대응 Micrometer 지표
+ * 어댑터(adapter 태그)별 회로 상태 / 실패율, bulkhead 여유 자리, 거부 / 재시도 / 헤지 횟수를 노출한다.
+ * */
+public class ResilienceMetrics implements MeterBinder {
+
+    private static final String PREFIX = "fream.resilience";
+
+    private final ResiliencePolicy policy;
+
+    public ResilienceMetrics(ResiliencePolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("adapter", policy.getName());
+        CircuitBreaker circuitBreaker = policy.getCircuitBreaker();
+        Bulkhead bulkhead = policy.getBulkhead();
+
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder(PREFIX + ".circuit.state", circuitBreaker, c -> c.getState() == state ? 1.0 : 0.0)
+                    .description("회로 차단기 상태 (현재 상태만 1)")
+                    .tags(tags.and("state", state.name().toLowerCase()))
+                    .register(registry);
+        }
+        Gauge.builder(PREFIX + ".circuit.failure.rate", circuitBreaker, CircuitBreaker::getFailureRate)
+                .description("최근 호출 실패율")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".circuit.rejected", circuitBreaker, CircuitBreaker::getRejected)
+                .description("회로가 열려 거부된 호출 수")
+                .tags(tags)
+                .register(registry);
+
+        Gauge.builder(PREFIX + ".bulkhead.available", bulkhead, Bulkhead::getAvailable)
+                .description("bulkhead 여유 자리 수")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".bulkhead.rejected", bulkhead, Bulkhead::getRejected)
+                .description("bulkhead 가 가득 차 거부된 호출 수")
+                .tags(tags)
+                .register(registry);
+
+        FunctionCounter.builder(PREFIX + ".retries", policy, ResiliencePolicy::getRetries)
+                .description("재시도 횟수")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".hedges", policy, ResiliencePolicy::getHedges)
+                .description("헤지 요청 횟수")
+                .tags(tags)
+                .register(registry);
+    }
+}
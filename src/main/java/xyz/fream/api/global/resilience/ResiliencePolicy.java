@@ -0,0 +1,181 @@
+package xyz.fream.api.global.resilience;
+
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.retry.Retry;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+import xyz.fream.api.global.presentation.exception.GlobalException;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 외부 어댑터 장애 대응 정책
+ * 호출(Supplier&lt;Mono&gt;)을 아래 순서로 감싼다. (바깥 → 안)
+ *
+ * retry (지터 지수 백오프) → circuit breaker → bulkhead → hedge → 시도별 timeout
+ *
+ * - 시도 시간 초과는 EXTERNAL_API_TIMEOUT, 그 외 어댑터 예외는 재시도가 끝난 뒤 EXTERNAL_API_ERROR 로 바꾼다.
+ * - 회로가 열렸거나 bulkhead 가 가득 차면 재시도 없이 바로 SERVICE_UNAVAILABLE 로 실패한다.
+ * - 4xx 성격의 GlobalException 은 재시도하지 않고 회로 차단기 실패로도 세지 않는다.
+ * - hedge 를 켜면 시도가 p{percentile} 지연 안에 끝나지 않을 때 같은 호출을 한 번 더 보내고 먼저 성공한 결과를 쓴다.
+ *   두 시도가 모두 실패해야 실패로 끝나며(첫 시도의 예외), hedge 도 bulkhead 자리를 하나 더 쓰고 자리가 없으면 보내지 않는다.
+ *   (멱등 호출에만 사용)
+ * */
+public class ResiliencePolicy {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final ResilienceSpec spec;
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+    @Getter
+    private final Bulkhead bulkhead;
+    private final HedgeDelayEstimator hedgeDelay;
+    private final LongSupplier nanoClock;
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+
+    public ResiliencePolicy(String name, ResilienceSpec spec) {
+        this(name, spec, System::nanoTime);
+    }
+
+    ResiliencePolicy(String name, ResilienceSpec spec, LongSupplier nanoClock) {
+        this.name = name;
+        this.spec = spec;
+        this.circuitBreaker = new CircuitBreaker(name, spec.circuitBreaker(), nanoClock);
+        this.bulkhead = new Bulkhead(spec.maxConcurrentCalls());
+        this.hedgeDelay = spec.hedge().enabled() ? new HedgeDelayEstimator(spec.hedge(), nanoClock) : null;
+        this.nanoClock = nanoClock;
+    }
+
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        Mono<T> guarded = Mono.defer(() -> guard(call));
+        BackoffSpec backoff = spec.retry();
+        if (backoff.maxRetries() > 0) {
+            guarded = guarded.retryWhen(Retry.backoff(backoff.maxRetries(), backoff.minBackoff())
+                    .maxBackoff(backoff.maxBackoff())
+                    .jitter(backoff.jitter())
+                    .filter(ResiliencePolicy::isRetryable)
+                    .doBeforeRetry(signal -> retries.increment())
+                    .onRetryExhaustedThrow((retrySpec, signal) -> signal.failure()));
+        }
+        return guarded.onErrorMap(error -> !(error instanceof GlobalException),
+                error -> new CommonException(GlobalErrorCode.EXTERNAL_API_ERROR, error));
+    }
+
+    private <T> Mono<T> guard(Supplier<Mono<T>> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return Mono.error(new CommonException(GlobalErrorCode.SERVICE_UNAVAILABLE,
+                    "외부 연동 회로가 열려 있습니다: " + name));
+        }
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.onCancel();
+            return Mono.error(new CommonException(GlobalErrorCode.SERVICE_UNAVAILABLE,
+                    "외부 연동 동시 호출 한도를 넘었습니다: " + name));
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return hedged(call)
+                .doOnSuccess(value -> circuitBreaker.onSuccess())
+                .doOnError(error -> {
+                    if (countsAsFailure(error)) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                })
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        circuitBreaker.onCancel();
+                    }
+                    if (released.compareAndSet(false, true)) {
+                        bulkhead.release();
+                    }
+                });
+    }
+
+    private <T> Mono<T> hedged(Supplier<Mono<T>> call) {
+        if (hedgeDelay == null) {
+            return attempt(call);
+        }
+        return Mono.defer(() -> {
+            AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            // 빈 결과도 값으로 취급해야 firstWithValue 가 hedge 를 기다리지 않는다.
+            Mono<Optional<T>> primary = attempt(call)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .doOnError(primaryError::set);
+            Mono<Optional<T>> hedge = Mono.delay(hedgeDelay.delay())
+                    .flatMap(tick -> hedgeAttempt(call));
+            return Mono.firstWithValue(primary, hedge)
+                    .onErrorMap(NoSuchElementException.class,
+                            error -> primaryError.get() != null ? primaryError.get() : error)
+                    .flatMap(Mono::justOrEmpty);
+        });
+    }
+
+    /**
+     * bulkhead 자리를 하나 더 얻은 경우에만 hedge 를 보냄 - 자리가 없으면 빈 결과로 끝나 첫 시도만 기다린다.
+     * */
+    private <T> Mono<Optional<T>> hedgeAttempt(Supplier<Mono<T>> call) {
+        if (!bulkhead.tryAcquire()) {
+            return Mono.empty();
+        }
+        hedges.increment();
+        AtomicBoolean released = new AtomicBoolean();
+        return attempt(call)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doFinally(signal -> {
+                    if (released.compareAndSet(false, true)) {
+                        bulkhead.release();
+                    }
+                });
+    }
+
+    private <T> Mono<T> attempt(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            long start = nanoClock.getAsLong();
+            return Mono.defer(call)
+                    .timeout(spec.timeout())
+                    .doOnSuccess(value -> {
+                        if (hedgeDelay != null) {
+                            hedgeDelay.record(nanoClock.getAsLong() - start);
+                        }
+                    })
+                    .onErrorMap(TimeoutException.class, e -> new CommonException(GlobalErrorCode.EXTERNAL_API_TIMEOUT,
+                            "외부 연동 응답 시간이 초과되었습니다: " + name, e));
+        });
+    }
+
+    /**
+     * 재시도 대상: 어댑터 예외와 시도 시간 초과 (회로 열림 / bulkhead 거부 / 4xx 는 제외)
+     * */
+    static boolean isRetryable(Throwable error) {
+        if (error instanceof GlobalException globalException) {
+            return globalException.getErrorCode() == GlobalErrorCode.EXTERNAL_API_TIMEOUT;
+        }
+        return true;
+    }
+
+    private static boolean countsAsFailure(Throwable error) {
+        return !(error instanceof GlobalException globalException) || globalException.getErrorCode().getStatus() >= 500;
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getHedges() {
+        return hedges.sum();
+    }
+}
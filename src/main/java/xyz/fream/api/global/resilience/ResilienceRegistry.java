@@ -0,0 +1,45 @@
+package xyz.fream.api.global.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 어댑터 이름별 ResiliencePolicy 생성 / 보관
+ * 정책 설정은 이름별 ResilienceSpec 을 쓰고, 없으면 기본 ResilienceSpec 을 쓴다.
+ * MeterRegistry 가 있으면 정책을 만들 때 지표를 함께 등록한다.
+ * */
+public class ResilienceRegistry {
+
+    private final ResilienceSpec defaultSpec;
+    private final Map<String, ResilienceSpec> specs;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ResiliencePolicy> policies = new ConcurrentHashMap<>();
+
+    public ResilienceRegistry(ResilienceSpec defaultSpec, Map<String, ResilienceSpec> specs, MeterRegistry meterRegistry) {
+        this.defaultSpec = defaultSpec;
+        this.specs = Map.copyOf(specs);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 어댑터 이름별 정책 (예: payment-gateway)
+     * */
+    public ResiliencePolicy policy(String adapter) {
+        return policies.computeIfAbsent(adapter, this::create);
+    }
+
+    public Collection<ResiliencePolicy> getPolicies() {
+        return policies.values();
+    }
+
+    private ResiliencePolicy create(String adapter) {
+        ResiliencePolicy policy = new ResiliencePolicy(adapter, specs.getOrDefault(adapter, defaultSpec));
+        if (meterRegistry != null) {
+            new ResilienceMetrics(policy).bindTo(meterRegistry);
+        }
+        return policy;
+    }
+}
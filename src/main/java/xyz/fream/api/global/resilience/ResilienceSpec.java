@@ -0,0 +1,28 @@
+package xyz.fream.api.global.resilience;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 외부 어댑터 하나의 장애 대응 설정
+ *
+ * @param timeout 시도 한 번의 시간 한도 (초과 시 EXTERNAL_API_TIMEOUT)
+ * @param maxConcurrentCalls bulkhead 동시 호출 한도 (초과 시 바로 SERVICE_UNAVAILABLE)
+ * @param circuitBreaker 회로 차단기 설정
+ * @param retry 재시도 설정
+ * @param hedge 헤지 요청 설정
+ * */
+public record ResilienceSpec(
+        @DefaultValue("2s") Duration timeout,
+        @DefaultValue("64") int maxConcurrentCalls,
+        @DefaultValue CircuitBreakerSpec circuitBreaker,
+        @DefaultValue BackoffSpec retry,
+        @DefaultValue HedgeSpec hedge
+) {
+
+    public static ResilienceSpec defaults() {
+        return new ResilienceSpec(Duration.ofSeconds(2), 64, CircuitBreakerSpec.defaults(), BackoffSpec.defaults(),
+                HedgeSpec.disabled());
+    }
+}
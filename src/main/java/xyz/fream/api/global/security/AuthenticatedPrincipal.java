@@ -0,0 +1,30 @@
+package xyz.fream.api.global.security;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * 검증된 토큰의 인증 주체
+ *
+ * @param subject 토큰의 sub 클레임 (사용자 식별자)
+ * @param roles 토큰의 roles 클레임
+ * @param expiresAt 토큰 만료 시각 (exp 클레임)
+ * */
+public record AuthenticatedPrincipal(
+        String subject,
+        Set<String> roles,
+        Instant expiresAt
+) {
+
+    public AuthenticatedPrincipal {
+        roles = roles != null ? Set.copyOf(roles) : Set.of();
+    }
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,38 @@
+package xyz.fream.api.global.security;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+/**
+ * Reactor Context 기반 인증 정보 접근
+ * 요청 처리 스레드가 바뀌어도 인증 주체가 따라가도록 ThreadLocal 대신 구독 Context 에 담는다.
+ * */
+public final class AuthenticationContext {
+
+    private static final Class<AuthenticatedPrincipal> KEY = AuthenticatedPrincipal.class;
+
+    private AuthenticationContext() {
+    }
+
+    /**
+     * 현재 요청의 인증 주체 (없으면 INVALID_SECURITY_CONTEXT)
+     * 인증이 필요한 경로에서 사용
+     * */
+    public static Mono<AuthenticatedPrincipal> principal() {
+        return currentPrincipal()
+                .switchIfEmpty(Mono.error(() -> new CommonException(GlobalErrorCode.INVALID_SECURITY_CONTEXT)));
+    }
+
+    /**
+     * 현재 요청의 인증 주체 (익명 요청이면 empty)
+     * */
+    public static Mono<AuthenticatedPrincipal> currentPrincipal() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(context.getOrEmpty(KEY)));
+    }
+
+    public static Context withPrincipal(AuthenticatedPrincipal principal) {
+        return Context.of(KEY, principal);
+    }
+}
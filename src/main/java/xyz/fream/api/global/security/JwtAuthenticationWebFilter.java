@@ -0,0 +1,103 @@
+package xyz.fream.api.global.security;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.global.presentation.exception.ErrorCode;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+import xyz.fream.api.global.presentation.exception.GlobalException;
+import xyz.fream.api.global.presentation.exception.GlobalExceptionHandler;
+
+import java.util.List;
+
+/**
+ * JWT 인증 WebFilter
+ * Authorization: Bearer 토큰을 검증하고 인증 주체를 Reactor Context 에 담아 다음 필터로 넘긴다.
+ *
+ * - 토큰이 있으면 경로와 관계없이 검증하고, 실패하면 INVALID_TOKEN / EXPIRED_TOKEN 으로 응답한다.
+ * - protectedPaths 에 해당하는 경로(publicPaths 제외)는 토큰이 없으면 TOKEN_MISSING 으로 응답한다.
+ * - 에러 응답은 GlobalExceptionHandler 의 미리 인코딩된 본문을 사용한다.
+ * */
+public class JwtAuthenticationWebFilter implements WebFilter, Ordered {
+
+    /**
+     * 다른 애플리케이션 필터보다 먼저 인증 주체를 정함
+     * */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtVerifier verifier;
+    private final VerifiedTokenCache tokenCache;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final List<PathPattern> protectedPaths;
+    private final List<PathPattern> publicPaths;
+
+    public JwtAuthenticationWebFilter(JwtVerifier verifier, VerifiedTokenCache tokenCache,
+                                      GlobalExceptionHandler exceptionHandler,
+                                      List<String> protectedPaths, List<String> publicPaths) {
+        this.verifier = verifier;
+        this.tokenCache = tokenCache;
+        this.exceptionHandler = exceptionHandler;
+        this.protectedPaths = parse(protectedPaths);
+        this.publicPaths = parse(publicPaths);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || authorization.isBlank()) {
+            return requiresAuthentication(exchange)
+                    ? reject(exchange, GlobalErrorCode.TOKEN_MISSING)
+                    : chain.filter(exchange);
+        }
+        if (!authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return reject(exchange, GlobalErrorCode.INVALID_TOKEN);
+        }
+
+        AuthenticatedPrincipal principal;
+        try {
+            principal = tokenCache.verify(authorization.substring(BEARER_PREFIX.length()).trim(), verifier::verify);
+        } catch (GlobalException e) {
+            return reject(exchange, e.getErrorCode());
+        }
+        return chain.filter(exchange)
+                .contextWrite(AuthenticationContext.withPrincipal(principal));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private boolean requiresAuthentication(ServerWebExchange exchange) {
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        return matches(protectedPaths, path) && !matches(publicPaths, path);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, ErrorCode errorCode) {
+        exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        return exceptionHandler.writeErrorResponse(exchange, errorCode);
+    }
+
+    private static boolean matches(List<PathPattern> patterns, PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PathPattern> parse(List<String> patterns) {
+        return patterns.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+}
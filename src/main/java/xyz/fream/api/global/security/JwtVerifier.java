@@ -0,0 +1,137 @@
+package xyz.fream.api.global.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * HS256 JWT 검증기
+ * 서명 검증과 클레임 파싱은 메모리 안의 CPU 연산뿐이라 이벤트 루프에서 바로 실행한다.
+ *
+ * - 서명이 맞지 않거나 형식이 잘못되면 INVALID_TOKEN
+ * - exp 가 지났거나 nbf 이전이면 EXPIRED_TOKEN / INVALID_TOKEN (clockSkew 만큼 허용)
+ * - issuer 를 지정하면 iss 클레임이 같아야 한다.
+ * */
+public class JwtVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final Mac prototype;
+    private final String issuer;
+    private final Duration clockSkew;
+    private final Clock clock;
+
+    public JwtVerifier(ObjectMapper objectMapper, String secret, String issuer, Duration clockSkew, Clock clock) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("JWT 서명 키가 설정되지 않았습니다. (fream.security.jwt.secret / FREAM_JWT_SECRET)");
+        }
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        if (key.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("JWT 서명 키는 최소 " + MIN_SECRET_BYTES + "바이트여야 합니다.");
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 알고리즘을 초기화할 수 없습니다.", e);
+        }
+        this.objectMapper = objectMapper;
+        this.issuer = issuer;
+        this.clockSkew = clockSkew;
+        this.clock = clock;
+    }
+
+    public AuthenticatedPrincipal verify(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw invalid("토큰 형식이 올바르지 않습니다.");
+        }
+
+        byte[] expected = sign(token.substring(0, secondDot));
+        byte[] actual = decode(token.substring(secondDot + 1));
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw invalid("토큰 서명이 올바르지 않습니다.");
+        }
+
+        JsonNode header = readJson(token.substring(0, firstDot));
+        if (!"HS256".equals(header.path("alg").asText())) {
+            throw invalid("지원하지 않는 토큰 알고리즘입니다.");
+        }
+        return toPrincipal(readJson(token.substring(firstDot + 1, secondDot)));
+    }
+
+    private AuthenticatedPrincipal toPrincipal(JsonNode claims) {
+        String subject = claims.path("sub").asText(null);
+        if (subject == null || subject.isBlank() || !claims.path("exp").canConvertToLong()) {
+            throw invalid("토큰에 sub / exp 클레임이 없습니다.");
+        }
+        if (issuer != null && !issuer.isBlank() && !issuer.equals(claims.path("iss").asText(null))) {
+            throw invalid("토큰 발급자가 올바르지 않습니다.");
+        }
+
+        Instant now = clock.instant();
+        Instant expiresAt = Instant.ofEpochSecond(claims.get("exp").asLong());
+        if (!now.minus(clockSkew).isBefore(expiresAt)) {
+            throw new CommonException(GlobalErrorCode.EXPIRED_TOKEN);
+        }
+        if (claims.path("nbf").canConvertToLong()
+                && now.plus(clockSkew).isBefore(Instant.ofEpochSecond(claims.get("nbf").asLong()))) {
+            throw invalid("아직 사용할 수 없는 토큰입니다.");
+        }
+
+        Set<String> roles = new LinkedHashSet<>();
+        claims.path("roles").forEach(role -> roles.add(role.asText()));
+        return new AuthenticatedPrincipal(subject, roles, expiresAt.plus(clockSkew));
+    }
+
+    private byte[] sign(String signingInput) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("JWT 서명 알고리즘을 복제할 수 없습니다.", e);
+        }
+    }
+
+    private JsonNode readJson(String part) {
+        try {
+            JsonNode node = objectMapper.readTree(decode(part));
+            if (node == null || !node.isObject()) {
+                throw invalid("토큰 형식이 올바르지 않습니다.");
+            }
+            return node;
+        } catch (IOException e) {
+            throw invalid("토큰 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private byte[] decode(String part) {
+        try {
+            return DECODER.decode(part);
+        } catch (IllegalArgumentException e) {
+            throw invalid("토큰 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private CommonException invalid(String message) {
+        return new CommonException(GlobalErrorCode.INVALID_TOKEN, message);
+    }
+}
@@ -0,0 +1,77 @@
+package xyz.fream.api.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 검증이 끝난 토큰 캐시
+ * 토큰 문자열을 키로 인증 주체를 보관하고, 항목마다 토큰 만료 시각에 맞춰 제거한다.
+ * 같은 토큰의 반복 요청은 서명 검증 / JSON 파싱 없이 캐시에서 바로 인증된다.
+ * 검증에 실패한 토큰은 캐시하지 않는다.
+ * */
+public class VerifiedTokenCache {
+
+    private final Cache<String, AuthenticatedPrincipal> cache;
+    private final Clock clock;
+
+    public VerifiedTokenCache(long maximumSize, Clock clock) {
+        this(maximumSize, clock, Ticker.systemTicker());
+    }
+
+    VerifiedTokenCache(long maximumSize, Clock clock, Ticker ticker) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 verifier 로 검증해서 저장
+     * verifier 가 던진 예외는 그대로 전파된다.
+     * */
+    public AuthenticatedPrincipal verify(String token, Function<String, AuthenticatedPrincipal> verifier) {
+        AuthenticatedPrincipal cached = cache.getIfPresent(token);
+        if (cached != null && !cached.isExpired(clock.instant())) {
+            return cached;
+        }
+        AuthenticatedPrincipal verified = verifier.apply(token);
+        cache.put(token, verified);
+        return verified;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private final class UntilTokenExpiry implements Expiry<String, AuthenticatedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String token, AuthenticatedPrincipal principal, long currentTime) {
+            return Math.max(0L, Duration.between(clock.instant(), principal.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, AuthenticatedPrincipal principal, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(token, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, AuthenticatedPrincipal principal, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
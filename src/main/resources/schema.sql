@@ -0,0 +1,53 @@
+-- 체결 내역 (domain.matching)
+CREATE TABLE IF NOT EXISTS bid_match (
+    match_id    VARCHAR(36)  NOT NULL PRIMARY KEY,
+    product_id  BIGINT       NOT NULL,
+    size        VARCHAR(20)  NOT NULL,
+    buy_bid_id  BIGINT       NOT NULL,
+    sell_bid_id BIGINT       NOT NULL,
+    price       BIGINT       NOT NULL,
+    quantity    INT          NOT NULL,
+    matched_at  TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_bid_match_listing ON bid_match (product_id, size, matched_at);
+
+-- 호가창별 체결 통계 조회 모델 (domain.matching, 체결 저장과 같은 트랜잭션에서 누적)
+CREATE TABLE IF NOT EXISTS listing_market_view (
+    product_id     BIGINT      NOT NULL,
+    size           VARCHAR(20) NOT NULL,
+    last_price     BIGINT      NOT NULL,
+    last_traded_at TIMESTAMP   NOT NULL,
+    volume         BIGINT      NOT NULL,
+    trade_count    BIGINT      NOT NULL,
+    PRIMARY KEY (product_id, size)
+);
+
+-- 트랜잭션 outbox (global.event.outbox)
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id                BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    event_id          VARCHAR(36)   NOT NULL,
+    aggregate_type    VARCHAR(50)   NOT NULL,
+    aggregate_id      VARCHAR(64)   NOT NULL,
+    event_type        VARCHAR(200)  NOT NULL,
+    payload           VARCHAR(8000) NOT NULL,
+    occurred_at       TIMESTAMP     NOT NULL,
+    target_subscriber VARCHAR(100)  NOT NULL DEFAULT '',
+    attempts          INT           NOT NULL DEFAULT 0,
+    processed_at      TIMESTAMP     NULL,
+    CONSTRAINT uk_outbox_event_target UNIQUE (event_id, target_subscriber)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_event_pending ON outbox_event (processed_at, id);
+
+-- Idempotency-Key 응답 (global.idempotency, idempotency_key 는 요청자 + 키의 SHA-256 hex, expires_at 은 epoch millis)
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    idempotency_key VARCHAR(64)        NOT NULL PRIMARY KEY,
+    fingerprint     VARCHAR(64)        NOT NULL,
+    status          INT                NOT NULL,
+    content_type    VARCHAR(100)       NULL,
+    body            VARBINARY(1048576) NOT NULL,
+    expires_at      BIGINT             NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_record_expires ON idempotency_record (expires_at);
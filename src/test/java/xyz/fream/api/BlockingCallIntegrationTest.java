@@ -0,0 +1,84 @@
+package xyz.fream.api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.observability.BlockingCallDetector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 애플리케이션을 띄운 상태에서 주요 요청 경로가 이벤트 루프를 블로킹하지 않는지 검사
+ * ./gradlew integrationTest 로 실행 (블로킹 호출 감지 FAIL 모드)
+ * */
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "fream.blocking-detection.enabled=true",
+                "fream.blocking-detection.mode=FAIL"
+        })
+@DisplayName("이벤트 루프 블로킹 호출 통합 테스트")
+class BlockingCallIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private BlockingCallDetector blockingCallDetector;
+
+    @BeforeEach
+    void setUp() {
+        blockingCallDetector.clear();
+    }
+
+    @AfterEach
+    void assertNoBlockingCalls() {
+        assertThat(blockingCallDetector.getReports())
+                .as("이벤트 루프 / 논블로킹 Scheduler 의 블로킹 호출")
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("헬스 체크와 지표 조회는 블로킹하지 않는다.")
+    void should_not_block_on_actuator_endpoints() {
+        webTestClient.get().uri("/actuator/health").exchange().expectStatus().isOk();
+        webTestClient.get().uri("/actuator/prometheus").exchange().expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("인증 / 에러 응답 경로는 블로킹하지 않는다.")
+    void should_not_block_on_error_responses() {
+        webTestClient.get().uri("/api/v1/orders").exchange().expectStatus().isUnauthorized();
+        webTestClient.get().uri("/api/v1/orders")
+                .header("Authorization", "Bearer invalid.token.value")
+                .exchange()
+                .expectStatus().isUnauthorized();
+        webTestClient.get().uri("/unknown").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("실시간 시세 스트림은 블로킹하지 않는다.")
+    void should_not_block_on_market_ticker_stream() {
+        StepVerifier.create(webTestClient.get()
+                        .uri("/api/v1/market/products/1/ticker")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .exchange()
+                        .expectStatus().isOk()
+                        .returnResult(ServerSentEvent.class)
+                        .getResponseBody()
+                        .take(1))
+                .assertNext(event -> assertThat(event.event()).isEqualTo("ticker"))
+                .verifyComplete();
+    }
+}
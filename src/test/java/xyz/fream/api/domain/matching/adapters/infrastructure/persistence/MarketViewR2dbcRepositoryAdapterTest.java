@@ -0,0 +1,77 @@
+package xyz.fream.api.domain.matching.adapters.infrastructure.persistence;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+import xyz.fream.api.domain.matching.model.ListingKey;
+import xyz.fream.api.domain.matching.model.ListingMarketView;
+import xyz.fream.api.domain.matching.model.Match;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MarketViewR2dbcRepositoryAdapter 테스트")
+class MarketViewR2dbcRepositoryAdapterTest {
+
+    private static final ListingKey SIZE_250 = ListingKey.of(1L, "250");
+    private static final ListingKey SIZE_270 = ListingKey.of(1L, "270");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private MarketViewR2dbcRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///market-view-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionFactory).block();
+        adapter = new MarketViewR2dbcRepositoryAdapter(DatabaseClient.create(connectionFactory));
+    }
+
+    @Test
+    @DisplayName("체결 배치를 호가창별로 누적하고, 최근 체결가는 더 늦은 체결일 때만 바꾼다.")
+    void should_accumulate_trades_per_listing() {
+        // given
+        adapter.applyTrades(List.of(
+                match(SIZE_270, 200_000L, 1, NOW),
+                match(SIZE_270, 205_000L, 2, NOW.plusSeconds(1)),
+                match(SIZE_250, 180_000L, 1, NOW))).block();
+
+        // when
+        adapter.applyTrades(List.of(
+                match(SIZE_270, 190_000L, 1, NOW.minusSeconds(1)),
+                match(SIZE_250, 185_000L, 4, NOW.plusSeconds(2)))).block();
+
+        // then
+        StepVerifier.create(adapter.findAll().collectList())
+                .assertNext(views -> {
+                    ListingMarketView size270 = find(views, SIZE_270);
+                    assertThat(size270.lastPrice()).isEqualTo(205_000L);
+                    assertThat(size270.lastTradedAt()).isEqualTo(NOW.plusSeconds(1));
+                    assertThat(size270.volume()).isEqualTo(4L);
+                    assertThat(size270.tradeCount()).isEqualTo(3L);
+
+                    ListingMarketView size250 = find(views, SIZE_250);
+                    assertThat(size250.lastPrice()).isEqualTo(185_000L);
+                    assertThat(size250.volume()).isEqualTo(5L);
+                    assertThat(size250.highestBid()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    private ListingMarketView find(List<ListingMarketView> views, ListingKey listingKey) {
+        return views.stream().filter(view -> view.listingKey().equals(listingKey)).findFirst().orElseThrow();
+    }
+
+    private Match match(ListingKey listingKey, long price, int quantity, LocalDateTime matchedAt) {
+        return new Match(UUID.randomUUID().toString(), listingKey, 1L, 2L, price, quantity, matchedAt);
+    }
+}
@@ -0,0 +1,186 @@
+package xyz.fream.api.domain.matching.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xyz.fream.api.domain.matching.exception.MatchingErrorCode;
+import xyz.fream.api.domain.matching.exception.MatchingException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderBook 테스트")
+class OrderBookTest {
+
+    private static final ListingKey LISTING = ListingKey.of(1L, "270");
+
+    private OrderBook book;
+
+    @BeforeEach
+    void setUp() {
+        book = new OrderBook(LISTING);
+    }
+
+    @Test
+    @DisplayName("체결 가능한 상대 호가가 없으면 호가창에 올린다.")
+    void should_rest_bid_when_no_cross() {
+        // given
+        book.submit(sell(1L, 200_000L, 1));
+
+        // when
+        MatchResult result = book.submit(buy(2L, 190_000L, 1));
+
+        // then
+        assertThat(result.matches()).isEmpty();
+        assertThat(result.isResting()).isTrue();
+        assertThat(book.bestBuyPrice()).hasValue(190_000L);
+        assertThat(book.bestSellPrice()).hasValue(200_000L);
+        assertThat(book.restingBidCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구매 입찰은 최저 판매 호가부터 판매 호가 가격으로 체결한다.")
+    void should_match_buy_against_lowest_sell_at_maker_price() {
+        // given
+        book.submit(sell(1L, 210_000L, 1));
+        book.submit(sell(2L, 200_000L, 1));
+
+        // when
+        MatchResult result = book.submit(buy(3L, 220_000L, 1));
+
+        // then
+        assertThat(result.isFullyMatched()).isTrue();
+        Match match = result.matches().get(0);
+        assertThat(match.sellBidId()).isEqualTo(2L);
+        assertThat(match.buyBidId()).isEqualTo(3L);
+        assertThat(match.price()).isEqualTo(200_000L);
+        assertThat(book.bestSellPrice()).hasValue(210_000L);
+    }
+
+    @Test
+    @DisplayName("같은 가격이면 먼저 들어온 입찰부터 체결한다.")
+    void should_match_in_time_priority_within_price_level() {
+        // given
+        book.submit(buy(1L, 200_000L, 1));
+        book.submit(buy(2L, 200_000L, 1));
+
+        // when
+        MatchResult result = book.submit(sell(3L, 200_000L, 1));
+
+        // then
+        assertThat(result.matches()).extracting(Match::buyBidId).containsExactly(1L);
+        assertThat(book.contains(1L)).isFalse();
+        assertThat(book.contains(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("수량이 남으면 여러 가격대를 거쳐 체결하고 나머지는 호가창에 남긴다.")
+    void should_sweep_levels_and_rest_remaining_quantity() {
+        // given
+        book.submit(sell(1L, 200_000L, 2));
+        book.submit(sell(2L, 205_000L, 1));
+        book.submit(sell(3L, 230_000L, 1));
+
+        // when
+        MatchResult result = book.submit(buy(4L, 210_000L, 5));
+
+        // then
+        assertThat(result.matches()).extracting(Match::price).containsExactly(200_000L, 205_000L);
+        assertThat(result.matchedQuantity()).isEqualTo(3);
+        assertThat(result.remainingQuantity()).isEqualTo(2);
+        assertThat(book.bestBuyPrice()).hasValue(210_000L);
+        assertThat(book.bestSellPrice()).hasValue(230_000L);
+    }
+
+    @Test
+    @DisplayName("부분 체결된 입찰은 남은 수량으로 우선순위를 유지한다.")
+    void should_keep_priority_of_partially_filled_bid() {
+        // given
+        book.submit(sell(1L, 200_000L, 3));
+        book.submit(sell(2L, 200_000L, 1));
+        book.submit(buy(3L, 200_000L, 2));
+
+        // when
+        MatchResult result = book.submit(buy(4L, 200_000L, 2));
+
+        // then
+        assertThat(result.matches()).extracting(Match::sellBidId).containsExactly(1L, 2L);
+        assertThat(book.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("취소한 입찰은 체결되지 않고 빈 가격대는 제거된다.")
+    void should_remove_cancelled_bid() {
+        // given
+        book.submit(sell(1L, 200_000L, 1));
+        book.submit(sell(2L, 210_000L, 1));
+
+        // when
+        boolean cancelled = book.cancel(1L);
+        MatchResult result = book.submit(buy(3L, 210_000L, 1));
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(book.cancel(1L)).isFalse();
+        assertThat(result.matches()).extracting(Match::sellBidId).containsExactly(2L);
+        assertThat(book.bestSellPrice()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("호가 깊이를 우선순위 순으로 돌려준다.")
+    void should_return_depth_in_priority_order() {
+        // given
+        book.submit(buy(1L, 180_000L, 1));
+        book.submit(buy(2L, 190_000L, 2));
+        book.submit(buy(3L, 190_000L, 1));
+        book.submit(buy(4L, 170_000L, 1));
+
+        // when
+        List<PriceLevelSnapshot> depth = book.depth(BidSide.BUY, 2);
+
+        // then
+        assertThat(depth).containsExactly(
+                new PriceLevelSnapshot(190_000L, 3L, 2),
+                new PriceLevelSnapshot(180_000L, 1L, 1));
+    }
+
+    @Test
+    @DisplayName("이미 호가창에 있는 입찰 ID 로 제출하면 예외가 발생한다.")
+    void should_reject_duplicate_bid() {
+        // given
+        book.submit(buy(1L, 180_000L, 1));
+
+        // when & then
+        assertThatThrownBy(() -> book.submit(buy(1L, 185_000L, 1)))
+                .isInstanceOf(MatchingException.class)
+                .extracting("errorCode")
+                .isEqualTo(MatchingErrorCode.DUPLICATE_BID);
+    }
+
+    @Test
+    @DisplayName("가격대가 초기 용량보다 많아도 정렬을 유지한다.")
+    void should_keep_levels_sorted_after_growth() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            book.submit(sell(i + 1L, 300_000L - (i * 37 % 100) * 1_000L, 1));
+        }
+
+        // when
+        List<PriceLevelSnapshot> depth = book.depth(BidSide.SELL, 100);
+
+        // then
+        assertThat(depth).hasSize(100);
+        assertThat(depth).extracting(PriceLevelSnapshot::price).isSorted();
+        assertThat(book.bestSellPrice()).hasValue(201_000L);
+    }
+
+    private Bid buy(long bidId, long price, int quantity) {
+        return Bid.of(bidId, LISTING, BidSide.BUY, price, quantity);
+    }
+
+    private Bid sell(long bidId, long price, int quantity) {
+        return Bid.of(bidId, LISTING, BidSide.SELL, price, quantity);
+    }
+}
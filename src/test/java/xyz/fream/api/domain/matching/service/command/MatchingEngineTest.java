@@ -0,0 +1,237 @@
+package xyz.fream.api.domain.matching.service.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import xyz.fream.api.domain.matching.exception.MatchingErrorCode;
+import xyz.fream.api.domain.matching.exception.MatchingException;
+import xyz.fream.api.domain.matching.model.BidSide;
+import xyz.fream.api.domain.matching.model.ListingKey;
+import xyz.fream.api.domain.matching.model.Match;
+import xyz.fream.api.domain.matching.model.MatchResult;
+import xyz.fream.api.domain.matching.port.inbound.CancelBidCommand;
+import xyz.fream.api.domain.matching.port.inbound.MarketChangeHook;
+import xyz.fream.api.domain.matching.port.inbound.SubmitBidCommand;
+import xyz.fream.api.domain.matching.port.outbound.MatchRepositoryPort;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("MatchingEngine 테스트")
+class MatchingEngineTest {
+
+    private final Queue<Match> saved = new ConcurrentLinkedQueue<>();
+    private final MatchRepositoryPort repository = matches -> Mono.fromRunnable(() -> saved.addAll(matches));
+
+    private MatchingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new MatchingEngine(4, 1_024, repository);
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.dispose();
+    }
+
+    @Test
+    @DisplayName("구매 입찰이 판매 호가와 체결되고 체결 내역이 저장된다.")
+    void should_match_and_persist() {
+        // given
+        StepVerifier.create(engine.submit(sell(1L, 200_000L))).expectNextCount(1).verifyComplete();
+
+        // when & then
+        StepVerifier.create(engine.submit(buy(2L, 200_000L)))
+                .assertNext(result -> {
+                    assertThat(result.isFullyMatched()).isTrue();
+                    assertThat(result.matches()).extracting(Match::sellBidId).containsExactly(1L);
+                })
+                .verifyComplete();
+        await().atMost(Duration.ofSeconds(2)).until(() -> saved.size() == 1);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 입찰도 같은 호가창에서 순서대로 체결된다.")
+    void should_match_concurrent_bids_without_loss() {
+        // given
+        int pairs = 1_000;
+        Flux<MatchResult> sells = Flux.range(1, pairs).flatMap(i -> engine.submit(sell(i, 200_000L)));
+        Flux<MatchResult> buys = Flux.range(1, pairs).flatMap(i -> engine.submit(buy(pairs + i, 200_000L)));
+
+        // when
+        List<MatchResult> results = Flux.merge(sells, buys).collectList().block(Duration.ofSeconds(10));
+
+        // then
+        int matched = results.stream().mapToInt(MatchResult::matchedQuantity).sum();
+        assertThat(matched).isEqualTo(pairs);
+        StepVerifier.create(engine.execute(ListingKey.of(1L, "270"), book -> book.isEmpty()))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("없는 입찰을 취소하면 BID_NOT_FOUND 로 실패한다.")
+    void should_fail_to_cancel_unknown_bid() {
+        StepVerifier.create(engine.cancel(new CancelBidCommand(99L, 1L, "270")))
+                .expectErrorSatisfies(e -> assertThat(((MatchingException) e).getErrorCode())
+                        .isEqualTo(MatchingErrorCode.BID_NOT_FOUND))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("잘못된 입찰은 샤드에 넣기 전에 실패한다.")
+    void should_reject_invalid_bid() {
+        StepVerifier.create(engine.submit(new SubmitBidCommand(1L, 1L, "270", BidSide.BUY, 0L, 1)))
+                .expectErrorSatisfies(e -> assertThat(((MatchingException) e).getErrorCode())
+                        .isEqualTo(MatchingErrorCode.INVALID_BID_PRICE))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("같은 상품의 사이즈는 같은 샤드로 라우팅된다.")
+    void should_route_same_product_to_same_shard() {
+        assertThat(engine.shardIndexOf(ListingKey.of(42L, "250")))
+                .isEqualTo(engine.shardIndexOf(ListingKey.of(42L, "290")));
+    }
+
+    @Test
+    @DisplayName("중지된 엔진은 ENGINE_STOPPED 로 실패한다.")
+    void should_fail_after_dispose() {
+        engine.dispose();
+
+        StepVerifier.create(engine.submit(buy(1L, 200_000L)))
+                .expectErrorSatisfies(e -> assertThat(((MatchingException) e).getErrorCode())
+                        .isEqualTo(MatchingErrorCode.ENGINE_STOPPED))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("최우선 호가가 바뀔 때만 MarketChangeHook 으로 알린다.")
+    void should_notify_quote_changes() {
+        // given
+        Queue<String> quotes = new ConcurrentLinkedQueue<>();
+        MatchingEngine hooked = new MatchingEngine(2, 1_024, repository, new MarketChangeHook() {
+            @Override
+            public void onQuoteChanged(ListingKey listingKey, OptionalLong highestBid, OptionalLong lowestAsk) {
+                quotes.add(highestBid + "/" + lowestAsk);
+            }
+
+            @Override
+            public void onTradeCommitted(Match match) {
+            }
+        });
+        hooked.start();
+
+        try {
+            // when
+            hooked.submit(sell(1L, 210_000L)).block();
+            hooked.submit(sell(2L, 220_000L)).block();
+            hooked.submit(buy(3L, 200_000L)).block();
+            hooked.cancel(new CancelBidCommand(3L, 1L, "270")).block();
+
+            // then
+            assertThat(quotes).containsExactly(
+                    OptionalLong.empty() + "/" + OptionalLong.of(210_000L),
+                    OptionalLong.of(200_000L) + "/" + OptionalLong.of(210_000L),
+                    OptionalLong.empty() + "/" + OptionalLong.of(210_000L));
+        } finally {
+            hooked.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("체결 내역 저장이 일시적으로 실패하면 재시도해서 저장한다.")
+    void should_retry_transient_persist_failure() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        MatchingEngine flaky = new MatchingEngine(1, 64, matches -> Mono.defer(() -> attempts.incrementAndGet() < 3
+                ? Mono.error(new IllegalStateException("일시적인 저장 실패"))
+                : Mono.fromRunnable(() -> saved.addAll(matches))));
+        flaky.start();
+
+        try {
+            StepVerifier.create(flaky.submit(sell(1L, 200_000L))).expectNextCount(1).verifyComplete();
+
+            // when & then
+            StepVerifier.create(flaky.submit(buy(2L, 200_000L)))
+                    .assertNext(result -> assertThat(result.isFullyMatched()).isTrue())
+                    .verifyComplete();
+            assertThat(attempts).hasValue(3);
+            assertThat(saved).hasSize(1);
+        } finally {
+            flaky.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("체결 후 호출자가 취소해도 체결 내역 저장은 끝까지 진행된다.")
+    void should_persist_match_even_if_caller_cancels() {
+        // given
+        Sinks.Empty<Void> gate = Sinks.empty();
+        AtomicInteger started = new AtomicInteger();
+        MatchingEngine slow = new MatchingEngine(1, 64, matches -> gate.asMono()
+                .then(Mono.fromRunnable(() -> saved.addAll(matches)))
+                .doOnSubscribe(subscription -> started.incrementAndGet())
+                .then());
+        slow.start();
+
+        try {
+            StepVerifier.create(slow.submit(sell(1L, 200_000L))).expectNextCount(1).verifyComplete();
+
+            // when
+            Disposable caller = slow.submit(buy(2L, 200_000L)).subscribe();
+            await().atMost(Duration.ofSeconds(2)).until(() -> started.get() == 1);
+            caller.dispose();
+            gate.tryEmitEmpty();
+
+            // then
+            await().atMost(Duration.ofSeconds(2)).until(() -> saved.size() == 1);
+        } finally {
+            slow.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 체결 내역을 저장하지 못하면 MATCH_NOT_PERSISTED 로 알린다.")
+    void should_surface_persist_failure() {
+        // given
+        MatchingEngine failing = new MatchingEngine(1, 64,
+                matches -> Mono.error(new IllegalStateException("저장소 장애")));
+        failing.start();
+
+        try {
+            StepVerifier.create(failing.submit(sell(1L, 200_000L))).expectNextCount(1).verifyComplete();
+
+            // when & then
+            StepVerifier.create(failing.submit(buy(2L, 200_000L)))
+                    .expectErrorSatisfies(e -> assertThat(((MatchingException) e).getErrorCode())
+                            .isEqualTo(MatchingErrorCode.MATCH_NOT_PERSISTED))
+                    .verify(Duration.ofSeconds(5));
+        } finally {
+            failing.dispose();
+        }
+    }
+
+    private SubmitBidCommand buy(long bidId, long price) {
+        return new SubmitBidCommand(bidId, 1L, "270", BidSide.BUY, price, 1);
+    }
+
+    private SubmitBidCommand sell(long bidId, long price) {
+        return new SubmitBidCommand(bidId, 1L, "270", BidSide.SELL, price, 1);
+    }
+}
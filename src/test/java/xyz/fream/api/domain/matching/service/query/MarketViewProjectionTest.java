@@ -0,0 +1,194 @@
+package xyz.fream.api.domain.matching.service.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import xyz.fream.api.domain.matching.model.ListingKey;
+import xyz.fream.api.domain.matching.model.ListingMarketView;
+import xyz.fream.api.domain.matching.model.Match;
+import xyz.fream.api.domain.matching.model.ProductMarketView;
+import xyz.fream.api.domain.matching.port.outbound.MarketViewRepositoryPort;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MarketViewProjection 테스트")
+class MarketViewProjectionTest {
+
+    private static final ListingKey SIZE_250 = ListingKey.of(1L, "250");
+    private static final ListingKey SIZE_270 = ListingKey.of(1L, "270");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("저장된 체결 통계로 복원하고, 이후 체결은 그 위에 누적한다.")
+    void should_restore_and_accumulate_trades() {
+        // given
+        MarketViewProjection projection = projection(List.of(
+                new ListingMarketView(SIZE_270, null, null, 200_000L, NOW, 10L, 7L)));
+        projection.start();
+
+        // when
+        projection.onTradeCommitted(match(SIZE_270, 210_000L, 2, NOW.plusMinutes(1)));
+
+        // then
+        StepVerifier.create(projection.getListing(SIZE_270))
+                .assertNext(view -> {
+                    assertThat(view.lastPrice()).isEqualTo(210_000L);
+                    assertThat(view.volume()).isEqualTo(12L);
+                    assertThat(view.tradeCount()).isEqualTo(8L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 과거 체결은 최근 체결가를 바꾸지 않는다.")
+    void should_keep_latest_price_when_older_trade_arrives_late() {
+        // given
+        MarketViewProjection projection = projection(List.of());
+        projection.onTradeCommitted(match(SIZE_270, 210_000L, 1, NOW.plusMinutes(1)));
+
+        // when
+        projection.onTradeCommitted(match(SIZE_270, 190_000L, 1, NOW));
+
+        // then
+        StepVerifier.create(projection.getListing(SIZE_270))
+                .assertNext(view -> {
+                    assertThat(view.lastPrice()).isEqualTo(210_000L);
+                    assertThat(view.lastTradedAt()).isEqualTo(NOW.plusMinutes(1));
+                    assertThat(view.volume()).isEqualTo(2L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("상품 시세는 사이즈별 호가와 체결을 합친다.")
+    void should_aggregate_product_view_across_sizes() {
+        // given
+        MarketViewProjection projection = projection(List.of());
+        projection.onQuoteChanged(SIZE_250, OptionalLong.of(180_000L), OptionalLong.of(230_000L));
+        projection.onQuoteChanged(SIZE_270, OptionalLong.of(190_000L), OptionalLong.of(220_000L));
+        projection.onTradeCommitted(match(SIZE_250, 200_000L, 1, NOW));
+        projection.onTradeCommitted(match(SIZE_270, 205_000L, 3, NOW.plusSeconds(1)));
+
+        // when
+        projection.onQuoteChanged(SIZE_270, OptionalLong.empty(), OptionalLong.of(225_000L));
+
+        // then
+        StepVerifier.create(projection.getProduct(1L))
+                .assertNext(view -> {
+                    assertThat(view.lowestAsk()).isEqualTo(225_000L);
+                    assertThat(view.highestBid()).isEqualTo(180_000L);
+                    assertThat(view.lastPrice()).isEqualTo(205_000L);
+                    assertThat(view.volume()).isEqualTo(4L);
+                    assertThat(view.listings()).extracting(listing -> listing.listingKey().size())
+                            .containsExactly("250", "270");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("호가 / 체결이 없는 상품은 빈 시세를 돌려준다.")
+    void should_return_empty_view_for_unknown_product() {
+        MarketViewProjection projection = projection(List.of());
+
+        StepVerifier.create(projection.getProduct(99L))
+                .assertNext(view -> {
+                    assertThat(view.lowestAsk()).isNull();
+                    assertThat(view.lastPrice()).isNull();
+                    assertThat(view.listings()).isEmpty();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("시세 구독은 현재 시세를 먼저 받고, 이후 변경된 시세를 받는다.")
+    void should_emit_current_view_then_changes() {
+        // given
+        MarketViewProjection projection = projection(List.of());
+        projection.onQuoteChanged(SIZE_270, OptionalLong.of(190_000L), OptionalLong.of(220_000L));
+
+        // when & then
+        StepVerifier.create(projection.watchProduct(1L))
+                .assertNext(view -> assertThat(view.lowestAsk()).isEqualTo(220_000L))
+                .then(() -> projection.onTradeCommitted(match(SIZE_270, 205_000L, 1, NOW)))
+                .assertNext(view -> assertThat(view.lastPrice()).isEqualTo(205_000L))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("느린 구독자는 밀린 변경 대신 최신 시세 하나만 받는다.")
+    void should_conflate_changes_for_slow_subscriber() {
+        // given
+        MarketViewProjection projection = projection(List.of());
+
+        // when & then
+        StepVerifier.create(projection.watchProduct(1L), 1)
+                .assertNext(view -> assertThat(view.lastPrice()).isNull())
+                .then(() -> {
+                    for (int i = 1; i <= 100; i++) {
+                        projection.onTradeCommitted(match(SIZE_270, 200_000L + i, 1, NOW.plusSeconds(i)));
+                    }
+                })
+                .thenRequest(Long.MAX_VALUE)
+                .assertNext(view -> {
+                    assertThat(view.lastPrice()).isEqualTo(200_100L);
+                    assertThat(view.volume()).isEqualTo(100L);
+                })
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("같은 상품의 구독자들은 같은 시세 객체를 공유하고, 모두 떠나면 채널이 정리된다.")
+    void should_share_snapshot_and_release_channel() {
+        // given
+        MarketViewProjection projection = projection(List.of());
+        projection.onQuoteChanged(SIZE_250, OptionalLong.empty(), OptionalLong.of(230_000L));
+
+        List<ProductMarketView> first = new CopyOnWriteArrayList<>();
+        List<ProductMarketView> second = new CopyOnWriteArrayList<>();
+
+        // when
+        Disposable firstSubscription = projection.watchProduct(1L).subscribe(first::add);
+        Disposable secondSubscription = projection.watchProduct(1L).subscribe(second::add);
+        projection.onTradeCommitted(match(SIZE_250, 200_000L, 1, NOW));
+
+        // then
+        assertThat(projection.getWatchedProductCount()).isEqualTo(1);
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(2);
+        assertThat(first.get(1)).isSameAs(second.get(1));
+
+        firstSubscription.dispose();
+        secondSubscription.dispose();
+        assertThat(projection.getWatchedProductCount()).isZero();
+    }
+
+    private MarketViewProjection projection(List<ListingMarketView> stored) {
+        return new MarketViewProjection(new MarketViewRepositoryPort() {
+            @Override
+            public Mono<Void> applyTrades(List<Match> matches) {
+                return Mono.empty();
+            }
+
+            @Override
+            public Flux<ListingMarketView> findAll() {
+                return Flux.fromIterable(stored);
+            }
+        });
+    }
+
+    private Match match(ListingKey listingKey, long price, int quantity, LocalDateTime matchedAt) {
+        return new Match("match-" + price + "-" + matchedAt, listingKey, 1L, 2L, price, quantity, matchedAt);
+    }
+}
@@ -0,0 +1,226 @@
+package xyz.fream.api.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.event.DomainEvent;
+import xyz.fream.api.global.event.DomainEventSubscriber;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReactiveCache 테스트")
+class ReactiveCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 loader 한 번으로 합쳐진다.")
+    void should_coalesce_concurrent_misses() {
+        // given
+        ReactiveCache<Long, Product> cache = heapOnly();
+        Function<Long, Mono<Product>> slowLoader = id -> Mono.delay(Duration.ofMillis(50))
+                .map(tick -> new Product(id, "product-" + loads.incrementAndGet()));
+
+        // when
+        List<Product> results = Flux.range(0, 32)
+                .flatMap(i -> cache.get(1L, slowLoader))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(results).hasSize(32).allMatch(product -> product.name().equals("product-1"));
+        assertThat(cache.heapStats().hitCount() + cache.heapStats().missCount()).isEqualTo(32);
+    }
+
+    @Test
+    @DisplayName("비어 있는 결과와 실패는 캐시하지 않는다.")
+    void should_not_cache_empty_or_failed_loads() {
+        // given
+        ReactiveCache<Long, Product> cache = heapOnly();
+
+        // when & then
+        StepVerifier.create(cache.get(1L, id -> Mono.<Product>empty()))
+                .verifyComplete();
+        StepVerifier.create(cache.get(1L, id -> Mono.<Product>error(new IllegalStateException("조회 실패"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(cache.get(1L, this::load)).expectNext(new Product(1L, "product-1")).verifyComplete();
+        assertThat(cache.estimatedSize()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("getAll 은 캐시에 없는 키만 모아 loader 를 한 번 호출한다.")
+    void should_load_only_missing_keys_in_bulk() {
+        // given
+        ReactiveCache<Long, Product> cache = heapOnly();
+        cache.get(1L, this::load).block();
+        AtomicInteger bulkLoads = new AtomicInteger();
+        Function<Set<Long>, Mono<Map<Long, Product>>> bulkLoader = ids -> {
+            bulkLoads.incrementAndGet();
+            assertThat(ids).containsExactlyInAnyOrder(2L, 3L);
+            return Mono.just(ids.stream()
+                    .filter(id -> id != 3L)
+                    .collect(Collectors.toMap(Function.identity(), id -> new Product(id, "bulk-" + id))));
+        };
+
+        // when & then
+        StepVerifier.create(cache.getAll(List.of(1L, 2L, 3L), bulkLoader))
+                .assertNext(found -> assertThat(found).containsOnlyKeys(1L, 2L))
+                .verifyComplete();
+        assertThat(bulkLoads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("힙 미스는 오프힙 계층에서 채우고, 무효화는 두 계층 모두에서 지운다.")
+    void should_fill_heap_from_off_heap_tier_and_invalidate_both() {
+        // given
+        OffHeapCacheTier<Long, Product> offHeap = new OffHeapCacheTier<>(
+                objectMapper, objectMapper.constructType(Product.class), 1 << 20, Duration.ofMinutes(1));
+        offHeap.put(1L, new Product(1L, "from-off-heap"));
+        AsyncCache<Long, Product> heap = Caffeine.newBuilder().recordStats().buildAsync();
+        ReactiveCache<Long, Product> cache = new ReactiveCache<>("products", heap, offHeap);
+
+        // when & then
+        StepVerifier.create(cache.get(1L, this::load)).expectNext(new Product(1L, "from-off-heap")).verifyComplete();
+        assertThat(loads).hasValue(0);
+
+        cache.invalidate(1L);
+        StepVerifier.create(cache.get(1L, this::load)).expectNext(new Product(1L, "product-1")).verifyComplete();
+        assertThat(offHeap.get(1L)).isEqualTo(new Product(1L, "product-1"));
+    }
+
+    @Test
+    @DisplayName("오프힙 계층은 최대 바이트를 넘으면 가장 오래 조회되지 않은 항목부터 내보낸다.")
+    void should_evict_least_recently_used_when_off_heap_is_full() {
+        // given
+        byte[] one = serialize(new Product(1L, "a"));
+        OffHeapCacheTier<Long, Product> offHeap = new OffHeapCacheTier<>(
+                objectMapper, objectMapper.constructType(Product.class), one.length * 2L, Duration.ofMinutes(1));
+        offHeap.put(1L, new Product(1L, "a"));
+        offHeap.put(2L, new Product(2L, "b"));
+        offHeap.get(1L);
+
+        // when
+        offHeap.put(3L, new Product(3L, "c"));
+
+        // then
+        assertThat(offHeap.get(2L)).isNull();
+        assertThat(offHeap.get(1L)).isNotNull();
+        assertThat(offHeap.get(3L)).isNotNull();
+        assertThat(offHeap.evictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("적재 도중 무효화된 키는 loader 결과를 오프힙 계층에 남기지 않는다.")
+    void should_not_write_stale_load_to_off_heap_after_invalidate() {
+        // given
+        OffHeapCacheTier<Long, Product> offHeap = new OffHeapCacheTier<>(
+                objectMapper, objectMapper.constructType(Product.class), 1 << 20, Duration.ofMinutes(1));
+        ReactiveCache<Long, Product> cache = new ReactiveCache<>("products", Caffeine.newBuilder().buildAsync(), offHeap);
+        Sinks.One<Product> pending = Sinks.one();
+        Mono<Product> loading = cache.get(1L, id -> pending.asMono()).cache();
+        loading.subscribe();
+
+        // when
+        cache.invalidate(1L);
+        pending.tryEmitValue(new Product(1L, "stale"));
+
+        // then
+        StepVerifier.create(loading).expectNext(new Product(1L, "stale")).verifyComplete();
+        assertThat(offHeap.get(1L)).isNull();
+        StepVerifier.create(cache.get(1L, this::load)).expectNext(new Product(1L, "product-1")).verifyComplete();
+        assertThat(offHeap.get(1L)).isEqualTo(new Product(1L, "product-1"));
+    }
+
+    @Test
+    @DisplayName("오프힙 slab 에 빈자리가 흩어져 있으면 항목을 앞으로 모아 새 항목을 담는다.")
+    void should_compact_off_heap_slab_when_free_space_is_fragmented() {
+        // given
+        byte[] one = serialize(new Product(1L, "a"));
+        OffHeapCacheTier<Long, Product> offHeap = new OffHeapCacheTier<>(
+                objectMapper, objectMapper.constructType(Product.class), one.length * 3L, Duration.ofMinutes(1));
+        offHeap.put(1L, new Product(1L, "a"));
+        offHeap.put(2L, new Product(2L, "b"));
+        offHeap.put(3L, new Product(3L, "c"));
+        offHeap.invalidate(2L);
+
+        // when
+        offHeap.put(4L, new Product(4L, "d"));
+
+        // then
+        assertThat(offHeap.get(1L)).isEqualTo(new Product(1L, "a"));
+        assertThat(offHeap.get(3L)).isEqualTo(new Product(3L, "c"));
+        assertThat(offHeap.get(4L)).isEqualTo(new Product(4L, "d"));
+        assertThat(offHeap.evictionCount()).isZero();
+        assertThat(offHeap.usedBytes()).isEqualTo(one.length * 3L);
+    }
+
+    @Test
+    @DisplayName("invalidateOn 구독자는 이벤트의 키로 항목을 무효화한다.")
+    void should_invalidate_on_domain_event() {
+        // given
+        ReactiveCacheManager manager = new ReactiveCacheManager(objectMapper, CacheSpec.defaults(), Map.of(),
+                new SimpleMeterRegistry());
+        ReactiveCache<Long, Product> cache = manager.getCache("products", Product.class);
+        cache.get(1L, this::load).block();
+        DomainEventSubscriber<ProductUpdatedEvent> subscriber =
+                cache.invalidateOn(ProductUpdatedEvent.class, ProductUpdatedEvent::productId);
+
+        // when
+        subscriber.onEvent(new ProductUpdatedEvent("event-1", 1L, LocalDateTime.now())).block();
+
+        // then
+        StepVerifier.create(cache.get(1L, this::load)).expectNext(new Product(1L, "product-2")).verifyComplete();
+        assertThat(manager.getCache("products", Product.class)).isSameAs(cache);
+    }
+
+    private ReactiveCache<Long, Product> heapOnly() {
+        return new ReactiveCacheManager(objectMapper, CacheSpec.defaults(), Map.of(), null).getCache("products", Product.class);
+    }
+
+    private Mono<Product> load(Long id) {
+        return Mono.fromSupplier(() -> new Product(id, "product-" + loads.incrementAndGet()));
+    }
+
+    private byte[] serialize(Product product) {
+        try {
+            return objectMapper.writeValueAsBytes(product);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record Product(long id, String name) {
+    }
+
+    record ProductUpdatedEvent(String eventId, long productId, LocalDateTime occurredAt) implements DomainEvent {
+
+        @Override
+        public String aggregateType() {
+            return "product";
+        }
+
+        @Override
+        public String aggregateId() {
+            return Long.toString(productId);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package xyz.fream.api.global.common.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xyz.fream.api.global.presentation.exception.CommonException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Cursor 기능 테스트")
+class CursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩하고 다시 해석할 수 있다.")
+    void should_encode_and_decode_cursor() {
+        // given
+        Cursor cursor = Cursor.of(150000L, "0192f6a1-7c3e-7b2a-9f10-3c4d5e6f7a8b");
+
+        // when
+        Cursor decoded = Cursor.decode(cursor.encode(), Duration.ofMinutes(10));
+
+        // then
+        assertThat(decoded.getSortValue()).isEqualTo("150000");
+        assertThat(decoded.getId()).isEqualTo("0192f6a1-7c3e-7b2a-9f10-3c4d5e6f7a8b");
+        assertThat(decoded.sortValueAs(Long.class)).isEqualTo(150000L);
+    }
+
+    @Test
+    @DisplayName("인코딩된 커서는 URL에 그대로 사용할 수 있다.")
+    void should_encode_url_safe_cursor() {
+        // given
+        Cursor cursor = Cursor.of("나이키 덩크 로우/270", 1L);
+
+        // when
+        String encoded = cursor.encode();
+
+        // then
+        assertThat(encoded).matches("^[0-9a-z]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+$");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외가 발생한다.")
+    void should_throw_exception_when_cursor_is_malformed() {
+        // when & then
+        assertThatThrownBy(() -> Cursor.decode("invalid-cursor", Duration.ofMinutes(10)))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("유효하지 않은 커서입니다.");
+
+        assertThatThrownBy(() -> Cursor.decode("abc.!!!.###", Duration.ofMinutes(10)))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("발급 시각 / 정렬 키 / 식별자를 바꾼 커서는 서명이 맞지 않아 예외가 발생한다.")
+    void should_throw_exception_when_cursor_is_tampered() {
+        // given
+        String[] parts = Cursor.of(1L, 1L).encode().split("\\.");
+        String future = Long.toString(System.currentTimeMillis() + Duration.ofDays(1).toMillis(), Character.MAX_RADIX);
+        String otherId = Base64.getUrlEncoder().withoutPadding().encodeToString("2".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> Cursor.decode(String.join(".", future, parts[1], parts[2], parts[3]),
+                Duration.ofMinutes(10)))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("유효하지 않은 커서입니다.");
+        assertThatThrownBy(() -> Cursor.decode(String.join(".", parts[0], parts[1], otherId, parts[3]),
+                Duration.ofMinutes(10)))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("서명 키가 바뀌면 이전 키로 발급한 커서는 거부된다.")
+    void should_reject_cursor_signed_with_other_key() {
+        // given
+        String encoded = Cursor.of(1L, 1L).encode();
+
+        // when
+        Cursor.useSigningKey("another-cursor-signing-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThatThrownBy(() -> Cursor.decode(encoded, Duration.ofMinutes(10)))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("유효하지 않은 커서입니다.");
+        assertThat(Cursor.decode(Cursor.of(1L, 1L).encode(), Duration.ofMinutes(10)).getId()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("유효 기간이 지난 커서는 예외가 발생한다.")
+    void should_throw_exception_when_cursor_is_expired() {
+        // given
+        String encoded = Cursor.of(1L, 1L).encode();
+
+        // when & then
+        assertThatThrownBy(() -> Cursor.decode(encoded, Duration.ofMillis(-1)))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("만료된 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("정렬 키를 컬럼 타입으로 변환할 수 없으면 예외가 발생한다.")
+    void should_throw_exception_when_sort_value_type_mismatch() {
+        // given
+        Cursor cursor = Cursor.decode(Cursor.of("not-a-number", 1L).encode(), Duration.ofMinutes(10));
+
+        // when & then
+        assertThatThrownBy(() -> cursor.sortValueAs(Long.class))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("유효하지 않은 커서입니다.");
+    }
+}
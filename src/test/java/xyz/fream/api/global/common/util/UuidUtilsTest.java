@@ -3,6 +3,10 @@ package xyz.fream.api.global.common.util;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("uuidUtil 기능 테스트")
@@ -66,4 +70,69 @@ class UuidUtilsTest {
         // then
         assertThat(isValid).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("UUIDv7을 생성할 수 있다.")
+    void should_generate_uuid_v7() {
+        // when
+        UUID uuid = UuidUtils.generateV7AsUuid();
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidUtils.isValid(uuid.toString())).isTrue();
+    }
+
+    @Test
+    @DisplayName("UUIDv7에는 생성 시각이 기록된다.")
+    void should_contain_timestamp_in_uuid_v7() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        UUID uuid = UuidUtils.generateV7AsUuid();
+
+        // then
+        assertThat(UuidUtils.extractTimestamp(uuid)).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 생성한 UUIDv7은 단조 증가한다.")
+    void should_generate_monotonic_uuid_v7_within_thread() {
+        // given
+        List<String> uuids = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(UuidUtils.generateV7());
+        }
+
+        // then
+        assertThat(uuids).isSorted();
+        assertThat(uuids).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("UUID를 16바이트 배열로 변환하고 다시 복원할 수 있다.")
+    void should_convert_uuid_to_bytes_and_back() {
+        // given
+        UUID uuid = UuidUtils.generateV7AsUuid();
+
+        // when
+        byte[] bytes = UuidUtils.toBytes(uuid);
+
+        // then
+        assertThat(bytes).hasSize(16);
+        assertThat(UuidUtils.fromBytes(bytes)).isEqualTo(uuid);
+    }
+
+    @Test
+    @DisplayName("표준 형식이 아닌 UUID 문자열은 유효하지 않다.")
+    void should_reject_non_canonical_uuid() {
+        // when & then
+        assertThat(UuidUtils.isValid("1-1-1-1-1")).isFalse();
+        assertThat(UuidUtils.isValid("0192f6a1-7c3e-7b2a-9f10-3c4d5e6f7a8g")).isFalse();
+        assertThat(UuidUtils.isValid("0192f6a17c3e-7b2a-9f10-3c4d5e6f7a8b0")).isFalse();
+        assertThat(UuidUtils.isValid("0192F6A1-7C3E-7B2A-9F10-3C4D5E6F7A8B")).isTrue();
+    }
+}
@@ -0,0 +1,125 @@
+package xyz.fream.api.global.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BlockingOffloader 테스트")
+class BlockingOffloaderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingOffloader offloader = new BlockingOffloader(
+            new OffloadSpec(4, 100, Duration.ofSeconds(5)),
+            Map.of("slow-sdk", new OffloadSpec(1, 1, Duration.ofMillis(100))),
+            meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        offloader.dispose();
+    }
+
+    @Test
+    @DisplayName("블로킹 호출을 가상 스레드에서 실행한다.")
+    void should_run_blocking_call_on_virtual_thread() {
+        StepVerifier.create(offloader.executor("payment-gateway").call(() -> Thread.currentThread().isVirtual()))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("어댑터의 동시 실행 수는 maxConcurrency 를 넘지 않는다.")
+    void should_limit_concurrency_per_adapter() {
+        // given
+        BlockingAdapterExecutor executor = offloader.executor("image-processing");
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // when
+        Flux.range(0, 50)
+                .flatMap(i -> executor.call(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(5);
+                    running.decrementAndGet();
+                    return i;
+                }), 50)
+                .blockLast(Duration.ofSeconds(10));
+
+        // then
+        assertThat(maxRunning.get()).isPositive().isLessThanOrEqualTo(4);
+        assertThat(executor.getSucceeded()).isEqualTo(50L);
+        assertThat(meterRegistry.get("fream.offload.calls").tag("adapter", "image-processing").functionTimer().count())
+                .isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("시간 한도를 넘기면 EXTERNAL_API_TIMEOUT 으로 실패하고 실행 중인 호출을 인터럽트한다.")
+    void should_map_timeout_and_interrupt_call() throws InterruptedException {
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        BlockingAdapterExecutor executor = offloader.executor("slow-sdk");
+
+        // when & then
+        StepVerifier.create(executor.call(() -> {
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                    return "late";
+                }))
+                .expectErrorSatisfies(error -> assertThat(((CommonException) error).getErrorCode())
+                        .isEqualTo(GlobalErrorCode.EXTERNAL_API_TIMEOUT))
+                .verify();
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getTimeouts()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("실행 + 대기 한도를 넘은 호출은 스레드를 만들지 않고 바로 SERVICE_UNAVAILABLE 로 실패한다.")
+    void should_reject_when_pending_limit_exceeded() {
+        // given
+        BlockingAdapterExecutor executor = offloader.executor("slow-sdk");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean thirdStarted = new AtomicBoolean();
+        executor.call(() -> release.await(1, TimeUnit.SECONDS)).subscribe(ok -> { }, error -> { });
+        executor.call(() -> release.await(1, TimeUnit.SECONDS)).subscribe(ok -> { }, error -> { });
+
+        // when & then
+        StepVerifier.create(executor.call(() -> thirdStarted.getAndSet(true)))
+                .expectErrorSatisfies(error -> assertThat(((CommonException) error).getErrorCode())
+                        .isEqualTo(GlobalErrorCode.SERVICE_UNAVAILABLE))
+                .verify();
+        assertThat(thirdStarted).isFalse();
+        assertThat(executor.getRejected()).isEqualTo(1L);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("어댑터 예외는 EXTERNAL_API_ERROR 로 감싼다.")
+    void should_wrap_adapter_exception() {
+        StepVerifier.create(offloader.executor("payment-gateway").call(() -> {
+                    throw new IOException("connection reset");
+                }))
+                .expectErrorSatisfies(error -> {
+                    assertThat(((CommonException) error).getErrorCode()).isEqualTo(GlobalErrorCode.EXTERNAL_API_ERROR);
+                    assertThat(error.getCause()).isInstanceOf(IOException.class);
+                })
+                .verify();
+    }
+}
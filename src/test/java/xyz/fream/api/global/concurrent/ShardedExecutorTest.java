@@ -0,0 +1,191 @@
+package xyz.fream.api.global.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ShardedExecutor 테스트")
+class ShardedExecutorTest {
+
+    private ShardedExecutor<List<Long>> executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업은 여러 스레드에서 제출해도 유실 없이 한 스레드에서 실행된다.")
+    void should_execute_same_key_on_single_writer() {
+        // given
+        executor = start(4, 64);
+
+        // when
+        Flux.range(0, 10_000)
+                .parallel(4)
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> executor.execute(7L, state -> state.add((long) i)))
+                .sequential()
+                .blockLast(Duration.ofSeconds(10));
+
+        // then
+        StepVerifier.create(executor.execute(7L, List::size))
+                .expectNext(10_000)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("파티션을 옮기는 중에도 같은 키의 작업 순서가 유지된다.")
+    void should_keep_order_while_moving_partition() {
+        // given
+        executor = start(4, 16);
+        long key = 42L;
+        int partition = executor.partitionOf(key);
+
+        // when
+        for (long sequence = 0; sequence < 20_000; sequence++) {
+            long value = sequence;
+            executor.submit(key, state -> state.add(value));
+            if (sequence % 2_000 == 0) {
+                int target = (executor.shardOf(key) + 1) % executor.getShardCount();
+                executor.move(partition, target).block(Duration.ofSeconds(5));
+            }
+        }
+
+        // then
+        List<Long> recorded = executor.execute(key, state -> new ArrayList<>(state)).block(Duration.ofSeconds(5));
+        assertThat(recorded).hasSize(20_000);
+        assertThat(recorded).isSorted();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 제출하는 도중에 파티션을 옮겨도 제출자별 작업 순서가 유지된다.")
+    void should_keep_order_per_submitter_while_moving_concurrently() throws InterruptedException {
+        // given
+        executor = start(4, 16);
+        long key = 42L;
+        int partition = executor.partitionOf(key);
+        int submitters = 4;
+        int perSubmitter = 20_000;
+        AtomicBoolean finished = new AtomicBoolean();
+        Thread mover = new Thread(() -> {
+            while (!finished.get()) {
+                int target = (executor.shardOf(key) + 1) % executor.getShardCount();
+                executor.move(partition, target).block(Duration.ofSeconds(5));
+            }
+        });
+
+        // when
+        mover.start();
+        Flux.range(0, submitters)
+                .parallel(submitters)
+                .runOn(Schedulers.parallel())
+                .doOnNext(submitter -> {
+                    for (long sequence = 0; sequence < perSubmitter; sequence++) {
+                        long value = submitter * (long) perSubmitter + sequence;
+                        executor.submit(key, state -> state.add(value));
+                    }
+                })
+                .sequential()
+                .blockLast(Duration.ofSeconds(30));
+        finished.set(true);
+        mover.join(10_000);
+
+        // then
+        List<Long> recorded = executor.execute(key, state -> new ArrayList<>(state)).block(Duration.ofSeconds(5));
+        assertThat(recorded).hasSize(submitters * perSubmitter);
+        for (int submitter = 0; submitter < submitters; submitter++) {
+            long from = submitter * (long) perSubmitter;
+            assertThat(recorded.stream().filter(value -> value >= from && value < from + perSubmitter).toList())
+                    .isSorted();
+        }
+    }
+
+    @Test
+    @DisplayName("부하가 한 샤드에 몰리면 파티션을 한가한 샤드로 옮긴다.")
+    void should_rebalance_hot_shard() {
+        // given
+        executor = start(2, 8);
+        List<Long> keys = keysOnShard(0, 2);
+        for (int i = 0; i < 200; i++) {
+            executor.execute(keys.get(0), List::size).block();
+            executor.execute(keys.get(1), List::size).block();
+        }
+        executor.execute(keys.get(0), List::size).block();
+
+        // when
+        Boolean moved = executor.rebalance(0.25).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(moved).isTrue();
+        assertThat(List.of(executor.shardOf(keys.get(0)), executor.shardOf(keys.get(1)))).contains(1);
+        assertThat(executor.stats()).extracting(ShardStats::partitions).containsExactlyInAnyOrder(3, 5);
+    }
+
+    @Test
+    @DisplayName("부하가 고르면 파티션을 옮기지 않는다.")
+    void should_not_rebalance_balanced_shards() {
+        // given
+        executor = start(2, 8);
+        long shard0Key = keysOnShard(0, 1).get(0);
+        long shard1Key = keysOnShard(1, 1).get(0);
+        for (int i = 0; i < 100; i++) {
+            executor.execute(shard0Key, List::size).block();
+            executor.execute(shard1Key, List::size).block();
+        }
+
+        // when & then
+        StepVerifier.create(executor.rebalance(0.25))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("중지된 뒤 제출하면 RejectedExecutionException 으로 실패한다.")
+    void should_reject_after_dispose() {
+        // given
+        executor = start(1, 1);
+        executor.dispose();
+
+        // when & then
+        StepVerifier.create(executor.execute(1L, List::size))
+                .expectError(RejectedExecutionException.class)
+                .verify();
+    }
+
+    private ShardedExecutor<List<Long>> start(int shards, int partitions) {
+        ShardedExecutor<List<Long>> started =
+                new ShardedExecutor<>("test", shards, partitions, 100_000, ArrayList::new, Schedulers.parallel());
+        started.start();
+        return started;
+    }
+
+    /**
+     * 지정한 샤드에 속한 서로 다른 파티션의 키 count 개
+     * */
+    private List<Long> keysOnShard(int shard, int count) {
+        Set<Integer> partitions = new LinkedHashSet<>();
+        List<Long> keys = new ArrayList<>();
+        for (long key = 1; keys.size() < count; key++) {
+            if (executor.shardOf(key) == shard && partitions.add(executor.partitionOf(key))) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
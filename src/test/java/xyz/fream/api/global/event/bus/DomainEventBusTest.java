@@ -0,0 +1,226 @@
+package xyz.fream.api.global.event.bus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.common.util.UuidUtils;
+import xyz.fream.api.global.event.DomainEvent;
+import xyz.fream.api.global.event.DomainEventSubscriber;
+import xyz.fream.api.global.event.outbox.OutboxEventWriter;
+import xyz.fream.api.global.event.outbox.OutboxRelay;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("DomainEventBus 테스트")
+class DomainEventBusTest {
+
+    private final Scheduler scheduler = Schedulers.newParallel("event-bus-test", 4);
+    private final Sinks.Empty<Void> gate = Sinks.empty();
+    private DomainEventBus eventBus;
+
+    @AfterEach
+    void tearDown() {
+        gate.tryEmitEmpty();
+        if (eventBus != null) {
+            eventBus.dispose();
+        }
+        scheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("이벤트 타입을 구독하는 구독자에게만 전달하고, 같은 애그리거트의 이벤트는 발행 순서대로 처리한다.")
+    void should_deliver_to_matching_subscribers_in_aggregate_order() {
+        // given
+        eventBus = new DomainEventBus(scheduler, null);
+        Map<String, Queue<Integer>> sequences = new ConcurrentHashMap<>();
+        EventSubscription matching = eventBus.subscribe(subscriber("recorder", TestEvent.class, event ->
+                Mono.delay(Duration.ofNanos(ThreadLocalRandom.current().nextLong(50_000)), scheduler)
+                        .doOnNext(tick -> sequences.computeIfAbsent(event.aggregateId(), key -> new ConcurrentLinkedQueue<>())
+                                .add(event.sequence()))
+                        .then()), SubscriptionOptions.defaults());
+        EventSubscription other = eventBus.subscribe(subscriber("other", OtherEvent.class, event -> Mono.empty()),
+                SubscriptionOptions.defaults());
+
+        // when
+        Flux.range(0, 8)
+                .flatMap(aggregate -> Flux.range(0, 200)
+                        .concatMap(sequence -> eventBus.publish(TestEvent.of("aggregate-" + aggregate, sequence)))
+                        .subscribeOn(Schedulers.parallel()))
+                .blockLast(Duration.ofSeconds(5));
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).until(() -> matching.getDelivered() == 1_600);
+        assertThat(sequences).hasSize(8);
+        sequences.values().forEach(sequence ->
+                assertThat(sequence).containsExactlyElementsOf(IntStream.range(0, 200).boxed().toList()));
+        assertThat(matching.getPublished()).isEqualTo(1_600);
+        assertThat(matching.getQueueDepth()).isZero();
+        assertThat(matching.getLagCount()).isEqualTo(1_600);
+        assertThat(other.getPublished()).isZero();
+    }
+
+    @Test
+    @DisplayName("구독자 처리가 실패해도 다음 이벤트는 계속 전달한다.")
+    void should_continue_after_subscriber_failure() {
+        // given
+        eventBus = new DomainEventBus(scheduler, null);
+        EventSubscription subscription = eventBus.subscribe(subscriber("failing", TestEvent.class, event ->
+                event.sequence() % 2 == 0 ? Mono.error(new IllegalStateException("구독자 실패")) : Mono.empty()),
+                new SubscriptionOptions(1, 16, OverflowStrategy.BLOCK, Duration.ofSeconds(1)));
+
+        // when
+        Flux.range(0, 10).concatMap(sequence -> eventBus.publish(TestEvent.of("aggregate", sequence))).blockLast();
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> subscription.getDelivered() + subscription.getFailed() == 10);
+        assertThat(subscription.getFailed()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("DROP 전략은 큐가 가득 차면 새 이벤트를 버린다.")
+    void should_drop_event_when_queue_is_full() {
+        // given
+        eventBus = new DomainEventBus(scheduler, null);
+        EventSubscription subscription = stalledSubscription(OverflowStrategy.DROP);
+
+        // when
+        eventBus.publish(TestEvent.of("aggregate", 1)).block();
+        eventBus.publish(TestEvent.of("aggregate", 2)).block();
+
+        // then
+        assertThat(subscription.getQueueDepth()).isEqualTo(1);
+        assertThat(subscription.getDropped()).isEqualTo(1);
+        gate.tryEmitEmpty();
+        await().atMost(Duration.ofSeconds(5)).until(() -> subscription.getDelivered() == 2);
+    }
+
+    @Test
+    @DisplayName("BLOCK 전략은 큐에 자리가 날 때까지 발행 완료를 늦추고, 제한 시간을 넘으면 503 으로 끝난다.")
+    void should_wait_for_capacity_when_queue_is_full() {
+        // given
+        eventBus = new DomainEventBus(scheduler, null);
+        EventSubscription subscription = stalledSubscription(OverflowStrategy.BLOCK);
+        eventBus.publish(TestEvent.of("aggregate", 1)).block();
+
+        // when & then
+        StepVerifier.create(eventBus.publish(TestEvent.of("aggregate", 2)))
+                .expectErrorSatisfies(e -> assertThat(((CommonException) e).getErrorCode())
+                        .isEqualTo(GlobalErrorCode.SERVICE_UNAVAILABLE))
+                .verify(Duration.ofSeconds(5));
+
+        StepVerifier.create(eventBus.publish(TestEvent.of("aggregate", 3)))
+                .then(gate::tryEmitEmpty)
+                .verifyComplete();
+        await().atMost(Duration.ofSeconds(5)).until(() -> subscription.getDelivered() == 3);
+    }
+
+    @Test
+    @DisplayName("SPILL 전략은 넘친 이벤트를 해당 구독자 전용으로 outbox 에 기록하고, 릴레이는 그 구독자에게만 전달한다.")
+    void should_spill_event_to_outbox_for_target_subscriber() {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///event-bus-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionFactory).block();
+        DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+        eventBus = new DomainEventBus(scheduler, new OutboxEventWriter(databaseClient, objectMapper));
+        EventSubscription subscription = stalledSubscription(OverflowStrategy.SPILL);
+        eventBus.publish(TestEvent.of("aggregate", 1)).block();
+
+        // when
+        eventBus.publish(TestEvent.of("aggregate", 2)).block();
+
+        // then
+        assertThat(subscription.getSpilled()).isEqualTo(1);
+        Queue<TestEvent> target = new ConcurrentLinkedQueue<>();
+        Queue<TestEvent> bystander = new ConcurrentLinkedQueue<>();
+        OutboxRelay relay = new OutboxRelay(databaseClient, objectMapper, List.of(
+                subscriber("stalled", TestEvent.class, event -> Mono.fromRunnable(() -> target.add(event))),
+                subscriber("bystander", TestEvent.class, event -> Mono.fromRunnable(() -> bystander.add(event)))),
+                10, Duration.ofSeconds(1), 3);
+
+        StepVerifier.create(relay.drain()).expectNext(1).verifyComplete();
+        assertThat(target).extracting(TestEvent::sequence).containsExactly(2);
+        assertThat(bystander).isEmpty();
+    }
+
+    /**
+     * 첫 이벤트 처리를 gate 가 열릴 때까지 붙잡아 두는 레인 1개, 큐 크기 1의 구독
+     * 반환 시점에는 첫 이벤트가 큐에서 꺼내져 처리 중이고 큐는 비어 있다.
+     * */
+    private EventSubscription stalledSubscription(OverflowStrategy overflow) {
+        EventSubscription subscription = eventBus.subscribe(
+                subscriber("stalled", TestEvent.class, event -> gate.asMono()),
+                new SubscriptionOptions(1, 1, overflow, Duration.ofMillis(100)));
+        eventBus.publish(TestEvent.of("aggregate", 0)).block();
+        await().atMost(Duration.ofSeconds(5)).until(() -> subscription.getLagCount() == 1);
+        return subscription;
+    }
+
+    private static <E extends DomainEvent> DomainEventSubscriber<E> subscriber(
+            String name, Class<E> eventType, Function<E, Mono<Void>> handler) {
+        return new DomainEventSubscriber<>() {
+            @Override
+            public Class<E> eventType() {
+                return eventType;
+            }
+
+            @Override
+            public Mono<Void> onEvent(E event) {
+                return handler.apply(event);
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+        };
+    }
+
+    record TestEvent(String eventId, String aggregateId, int sequence, LocalDateTime occurredAt) implements DomainEvent {
+
+        static TestEvent of(String aggregateId, int sequence) {
+            return new TestEvent(UuidUtils.generateV7(), aggregateId, sequence, LocalDateTime.now());
+        }
+
+        @Override
+        public String aggregateType() {
+            return "test";
+        }
+    }
+
+    record OtherEvent(String eventId, String aggregateId, LocalDateTime occurredAt) implements DomainEvent {
+
+        @Override
+        public String aggregateType() {
+            return "other";
+        }
+    }
+}
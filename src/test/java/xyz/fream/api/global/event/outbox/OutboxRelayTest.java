@@ -0,0 +1,218 @@
+package xyz.fream.api.global.event.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.common.util.UuidUtils;
+import xyz.fream.api.global.event.DomainEvent;
+import xyz.fream.api.global.event.DomainEventSubscriber;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final Queue<TestEvent> received = new ConcurrentLinkedQueue<>();
+
+    private DatabaseClient databaseClient;
+    private TransactionalOperator transactionalOperator;
+    private OutboxEventWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///outbox-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionFactory).block();
+        databaseClient = DatabaseClient.create(connectionFactory);
+        transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+        writer = new OutboxEventWriter(databaseClient, objectMapper);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 outbox 에도 기록되지 않는다.")
+    void should_not_write_outbox_when_transaction_rolls_back() {
+        // given
+        Mono<Void> failingTransaction = writer.append(TestEvent.of("order-1"))
+                .then(Mono.<Void>error(new IllegalStateException("aggregate 저장 실패")))
+                .as(transactionalOperator::transactional);
+
+        // when
+        StepVerifier.create(failingTransaction).expectError(IllegalStateException.class).verify();
+
+        // then
+        assertThat(count("SELECT COUNT(*) AS cnt FROM outbox_event")).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 이벤트를 전체 전달용과 구독자별로 함께 기록할 수 있고, 같은 대상으로는 한 번만 기록된다.")
+    void should_allow_same_event_for_different_targets_only() {
+        // given
+        TestEvent event = TestEvent.of("order-1");
+        writer.append(event).block();
+
+        // when
+        writer.appendFor("settlement", event).block();
+        writer.appendFor("notification", event).block();
+
+        // then
+        assertThat(count("SELECT COUNT(*) AS cnt FROM outbox_event WHERE event_id = '" + event.eventId() + "'")).isEqualTo(3L);
+        StepVerifier.create(writer.append(event)).expectError(DataIntegrityViolationException.class).verify();
+        StepVerifier.create(writer.appendFor("settlement", event)).expectError(DataIntegrityViolationException.class).verify();
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트를 구독자에게 전달하고 처리 완료로 표시한다.")
+    void should_deliver_committed_events_and_mark_processed() {
+        // given
+        writer.append(List.of(TestEvent.of("order-1"), TestEvent.of("order-2")))
+                .as(transactionalOperator::transactional)
+                .block();
+        OutboxRelay relay = relay(10, recordingSubscriber());
+
+        // when & then
+        StepVerifier.create(relay.drain()).expectNext(2).verifyComplete();
+        assertThat(received).extracting(TestEvent::aggregateId).containsExactly("order-1", "order-2");
+        assertThat(count("SELECT COUNT(*) AS cnt FROM outbox_event WHERE processed_at IS NULL")).isZero();
+        StepVerifier.create(relay.drain()).expectNext(0).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("밀린 이벤트는 배치 단위로 모두 전달한다.")
+    void should_drain_backlog_in_batches() {
+        // given
+        List<TestEvent> events = IntStream.range(0, 25).mapToObj(i -> TestEvent.of("order-" + i)).toList();
+        writer.append(events).block();
+        OutboxRelay relay = relay(10, recordingSubscriber());
+
+        // when & then
+        StepVerifier.create(relay.drain()).expectNext(25).verifyComplete();
+        assertThat(received).extracting(TestEvent::eventId)
+                .containsExactlyElementsOf(events.stream().map(TestEvent::eventId).toList());
+    }
+
+    @Test
+    @DisplayName("구독자가 실패하면 다시 전달하고, 최대 시도 횟수에 도달하면 더 이상 읽지 않는다.")
+    void should_retry_failed_event_until_max_attempts() {
+        // given
+        writer.append(TestEvent.of("order-1")).block();
+        OutboxRelay relay = relay(10, new DomainEventSubscriber<TestEvent>() {
+            @Override
+            public Class<TestEvent> eventType() {
+                return TestEvent.class;
+            }
+
+            @Override
+            public Mono<Void> onEvent(TestEvent event) {
+                return Mono.error(new IllegalStateException("구독자 실패"));
+            }
+        });
+
+        // when
+        for (int i = 0; i < MAX_ATTEMPTS + 1; i++) {
+            relay.drain().block(Duration.ofSeconds(5));
+        }
+
+        // then
+        assertThat(count("SELECT CAST(attempts AS BIGINT) AS cnt FROM outbox_event")).isEqualTo(MAX_ATTEMPTS);
+        assertThat(count("SELECT COUNT(*) AS cnt FROM outbox_event WHERE processed_at IS NULL")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("한 번의 drain 에서는 실패한 이벤트를 다시 읽지 않는다.")
+    void should_attempt_failed_events_once_per_drain() {
+        // given
+        writer.append(IntStream.range(0, 4).mapToObj(i -> TestEvent.of("order-" + i)).toList()).block();
+        OutboxRelay relay = relay(2, new DomainEventSubscriber<TestEvent>() {
+            @Override
+            public Class<TestEvent> eventType() {
+                return TestEvent.class;
+            }
+
+            @Override
+            public Mono<Void> onEvent(TestEvent event) {
+                return Mono.error(new IllegalStateException("구독자 실패"));
+            }
+        });
+
+        // when
+        relay.drain().block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(count("SELECT CAST(MAX(attempts) AS BIGINT) AS cnt FROM outbox_event")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("구독자가 받지 않는 타입의 이벤트는 역직렬화하지 않고 실패로 처리한다.")
+    void should_reject_event_type_outside_subscribers() {
+        // given
+        databaseClient.sql("INSERT INTO outbox_event (event_id, aggregate_type, aggregate_id, event_type, payload, occurred_at) "
+                        + "VALUES ('evt-1', 'test', 'order-1', 'java.util.ArrayList', '[]', CURRENT_TIMESTAMP)")
+                .then()
+                .block();
+        OutboxRelay relay = relay(10, recordingSubscriber());
+
+        // when & then
+        StepVerifier.create(relay.drain()).expectNext(0).verifyComplete();
+        assertThat(received).isEmpty();
+        assertThat(count("SELECT CAST(attempts AS BIGINT) AS cnt FROM outbox_event")).isEqualTo(1L);
+    }
+
+    private OutboxRelay relay(int batchSize, DomainEventSubscriber<?> subscriber) {
+        return new OutboxRelay(databaseClient, objectMapper, List.of(subscriber), batchSize, Duration.ofSeconds(1), MAX_ATTEMPTS);
+    }
+
+    private DomainEventSubscriber<TestEvent> recordingSubscriber() {
+        return new DomainEventSubscriber<>() {
+            @Override
+            public Class<TestEvent> eventType() {
+                return TestEvent.class;
+            }
+
+            @Override
+            public Mono<Void> onEvent(TestEvent event) {
+                return Mono.fromRunnable(() -> received.add(event));
+            }
+        };
+    }
+
+    private long count(String sql) {
+        return databaseClient.sql(sql)
+                .map(row -> row.get("cnt", Long.class))
+                .one()
+                .block();
+    }
+
+    record TestEvent(String eventId, String aggregateId, LocalDateTime occurredAt) implements DomainEvent {
+
+        static TestEvent of(String aggregateId) {
+            return new TestEvent(UuidUtils.generateV7(), aggregateId, LocalDateTime.now());
+        }
+
+        @Override
+        public String aggregateType() {
+            return "test";
+        }
+    }
+}
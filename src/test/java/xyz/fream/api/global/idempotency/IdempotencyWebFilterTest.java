@@ -0,0 +1,280 @@
+package xyz.fream.api.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.presentation.exception.GlobalExceptionHandler;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IdempotencyWebFilter 테스트")
+class IdempotencyWebFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private volatile Mono<Void> gate = Mono.empty();
+    private volatile HttpStatus status = HttpStatus.CREATED;
+
+    /**
+     * 요청 본문을 그대로 담아 응답하는 체인 (gate 가 끝나야 응답을 쓴다)
+     * */
+    private final WebFilterChain chain = exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+            .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+            .defaultIfEmpty("")
+            .flatMap(body -> {
+                int execution = executions.incrementAndGet();
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(status);
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                byte[] bytes = ("{\"execution\":" + execution + ",\"echo\":" + body + "}").getBytes(StandardCharsets.UTF_8);
+                return gate.then(response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(bytes))));
+            });
+
+    private final List<String> savedKeys = new CopyOnWriteArrayList<>();
+    private final IdempotencyWebFilter filter = filter(1024);
+
+    @Test
+    @DisplayName("처리가 끝난 키의 반복 요청은 체인을 거치지 않고 저장된 응답을 재생한다.")
+    void should_replay_stored_response() {
+        // given
+        MockServerWebExchange first = post("key-1", "{\"price\":1000}");
+        StepVerifier.create(filter.filter(first, chain)).verifyComplete();
+        MockServerWebExchange retry = post("key-1", "{\"price\":1000}");
+
+        // when
+        StepVerifier.create(filter.filter(retry, chain)).verifyComplete();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(retry.getResponse().getHeaders().getFirst(IdempotencyWebFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getResponse().getBodyAsString().block())
+                .isEqualTo(first.getResponse().getBodyAsString().block())
+                .isEqualTo("{\"execution\":1,\"echo\":{\"price\":1000}}");
+        assertThat(filter.getReplayed()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 키로 본문이 다른 요청을 보내면 422 로 거부한다.")
+    void should_reject_key_reused_with_different_request() {
+        // given
+        StepVerifier.create(filter.filter(post("key-1", "{\"price\":1000}"), chain)).verifyComplete();
+        MockServerWebExchange other = post("key-1", "{\"price\":2000}");
+
+        // when
+        StepVerifier.create(filter.filter(other, chain)).verifyComplete();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(other.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(other.getResponse().getBodyAsString().block()).contains("GLOBAL_305");
+    }
+
+    @Test
+    @DisplayName("처리 중인 키의 동시 요청은 다시 실행하지 않고 처리 중인 요청의 응답을 받는다.")
+    void should_park_concurrent_duplicates_on_in_flight_request() {
+        // given
+        Sinks.Empty<Void> release = Sinks.empty();
+        gate = release.asMono();
+        MockServerWebExchange first = post("key-1", "{\"price\":1000}");
+        MockServerWebExchange duplicate = post("key-1", "{\"price\":1000}");
+
+        // when
+        CompletableFuture<Void> firstDone = filter.filter(first, chain).toFuture();
+        CompletableFuture<Void> duplicateDone = filter.filter(duplicate, chain).toFuture();
+        assertThat(filter.getInFlight()).isEqualTo(1);
+        assertThat(filter.getJoined()).isEqualTo(1L);
+        release.tryEmitEmpty();
+        firstDone.join();
+        duplicateDone.join();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(filter.getInFlight()).isZero();
+        assertThat(duplicate.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(duplicate.getResponse().getBodyAsString().block())
+                .isEqualTo(first.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    @DisplayName("처리를 맡은 요청의 클라이언트가 취소해도 처리는 끝까지 진행되어 저장되고, 재시도는 다시 실행하지 않는다.")
+    void should_finish_and_store_in_flight_request_after_client_cancel() {
+        // given
+        Sinks.Empty<Void> release = Sinks.empty();
+        gate = release.asMono();
+        StepVerifier.create(filter.filter(post("key-1", "{\"price\":1000}"), chain))
+                .thenCancel()
+                .verify();
+
+        // when
+        assertThat(filter.getInFlight()).isEqualTo(1);
+        release.tryEmitEmpty();
+        MockServerWebExchange retry = post("key-1", "{\"price\":1000}");
+        StepVerifier.create(filter.filter(retry, chain)).verifyComplete();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(filter.getInFlight()).isZero();
+        assertThat(retry.getResponse().getHeaders().getFirst(IdempotencyWebFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getResponse().getBodyAsString().block()).isEqualTo("{\"execution\":1,\"echo\":{\"price\":1000}}");
+    }
+
+    @Test
+    @DisplayName("클라이언트 쪽 쓰기가 본문을 구독하지 않고 실패해도 응답은 저장되고, 재시도는 다시 실행하지 않는다.")
+    void should_store_response_when_client_write_aborts_without_subscribing() {
+        // given: 여러 버퍼로 나눠 쓰는 체인과, 연결이 끊겨 본문을 구독하지 않고 실패하는 응답
+        WebFilterChain multiBufferChain = exchange -> {
+            executions.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.CREATED);
+            return response.writeWith(Flux.just("{\"part\":", "1}")
+                    .map(part -> response.bufferFactory().wrap(part.getBytes(StandardCharsets.UTF_8))));
+        };
+        MockServerWebExchange first = post("key-1", "{\"price\":1000}");
+        ServerWebExchange disconnected = first.mutate()
+                .response(new ServerHttpResponseDecorator(first.getResponse()) {
+                    @Override
+                    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                        return Mono.error(new IllegalStateException("연결이 끊겼습니다."));
+                    }
+                })
+                .build();
+        StepVerifier.create(filter.filter(disconnected, multiBufferChain))
+                .verifyError(IllegalStateException.class);
+
+        // when
+        MockServerWebExchange retry = post("key-1", "{\"price\":1000}");
+        StepVerifier.create(filter.filter(retry, multiBufferChain)).verifyComplete();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getResponse().getHeaders().getFirst(IdempotencyWebFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getResponse().getBodyAsString().block()).isEqualTo("{\"part\":1}");
+    }
+
+    @Test
+    @DisplayName("2xx 가 아닌 응답은 저장하지 않아 같은 키로 다시 실행할 수 있다.")
+    void should_not_store_failed_response() {
+        // given
+        status = HttpStatus.SERVICE_UNAVAILABLE;
+        StepVerifier.create(filter.filter(post("key-1", "{\"price\":1000}"), chain)).verifyComplete();
+        status = HttpStatus.CREATED;
+        MockServerWebExchange retry = post("key-1", "{\"price\":1000}");
+
+        // when
+        StepVerifier.create(filter.filter(retry, chain)).verifyComplete();
+
+        // then
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getResponse().getHeaders().containsKey(IdempotencyWebFilter.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 헤더가 없는 요청은 매번 실행한다.")
+    void should_pass_requests_without_key() {
+        for (int i = 0; i < 3; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/bids")
+                    .remoteAddress(new InetSocketAddress("10.0.0.1", 443))
+                    .body("{\"price\":1000}"));
+            StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+        }
+
+        assertThat(executions).hasValue(3);
+        assertThat(filter.getExecuted()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 본문이 저장 한도를 넘으면 응답은 그대로 보내고 저장하지 않는다.")
+    void should_not_store_response_over_max_size() {
+        // given
+        IdempotencyWebFilter smallFilter = filter(16);
+        MockServerWebExchange first = post("key-1", "{\"price\":1000}");
+
+        // when
+        StepVerifier.create(smallFilter.filter(first, chain)).verifyComplete();
+        MockServerWebExchange retry = post("key-1", "{\"price\":1000}");
+        StepVerifier.create(smallFilter.filter(retry, chain)).verifyComplete();
+
+        // then
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo("{\"execution\":1,\"echo\":{\"price\":1000}}");
+        assertThat(executions).hasValue(2);
+        assertThat(savedKeys).isEmpty();
+        assertThat(retry.getResponse().getHeaders().containsKey(IdempotencyWebFilter.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장 키는 요청자와 키 길이와 관계없이 고정 길이 해시이고 요청자마다 다르다.")
+    void should_hash_requester_and_key_into_fixed_length_storage_key() {
+        // given
+        String longKey = "k".repeat(255);
+
+        // when
+        StepVerifier.create(filter.filter(post(longKey, "{\"price\":1000}", "10.0.0.1"), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(post(longKey, "{\"price\":1000}", "10.0.0.2"), chain)).verifyComplete();
+
+        // then
+        assertThat(executions).hasValue(2);
+        assertThat(savedKeys).hasSize(2).doesNotHaveDuplicates().allMatch(key -> key.matches("[0-9a-f]{64}"));
+    }
+
+    private IdempotencyWebFilter filter(int maxResponseSize) {
+        InMemoryIdempotencyStore delegate = new InMemoryIdempotencyStore(100, Clock.systemUTC(), null);
+        IdempotencyStore recording = new IdempotencyStore() {
+            @Override
+            public Mono<IdempotentResponse> find(String key) {
+                return delegate.find(key);
+            }
+
+            @Override
+            public Mono<Void> save(String key, IdempotentResponse response) {
+                savedKeys.add(key);
+                return delegate.save(key, response);
+            }
+        };
+        return new IdempotencyWebFilter(
+                new IdempotencySpec("Idempotency-Key", Duration.ofHours(1), Duration.ofSeconds(5), 1024, maxResponseSize),
+                List.of("/api/v1/**"),
+                List.of(HttpMethod.POST),
+                recording,
+                new GlobalExceptionHandler(new ObjectMapper()),
+                Clock.systemUTC());
+    }
+
+    private MockServerWebExchange post(String key, String body) {
+        return post(key, body, "10.0.0.1");
+    }
+
+    private MockServerWebExchange post(String key, String body, String address) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/bids")
+                .header("Idempotency-Key", key)
+                .remoteAddress(new InetSocketAddress(address, 443))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body));
+    }
+}
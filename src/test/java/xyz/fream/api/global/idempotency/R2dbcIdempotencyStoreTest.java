@@ -0,0 +1,90 @@
+package xyz.fream.api.global.idempotency;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("R2dbcIdempotencyStore 테스트")
+class R2dbcIdempotencyStoreTest {
+
+    private R2dbcIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///idempotency-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionFactory).block();
+        store = new R2dbcIdempotencyStore(DatabaseClient.create(connectionFactory), Clock.systemUTC(),
+                Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("저장한 응답을 그대로 읽고, 같은 키의 두 번째 저장은 먼저 저장된 응답을 유지한다.")
+    void should_keep_first_saved_response() {
+        // given
+        StepVerifier.create(store.save("user-1:key-1", response("first", Duration.ofHours(1)))).verifyComplete();
+
+        // when
+        StepVerifier.create(store.save("user-1:key-1", response("second", Duration.ofHours(1)))).verifyComplete();
+
+        // then
+        StepVerifier.create(store.find("user-1:key-1"))
+                .assertNext(found -> {
+                    assertThat(found.fingerprint()).isEqualTo("first");
+                    assertThat(found.status()).isEqualTo(201);
+                    assertThat(found.contentType()).isEqualTo("application/json");
+                    assertThat(new String(found.body(), StandardCharsets.UTF_8)).isEqualTo("{\"result\":\"first\"}");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("만료된 응답은 조회되지 않고, 정리 후 같은 키로 다시 저장할 수 있다.")
+    void should_ignore_and_purge_expired_responses() {
+        // given
+        StepVerifier.create(store.save("user-1:key-1", response("expired", Duration.ofSeconds(-1)))).verifyComplete();
+
+        // when & then
+        StepVerifier.create(store.find("user-1:key-1")).verifyComplete();
+        StepVerifier.create(store.purgeExpired()).expectNext(1L).verifyComplete();
+        StepVerifier.create(store.save("user-1:key-1", response("fresh", Duration.ofHours(1)))).verifyComplete();
+        StepVerifier.create(store.find("user-1:key-1"))
+                .assertNext(found -> assertThat(found.fingerprint()).isEqualTo("fresh"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("만료된 행이 남아 있어도 같은 키의 새 응답을 저장한다.")
+    void should_replace_expired_row_on_save() {
+        // given
+        StepVerifier.create(store.save("user-1:key-1", response("expired", Duration.ofSeconds(-1)))).verifyComplete();
+
+        // when
+        StepVerifier.create(store.save("user-1:key-1", response("fresh", Duration.ofHours(1)))).verifyComplete();
+
+        // then
+        StepVerifier.create(store.find("user-1:key-1"))
+                .assertNext(found -> assertThat(found.fingerprint()).isEqualTo("fresh"))
+                .verifyComplete();
+    }
+
+    private IdempotentResponse response(String fingerprint, Duration ttl) {
+        return new IdempotentResponse(fingerprint, 201, "application/json",
+                ("{\"result\":\"" + fingerprint + "\"}").getBytes(StandardCharsets.UTF_8),
+                Instant.now().plus(ttl));
+    }
+}
@@ -0,0 +1,138 @@
+package xyz.fream.api.global.infrastructure.r2dbc.batch;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BatchLoader 테스트")
+class BatchLoaderTest {
+
+    private static final String SELECT_BY_IDS = "SELECT id, name FROM product WHERE id IN (:ids)";
+
+    private final Queue<Set<Long>> queriedBatches = new ConcurrentLinkedQueue<>();
+    private DatabaseClient databaseClient;
+    private BatchLoader<Long, Product> loader;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///loader-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+        databaseClient.sql("CREATE TABLE product (id BIGINT PRIMARY KEY, name VARCHAR(50) NOT NULL)").then().block();
+        Flux.range(1, 100)
+                .concatMap(i -> databaseClient.sql("INSERT INTO product (id, name) VALUES (:id, :name)")
+                        .bind("id", (long) i)
+                        .bind("name", "product-" + i)
+                        .then())
+                .blockLast();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (loader != null) {
+            loader.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 단건 조회를 중복 없이 IN 조회 한 번으로 묶는다.")
+    void should_coalesce_concurrent_loads_into_one_query() {
+        // given
+        loader = loader(BatchLoaderOptions.defaults().withMaxWait(Duration.ofMillis(50)));
+
+        // when
+        List<Product> products = Flux.range(0, 120)
+                .flatMap(i -> loader.load((long) (i % 60) + 1))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(products).hasSize(120).allMatch(product -> product.name().equals("product-" + product.id()));
+        assertThat(queriedBatches).hasSize(1);
+        assertThat(queriedBatches.peek()).hasSize(60);
+    }
+
+    @Test
+    @DisplayName("maxBatchSize 를 넘는 키는 여러 배치로 나눠 조회한다.")
+    void should_split_keys_by_max_batch_size() {
+        // given
+        loader = loader(BatchLoaderOptions.defaults().withMaxBatchSize(10).withMaxWait(Duration.ofMillis(50)));
+
+        // when & then
+        StepVerifier.create(loader.loadMany(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L)))
+                .assertNext(found -> assertThat(found).hasSize(15))
+                .verifyComplete();
+        assertThat(queriedBatches).allMatch(batch -> batch.size() <= 10);
+        assertThat(queriedBatches.stream().mapToInt(Set::size).sum()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("조회 결과에 없는 키는 비어 있는 Mono 로 끝난다.")
+    void should_complete_empty_for_missing_key() {
+        loader = loader(BatchLoaderOptions.defaults());
+
+        StepVerifier.create(loader.load(999L)).verifyComplete();
+        StepVerifier.create(loader.loadMany(List.of(1L, 999L)))
+                .assertNext(found -> assertThat(found).containsOnlyKeys(1L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("배치 조회가 실패하면 그 배치의 모든 호출자에게 에러를 전달한다.")
+    void should_fail_all_callers_of_failed_batch() {
+        // given
+        loader = new BatchLoader<>("product", keys -> Flux.error(new IllegalStateException("조회 실패")),
+                Product::id, BatchLoaderOptions.defaults().withMaxWait(Duration.ofMillis(50)));
+
+        // when & then
+        StepVerifier.create(Flux.merge(
+                        loader.load(1L).onErrorResume(e -> Mono.just(new Product(-1L, e.getMessage()))),
+                        loader.load(2L).onErrorResume(e -> Mono.just(new Product(-1L, e.getMessage())))))
+                .expectNextCount(2)
+                .verifyComplete();
+        StepVerifier.create(loader.load(1L)).expectError(IllegalStateException.class).verify();
+    }
+
+    @Test
+    @DisplayName("닫힌 로더의 load 는 SERVICE_UNAVAILABLE 로 실패한다.")
+    void should_reject_load_after_dispose() {
+        loader = loader(BatchLoaderOptions.defaults());
+        loader.dispose();
+
+        StepVerifier.create(loader.load(1L))
+                .expectErrorSatisfies(e -> assertThat(((CommonException) e).getErrorCode())
+                        .isEqualTo(GlobalErrorCode.SERVICE_UNAVAILABLE))
+                .verify();
+    }
+
+    private BatchLoader<Long, Product> loader(BatchLoaderOptions options) {
+        Function<Set<Long>, Flux<Product>> query = BatchLoader.inQuery(databaseClient, SELECT_BY_IDS,
+                (row, metadata) -> new Product(row.get("id", Long.class), row.get("name", String.class)));
+        return new BatchLoader<>("product", keys -> {
+            queriedBatches.add(Set.copyOf(keys));
+            return query.apply(keys);
+        }, Product::id, options);
+    }
+
+    record Product(long id, String name) {
+    }
+}
@@ -0,0 +1,223 @@
+package xyz.fream.api.global.infrastructure.r2dbc.batch;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BatchWriter 테스트")
+class BatchWriterTest {
+
+    private static final BatchTable<Bid> BID_TABLE = BatchTable.builder("bid", Bid.class)
+            .column("id", Long.class, Bid::id)
+            .column("price", Long.class, Bid::price)
+            .column("memo", String.class, Bid::memo)
+            .build();
+
+    private DatabaseClient databaseClient;
+    private BatchWriter<Bid> writer;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///batch-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+        databaseClient.sql("CREATE TABLE bid (id BIGINT PRIMARY KEY, price BIGINT NOT NULL, memo VARCHAR(50))")
+                .then()
+                .block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.dispose();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(BatchWriterOptions.Mode.class)
+    @DisplayName("동시에 들어온 write 를 배치로 묶어 모두 저장한다.")
+    void should_write_concurrent_items_in_batches(BatchWriterOptions.Mode mode) {
+        // given
+        writer = new BatchWriter<>(databaseClient, BID_TABLE,
+                BatchWriterOptions.defaults().withMode(mode).withMaxBatchSize(16));
+
+        // when
+        Mono<Void> writes = Flux.range(1, 100)
+                .flatMap(i -> writer.write(new Bid(i, i * 1_000L, i % 2 == 0 ? null : "memo-" + i)))
+                .then();
+
+        // then
+        StepVerifier.create(writes).verifyComplete();
+        assertThat(count()).isEqualTo(100L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(BatchWriterOptions.Mode.class)
+    @DisplayName("배치 중 실패한 행의 호출자에게만 에러를 전달한다.")
+    void should_propagate_error_only_to_failed_item(BatchWriterOptions.Mode mode) {
+        // given
+        databaseClient.sql("INSERT INTO bid (id, price) VALUES (3, 1)").then().block();
+        writer = new BatchWriter<>(databaseClient, BID_TABLE,
+                BatchWriterOptions.defaults().withMode(mode).withMaxWait(Duration.ofMillis(50)));
+
+        // when
+        Mono<Void> ok1 = writer.write(new Bid(1, 100L, null));
+        Mono<Void> ok2 = writer.write(new Bid(2, 200L, null));
+        Mono<Void> duplicated = writer.write(new Bid(3, 300L, null));
+
+        // then
+        StepVerifier.create(Mono.when(ok1, ok2)).verifyComplete();
+        StepVerifier.create(duplicated).expectError().verify(Duration.ofSeconds(5));
+        assertThat(count()).isEqualTo(3L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(BatchWriterOptions.Mode.class)
+    @DisplayName("컬럼 값 추출이 실패해도 해당 행만 실패하고 이후의 write 는 계속 처리된다.")
+    void should_keep_pipeline_alive_when_extractor_throws(BatchWriterOptions.Mode mode) {
+        // given
+        BatchTable<Bid> table = BatchTable.builder("bid", Bid.class)
+                .column("id", Long.class, Bid::id)
+                .column("price", Long.class, bid -> {
+                    if (bid.price() < 0) {
+                        throw new IllegalArgumentException("음수 가격");
+                    }
+                    return bid.price();
+                })
+                .column("memo", String.class, Bid::memo)
+                .build();
+        writer = new BatchWriter<>(databaseClient, table,
+                BatchWriterOptions.defaults().withMode(mode).withMaxWait(Duration.ofMillis(50)));
+
+        // when
+        Mono<Void> ok = writer.write(new Bid(1, 100L, null));
+        Mono<Void> invalid = writer.write(new Bid(2, -1L, null));
+
+        // then
+        StepVerifier.create(ok).verifyComplete();
+        StepVerifier.create(invalid).expectError(IllegalArgumentException.class).verify(Duration.ofSeconds(5));
+        StepVerifier.create(writer.write(new Bid(3, 300L, null))).verifyComplete();
+        assertThat(count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("STATEMENT_BATCH 에서 실패한 배치를 행 단위로 재실행해도 이미 실행된 행이 중복 저장되지 않는다.")
+    void should_not_duplicate_rows_when_statement_batch_is_isolated() {
+        // given
+        databaseClient.sql("CREATE TABLE bid_log (id BIGINT NOT NULL, price BIGINT NOT NULL CHECK (price > 0), memo VARCHAR(50))")
+                .then()
+                .block();
+        BatchTable<Bid> table = BatchTable.builder("bid_log", Bid.class)
+                .column("id", Long.class, Bid::id)
+                .column("price", Long.class, Bid::price)
+                .column("memo", String.class, Bid::memo)
+                .build();
+        writer = new BatchWriter<>(databaseClient, table, BatchWriterOptions.defaults()
+                .withMode(BatchWriterOptions.Mode.STATEMENT_BATCH)
+                .withMaxWait(Duration.ofMillis(50)));
+
+        // when
+        Mono<Void> ok1 = writer.write(new Bid(1, 100L, null));
+        Mono<Void> ok2 = writer.write(new Bid(2, 200L, null));
+        Mono<Void> rejected = writer.write(new Bid(3, -1L, null));
+
+        // then: 세 행을 같은 배치로 묶기 위해 함께 구독한다.
+        StepVerifier.create(Mono.zip(Mono.when(ok1, ok2).thenReturn(true), rejected.thenReturn(false).onErrorReturn(true)))
+                .assertNext(result -> {
+                    assertThat(result.getT1()).isTrue();
+                    assertThat(result.getT2()).isTrue();
+                })
+                .verifyComplete();
+        Long rows = databaseClient.sql("SELECT COUNT(*) AS cnt FROM bid_log")
+                .map(row -> row.get("cnt", Long.class))
+                .one()
+                .block();
+        assertThat(rows).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("writeAll 은 배치마다 반영된 행 수를 내보낸다.")
+    void should_emit_rows_updated_per_batch() {
+        // given
+        writer = new BatchWriter<>(databaseClient, BID_TABLE, BatchWriterOptions.defaults().withMaxBatchSize(10));
+        Flux<Bid> bids = Flux.fromStream(IntStream.rangeClosed(1, 25).mapToObj(i -> new Bid(i, i, null)));
+
+        // when & then
+        StepVerifier.create(writer.writeAll(bids).reduce(0L, Long::sum))
+                .expectNext(25L)
+                .verifyComplete();
+        assertThat(count()).isEqualTo(25L);
+    }
+
+    @Test
+    @DisplayName("writeAll 에서 실패한 행이 있으면 나머지를 반영한 뒤 에러를 낸다.")
+    void should_write_remaining_rows_and_fail_when_write_all_has_failure() {
+        // given
+        databaseClient.sql("INSERT INTO bid (id, price) VALUES (5, 1)").then().block();
+        writer = new BatchWriter<>(databaseClient, BID_TABLE, BatchWriterOptions.defaults().withMaxBatchSize(10));
+        Flux<Bid> bids = Flux.fromStream(IntStream.rangeClosed(1, 10).mapToObj(i -> new Bid(i, i, null)));
+
+        // when & then
+        StepVerifier.create(writer.writeAll(bids)).expectError().verify(Duration.ofSeconds(5));
+        assertThat(count()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("닫힌 뒤의 write 는 SERVICE_UNAVAILABLE 로 실패한다.")
+    void should_fail_with_service_unavailable_after_dispose() {
+        // given
+        writer = new BatchWriter<>(databaseClient, BID_TABLE, BatchWriterOptions.defaults());
+        writer.dispose();
+
+        // when & then
+        StepVerifier.create(writer.write(new Bid(1, 1L, null)))
+                .expectErrorSatisfies(e -> assertThat(((CommonException) e).getErrorCode())
+                        .isEqualTo(GlobalErrorCode.SERVICE_UNAVAILABLE))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션의 companionWrite 가 실패하면 배치도 롤백된다.")
+    void should_roll_back_batch_when_companion_write_fails() {
+        // given
+        TransactionalOperator transactionalOperator =
+                TransactionalOperator.create(new R2dbcTransactionManager(databaseClient.getConnectionFactory()));
+        writer = new BatchWriter<>(databaseClient, BID_TABLE, BatchWriterOptions.defaults(), transactionalOperator,
+                bids -> Mono.error(new IllegalStateException("outbox 기록 실패")));
+
+        // when & then
+        StepVerifier.create(writer.write(new Bid(1, 1L, null)))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+        assertThat(count()).isZero();
+    }
+
+    private long count() {
+        return databaseClient.sql("SELECT COUNT(*) AS cnt FROM bid")
+                .map(row -> row.get("cnt", Long.class))
+                .one()
+                .block();
+    }
+
+    record Bid(long id, long price, String memo) {
+    }
+}
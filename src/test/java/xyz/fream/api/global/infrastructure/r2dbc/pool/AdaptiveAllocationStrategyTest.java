@@ -0,0 +1,84 @@
+package xyz.fream.api.global.infrastructure.r2dbc.pool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveAllocationStrategy 테스트")
+class AdaptiveAllocationStrategyTest {
+
+    @Test
+    @DisplayName("상한까지만 커넥션 생성을 허용한다.")
+    void should_grant_permits_up_to_limit() {
+        // given
+        AdaptiveAllocationStrategy strategy = new AdaptiveAllocationStrategy(0, 10, 4);
+
+        // when
+        int first = strategy.getPermits(3);
+        int second = strategy.getPermits(3);
+        int third = strategy.getPermits(1);
+
+        // then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isZero();
+        assertThat(strategy.permitGranted()).isEqualTo(4);
+        assertThat(strategy.estimatePermitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("최소 크기에 못 미치면 최소 크기까지 한 번에 허용한다.")
+    void should_grant_minimum_permits_at_once() {
+        // given
+        AdaptiveAllocationStrategy strategy = new AdaptiveAllocationStrategy(5, 10, 10);
+
+        // when
+        int granted = strategy.getPermits(1);
+
+        // then
+        assertThat(granted).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("상한은 최소 / 최대 범위 안에서만 조정된다.")
+    void should_keep_limit_within_bounds() {
+        // given
+        AdaptiveAllocationStrategy strategy = new AdaptiveAllocationStrategy(2, 8, 4);
+
+        // when & then
+        assertThat(strategy.grow(10)).isEqualTo(8);
+        assertThat(strategy.shrink(100)).isEqualTo(2);
+        assertThat(strategy.permitMinimum()).isEqualTo(2);
+        assertThat(strategy.permitMaximum()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("상한을 줄이면 반납되기 전까지 새 커넥션을 허용하지 않는다.")
+    void should_not_grant_permits_after_shrink_until_returned() {
+        // given
+        AdaptiveAllocationStrategy strategy = new AdaptiveAllocationStrategy(1, 10, 6);
+        strategy.getPermits(6);
+
+        // when
+        strategy.shrink(3);
+
+        // then
+        assertThat(strategy.getPermits(1)).isZero();
+        strategy.returnPermits(4);
+        assertThat(strategy.getPermits(1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("할당된 수보다 많이 반납하면 예외가 발생한다.")
+    void should_throw_exception_when_returning_too_many_permits() {
+        // given
+        AdaptiveAllocationStrategy strategy = new AdaptiveAllocationStrategy(0, 10, 10);
+        strategy.getPermits(2);
+
+        // when & then
+        assertThatThrownBy(() -> strategy.returnPermits(3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,35 @@
+package xyz.fream.api.global.infrastructure.r2dbc.pool;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.boot.r2dbc.EmbeddedDatabaseConnection;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MonitoredConnectionPool 테스트")
+class MonitoredConnectionPoolTest {
+
+    @Test
+    @DisplayName("원래 풀을 노출해서 내장 DB 여부를 판단할 수 있다.")
+    void should_expose_embedded_connection_factory() {
+        // given
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(
+                        ConnectionFactoryBuilder.withUrl("r2dbc:h2:mem:///pool-" + UUID.randomUUID()).build())
+                .build());
+        MonitoredConnectionPool monitored = new MonitoredConnectionPool("write", pool,
+                new AdaptiveAllocationStrategy(1, 2, 2));
+
+        try {
+            // when & then
+            assertThat(monitored.unwrap()).isSameAs(pool);
+            assertThat(EmbeddedDatabaseConnection.isEmbedded(monitored)).isTrue();
+        } finally {
+            monitored.dispose();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package xyz.fream.api.global.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BlockingCallDetector 테스트")
+class BlockingCallDetectorTest {
+
+    @Test
+    @DisplayName("호출 위치는 애플리케이션 코드의 첫 스택 프레임이다.")
+    void should_resolve_application_frame_as_site() {
+        // given
+        StackTraceElement[] stackTrace = {
+                new StackTraceElement("java.lang.Thread", "sleep", "Thread.java", 1),
+                new StackTraceElement("org.h2.engine.Session", "lock", "Session.java", 10),
+                new StackTraceElement("xyz.fream.api.domain.matching.Foo", "bar", "Foo.java", 42)
+        };
+
+        // when & then
+        assertThat(BlockingCallDetector.siteOf(stackTrace)).isEqualTo("xyz.fream.api.domain.matching.Foo.bar:42");
+        assertThat(BlockingCallDetector.siteOf(new StackTraceElement[]{stackTrace[0], stackTrace[1]}))
+                .isEqualTo("org.h2.engine.Session.lock:10");
+    }
+
+    @Test
+    @Tag("integration")
+    @DisplayName("논블로킹 Scheduler 의 블로킹 호출을 보고하고 FAIL 모드에서는 실패시킨다.")
+    void should_report_and_fail_blocking_call_on_non_blocking_thread() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BlockingCallDetector detector = new BlockingCallDetector(meterRegistry, BlockingCallDetector.Mode.FAIL,
+                List.of("fream-http"), List.of());
+        detector.install();
+
+        // when
+        StepVerifier.create(Mono.fromCallable(() -> {
+                            Thread.sleep(1);
+                            return 1;
+                        })
+                        .subscribeOn(Schedulers.parallel()))
+                .verifyError(BlockingOperationError.class);
+
+        // then
+        assertThat(detector.getReports())
+                .singleElement()
+                .satisfies(report -> {
+                    assertThat(report.method()).isEqualTo("java.lang.Thread#sleep");
+                    assertThat(report.thread()).startsWith("parallel-");
+                    assertThat(report.site()).startsWith(BlockingCallDetectorTest.class.getName());
+                });
+        assertThat(meterRegistry.get(BlockingCallDetector.METRIC_NAME).functionCounter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,50 @@
+package xyz.fream.api.global.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+import xyz.fream.api.global.presentation.exception.GlobalExceptionHandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ErrorCodeMetrics 테스트")
+class ErrorCodeMetricsTest {
+
+    @Test
+    @DisplayName("GlobalExceptionHandler 가 기록한 에러 응답을 ErrorCode 별로 센다.")
+    void should_count_error_responses_per_code() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ErrorCodeMetrics metrics = new ErrorCodeMetrics(meterRegistry);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("errorCodeMetrics", metrics);
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(new ObjectMapper(),
+                beanFactory.getBeanProvider(ErrorCodeMetrics.class));
+
+        // when
+        StepVerifier.create(handler.handle(exchange(), new CommonException(GlobalErrorCode.EXPIRED_TOKEN)))
+                .verifyComplete();
+        StepVerifier.create(handler.writeErrorResponse(exchange(), GlobalErrorCode.EXPIRED_TOKEN))
+                .verifyComplete();
+        StepVerifier.create(handler.handle(exchange(), new IllegalStateException("unknown")))
+                .verifyComplete();
+
+        // then
+        assertThat(metrics.count("GLOBAL_202")).isEqualTo(2L);
+        assertThat(meterRegistry.get(ErrorCodeMetrics.METRIC_NAME)
+                .tags("code", "GLOBAL_001", "status", "500")
+                .functionCounter()
+                .count()).isEqualTo(1.0);
+    }
+
+    private MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/orders"));
+    }
+}
@@ -0,0 +1,112 @@
+package xyz.fream.api.global.observability;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HttpLatencyWebFilter 테스트")
+class HttpLatencyWebFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LatencyHistogramRegistry registry = new LatencyHistogramRegistry(meterRegistry, Duration.ofSeconds(10));
+    private final HttpLatencyWebFilter filter = new HttpLatencyWebFilter(registry);
+
+    @Test
+    @DisplayName("매칭된 경로 패턴 / 메소드 / 상태별로 처리 시간을 기록한다.")
+    void should_record_latency_per_route_and_status() {
+        // given
+        for (long productId = 1; productId <= 3; productId++) {
+            MockServerWebExchange exchange = exchange("/api/v1/products/" + productId);
+
+            // when
+            StepVerifier.create(filter.filter(exchange, ex -> {
+                        ex.getAttributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                                PathPatternParser.defaultInstance.parse("/api/v1/products/{productId}"));
+                        ex.getResponse().setStatusCode(HttpStatus.OK);
+                        return Mono.delay(Duration.ofMillis(5)).then();
+                    }))
+                    .verifyComplete();
+        }
+        registry.rotateAll();
+
+        // then
+        FunctionTimer timer = meterRegistry.get(HttpLatencyWebFilter.METRIC_NAME)
+                .tags("route", "/api/v1/products/{productId}", "method", "GET", "status", "200")
+                .functionTimer();
+        assertThat(timer.count()).isEqualTo(3.0);
+        Gauge p99 = meterRegistry.get(HttpLatencyWebFilter.METRIC_NAME + ".percentile")
+                .tags("route", "/api/v1/products/{productId}", "phi", "0.99")
+                .gauge();
+        assertThat(p99.value()).isGreaterThanOrEqualTo(0.005);
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 요청은 ErrorCode 상태로, 매칭되지 않은 경로는 UNMATCHED 로 기록한다.")
+    void should_record_error_status_and_unmatched_route() {
+        // when
+        StepVerifier.create(filter.filter(exchange("/unknown/123"),
+                        ex -> Mono.error(new CommonException(GlobalErrorCode.RESOURCE_NOT_FOUND))))
+                .verifyError(CommonException.class);
+
+        // then
+        FunctionTimer timer = meterRegistry.get(HttpLatencyWebFilter.METRIC_NAME)
+                .tags("route", HttpLatencyWebFilter.UNMATCHED, "status", "404")
+                .functionTimer();
+        assertThat(timer.count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("표준이 아닌 메소드는 OTHER 로 묶어서 기록한다.")
+    void should_collapse_non_standard_methods() {
+        // when
+        for (String method : new String[]{"FOO", "BAR", "BAZ"}) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(
+                    MockServerHttpRequest.method(HttpMethod.valueOf(method), "/unknown"));
+            StepVerifier.create(filter.filter(exchange, ex -> Mono.empty())).verifyComplete();
+        }
+
+        // then
+        FunctionTimer timer = meterRegistry.get(HttpLatencyWebFilter.METRIC_NAME)
+                .tags("route", HttpLatencyWebFilter.UNMATCHED, "method", HttpLatencyWebFilter.OTHER_METHOD)
+                .functionTimer();
+        assertThat(timer.count()).isEqualTo(3.0);
+        assertThat(meterRegistry.find(HttpLatencyWebFilter.METRIC_NAME).functionTimers()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("구간에 기록이 없으면 분위수 스냅샷은 0 으로 돌아간다.")
+    void should_reset_snapshot_for_empty_interval() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Duration.ofMillis(3).toNanos());
+        histogram.rotate();
+        assertThat(histogram.getSnapshot().maxMicros()).isBetween(2_900L, 3_100L);
+
+        // when
+        histogram.rotate();
+
+        // then
+        assertThat(histogram.getSnapshot().maxMicros()).isZero();
+        assertThat(histogram.getCount()).isEqualTo(1L);
+    }
+
+    private MockServerWebExchange exchange(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+}
@@ -0,0 +1,55 @@
+package xyz.fream.api.global.observability;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SchedulerTaskHook 테스트")
+class SchedulerTaskHookTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SchedulerTaskHook hook =
+            new SchedulerTaskHook(new LatencyHistogramRegistry(meterRegistry, Duration.ofSeconds(10)));
+
+    @AfterEach
+    void tearDown() {
+        hook.dispose();
+    }
+
+    @Test
+    @DisplayName("Scheduler 작업 실행 시간을 스레드 이름 접두사별로 기록한다.")
+    void should_record_task_time_per_scheduler() {
+        // given
+        hook.start();
+        Scheduler scheduler = Schedulers.newParallel("hook-test", 2);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            Mono.fromRunnable(() -> { }).subscribeOn(scheduler).block();
+        }
+        scheduler.dispose();
+
+        // then
+        FunctionTimer timer = meterRegistry.get(SchedulerTaskHook.METRIC_NAME)
+                .tag("scheduler", "hook-test")
+                .functionTimer();
+        assertThat(timer.count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("스레드 이름 끝의 번호를 떼어 Scheduler 이름을 만든다.")
+    void should_strip_thread_index() {
+        assertThat(SchedulerTaskHook.schedulerOf("parallel-3")).isEqualTo("parallel");
+        assertThat(SchedulerTaskHook.schedulerOf("fream-event-bus-12")).isEqualTo("fream-event-bus");
+        assertThat(SchedulerTaskHook.schedulerOf("single")).isEqualTo("single");
+    }
+}
@@ -0,0 +1,224 @@
+package xyz.fream.api.global.presentation.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import xyz.fream.api.global.common.dto.PageInfo;
+import xyz.fream.api.global.presentation.dto.ApiResponse;
+import xyz.fream.api.global.presentation.dto.PageResponse;
+import xyz.fream.api.global.presentation.dto.StreamingPageResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ApiResponseEncoder 테스트")
+class ApiResponseEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ApiResponseEncoder encoder = new ApiResponseEncoder(objectMapper);
+
+    @Test
+    @DisplayName("ApiResponse와 PageResponse만 인코딩 대상으로 판단한다.")
+    void should_encode_only_api_response_and_page_response() {
+        // when & then
+        assertThat(encoder.canEncode(ResolvableType.forClass(ApiResponse.class), MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(encoder.canEncode(ResolvableType.forClass(PageResponse.class), MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(encoder.canEncode(ResolvableType.forClass(String.class), MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(encoder.canEncode(ResolvableType.forClass(ApiResponse.class), MediaType.TEXT_PLAIN)).isFalse();
+    }
+
+    @Test
+    @DisplayName("envelope 필드와 데이터를 JSON으로 인코딩한다.")
+    void should_encode_envelope_fields_and_data() throws Exception {
+        // given
+        ApiResponse<String> response = ApiResponse.success("test data", "성공적으로 처리되었습니다.");
+
+        // when
+        JsonNode json = encodeToJson(response, new ApiResponseEncoder(objectMapper));
+
+        // then
+        assertThat(json.get("success").asBoolean()).isTrue();
+        assertThat(json.get("message").asText()).isEqualTo("성공적으로 처리되었습니다.");
+        assertThat(json.get("data").asText()).isEqualTo("test data");
+        assertThat(json.get("timestamp").asLong()).isEqualTo(response.getTimestamp());
+        assertThat(json.has("errorCode")).isFalse();
+    }
+
+    @Test
+    @DisplayName("null 필드는 응답에 포함하지 않는다.")
+    void should_omit_null_fields() throws Exception {
+        // given
+        ApiResponse<Void> response = ApiResponse.success();
+
+        // when
+        JsonNode json = encodeToJson(response, encoder);
+
+        // then
+        assertThat(json.has("message")).isFalse();
+        assertThat(json.has("errorCode")).isFalse();
+        assertThat(json.has("data")).isFalse();
+    }
+
+    @Test
+    @DisplayName("PageResponse의 content와 pageInfo를 인코딩한다.")
+    void should_encode_page_response() throws Exception {
+        // given
+        PageInfo pageInfo = PageInfo.of(0, 10, 3, 1, 3);
+        ApiResponse<PageResponse<String>> response =
+                ApiResponse.success(PageResponse.of(List.of("item1", "item2", "item3"), pageInfo));
+
+        // when
+        JsonNode json = encodeToJson(response, encoder);
+
+        // then
+        JsonNode data = json.get("data");
+        assertThat(data.get("content")).hasSize(3);
+        assertThat(data.get("content").get(0).asText()).isEqualTo("item1");
+        assertThat(data.get("pageInfo").get("totalElements").asLong()).isEqualTo(3);
+        assertThat(data.get("pageInfo").get("first").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("목록 데이터가 청크 크기를 넘으면 여러 버퍼로 나누어 인코딩한다.")
+    void should_split_large_list_into_multiple_buffers() throws Exception {
+        // given
+        ApiResponseEncoder smallChunkEncoder = new ApiResponseEncoder(objectMapper, 64);
+        List<Integer> content = IntStream.range(0, 500).boxed().toList();
+        ApiResponse<List<Integer>> response = ApiResponse.success(content);
+
+        // when
+        List<DataBuffer> buffers = encode(response, smallChunkEncoder);
+        String json = join(buffers);
+
+        // then
+        assertThat(buffers.size()).isGreaterThan(1);
+        assertThat(objectMapper.readTree(json).get("data")).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("빈 목록은 빈 배열로 인코딩한다.")
+    void should_encode_empty_list_as_empty_array() throws Exception {
+        // given
+        ApiResponse<List<String>> response = ApiResponse.success(Collections.emptyList());
+
+        // when
+        JsonNode json = encodeToJson(response, encoder);
+
+        // then
+        assertThat(json.get("data").isArray()).isTrue();
+        assertThat(json.get("data")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("StreamingPageResponse는 content를 스트리밍하고 pageInfo를 마지막에 기록한다.")
+    void should_encode_streaming_page_with_page_info_trailer() throws Exception {
+        // given
+        StreamingPageResponse<String> page = StreamingPageResponse.of(
+                Flux.just("item1", "item2"), Mono.just(12L), 1, 2);
+        ApiResponse<StreamingPageResponse<String>> response = ApiResponse.success(page);
+
+        // when
+        String body = join(encode(response, encoder));
+        JsonNode data = objectMapper.readTree(body).get("data");
+
+        // then
+        assertThat(body.indexOf("\"content\"")).isLessThan(body.indexOf("\"pageInfo\""));
+        assertThat(data.get("content")).hasSize(2);
+        assertThat(data.get("pageInfo").get("totalElements").asLong()).isEqualTo(12L);
+        assertThat(data.get("pageInfo").get("totalPages").asInt()).isEqualTo(6);
+        assertThat(data.get("pageInfo").get("numberOfElements").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("StreamingPageResponse는 단일 버퍼로 인코딩할 수 없다.")
+    void should_reject_single_value_encoding_for_streaming_page() {
+        // given
+        StreamingPageResponse<String> page = StreamingPageResponse.of(Flux.just("item1"), Mono.just(1L), 0, 10);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.encodeValue(page, DefaultDataBufferFactory.sharedInstance,
+                ResolvableType.forInstance(page), MediaType.APPLICATION_JSON, Collections.emptyMap()))
+                .isInstanceOf(EncodingException.class);
+    }
+
+    @Test
+    @DisplayName("여러 값을 내보내는 Flux 는 하나의 JSON 배열로 인코딩한다.")
+    void should_encode_multi_value_publisher_as_json_array() throws Exception {
+        // given
+        Flux<ApiResponse<String>> responses = Flux.just(ApiResponse.success("first"), ApiResponse.success("second"));
+
+        // when
+        List<DataBuffer> buffers = encoder.encode(
+                        responses,
+                        DefaultDataBufferFactory.sharedInstance,
+                        ResolvableType.forClass(ApiResponse.class),
+                        MediaType.APPLICATION_JSON,
+                        Collections.emptyMap())
+                .collectList()
+                .block();
+        JsonNode json = objectMapper.readTree(join(buffers));
+
+        // then
+        assertThat(json.isArray()).isTrue();
+        assertThat(json).hasSize(2);
+        assertThat(json.get(0).get("data").asText()).isEqualTo("first");
+        assertThat(json.get(1).get("data").asText()).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("빈 Flux 는 빈 JSON 배열로 인코딩한다.")
+    void should_encode_empty_publisher_as_empty_array() {
+        // when
+        List<DataBuffer> buffers = encoder.encode(
+                        Flux.empty(),
+                        DefaultDataBufferFactory.sharedInstance,
+                        ResolvableType.forClass(ApiResponse.class),
+                        MediaType.APPLICATION_JSON,
+                        Collections.emptyMap())
+                .collectList()
+                .block();
+
+        // then
+        assertThat(join(buffers)).isEqualTo("[]");
+    }
+
+    private JsonNode encodeToJson(Object value, ApiResponseEncoder encoder) throws Exception {
+        return objectMapper.readTree(join(encode(value, encoder)));
+    }
+
+    private List<DataBuffer> encode(Object value, ApiResponseEncoder encoder) {
+        List<DataBuffer> buffers = encoder.encode(
+                        Mono.just(value),
+                        DefaultDataBufferFactory.sharedInstance,
+                        ResolvableType.forInstance(value),
+                        MediaType.APPLICATION_JSON,
+                        Collections.emptyMap())
+                .collectList()
+                .block();
+        return buffers != null ? buffers : new ArrayList<>();
+    }
+
+    private String join(List<DataBuffer> buffers) {
+        StringBuilder builder = new StringBuilder();
+        for (DataBuffer buffer : buffers) {
+            builder.append(buffer.toString(StandardCharsets.UTF_8));
+            DataBufferUtils.release(buffer);
+        }
+        return builder.toString();
+    }
+}
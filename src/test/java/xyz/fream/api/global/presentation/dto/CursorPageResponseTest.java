@@ -0,0 +1,79 @@
+package xyz.fream.api.global.presentation.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xyz.fream.api.global.common.dto.Cursor;
+import xyz.fream.api.global.common.dto.CursorPageInfo;
+import xyz.fream.api.global.presentation.exception.CommonException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CursorPageResponse dto 테스트")
+class CursorPageResponseTest {
+
+    @Test
+    @DisplayName("size보다 많이 조회되면 다음 커서를 만든다.")
+    void should_create_next_cursor_when_more_rows_fetched() {
+        // given
+        List<Long> rows = List.of(1L, 2L, 3L, 4L);
+
+        // when
+        CursorPageResponse<Long> response = CursorPageResponse.fromFetched(rows, 3, row -> Cursor.of(row, row));
+
+        // then
+        assertThat(response.getContent()).containsExactly(1L, 2L, 3L);
+        assertThat(response.getPageInfo().isHasNext()).isTrue();
+        assertThat(response.getPageInfo().getNumberOfElements()).isEqualTo(3);
+
+        Cursor next = Cursor.decode(response.getPageInfo().getNextCursor(), Duration.ofMinutes(1));
+        assertThat(next.getSortValue()).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서가 없다.")
+    void should_not_create_next_cursor_on_last_page() {
+        // given
+        List<Long> rows = List.of(1L, 2L);
+
+        // when
+        CursorPageResponse<Long> response = CursorPageResponse.fromFetched(rows, 3, row -> Cursor.of(row, row));
+
+        // then
+        assertThat(response.getContent()).containsExactly(1L, 2L);
+        assertThat(response.getPageInfo().isHasNext()).isFalse();
+        assertThat(response.getPageInfo().getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("근사 전체 개수를 함께 내려줄 수 있다.")
+    void should_include_approximate_total_elements() {
+        // when
+        CursorPageResponse<Long> response =
+                CursorPageResponse.fromFetched(List.of(1L), 10, row -> Cursor.of(row, row), 1200L);
+
+        // then
+        assertThat(response.getPageInfo().getApproximateTotalElements()).isEqualTo(1200L);
+    }
+
+    @Test
+    @DisplayName("pageInfo가 null이면 예외가 발생한다.")
+    void should_throw_exception_when_page_info_null() {
+        // when & then
+        assertThatThrownBy(() -> CursorPageResponse.of(List.of("item"), null))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("페이지 정보는 null이 될 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("근사 전체 개수가 음수면 예외가 발생한다.")
+    void should_throw_exception_when_approximate_total_is_negative() {
+        // when & then
+        assertThatThrownBy(() -> CursorPageInfo.of(10, 0, null, -1L))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("전체 요소 수는 0보다 크거나 같아야 합니다.");
+    }
+}
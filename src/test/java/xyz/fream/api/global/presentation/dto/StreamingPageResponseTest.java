@@ -0,0 +1,78 @@
+package xyz.fream.api.global.presentation.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.common.dto.PageInfo;
+import xyz.fream.api.global.presentation.exception.CommonException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StreamingPageResponse dto 테스트")
+class StreamingPageResponseTest {
+
+    @Test
+    @DisplayName("StreamingPageResponse를 생성할 수 있다.")
+    void should_create_streaming_page_response() {
+        // given
+        Flux<String> content = Flux.just("item1", "item2", "item3");
+
+        // when
+        StreamingPageResponse<String> response = StreamingPageResponse.of(content, Mono.just(3L), 0, 10);
+
+        // then
+        StepVerifier.create(response.getContent())
+                .expectNext("item1", "item2", "item3")
+                .verifyComplete();
+        assertThat(response.getPage()).isZero();
+        assertThat(response.getSize()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("content가 null이면 빈 Flux로 초기화된다.")
+    void should_initialize_empty_flux_when_content_is_null() {
+        // when
+        StreamingPageResponse<String> response = StreamingPageResponse.of(null, Mono.just(0L), 0, 10);
+
+        // then
+        StepVerifier.create(response.getContent()).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("전체 개수로 PageInfo를 계산할 수 있다.")
+    void should_compute_page_info_from_total_count() {
+        // given
+        StreamingPageResponse<String> response = StreamingPageResponse.of(Flux.empty(), Mono.just(25L), 1, 10);
+
+        // when
+        PageInfo pageInfo = response.toPageInfo(25L, 10);
+
+        // then
+        assertThat(pageInfo.getTotalPages()).isEqualTo(3);
+        assertThat(pageInfo.getTotalElements()).isEqualTo(25L);
+        assertThat(pageInfo.getNumberOfElements()).isEqualTo(10);
+        assertThat(pageInfo.isHasNext()).isTrue();
+        assertThat(pageInfo.isHasPrevious()).isTrue();
+    }
+
+    @Test
+    @DisplayName("totalCount가 null이면 예외가 발생한다.")
+    void should_throw_exception_when_total_count_is_null() {
+        // when & then
+        assertThatThrownBy(() -> StreamingPageResponse.of(Flux.just("item"), null, 0, 10))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("페이지 정보는 null이 될 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("size가 0이하면 예외가 발생한다.")
+    void should_throw_exception_when_size_is_zero_or_negative() {
+        // when & then
+        assertThatThrownBy(() -> StreamingPageResponse.of(Flux.just("item"), Mono.just(1L), 0, 0))
+                .isInstanceOf(CommonException.class)
+                .hasMessageContaining("페이지 크기는 0보다 커야 합니다.");
+    }
+}
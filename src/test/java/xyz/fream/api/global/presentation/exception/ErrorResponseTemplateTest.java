@@ -0,0 +1,61 @@
+package xyz.fream.api.global.presentation.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ErrorResponseTemplate 테스트")
+class ErrorResponseTemplateTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("미리 인코딩된 템플릿에 path와 timestamp를 채워 ErrorResponse 형식으로 기록한다.")
+    void should_write_error_response_with_path_and_timestamp() throws Exception {
+        // given
+        ErrorResponseTemplate template = ErrorResponseTemplate.of(objectMapper, GlobalErrorCode.TOKEN_MISSING);
+
+        // when
+        JsonNode json = writeToJson(template, "/api/v1/bids", 1700000000123L);
+
+        // then
+        assertThat(json.get("code").asText()).isEqualTo("GLOBAL_203");
+        assertThat(json.get("message").asText()).isEqualTo("토큰이 누락되었습니다.");
+        assertThat(json.get("status").asInt()).isEqualTo(401);
+        assertThat(json.get("path").asText()).isEqualTo("/api/v1/bids");
+        assertThat(json.get("timestamp").asLong()).isEqualTo(1700000000123L);
+    }
+
+    @Test
+    @DisplayName("path와 메시지에 포함된 특수문자는 JSON 이스케이프된다.")
+    void should_escape_path_and_message() throws Exception {
+        // given
+        ErrorResponseTemplate template = ErrorResponseTemplate.of(
+                objectMapper, "GLOBAL_101", "\"email\" 형식이 올바르지 않습니다.", 400);
+
+        // when
+        JsonNode json = writeToJson(template, "/test/\"quoted\"\\path", 0L);
+
+        // then
+        assertThat(json.get("message").asText()).isEqualTo("\"email\" 형식이 올바르지 않습니다.");
+        assertThat(json.get("path").asText()).isEqualTo("/test/\"quoted\"\\path");
+        assertThat(json.get("timestamp").asLong()).isZero();
+    }
+
+    private JsonNode writeToJson(ErrorResponseTemplate template, String path, long timestamp) throws Exception {
+        DataBuffer buffer = template.write(DefaultDataBufferFactory.sharedInstance, path, timestamp);
+        try {
+            return objectMapper.readTree(buffer.toString(StandardCharsets.UTF_8));
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
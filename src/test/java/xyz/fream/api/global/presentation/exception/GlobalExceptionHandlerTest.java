@@ -120,6 +120,19 @@ class GlobalExceptionHandlerTest {
                 .jsonPath("$.status").isEqualTo(503);
     }
 
+    @Test
+    @DisplayName("원인 예외로 감싸진 GlobalException은 해당 에러 코드로 응답한다.")
+    void should_return_error_code_of_wrapped_global_exception() {
+        // when & then
+        webTestClient.get()
+                .uri("/test/wrapped-exception")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("GLOBAL_002")
+                .jsonPath("$.status").isEqualTo(503);
+    }
+
     // test Configuration
     @Configuration
     @Import(GlobalExceptionHandler.class)
@@ -166,6 +179,12 @@ class GlobalExceptionHandlerTest {
             return Mono.error(new TestException(GlobalErrorCode.DUPLICATE_RESOURCE));
         }
 
+        @GetMapping("/test/wrapped-exception")
+        public Mono<String> throwWrappedException() {
+            return Mono.error(new IllegalStateException("커넥션 획득 실패",
+                    new TestException(GlobalErrorCode.SERVICE_UNAVAILABLE)));
+        }
+
         @GetMapping("/test/service-unavailable")
         public Mono<String> throwServiceUnavailable() {
             return Mono.error(new TestException(GlobalErrorCode.SERVICE_UNAVAILABLE));
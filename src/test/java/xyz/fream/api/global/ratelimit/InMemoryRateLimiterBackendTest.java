@@ -0,0 +1,110 @@
+package xyz.fream.api.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryRateLimiterBackend 테스트")
+class InMemoryRateLimiterBackendTest {
+
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy("bid", 10, 5);
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final InMemoryRateLimiterBackend backend =
+            new InMemoryRateLimiterBackend(8, Duration.ofMinutes(1), Duration.ofMinutes(1), now::get);
+
+    @Test
+    @DisplayName("burstCapacity 만큼 허용하고, 이후에는 다시 채워질 때까지 거부한다.")
+    void should_allow_burst_then_reject() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(backend.acquire("user-1", POLICY).remaining()).isEqualTo(4 - i);
+        }
+        RateLimitDecision rejected = backend.acquire("user-1", POLICY);
+
+        // then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 replenishRate 만큼 토큰이 다시 채워진다.")
+    void should_replenish_tokens_over_time() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            backend.acquire("user-1", POLICY);
+        }
+
+        // when
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+
+        // then
+        assertThat(backend.acquire("user-1", POLICY).allowed()).isTrue();
+        assertThat(backend.acquire("user-1", POLICY).allowed()).isTrue();
+        assertThat(backend.acquire("user-1", POLICY).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("키마다 버킷이 따로 있다.")
+    void should_isolate_buckets_per_key() {
+        for (int i = 0; i < 5; i++) {
+            backend.acquire("user-1", POLICY);
+        }
+
+        assertThat(backend.acquire("user-1", POLICY).allowed()).isFalse();
+        assertThat(backend.acquire("user-2", POLICY).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 burstCapacity 보다 많이 허용하지 않는다.")
+    void should_not_over_admit_under_contention() throws InterruptedException {
+        // given
+        RateLimitPolicy policy = new RateLimitPolicy("bid", 1, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (backend.acquire("user-1", policy).allowed()) {
+                    allowed.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(allowed).hasValue(100);
+    }
+
+    @Test
+    @DisplayName("가득 찬 뒤 idleTimeout 이 지난 버킷만 정리한다.")
+    void should_sweep_idle_buckets() {
+        // given
+        backend.acquire("idle", POLICY);
+        now.addAndGet(Duration.ofSeconds(50).toNanos());
+        backend.acquire("active", POLICY);
+
+        // when
+        now.addAndGet(Duration.ofSeconds(15).toNanos());
+        int removed = backend.sweep();
+
+        // then
+        assertThat(removed).isEqualTo(1);
+        assertThat(backend.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,117 @@
+package xyz.fream.api.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.presentation.exception.GlobalExceptionHandler;
+import xyz.fream.api.global.security.AuthenticatedPrincipal;
+import xyz.fream.api.global.security.AuthenticationContext;
+import xyz.fream.api.global.security.JwtAuthenticationWebFilter;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitWebFilter 테스트")
+class RateLimitWebFilterTest {
+
+    private final AtomicInteger passed = new AtomicInteger();
+    private final WebFilterChain chain = exchange -> Mono.fromRunnable(passed::incrementAndGet);
+    private final RateLimitWebFilter filter = new RateLimitWebFilter(
+            List.of(new RateLimitRule(new RateLimitPolicy("bid", 1, 2), "/api/v1/bids/**", List.of(HttpMethod.POST))),
+            new InMemoryRateLimiterBackend(4, Duration.ofMinutes(1), Duration.ofMinutes(1)),
+            new GlobalExceptionHandler(new ObjectMapper()));
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 429 와 Retry-After 로 바로 거부한다.")
+    void should_reject_over_limit_request() {
+        // given
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(filter.filter(post("/api/v1/bids", "10.0.0.1"), chain)).verifyComplete();
+        }
+        MockServerWebExchange exchange = post("/api/v1/bids", "10.0.0.1");
+
+        // when
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // then
+        assertThat(passed).hasValue(2);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(exchange.getResponse().getHeaders().getFirst(RateLimitWebFilter.RETRY_AFTER_HEADER)).isEqualTo("1");
+        assertThat(exchange.getResponse().getBodyAsString().block()).contains("GLOBAL_500");
+    }
+
+    @Test
+    @DisplayName("인증된 요청은 IP 가 달라도 같은 사용자 버킷을 쓴다.")
+    void should_key_authenticated_requests_by_subject() {
+        // given
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal("user-1", Set.of(), Instant.now().plusSeconds(60));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(filter.filter(post("/api/v1/bids", "10.0.0." + i), chain)
+                            .contextWrite(AuthenticationContext.withPrincipal(principal)))
+                    .verifyComplete();
+        }
+
+        // then
+        assertThat(passed).hasValue(2);
+        assertThat(filter.getRules().get(0).getRejected()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("규칙에 맞지 않는 요청은 한도 없이 통과한다.")
+    void should_pass_requests_without_matching_rule() {
+        for (int i = 0; i < 5; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/bids")
+                    .remoteAddress(new InetSocketAddress("10.0.0.1", 443)));
+            StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+        }
+
+        assertThat(passed).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("인증 필터 앞의 IP 한도는 인증 단계에서 거부될 요청도 세어 막는다.")
+    void should_limit_requests_rejected_by_authentication_per_client_address() {
+        // given
+        RateLimitWebFilter clientAddressFilter = new RateLimitWebFilter(
+                List.of(new RateLimitRule(new RateLimitPolicy("client-address", 1, 2), "/api/**", List.of())),
+                new InMemoryRateLimiterBackend(4, Duration.ofMinutes(1), Duration.ofMinutes(1)),
+                new GlobalExceptionHandler(new ObjectMapper()),
+                RateLimitWebFilter.CLIENT_ADDRESS_ORDER);
+        WebFilterChain rejectingAuthentication = exchange -> Mono.fromRunnable(() -> {
+            passed.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        });
+
+        // when
+        MockServerWebExchange last = null;
+        for (int i = 0; i < 3; i++) {
+            last = post("/api/v1/bids", "10.0.0.1");
+            StepVerifier.create(clientAddressFilter.filter(last, rejectingAuthentication)).verifyComplete();
+        }
+
+        // then
+        assertThat(clientAddressFilter.getOrder()).isLessThan(JwtAuthenticationWebFilter.ORDER);
+        assertThat(passed).hasValue(2);
+        assertThat(last.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private MockServerWebExchange post(String path, String address) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(path)
+                .remoteAddress(new InetSocketAddress(address, 443)));
+    }
+}
@@ -0,0 +1,95 @@
+package xyz.fream.api.global.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CircuitBreaker 테스트")
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("payment",
+            new CircuitBreakerSpec(10, 4, 0.5, Duration.ofSeconds(30), 2), now::get);
+
+    @Test
+    @DisplayName("최소 호출 수 이상에서 실패율이 기준을 넘으면 회로를 연다.")
+    void should_open_when_failure_rate_exceeds_threshold() {
+        // when
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.getRejected()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("오래된 결과는 슬라이딩 윈도우에서 밀려난다.")
+    void should_slide_out_old_outcomes() {
+        // given
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.onSuccess();
+        }
+
+        // then
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("열린 뒤 openDuration 이 지나면 반열림으로 시험 호출을 허용하고, 모두 성공하면 닫는다.")
+    void should_close_after_successful_half_open_trials() {
+        // given
+        open();
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // when
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("반열림 시험 호출이 실패하면 다시 연다.")
+    void should_reopen_when_half_open_trial_fails() {
+        // given
+        open();
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
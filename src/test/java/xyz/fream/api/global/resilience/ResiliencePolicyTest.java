@@ -0,0 +1,194 @@
+package xyz.fream.api.global.resilience;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 스텁 HTTP 서버(Reactor Netty)에 WebClient 로 호출하면서 정책 동작을 확인한다.
+ * */
+@DisplayName("ResiliencePolicy 테스트")
+class ResiliencePolicyTest {
+
+    private final AtomicInteger flakyCalls = new AtomicInteger();
+    private final AtomicInteger downCalls = new AtomicInteger();
+    private final AtomicInteger tailCalls = new AtomicInteger();
+    private final AtomicInteger tailErrorCalls = new AtomicInteger();
+    private DisposableServer server;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/flaky", (request, response) -> flakyCalls.incrementAndGet() <= 2
+                                ? response.status(503).sendString(Mono.just("unavailable"))
+                                : response.sendString(Mono.just("ok")))
+                        .get("/down", (request, response) -> {
+                            downCalls.incrementAndGet();
+                            return response.status(500).sendString(Mono.just("error"));
+                        })
+                        .get("/slow", (request, response) ->
+                                response.sendString(Mono.just("slow").delayElement(Duration.ofMillis(500))))
+                        .get("/tail", (request, response) -> tailCalls.incrementAndGet() == 1
+                                ? response.sendString(Mono.just("first").delayElement(Duration.ofSeconds(1)))
+                                : response.sendString(Mono.just("hedged")))
+                        .get("/tail-error", (request, response) -> tailErrorCalls.incrementAndGet() == 1
+                                ? Mono.delay(Duration.ofMillis(100)).then(response.status(500).sendString(Mono.just("error")).then())
+                                : response.sendString(Mono.just("hedged").delayElement(Duration.ofMillis(300)))))
+                .bindNow();
+        webClient = WebClient.create("http://localhost:" + server.port());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("일시적인 5xx 는 지터 백오프로 재시도해서 성공한다.")
+    void should_retry_transient_failures() {
+        // given
+        ResiliencePolicy policy = new ResiliencePolicy("flaky", spec(Duration.ofSeconds(1), 10,
+                new BackoffSpec(3, Duration.ofMillis(10), Duration.ofMillis(50), 0.5), HedgeSpec.disabled()));
+
+        // when & then
+        StepVerifier.create(policy.execute(() -> get("/flaky")))
+                .expectNext("ok")
+                .verifyComplete();
+        assertThat(policy.getRetries()).isEqualTo(2L);
+        assertThat(flakyCalls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("실패율이 기준을 넘으면 회로를 열고 외부 호출 없이 SERVICE_UNAVAILABLE 로 실패한다.")
+    void should_open_circuit_and_fail_fast() {
+        // given
+        ResiliencePolicy policy = new ResiliencePolicy("down", spec(Duration.ofSeconds(1), 10, noRetry(),
+                HedgeSpec.disabled()));
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(policy.execute(() -> get("/down")))
+                    .expectErrorSatisfies(error -> assertErrorCode(error, GlobalErrorCode.EXTERNAL_API_ERROR))
+                    .verify();
+        }
+
+        // when & then
+        StepVerifier.create(policy.execute(() -> get("/down")))
+                .expectErrorSatisfies(error -> assertErrorCode(error, GlobalErrorCode.SERVICE_UNAVAILABLE))
+                .verify();
+        assertThat(policy.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(downCalls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("시도 시간 한도를 넘기면 EXTERNAL_API_TIMEOUT 으로 실패한다.")
+    void should_map_attempt_timeout() {
+        ResiliencePolicy policy = new ResiliencePolicy("slow", spec(Duration.ofMillis(100), 10, noRetry(),
+                HedgeSpec.disabled()));
+
+        StepVerifier.create(policy.execute(() -> get("/slow")))
+                .expectErrorSatisfies(error -> assertErrorCode(error, GlobalErrorCode.EXTERNAL_API_TIMEOUT))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("bulkhead 가 가득 차면 기다리지 않고 SERVICE_UNAVAILABLE 로 실패한다.")
+    void should_reject_when_bulkhead_is_full() {
+        // given
+        ResiliencePolicy policy = new ResiliencePolicy("slow", spec(Duration.ofSeconds(2), 1, noRetry(),
+                HedgeSpec.disabled()));
+        policy.execute(() -> get("/slow")).subscribe();
+
+        // when & then
+        StepVerifier.create(policy.execute(() -> get("/slow")))
+                .expectErrorSatisfies(error -> assertErrorCode(error, GlobalErrorCode.SERVICE_UNAVAILABLE))
+                .verify();
+        assertThat(policy.getBulkhead().getRejected()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("헤지 지연 안에 응답이 없으면 한 번 더 보내고 먼저 온 응답을 쓴다.")
+    void should_hedge_slow_attempt() {
+        // given
+        HedgeSpec hedge = new HedgeSpec(true, 95, Duration.ofMillis(10), Duration.ofMillis(50), 100,
+                Duration.ofSeconds(10));
+        ResiliencePolicy policy = new ResiliencePolicy("tail", spec(Duration.ofSeconds(2), 10, noRetry(), hedge));
+
+        // when & then
+        StepVerifier.create(policy.execute(() -> get("/tail")))
+                .expectNext("hedged")
+                .expectComplete()
+                .verify(Duration.ofMillis(800));
+        assertThat(policy.getHedges()).isEqualTo(1L);
+        assertThat(tailCalls).hasValue(2);
+        assertThat(policy.getBulkhead().getAvailable()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("첫 시도가 먼저 실패해도 hedge 가 성공하면 그 결과를 쓴다.")
+    void should_use_hedge_result_when_first_attempt_fails() {
+        // given
+        HedgeSpec hedge = new HedgeSpec(true, 95, Duration.ofMillis(10), Duration.ofMillis(50), 100,
+                Duration.ofSeconds(10));
+        ResiliencePolicy policy = new ResiliencePolicy("tail-error", spec(Duration.ofSeconds(2), 10, noRetry(), hedge));
+
+        // when & then
+        StepVerifier.create(policy.execute(() -> get("/tail-error")))
+                .expectNext("hedged")
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+        assertThat(tailErrorCalls).hasValue(2);
+        assertThat(policy.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(policy.getBulkhead().getAvailable()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("bulkhead 에 남은 자리가 없으면 hedge 를 보내지 않는다.")
+    void should_not_hedge_without_bulkhead_permit() {
+        // given
+        HedgeSpec hedge = new HedgeSpec(true, 95, Duration.ofMillis(10), Duration.ofMillis(50), 100,
+                Duration.ofSeconds(10));
+        ResiliencePolicy policy = new ResiliencePolicy("tail", spec(Duration.ofSeconds(2), 1, noRetry(), hedge));
+
+        // when & then
+        StepVerifier.create(policy.execute(() -> get("/tail")))
+                .expectNext("first")
+                .expectComplete()
+                .verify(Duration.ofSeconds(3));
+        assertThat(policy.getHedges()).isZero();
+        assertThat(tailCalls).hasValue(1);
+        assertThat(policy.getBulkhead().getAvailable()).isEqualTo(1);
+    }
+
+    private Mono<String> get(String path) {
+        return webClient.get().uri(path).retrieve().bodyToMono(String.class);
+    }
+
+    private ResilienceSpec spec(Duration timeout, int maxConcurrentCalls, BackoffSpec retry, HedgeSpec hedge) {
+        return new ResilienceSpec(timeout, maxConcurrentCalls,
+                new CircuitBreakerSpec(10, 4, 0.5, Duration.ofSeconds(30), 2), retry, hedge);
+    }
+
+    private BackoffSpec noRetry() {
+        return new BackoffSpec(0, Duration.ofMillis(10), Duration.ofMillis(10), 0.0);
+    }
+
+    private void assertErrorCode(Throwable error, GlobalErrorCode errorCode) {
+        assertThat(error).isInstanceOf(CommonException.class);
+        assertThat(((CommonException) error).getErrorCode()).isEqualTo(errorCode);
+    }
+}
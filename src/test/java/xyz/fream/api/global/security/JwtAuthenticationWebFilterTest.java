@@ -0,0 +1,138 @@
+package xyz.fream.api.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import xyz.fream.api.global.presentation.exception.GlobalExceptionHandler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtAuthenticationWebFilter 테스트")
+class JwtAuthenticationWebFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final JwtVerifier verifier = new JwtVerifier(objectMapper, JwtTestTokens.SECRET, null,
+            Duration.ZERO, Clock.systemUTC()) {
+        @Override
+        public AuthenticatedPrincipal verify(String token) {
+            verifications.incrementAndGet();
+            return super.verify(token);
+        }
+    };
+    private final JwtAuthenticationWebFilter filter = new JwtAuthenticationWebFilter(
+            verifier,
+            new VerifiedTokenCache(1_000, Clock.systemUTC()),
+            new GlobalExceptionHandler(objectMapper),
+            List.of("/api/v1/**"),
+            List.of("/api/v1/market/**"));
+
+    @Test
+    @DisplayName("유효한 토큰의 인증 주체를 Reactor Context 로 전달한다.")
+    void should_propagate_principal_through_context() {
+        // given
+        AtomicReference<AuthenticatedPrincipal> seen = new AtomicReference<>();
+        MockServerWebExchange exchange = exchange("/api/v1/orders",
+                JwtTestTokens.token("user-1", Instant.now().plusSeconds(600)));
+
+        // when
+        StepVerifier.create(filter.filter(exchange, capture(seen))).verifyComplete();
+
+        // then
+        assertThat(seen.get().subject()).isEqualTo("user-1");
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 반복 요청은 서명을 다시 검증하지 않는다.")
+    void should_verify_token_once_while_cached() {
+        // given
+        String token = JwtTestTokens.token("user-1", Instant.now().plusSeconds(600));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            StepVerifier.create(filter.filter(exchange("/api/v1/orders", token), capture(new AtomicReference<>())))
+                    .verifyComplete();
+        }
+
+        // then
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("보호 경로에 토큰이 없으면 TOKEN_MISSING 으로 응답하고 다음 필터를 호출하지 않는다.")
+    void should_reject_missing_token_on_protected_path() {
+        // given
+        AtomicReference<AuthenticatedPrincipal> seen = new AtomicReference<>();
+        MockServerWebExchange exchange = exchange("/api/v1/orders", null);
+
+        // when
+        StepVerifier.create(filter.filter(exchange, capture(seen))).verifyComplete();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(exchange.getResponse().getBodyAsString().block()).contains("GLOBAL_203");
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE)).isEqualTo("Bearer");
+        assertThat(seen.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("공개 경로는 토큰 없이 익명으로 통과한다.")
+    void should_pass_anonymous_request_on_public_path() {
+        // given
+        AtomicReference<Boolean> anonymous = new AtomicReference<>();
+        WebFilterChain chain = exchange -> AuthenticationContext.currentPrincipal()
+                .hasElement()
+                .doOnNext(present -> anonymous.set(!present))
+                .then();
+
+        // when
+        StepVerifier.create(filter.filter(exchange("/api/v1/market/products/1/ticker", null), chain))
+                .verifyComplete();
+
+        // then
+        assertThat(anonymous.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 공개 경로에서도 EXPIRED_TOKEN 으로 응답한다.")
+    void should_reject_expired_token() {
+        // given
+        MockServerWebExchange exchange = exchange("/api/v1/market/products/1/ticker",
+                JwtTestTokens.token("user-1", Instant.now().minusSeconds(60)));
+
+        // when
+        StepVerifier.create(filter.filter(exchange, capture(new AtomicReference<>()))).verifyComplete();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(exchange.getResponse().getBodyAsString().block()).contains("GLOBAL_202");
+    }
+
+    private MockServerWebExchange exchange(String path, String token) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private WebFilterChain capture(AtomicReference<AuthenticatedPrincipal> seen) {
+        return exchange -> AuthenticationContext.principal()
+                .doOnNext(seen::set)
+                .then();
+    }
+}
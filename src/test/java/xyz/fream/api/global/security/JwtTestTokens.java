@@ -0,0 +1,44 @@
+package xyz.fream.api.global.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 테스트용 HS256 토큰 생성
+ * */
+final class JwtTestTokens {
+
+    static final String SECRET = "test-secret-test-secret-test-secret-0123";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String HEADER = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+
+    private JwtTestTokens() {
+    }
+
+    static String token(String subject, Instant expiresAt) {
+        return sign("{\"sub\":\"" + subject + "\",\"exp\":" + expiresAt.getEpochSecond() + ",\"roles\":[\"USER\"]}");
+    }
+
+    static String sign(String payload) {
+        return sign(HEADER, payload, SECRET);
+    }
+
+    static String sign(String header, String payload, String secret) {
+        String signingInput = encode(header) + "." + encode(payload);
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return signingInput + "." + ENCODER.encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String json) {
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,95 @@
+package xyz.fream.api.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xyz.fream.api.global.presentation.exception.CommonException;
+import xyz.fream.api.global.presentation.exception.GlobalErrorCode;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtVerifier 테스트")
+class JwtVerifierTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final JwtVerifier verifier = new JwtVerifier(new ObjectMapper(), JwtTestTokens.SECRET, null,
+            Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("서명과 만료 시각이 올바르면 인증 주체를 돌려준다.")
+    void should_return_principal_for_valid_token() {
+        // when
+        AuthenticatedPrincipal principal = verifier.verify(JwtTestTokens.token("user-1", NOW.plusSeconds(600)));
+
+        // then
+        assertThat(principal.subject()).isEqualTo("user-1");
+        assertThat(principal.hasRole("USER")).isTrue();
+        assertThat(principal.expiresAt()).isEqualTo(NOW.plusSeconds(630));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 EXPIRED_TOKEN 으로 거부한다.")
+    void should_reject_expired_token() {
+        String token = JwtTestTokens.token("user-1", NOW.minusSeconds(60));
+
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(CommonException.class)
+                .extracting(e -> ((CommonException) e).getErrorCode())
+                .isEqualTo(GlobalErrorCode.EXPIRED_TOKEN);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명했거나 변조된 토큰은 INVALID_TOKEN 으로 거부한다.")
+    void should_reject_forged_token() {
+        String forged = JwtTestTokens.sign("{\"alg\":\"HS256\"}",
+                "{\"sub\":\"user-1\",\"exp\":" + NOW.plusSeconds(600).getEpochSecond() + "}",
+                "another-secret-another-secret-another-0123");
+        String tampered = JwtTestTokens.token("user-1", NOW.plusSeconds(600)) + "x";
+
+        assertThatThrownBy(() -> verifier.verify(forged))
+                .extracting(e -> ((CommonException) e).getErrorCode())
+                .isEqualTo(GlobalErrorCode.INVALID_TOKEN);
+        assertThatThrownBy(() -> verifier.verify(tampered))
+                .extracting(e -> ((CommonException) e).getErrorCode())
+                .isEqualTo(GlobalErrorCode.INVALID_TOKEN);
+        assertThatThrownBy(() -> verifier.verify("not-a-token"))
+                .extracting(e -> ((CommonException) e).getErrorCode())
+                .isEqualTo(GlobalErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("HS256 이 아닌 알고리즘 헤더는 거부한다.")
+    void should_reject_unsupported_algorithm() {
+        String token = JwtTestTokens.sign("{\"alg\":\"none\"}",
+                "{\"sub\":\"user-1\",\"exp\":" + NOW.plusSeconds(600).getEpochSecond() + "}",
+                JwtTestTokens.SECRET);
+
+        assertThatThrownBy(() -> verifier.verify(token))
+                .extracting(e -> ((CommonException) e).getErrorCode())
+                .isEqualTo(GlobalErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("32바이트보다 짧은 서명 키는 허용하지 않는다.")
+    void should_reject_short_secret() {
+        assertThatThrownBy(() -> new JwtVerifier(new ObjectMapper(), "short", null, Duration.ZERO, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("서명 키가 없으면 기본값 없이 생성에 실패한다.")
+    void should_reject_missing_secret() {
+        assertThatThrownBy(() -> new JwtVerifier(new ObjectMapper(), "", null, Duration.ZERO, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("fream.security.jwt.secret");
+        assertThatThrownBy(() -> new JwtVerifier(new ObjectMapper(), null, null, Duration.ZERO, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}